@@ -1,5 +1,6 @@
 package com.example.demo.actors;
 
+import com.example.demo.engine.StillFrameCache;
 import javafx.scene.image.*;
 
 import java.util.Objects;
@@ -9,6 +10,11 @@ import java.util.Objects;
  * that can move and has an associated image. It extends the {@link ImageView} class
  * from JavaFX to display images and provides methods for updating the actor's
  * position on the screen.
+ * <p>
+ * The actor's position is simulated on plain fields rather than on the node's translate properties,
+ * so that the game logic can run off the JavaFX application thread. The node itself is only touched
+ * by {@link #applyRenderState(double, double, double, int)}, which the renderer calls on the FX thread.
+ * </p>
  */
 public abstract class ActiveActor extends ImageView {
 
@@ -17,6 +23,39 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+	/** Time of impact returned by {@link #timeOfImpact(ActiveActor)} when two actors do not meet during the tick. */
+	public static final double NO_IMPACT = Double.POSITIVE_INFINITY;
+
+	/** The initial x-coordinate of the actor, equivalent to its layout X. */
+	private final double initialXPos;
+
+	/** The initial y-coordinate of the actor, equivalent to its layout Y. */
+	private final double initialYPos;
+
+	/** Width of the actor's hitbox, cached from the image bounds on construction. */
+	private final double hitboxWidth;
+
+	/** Height of the actor's hitbox, cached from the image bounds on construction. */
+	private final double hitboxHeight;
+
+	/** Simulated horizontal offset from the initial position. */
+	private double offsetX;
+
+	/** Simulated vertical offset from the initial position. */
+	private double offsetY;
+
+	/** Horizontal offset at the start of the current tick, the start of the swept hitbox. */
+	private double previousOffsetX;
+
+	/** Vertical offset at the start of the current tick, the start of the swept hitbox. */
+	private double previousOffsetY;
+
+	/** Simulated opacity of the actor. */
+	private double displayOpacity;
+
+	/** The image the actor was loaded with, which may be an animated GIF. */
+	private final Image loadedImage;
+
 	/**
 	 * Constructs an ActiveActor object with the specified image, height, and initial position.
 	 * The actor's image is loaded from the resources folder, and its layout position and
@@ -29,11 +68,17 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		//this.setImage(new Image(IMAGE_LOCATION + imageName));
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_LOCATION + imageName)).toExternalForm()));
+		this.loadedImage = new Image(Objects.requireNonNull(getClass().getResource(IMAGE_LOCATION + imageName)).toExternalForm());
+		this.setImage(loadedImage);
 		this.setLayoutX(initialXPos);
 		this.setLayoutY(initialYPos);
 		this.setFitHeight(imageHeight);
 		this.setPreserveRatio(true);
+		this.initialXPos = initialXPos;
+		this.initialYPos = initialYPos;
+		this.hitboxWidth = getLayoutBounds().getWidth();
+		this.hitboxHeight = getLayoutBounds().getHeight();
+		this.displayOpacity = 1.0;
 	}
 
 	/**
@@ -44,22 +89,259 @@ public abstract class ActiveActor extends ImageView {
 
 	/**
 	 * Moves the actor horizontally by the specified amount.
-	 * This method adjusts the actor's translation on the x-axis.
+	 * This method adjusts the actor's simulated offset on the x-axis.
 	 *
 	 * @param horizontalMove The amount to move the actor horizontally.
 	 */
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		offsetX += horizontalMove;
 	}
 
 	/**
 	 * Moves the actor vertically by the specified amount.
-	 * This method adjusts the actor's translation on the y-axis.
+	 * This method adjusts the actor's simulated offset on the y-axis.
 	 *
 	 * @param verticalMove The amount to move the actor vertically.
 	 */
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		offsetY += verticalMove;
+	}
+
+	/**
+	 * Sets the simulated horizontal offset of the actor.
+	 *
+	 * @param offsetX the new horizontal offset from the initial position.
+	 */
+	protected void setOffsetX(double offsetX) {
+		this.offsetX = offsetX;
+	}
+
+	/**
+	 * Sets the simulated vertical offset of the actor.
+	 *
+	 * @param offsetY the new vertical offset from the initial position.
+	 */
+	protected void setOffsetY(double offsetY) {
+		this.offsetY = offsetY;
+	}
+
+	/**
+	 * Moves the actor so that its top-left corner is at the given coordinates.
+	 *
+	 * @param xPos the new x-coordinate of the actor.
+	 * @param yPos the new y-coordinate of the actor.
+	 */
+	protected void setPosition(double xPos, double yPos) {
+		this.offsetX = xPos - initialXPos;
+		this.offsetY = yPos - initialYPos;
+		markPreviousPosition(); // A jump, not a move, so nothing is swept along the way
+	}
+
+	/**
+	 * Records the current position as the start of this tick's movement. The level calls this on every actor
+	 * before moving them, so {@link #timeOfImpact(ActiveActor)} can sweep the hitbox along the movement.
+	 */
+	public void markPreviousPosition() {
+		previousOffsetX = offsetX;
+		previousOffsetY = offsetY;
+	}
+
+	/**
+	 * Plays or freezes the actor's animated image. Freezing shows a still copy shared by every actor
+	 * with the same image, which is cheaper to draw. Does nothing for images that are not animated.
+	 * Must be called on the JavaFX application thread.
+	 *
+	 * @param animated whether the image should play its animation.
+	 */
+	public void setAnimated(boolean animated) {
+		if (StillFrameCache.isAnimated(loadedImage)) {
+			setImage(animated ? loadedImage : StillFrameCache.stillOf(loadedImage));
+		}
+	}
+
+	/**
+	 * Returns the initial x-coordinate of the actor, which its offsets are relative to.
+	 *
+	 * @return the initial x-coordinate.
+	 */
+	public double getInitialPositionX() {
+		return initialXPos;
+	}
+
+	/**
+	 * Returns the initial y-coordinate of the actor, which its offsets are relative to.
+	 *
+	 * @return the initial y-coordinate.
+	 */
+	public double getInitialPositionY() {
+		return initialYPos;
+	}
+
+	/**
+	 * Returns the simulated horizontal offset of the actor from its initial position.
+	 *
+	 * @return the horizontal offset.
+	 */
+	public double getOffsetX() {
+		return offsetX;
+	}
+
+	/**
+	 * Returns the simulated vertical offset of the actor from its initial position.
+	 *
+	 * @return the vertical offset.
+	 */
+	public double getOffsetY() {
+		return offsetY;
+	}
+
+	/**
+	 * Returns the current x-coordinate of the actor's top-left corner.
+	 *
+	 * @return the x-coordinate of the actor.
+	 */
+	public double getPositionX() {
+		return initialXPos + offsetX;
+	}
+
+	/**
+	 * Returns the current y-coordinate of the actor's top-left corner.
+	 *
+	 * @return the y-coordinate of the actor.
+	 */
+	public double getPositionY() {
+		return initialYPos + offsetY;
+	}
+
+	/**
+	 * Returns the width of the actor's hitbox.
+	 *
+	 * @return the hitbox width.
+	 */
+	public double getHitboxWidth() {
+		return hitboxWidth;
+	}
+
+	/**
+	 * Returns the height of the actor's hitbox.
+	 *
+	 * @return the hitbox height.
+	 */
+	public double getHitboxHeight() {
+		return hitboxHeight;
+	}
+
+	/**
+	 * Checks whether this actor's hitbox overlaps another actor's hitbox.
+	 *
+	 * @param other the other actor.
+	 * @return true if the hitboxes intersect, false otherwise.
+	 */
+	public boolean intersects(ActiveActor other) {
+		double minX = getPositionX();
+		double minY = getPositionY();
+		double otherMinX = other.getPositionX();
+		double otherMinY = other.getPositionY();
+		return minX <= otherMinX + other.hitboxWidth && otherMinX <= minX + hitboxWidth
+				&& minY <= otherMinY + other.hitboxHeight && otherMinY <= minY + hitboxHeight;
+	}
+
+	/**
+	 * Checks whether the actor moves far enough in a tick to pass through a thin target between two positions.
+	 * Collisions involving a fast mover are tested along the whole movement with
+	 * {@link #timeOfImpact(ActiveActor)} instead of only at the current position.
+	 *
+	 * @return true if the actor is a fast mover, false by default.
+	 */
+	public boolean isFastMover() {
+		return false;
+	}
+
+	/**
+	 * Finds when, during the current tick, this actor's hitbox first touches another actor's hitbox, as both
+	 * move in a straight line from their previous position to their current one.
+	 * <p>
+	 * Uses the slab method on the movement of this actor relative to the other: on each axis the interval of
+	 * the tick in which the hitboxes overlap is computed, and the hitboxes touch while all intervals overlap.
+	 * </p>
+	 *
+	 * @param other the other actor.
+	 * @return the fraction of the tick at which the hitboxes first touch, from 0 to 1,
+	 *         or {@link #NO_IMPACT} if they do not touch during the tick.
+	 */
+	public double timeOfImpact(ActiveActor other) {
+		double startX = initialXPos + previousOffsetX;
+		double startY = initialYPos + previousOffsetY;
+		double otherStartX = other.initialXPos + other.previousOffsetX;
+		double otherStartY = other.initialYPos + other.previousOffsetY;
+		double deltaX = (offsetX - previousOffsetX) - (other.offsetX - other.previousOffsetX);
+		double deltaY = (offsetY - previousOffsetY) - (other.offsetY - other.previousOffsetY);
+
+		double entry = 0;
+		double exit = 1;
+		double low = otherStartX - hitboxWidth - startX;
+		double high = otherStartX + other.hitboxWidth - startX;
+		if (deltaX == 0) {
+			if (low > 0 || high < 0) return NO_IMPACT;
+		} else {
+			double t1 = low / deltaX;
+			double t2 = high / deltaX;
+			entry = Math.max(entry, Math.min(t1, t2));
+			exit = Math.min(exit, Math.max(t1, t2));
+		}
+		low = otherStartY - hitboxHeight - startY;
+		high = otherStartY + other.hitboxHeight - startY;
+		if (deltaY == 0) {
+			if (low > 0 || high < 0) return NO_IMPACT;
+		} else {
+			double t1 = low / deltaY;
+			double t2 = high / deltaY;
+			entry = Math.max(entry, Math.min(t1, t2));
+			exit = Math.min(exit, Math.max(t1, t2));
+		}
+		return entry <= exit ? entry : NO_IMPACT;
+	}
+
+	/**
+	 * Sets the simulated opacity of the actor.
+	 *
+	 * @param displayOpacity the opacity to render the actor with.
+	 */
+	protected void setDisplayOpacity(double displayOpacity) {
+		this.displayOpacity = displayOpacity;
+	}
+
+	/**
+	 * Returns the simulated opacity of the actor.
+	 *
+	 * @return the opacity to render the actor with.
+	 */
+	public double getDisplayOpacity() {
+		return displayOpacity;
+	}
+
+	/**
+	 * Returns actor-specific render state packed into bit flags. The flags are captured
+	 * alongside the position in each frame snapshot.
+	 *
+	 * @return the render flags, {@code 0} by default.
+	 */
+	public int getRenderFlags() {
+		return 0;
+	}
+
+	/**
+	 * Applies a captured render state to the node. Must only be called on the JavaFX application thread.
+	 *
+	 * @param offsetX The horizontal offset captured for this frame.
+	 * @param offsetY The vertical offset captured for this frame.
+	 * @param opacity The opacity captured for this frame.
+	 * @param flags The render flags captured for this frame.
+	 */
+	public void applyRenderState(double offsetX, double offsetY, double opacity, int flags) {
+		setTranslateX(offsetX);
+		setTranslateY(offsetY);
+		setOpacity(opacity);
 	}
 
 }
@@ -1,11 +1,23 @@
 package com.example.demo.actors;
 
+import com.example.demo.engine.TimerWheel;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Random;
+
 /**
  * The ActiveActorDestructible class is an abstract class that represents an actor
  * in the game which can be destroyed. It extends the {@link ActiveActor} class
  * and implements the {@link Destructible} interface, adding functionality for
  * handling destruction and damage. The class provides methods for updating the actor's
  * position and state, as well as for handling its destruction status.
+ * <p>
+ * The actor's state can be written to and read back from a level checkpoint. Subclasses with
+ * additional state extend {@link #writeState(DataOutput)} and {@link #readState(DataInput)},
+ * calling the superclass first and reading fields back in the order they were written.
+ * </p>
  */
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
@@ -14,6 +26,26 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 */
 	private boolean isDestroyed;
 
+	/**
+	 * The timer wheel of the level the actor is in, used to schedule its timed state.
+	 */
+	private TimerWheel timerWheel;
+
+	/**
+	 * The random number generator of the level the actor is in, seeded from the run and saved with its checkpoints.
+	 */
+	private Random random;
+
+	/**
+	 * Whether the actor is close enough to the action to be updated every tick.
+	 */
+	private boolean inUpdateRange = true;
+
+	/**
+	 * Ticks the actor has gone without an update while out of range, made up on its next update.
+	 */
+	private int deferredTicks;
+
 	/**
 	 * Constructs an ActiveActorDestructible object with the specified image, height,
 	 * and initial position. The actor's destruction status is initialized to false.
@@ -42,6 +74,57 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 */
 	public abstract void updateActor();
 
+	/**
+	 * Makes up for several ticks at once, for an actor that was updated less often while out of range.
+	 * The default runs {@link #updateActor()} once per tick; actors whose movement has a closed form
+	 * override it to move the whole distance in one step.
+	 *
+	 * @param ticks The number of ticks to make up, at least {@code 1}.
+	 */
+	public void catchUp(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			updateActor();
+		}
+	}
+
+	/**
+	 * Checks whether the actor is updated every tick.
+	 *
+	 * @return {@code true} if the actor is in range, which it is unless the level says otherwise.
+	 */
+	public boolean isInUpdateRange() {
+		return inUpdateRange;
+	}
+
+	/**
+	 * Sets whether the actor is updated every tick.
+	 *
+	 * @param inUpdateRange {@code true} if the actor is in range.
+	 */
+	public void setInUpdateRange(boolean inUpdateRange) {
+		this.inUpdateRange = inUpdateRange;
+	}
+
+	/**
+	 * Records a tick the actor went without an update.
+	 *
+	 * @return The number of ticks the actor has gone without an update.
+	 */
+	public int deferUpdate() {
+		return ++deferredTicks;
+	}
+
+	/**
+	 * Takes the ticks the actor has gone without an update, so they can be made up.
+	 *
+	 * @return The number of ticks to make up, {@code 0} if the actor is up to date.
+	 */
+	public int takeDeferredTicks() {
+		int ticks = deferredTicks;
+		deferredTicks = 0;
+		return ticks;
+	}
+
 	/**
 	 * Handles the actor taking damage. This method must be implemented by subclasses
 	 * to define the behavior when the actor takes damage.
@@ -75,5 +158,76 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	public boolean isDestroyed() {
 		return isDestroyed;
 	}
+
+	/**
+	 * Checks whether the actor may drop a power-up when it is destroyed by the user.
+	 *
+	 * @return true if the actor drops power-ups, false by default.
+	 */
+	public boolean dropsPowerUp() {
+		return false;
+	}
+
+	/**
+	 * Sets the timer wheel of the level the actor is in. The level sets it when the actor joins it,
+	 * before any of the actor's timers are scheduled.
+	 *
+	 * @param timerWheel The timer wheel of the level.
+	 */
+	public void setTimerWheel(TimerWheel timerWheel) {
+		this.timerWheel = timerWheel;
+	}
+
+	/**
+	 * Returns the timer wheel of the level the actor is in.
+	 *
+	 * @return The timer wheel, or null if the actor has not joined a level.
+	 */
+	protected TimerWheel getTimerWheel() {
+		return timerWheel;
+	}
+
+	/**
+	 * Sets the random number generator of the level the actor is in. The level sets it when the actor joins it,
+	 * along with the timer wheel, so every random choice the actor makes is repeated when the run is replayed.
+	 *
+	 * @param random The random number generator of the level.
+	 */
+	public void setRandom(Random random) {
+		this.random = random;
+	}
+
+	/**
+	 * Returns the random number generator of the level the actor is in.
+	 *
+	 * @return The random number generator, or null if the actor has not joined a level.
+	 */
+	protected Random getRandom() {
+		return random;
+	}
+
+	/**
+	 * Writes the actor's state to a level checkpoint. The initial position is not included,
+	 * since it is passed to the constructor when the actor is restored.
+	 *
+	 * @param out The checkpoint being written.
+	 * @throws IOException if the state cannot be written.
+	 */
+	public void writeState(DataOutput out) throws IOException {
+		out.writeDouble(getOffsetX());
+		out.writeDouble(getOffsetY());
+	}
+
+	/**
+	 * Restores the actor's state from a level checkpoint written by {@link #writeState(DataOutput)}.
+	 *
+	 * @param in The checkpoint being read.
+	 * @throws IOException if the state cannot be read.
+	 */
+	public void readState(DataInput in) throws IOException {
+		setOffsetX(in.readDouble());
+		setOffsetY(in.readDouble());
+		markPreviousPosition();
+	}
 	
 }
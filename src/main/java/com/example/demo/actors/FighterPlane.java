@@ -1,9 +1,21 @@
 package com.example.demo.actors;
 
+import com.example.demo.engine.TickTimer;
+import com.example.demo.engine.TimerWheel;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
 /**
  * The FighterPlane class represents a fighter plane in the game. It extends the {@link ActiveActorDestructible}
  * class and provides additional functionality related to the plane's health, firing projectiles, and taking damage.
  * The fighter plane can be destroyed when its health reaches zero.
+ * <p>
+ * Planes that fire on their own do so on a schedule: each shot is a timer on the level's {@link TimerWheel},
+ * so the level only touches a plane on the ticks it fires, instead of rolling for every plane every tick.
+ * </p>
  */
 public abstract class FighterPlane extends ActiveActorDestructible {
 
@@ -12,6 +24,26 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	private int health;
 
+	/**
+	 * The health the fighter plane started with, which healing cannot go above.
+	 */
+	private final int maxHealth;
+
+	/**
+	 * Expires when the plane's next shot is due.
+	 */
+	private final TickTimer fireTimer = new TickTimer(this::fireScheduledShot);
+
+	/**
+	 * The list scheduled shots are fired into, set when the plane starts firing.
+	 */
+	private List<ActiveActorDestructible> scheduledProjectiles;
+
+	/**
+	 * Ticks left until the next shot when the plane was restored from a checkpoint, or 0 to draw a new delay.
+	 */
+	private int restoredFireDelay;
+
 	/**
 	 * Constructs a FighterPlane object with the specified image, height, position, and health.
 	 *
@@ -24,6 +56,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
 		this.health = health;
+		this.maxHealth = health;
 	}
 
 	/**
@@ -34,6 +67,85 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	public abstract ActiveActorDestructible fireProjectile();
 
+	/**
+	 * Fires every projectile the fighter plane produces this frame into the given list.
+	 * By default this fires at most the single projectile from {@link #fireProjectile()};
+	 * subclasses with bullet patterns override it to emit a whole batch at once.
+	 *
+	 * @param projectiles The list the fired projectiles are appended to.
+	 */
+	public void fireProjectiles(List<ActiveActorDestructible> projectiles) {
+		ActiveActorDestructible projectile = fireProjectile();
+		if (projectile != null) {
+			projectiles.add(projectile);
+		}
+	}
+
+	/**
+	 * Starts firing on the plane's schedule. Does nothing for planes that do not fire on their own.
+	 * The plane must have joined a level, so it has a timer wheel and random numbers. A plane restored
+	 * from a checkpoint fires its next shot when it was due when the checkpoint was saved.
+	 *
+	 * @param projectiles The list the fired projectiles are appended to.
+	 */
+	public void startFiring(List<ActiveActorDestructible> projectiles) {
+		int delay = restoredFireDelay > 0 ? restoredFireDelay : nextFireDelay();
+		restoredFireDelay = 0;
+		if (delay > 0) {
+			scheduledProjectiles = projectiles;
+			getTimerWheel().schedule(fireTimer, delay);
+		}
+	}
+
+	/**
+	 * Returns the number of ticks until the plane's next shot. Subclasses either draw it at random with
+	 * {@link #drawFireDelay(double)} or return an exact cadence.
+	 *
+	 * @return The number of ticks until the next shot, or 0 if the plane does not fire on its own.
+	 */
+	protected int nextFireDelay() {
+		return 0;
+	}
+
+	/**
+	 * Draws the number of ticks until the next shot of a plane that fires with the given probability each tick.
+	 * The delay follows the geometric distribution, so shots come exactly as often as rolling every tick would.
+	 * It is drawn from the level's random numbers, so a replayed run fires the same shots.
+	 *
+	 * @param fireRate The probability of firing in a given tick.
+	 * @return The number of ticks until the next shot, at least 1.
+	 */
+	protected int drawFireDelay(double fireRate) {
+		double ticks = Math.log(1 - getRandom().nextDouble()) / Math.log(1 - fireRate);
+		return 1 + (int) Math.min(ticks, TimerWheel.MAX_DELAY - 1);
+	}
+
+	/**
+	 * Fires the shot that just came due and schedules the next one. Run by the timer wheel.
+	 */
+	private void fireScheduledShot() {
+		fireProjectiles(scheduledProjectiles);
+		getTimerWheel().schedule(fireTimer, nextFireDelay());
+	}
+
+	/**
+	 * Sets the destroyed status of the fighter plane. Destroying it cancels its next shot and lets go of the
+	 * list it fired into, so the timer wheel does not keep a destroyed plane reachable.
+	 *
+	 * @param isDestroyed A boolean value indicating whether the plane is destroyed.
+	 */
+	@Override
+	protected void setDestroyed(boolean isDestroyed) {
+		super.setDestroyed(isDestroyed);
+		if (isDestroyed) {
+			TimerWheel timerWheel = getTimerWheel();
+			if (timerWheel != null) {
+				timerWheel.cancel(fireTimer);
+			}
+			scheduledProjectiles = null;
+		}
+	}
+
 	/**
 	 * Reduces the fighter plane's health by one unit when it takes damage.
 	 * If the health reaches zero, the fighter plane is destroyed.
@@ -46,6 +158,42 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 		}
 	}
 
+	/**
+	 * Restores health to the fighter plane, up to the health it started with.
+	 *
+	 * @param amount The amount of health to restore.
+	 */
+	public void heal(int amount) {
+		health = Math.min(maxHealth, health + amount);
+	}
+
+	/**
+	 * Writes the fighter plane's state, including its health and when its next shot is due, to a level checkpoint.
+	 *
+	 * @param out The checkpoint being written.
+	 * @throws IOException if the state cannot be written.
+	 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeInt(health);
+		out.writeInt(fireTimer.getRemainingTicks());
+	}
+
+	/**
+	 * Restores the fighter plane's state, including its health, from a level checkpoint. The next shot is
+	 * scheduled once the plane starts firing again.
+	 *
+	 * @param in The checkpoint being read.
+	 * @throws IOException if the state cannot be read.
+	 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		health = in.readInt();
+		restoredFireDelay = in.readInt();
+	}
+
 	/**
 	 * Calculates the x-coordinate position of a projectile relative to the fighter plane's
 	 * position and an optional offset.
@@ -54,7 +202,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return The calculated x-coordinate position for the projectile.
 	 */
 	protected double getProjectileXPosition(double xPositionOffset) {
-		return getLayoutX() + getTranslateX() + xPositionOffset;
+		return getPositionX() + xPositionOffset;
 	}
 
 	/**
@@ -65,7 +213,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return The calculated y-coordinate position for the projectile.
 	 */
 	protected double getProjectileYPosition(double yPositionOffset) {
-		return getLayoutY() + getTranslateY() + yPositionOffset;
+		return getPositionY() + yPositionOffset;
 	}
 
 	/**
@@ -1,17 +1,26 @@
 package com.example.demo.actors.enemies;
 
+import com.example.demo.actors.ActiveActor;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.FighterPlane;
 import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.audio.AudioBus;
+import com.example.demo.audio.SoundDefinition;
 import com.example.demo.controller.SoundManager;
+import com.example.demo.engine.TickTimer;
 import com.example.demo.images.ShieldImage;
 
-import java.util.*;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
 
 /**
  * Represents a Boss enemy in the game, which is a special type of {@link FighterPlane}.
  * The Boss has unique movement patterns, projectile firing mechanics, and a shield system
- * that temporarily protects it from damage.
+ * that temporarily protects it from damage. Its attacks are driven by a {@link BossPatternEngine},
+ * which switches to harder bullet patterns as the Boss loses health.
  * Original source code can be found in the original git repository: <a href="https://github.com/kooitt/CW2024.git">ORIGINAL SOURCE CODE</a>
  */
 public class Boss extends FighterPlane {
@@ -27,9 +36,6 @@ public class Boss extends FighterPlane {
 	/** Offset for the Y position of the projectiles fired by the Boss. */
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
 
-	/** Probability that the Boss will fire a projectile in a given frame. */
-	private static final double BOSS_FIRE_RATE = 0.045;
-
 	/** Probability that the Boss will activate its shield in a given frame. */
 	private static final double BOSS_SHIELD_PROBABILITY = 0.03;
 
@@ -57,7 +63,7 @@ public class Boss extends FighterPlane {
 	/** Lower bound for the Boss's Y position on the screen. */
 	private static final int Y_POSITION_LOWER_BOUND = 475;
 
-	/** Maximum frames the shield can remain active. */
+	/** Number of ticks the shield remains active. */
 	private static final int MAX_FRAMES_WITH_SHIELD = 70;
 
 	/** Offset for the X position of the shield relative to the Boss. */
@@ -66,11 +72,20 @@ public class Boss extends FighterPlane {
 	/** Offset for the Y position of the shield relative to the Boss. */
 	private static final int SHIELD_Y_POSITION_OFFSET = 45;
 
+	/** Render flag set while the shield is active. */
+	private static final int SHIELD_RENDER_FLAG = 1;
+
 	/** Pattern for the Boss's vertical movement. */
-	private final List<Integer> movePattern;
+	private final int[] movePattern;
+
+	/** Drives the Boss's bullet patterns. */
+	private final BossPatternEngine patternEngine;
 
-	/** Indicates whether the Boss's shield is currently active. */
-	private boolean isShielded;
+	/** The actor aimed bullet patterns fire at. */
+	private ActiveActor target;
+
+	/** Runs while the Boss's shield is active. The shield drops when it expires. */
+	private final TickTimer shieldTimer;
 
 	/** Tracks consecutive moves in the same direction. */
 	private int consecutiveMovesInSameDirection;
@@ -78,9 +93,6 @@ public class Boss extends FighterPlane {
 	/** Current index in the movement pattern. */
 	private int indexOfCurrentMove;
 
-	/** Tracks the number of frames the shield has been active. */
-	private int framesWithShieldActivated;
-
 	/** The shield image associated with the Boss. */
 	private final ShieldImage shieldImage;
 
@@ -93,31 +105,30 @@ public class Boss extends FighterPlane {
 	 */
 	public Boss() {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
-		movePattern = new ArrayList<>();
+		movePattern = new int[MOVE_FREQUENCY_PER_CYCLE * 3];
+		patternEngine = new BossPatternEngine();
 		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
-		framesWithShieldActivated = 0;
-		isShielded = false;
+		shieldTimer = new TickTimer();
 		shieldImage = new ShieldImage(INITIAL_X_POSITION - SHIELD_X_POSITION_OFFSET, INITIAL_Y_POSITION - SHIELD_Y_POSITION_OFFSET);
 		initializeMovePattern();
 
 		soundManager = SoundManager.getInstance(); // Initialize SoundManager instance
-		soundManager.loadSFX("boss_laughter", BOSS_LAUGH_SFX);
+		soundManager.loadSFX("boss_laughter", BOSS_LAUGH_SFX, AudioBus.SFX, SoundDefinition.PRIORITY_HIGH, 1, true); //Ducks the music so the laugh is heard
 
 	}
 
 	/**
-	 * Updates the position of the Boss based on its movement pattern and adjusts the shield's position.
+	 * Updates the position of the Boss based on its movement pattern.
 	 * Ensures the Boss stays within specified bounds.
 	 */
 	@Override
 	public void updatePosition() {
-		double initialTranslateY = getTranslateY();
+		double initialOffsetY = getOffsetY();
 		moveVertically(getNextMove());
-		double currentPosition = getLayoutY() + getTranslateY();
-		shieldImage.setLayoutY(currentPosition - SHIELD_Y_POSITION_OFFSET);
+		double currentPosition = getPositionY();
 		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
-			setTranslateY(initialTranslateY);
+			setOffsetY(initialOffsetY);
 		}
 	}
 
@@ -131,13 +142,136 @@ public class Boss extends FighterPlane {
 	}
 
 	/**
-	 * Fires a projectile from the Boss if the firing probability is met.
+	 * Never fires a single projectile. The Boss only fires through {@link #fireProjectiles(List)},
+	 * which takes its shots from the bullet patterns' projectile pool.
 	 *
-	 * @return a {@link BossProjectile} instance if fired, or {@code null} otherwise.
+	 * @return {@code null}
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+		return null;
+	}
+
+	/**
+	 * Fires the shots of the current bullet pattern that are due this frame.
+	 *
+	 * @param projectiles The list the fired projectiles are appended to.
+	 */
+	@Override
+	public void fireProjectiles(List<ActiveActorDestructible> projectiles) {
+		patternEngine.update(getHealth(), BossProjectile.INITIAL_X_POSITION, getProjectileInitialPosition(), target,
+				getRandom(), projectiles);
+	}
+
+	/**
+	 * Fires every tick, so the bullet patterns keep their own timing.
+	 *
+	 * @return {@code 1}
+	 */
+	@Override
+	protected int nextFireDelay() {
+		return 1;
+	}
+
+	/**
+	 * Announces the next bullet pattern once it is less than the given number of ticks away.
+	 *
+	 * @param leadTicks the number of ticks ahead to announce attacks
+	 * @return the number of ticks before the attack, or {@code 0} if there is nothing to announce
+	 */
+	public int announceAttack(int leadTicks) {
+		return patternEngine.announceNextPattern(leadTicks);
+	}
+
+	/**
+	 * Takes a projectile restored from a checkpoint into the bullet patterns' projectile pool, so it is
+	 * reused once destroyed instead of a new one being created.
+	 *
+	 * @param projectile the restored projectile
+	 * @return {@code true} if it was pooled, {@code false} if the pool is already full
+	 */
+	public boolean adoptProjectile(BossProjectile projectile) {
+		return patternEngine.adopt(projectile);
+	}
+
+	/**
+	 * Sets the actor that aimed bullet patterns fire at.
+	 *
+	 * @param target the actor to aim at, usually the user's plane.
+	 */
+	public void setTarget(ActiveActor target) {
+		this.target = target;
+	}
+
+	/**
+	 * Captures the shield state so the renderer can show or hide the shield image.
+	 *
+	 * @return the render flags of the Boss.
+	 */
+	@Override
+	public int getRenderFlags() {
+		return isShielded() ? SHIELD_RENDER_FLAG : 0;
+	}
+
+	/**
+	 * Applies the captured render state and moves the shield image along with the Boss.
+	 *
+	 * @param offsetX The horizontal offset captured for this frame.
+	 * @param offsetY The vertical offset captured for this frame.
+	 * @param opacity The opacity captured for this frame.
+	 * @param flags The render flags captured for this frame.
+	 */
+	@Override
+	public void applyRenderState(double offsetX, double offsetY, double opacity, int flags) {
+		super.applyRenderState(offsetX, offsetY, opacity, flags);
+		shieldImage.setLayoutY(INITIAL_Y_POSITION + offsetY - SHIELD_Y_POSITION_OFFSET);
+		if ((flags & SHIELD_RENDER_FLAG) != 0) {
+			if (!shieldImage.isVisible()) {
+				shieldImage.toFront();
+			}
+			shieldImage.showShield();
+		}
+		else {
+			shieldImage.hideShield();
+		}
+	}
+
+	/**
+	 * Writes the Boss's state, including its shield and movement, to a level checkpoint.
+	 * The bullet patterns restart from a cooldown when the checkpoint is restored.
+	 *
+	 * @param out The checkpoint being written.
+	 * @throws IOException if the state cannot be written.
+	 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeInt(shieldTimer.getRemainingTicks());
+		out.writeInt(consecutiveMovesInSameDirection);
+		out.writeInt(indexOfCurrentMove);
+		for (int move : movePattern) {
+			out.writeByte(move);
+		}
+	}
+
+	/**
+	 * Restores the Boss's state from a level checkpoint.
+	 *
+	 * @param in The checkpoint being read.
+	 * @throws IOException if the state cannot be read.
+	 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		int shieldTicks = in.readInt();
+		if (shieldTicks > 0) {
+			getTimerWheel().schedule(shieldTimer, shieldTicks);
+		}
+		consecutiveMovesInSameDirection = in.readInt();
+		indexOfCurrentMove = in.readInt();
+		for (int i = 0; i < movePattern.length; i++) {
+			movePattern[i] = in.readByte();
+		}
 	}
 
 	/**
@@ -145,71 +279,82 @@ public class Boss extends FighterPlane {
 	 */
 	@Override
 	public void takeDamage() {
-		if (!isShielded) {
+		if (!isShielded()) {
 			super.takeDamage();
 		}
 	}
 
 
 	/**
-	 * Initializes the Boss's vertical movement pattern and shuffles it to ensure randomness.
+	 * Initializes the Boss's vertical movement pattern. It is shuffled before its first move, once the Boss
+	 * has joined the level and can draw from the level's random numbers.
 	 */
 	private void initializeMovePattern() {
 		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-			movePattern.add(VERTICAL_VELOCITY);
-			movePattern.add(-VERTICAL_VELOCITY);
-			movePattern.add(ZERO);
+			movePattern[i * 3] = VERTICAL_VELOCITY;
+			movePattern[i * 3 + 1] = -VERTICAL_VELOCITY;
+			movePattern[i * 3 + 2] = ZERO;
 		}
-		Collections.shuffle(movePattern);
 	}
 
 	/**
-	 * Consistently updates the Boss's shield state, activating or deactivating it as necessary.
+	 * Shuffles the movement pattern in place (Fisher-Yates), without boxing the velocities.
 	 */
-	private void updateShield() {
-		if (isShielded) {
-			framesWithShieldActivated++;
-			shieldImage.showShield();
+	private void shuffleMovePattern() {
+		Random random = getRandom();
+		for (int i = movePattern.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int swap = movePattern[i];
+			movePattern[i] = movePattern[j];
+			movePattern[j] = swap;
 		}
-		else if (shieldShouldBeActivated()) activateShield();
-		if (shieldExhausted()) deactivateShield();
+	}
+
+	/**
+	 * Activates the Boss's shield at random while it is down. The shield drops by itself when its timer expires.
+	 */
+	private void updateShield() {
+		if (!isShielded() && shieldShouldBeActivated()) activateShield();
+	}
+
+	/**
+	 * Checks whether the Boss's shield is currently active.
+	 *
+	 * @return {@code true} if the shield is active, {@code false} otherwise.
+	 */
+	private boolean isShielded() {
+		return shieldTimer.isScheduled();
 	}
 
 	/**
 	 * Retrieves the next move in the movement pattern, ensuring bounds and randomness are maintained.
+	 * The pattern is shuffled again before each run of moves.
 	 *
 	 * @return the next vertical movement value.
 	 */
 	private int getNextMove() {
-		int currentMove = movePattern.get(indexOfCurrentMove);
+		if (consecutiveMovesInSameDirection == 0) {
+			shuffleMovePattern();
+		}
+		int currentMove = movePattern[indexOfCurrentMove];
 		consecutiveMovesInSameDirection++;
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
-		if (indexOfCurrentMove == movePattern.size()) {
+		if (indexOfCurrentMove == movePattern.length) {
 			indexOfCurrentMove = 0;
 		}
 		return currentMove;
 	}
 
-	/**
-	 * Determines whether the Boss should fire a projectile in the current frame.
-	 *
-	 * @return {@code true} if the Boss fires, {@code false} otherwise.
-	 */
-	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
-	}
-
 	/**
 	 * Calculates the initial Y position for a fired projectile.
 	 *
 	 * @return the Y position for the projectile.
 	 */
 	private double getProjectileInitialPosition() {
-		return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+		return getPositionY() + PROJECTILE_Y_POSITION_OFFSET;
 	}
 
 	/**
@@ -218,16 +363,7 @@ public class Boss extends FighterPlane {
 	 * @return {@code true} if the shield should be activated, {@code false} otherwise.
 	 */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
-	}
-
-	/**
-	 * Checks whether the shield has been active for its maximum duration.
-	 *
-	 * @return {@code true} if the shield is exhausted, {@code false} otherwise.
-	 */
-	private boolean shieldExhausted() {
-		return framesWithShieldActivated == MAX_FRAMES_WITH_SHIELD;
+		return getRandom().nextDouble() < BOSS_SHIELD_PROBABILITY;
 	}
 
 	/**
@@ -235,22 +371,12 @@ public class Boss extends FighterPlane {
 	 * Also incorporates a 30% chance to play the boss laughing
 	 */
 	private void activateShield() {
-		isShielded = true;
-		shieldImage.showShield();
-		if (Math.random() < 0.3) {
+		getTimerWheel().schedule(shieldTimer, MAX_FRAMES_WITH_SHIELD);
+		if (getRandom().nextDouble() < 0.3) {
 			soundManager.playSFX("boss_laughter");
 		}
 	}
 
-	/**
-	 * Deactivates the Boss's shield, making it vulnerable to damage again.
-	 */
-	private void deactivateShield() {
-		isShielded = false;
-		framesWithShieldActivated = 0;
-		shieldImage.hideShield();
-	}
-
 	/**
 	 * Retrieves the shield image associated with the Boss.
 	 *
@@ -0,0 +1,244 @@
+package com.example.demo.actors.enemies;
+
+import com.example.demo.actors.projectile.ProjectileKinematics;
+
+/**
+ * The {@code BossPattern} class is a precompiled bullet pattern fired by the {@link Boss}.
+ * <p>
+ * Each shot of the pattern is stored in parallel primitive arrays: the tick it fires on (relative to the start
+ * of the pattern), its direction as a precomputed cosine/sine pair relative to the firing direction, and its speed.
+ * The direction is relative to straight ahead (to the left of the screen), or to the direction of the target
+ * for aimed patterns. Nothing is computed or allocated per shot beyond a rotation when the pattern is fired.
+ * Patterns can optionally make their shots accelerate or home in on the target once fired.
+ * </p>
+ */
+public class BossPattern {
+
+    /** Tick each shot fires on, relative to the start of the pattern, in ascending order. */
+    private final int[] fireTicks;
+
+    /** Cosine of each shot's angle relative to the firing direction. */
+    private final double[] directionCos;
+
+    /** Sine of each shot's angle relative to the firing direction. */
+    private final double[] directionSin;
+
+    /** Speed of each shot in pixels per tick. */
+    private final double[] speeds;
+
+    /** Whether the firing direction points at the target instead of straight ahead. */
+    private final boolean aimed;
+
+    /** Motion of the fired shots, one of the {@link ProjectileKinematics} constants. */
+    private int motion = ProjectileKinematics.LINEAR;
+
+    /** Acceleration (fraction of the initial velocity per tick) or homing turn rate, depending on the motion. */
+    private double motionStrength;
+
+    /** Number of ticks homing shots track the target. */
+    private int homingTicks;
+
+    /**
+     * Constructs a {@code BossPattern} from precomputed shot data.
+     *
+     * @param fireTicks     the tick each shot fires on, in ascending order
+     * @param angles        the angle of each shot in degrees, relative to the firing direction
+     * @param speeds        the speed of each shot in pixels per tick
+     * @param aimed         whether the firing direction points at the target
+     */
+    private BossPattern(int[] fireTicks, double[] angles, double[] speeds, boolean aimed) {
+        this.fireTicks = fireTicks;
+        this.directionCos = new double[angles.length];
+        this.directionSin = new double[angles.length];
+        for (int i = 0; i < angles.length; i++) {
+            directionCos[i] = Math.cos(Math.toRadians(angles[i]));
+            directionSin[i] = Math.sin(Math.toRadians(angles[i]));
+        }
+        this.speeds = speeds;
+        this.aimed = aimed;
+    }
+
+    /**
+     * Creates a pattern of a single straight shot.
+     *
+     * @param speed the speed of the shot
+     * @return the compiled pattern
+     */
+    public static BossPattern straight(double speed) {
+        return new BossPattern(new int[] {0}, new double[] {0}, new double[] {speed}, false);
+    }
+
+    /**
+     * Creates a fan of shots fired at once, evenly spread over the given arc.
+     *
+     * @param shots         the number of shots in the fan
+     * @param arcDegrees    the total arc covered by the fan
+     * @param speed         the speed of every shot
+     * @return the compiled pattern
+     */
+    public static BossPattern spread(int shots, double arcDegrees, double speed) {
+        int[] ticks = new int[shots];
+        double[] angles = new double[shots];
+        double[] speeds = new double[shots];
+        for (int i = 0; i < shots; i++) {
+            angles[i] = shots == 1 ? 0 : -arcDegrees / 2 + arcDegrees * i / (shots - 1);
+            speeds[i] = speed;
+        }
+        return new BossPattern(ticks, angles, speeds, false);
+    }
+
+    /**
+     * Creates a two-armed spiral that sweeps mirrored shots from straight ahead out to the given angle.
+     *
+     * @param steps         the number of steps in the sweep
+     * @param maxDegrees    the angle reached by the last step
+     * @param ticksPerStep  the number of ticks between steps
+     * @param speed         the speed of every shot
+     * @return the compiled pattern
+     */
+    public static BossPattern spiral(int steps, double maxDegrees, int ticksPerStep, double speed) {
+        int[] ticks = new int[steps * 2];
+        double[] angles = new double[steps * 2];
+        double[] speeds = new double[steps * 2];
+        for (int i = 0; i < steps; i++) {
+            double angle = maxDegrees * (i + 1) / steps;
+            ticks[i * 2] = i * ticksPerStep;
+            ticks[i * 2 + 1] = i * ticksPerStep;
+            angles[i * 2] = angle;
+            angles[i * 2 + 1] = -angle;
+            speeds[i * 2] = speed;
+            speeds[i * 2 + 1] = speed;
+        }
+        return new BossPattern(ticks, angles, speeds, false);
+    }
+
+    /**
+     * Creates a burst of shots aimed at the target, fired one after another.
+     *
+     * @param shots         the number of shots in the burst
+     * @param ticksBetween  the number of ticks between shots
+     * @param speed         the speed of every shot
+     * @return the compiled pattern
+     */
+    public static BossPattern aimedBurst(int shots, int ticksBetween, double speed) {
+        int[] ticks = new int[shots];
+        double[] angles = new double[shots];
+        double[] speeds = new double[shots];
+        for (int i = 0; i < shots; i++) {
+            ticks[i] = i * ticksBetween;
+            speeds[i] = speed;
+        }
+        return new BossPattern(ticks, angles, speeds, true);
+    }
+
+    /**
+     * Makes every shot of this pattern speed up along its direction of travel.
+     *
+     * @param acceleration the fraction of the initial velocity added every tick
+     * @return this pattern
+     */
+    public BossPattern accelerating(double acceleration) {
+        this.motion = ProjectileKinematics.ACCELERATING;
+        this.motionStrength = acceleration;
+        return this;
+    }
+
+    /**
+     * Makes every shot of this pattern track the target for a limited time.
+     *
+     * @param turnRate  the fraction of the way each shot turns towards the target every tick
+     * @param ticks     the number of ticks each shot tracks the target
+     * @return this pattern
+     */
+    public BossPattern homing(double turnRate, int ticks) {
+        this.motion = ProjectileKinematics.HOMING;
+        this.motionStrength = turnRate;
+        this.homingTicks = ticks;
+        return this;
+    }
+
+    /**
+     * Returns the number of shots in the pattern.
+     *
+     * @return the number of shots
+     */
+    public int getShotCount() {
+        return fireTicks.length;
+    }
+
+    /**
+     * Returns the tick a shot fires on, relative to the start of the pattern.
+     *
+     * @param shot the index of the shot
+     * @return the tick the shot fires on
+     */
+    public int getFireTick(int shot) {
+        return fireTicks[shot];
+    }
+
+    /**
+     * Returns the cosine of a shot's angle relative to the firing direction.
+     *
+     * @param shot the index of the shot
+     * @return the cosine of the shot's angle
+     */
+    public double getDirectionCos(int shot) {
+        return directionCos[shot];
+    }
+
+    /**
+     * Returns the sine of a shot's angle relative to the firing direction.
+     *
+     * @param shot the index of the shot
+     * @return the sine of the shot's angle
+     */
+    public double getDirectionSin(int shot) {
+        return directionSin[shot];
+    }
+
+    /**
+     * Returns the speed of a shot.
+     *
+     * @param shot the index of the shot
+     * @return the speed of the shot in pixels per tick
+     */
+    public double getSpeed(int shot) {
+        return speeds[shot];
+    }
+
+    /**
+     * Returns the motion of the fired shots.
+     *
+     * @return one of the {@link ProjectileKinematics} constants
+     */
+    public int getMotion() {
+        return motion;
+    }
+
+    /**
+     * Returns the acceleration or homing turn rate of the fired shots, depending on the motion.
+     *
+     * @return the strength of the motion
+     */
+    public double getMotionStrength() {
+        return motionStrength;
+    }
+
+    /**
+     * Returns the number of ticks homing shots track the target.
+     *
+     * @return the homing duration in ticks
+     */
+    public int getHomingTicks() {
+        return homingTicks;
+    }
+
+    /**
+     * Checks whether the pattern is aimed at the target.
+     *
+     * @return {@code true} if the pattern is aimed, {@code false} if it fires straight ahead
+     */
+    public boolean isAimed() {
+        return aimed;
+    }
+}
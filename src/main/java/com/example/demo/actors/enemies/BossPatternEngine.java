@@ -0,0 +1,225 @@
+package com.example.demo.actors.enemies;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.actors.projectile.ProjectileKinematics;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The {@code BossPatternEngine} class drives the attacks of the {@link Boss}.
+ * <p>
+ * The Boss fight is split into phases by health thresholds. Each phase draws from its own table of precompiled
+ * {@link BossPattern}s, with a random cooldown between patterns that shortens as the fight goes on.
+ * Shots are emitted in batches into the level's projectile list, using a fixed pool of {@link BossProjectile}s
+ * that are reused once destroyed, so a running fight does not allocate per frame.
+ * Since the next pattern is only picked once the cooldown is over, the level can see an attack coming
+ * through {@link #announceNextPattern(int)} and warn the player ahead of it.
+ * </p>
+ */
+public class BossPatternEngine {
+
+    /** Health thresholds at which the fight enters its next phase, in descending order. */
+    private static final int[] PHASE_HEALTH_THRESHOLDS = {66, 33};
+
+    /** Patterns available in each phase. */
+    private static final BossPattern[][] PHASE_PATTERNS = {
+            {
+                    BossPattern.straight(18),
+                    BossPattern.spread(3, 30, 14)
+            },
+            {
+                    BossPattern.straight(18),
+                    BossPattern.spread(5, 50, 6).accelerating(0.08),
+                    BossPattern.aimedBurst(3, 4, 15)
+            },
+            {
+                    BossPattern.spread(7, 70, 12),
+                    BossPattern.spiral(6, 60, 2, 12),
+                    BossPattern.aimedBurst(5, 3, 13).homing(0.12, 20)
+            }
+    };
+
+    /** Minimum number of ticks between patterns in each phase. */
+    private static final int[] PHASE_MIN_COOLDOWN = {15, 12, 8};
+
+    /** Maximum number of ticks between patterns in each phase. */
+    private static final int[] PHASE_MAX_COOLDOWN = {30, 24, 16};
+
+    /** Maximum number of Boss projectiles alive at once. Shots beyond this are dropped. */
+    private static final int POOL_CAPACITY = 48;
+
+    /** Pool of projectiles, filled lazily up to {@link #POOL_CAPACITY} and by {@link #adopt(BossProjectile)}. */
+    private final BossProjectile[] pool = new BossProjectile[POOL_CAPACITY];
+
+    /** Number of projectiles in the pool so far, created or adopted. */
+    private int poolSize;
+
+    /** The pattern currently being fired, or {@code null} while cooling down. */
+    private BossPattern currentPattern;
+
+    /** Index of the next shot to fire in the current pattern. */
+    private int nextShot;
+
+    /** Number of ticks since the current pattern started. */
+    private int patternTick;
+
+    /** Number of ticks left before the next pattern starts. */
+    private int cooldown = PHASE_MAX_COOLDOWN[0];
+
+    /** Whether the pattern after the current cooldown has already been announced. */
+    private boolean announced;
+
+    /**
+     * Advances the engine by one tick, firing any shots that are due.
+     *
+     * @param health        the current health of the Boss, used to select the phase
+     * @param originX       the x-position shots are fired from
+     * @param originY       the y-position shots are fired from
+     * @param target        the actor aimed patterns fire at, or {@code null} to fire straight ahead
+     * @param random        the level's random numbers, used to pick patterns and cooldowns
+     * @param projectiles   the list the fired projectiles are appended to
+     */
+    public void update(int health, double originX, double originY, ActiveActor target, Random random,
+                       List<ActiveActorDestructible> projectiles) {
+        if (currentPattern == null) {
+            if (cooldown > 0) {
+                cooldown--;
+                return;
+            }
+            startPattern(getPhase(health), random);
+        }
+        int shots = currentPattern.getShotCount();
+        while (nextShot < shots && currentPattern.getFireTick(nextShot) <= patternTick) {
+            fireShot(nextShot, originX, originY, target, projectiles);
+            nextShot++;
+        }
+        patternTick++;
+        if (nextShot == shots) {
+            currentPattern = null;
+        }
+    }
+
+    /**
+     * Announces the next pattern once it is less than the given number of ticks away. Each pattern is
+     * announced at most once.
+     *
+     * @param leadTicks the number of ticks ahead to announce patterns
+     * @return the number of ticks before the next pattern fires, or {@code 0} if there is nothing to announce
+     */
+    public int announceNextPattern(int leadTicks) {
+        if (currentPattern != null || announced || cooldown >= leadTicks) {
+            return 0;
+        }
+        announced = true;
+        return cooldown + 1; // The pattern fires on the update after the cooldown reaches zero
+    }
+
+    /**
+     * Takes a projectile created outside the engine into the pool, such as one restored from a checkpoint,
+     * so it is reused like the projectiles the engine fired once destroyed.
+     *
+     * @param projectile the projectile to pool
+     * @return {@code true} if it was pooled, {@code false} if the pool is already full
+     */
+    public boolean adopt(BossProjectile projectile) {
+        if (poolSize == POOL_CAPACITY) {
+            return false;
+        }
+        pool[poolSize++] = projectile;
+        return true;
+    }
+
+    /**
+     * Returns the phase of the fight for the given health.
+     *
+     * @param health the current health of the Boss
+     * @return the index of the phase
+     */
+    public static int getPhase(int health) {
+        int phase = 0;
+        while (phase < PHASE_HEALTH_THRESHOLDS.length && health <= PHASE_HEALTH_THRESHOLDS[phase]) {
+            phase++;
+        }
+        return phase;
+    }
+
+    /**
+     * Picks a random pattern from the phase's table and schedules the cooldown that follows it.
+     *
+     * @param phase  the current phase of the fight
+     * @param random the level's random numbers
+     */
+    private void startPattern(int phase, Random random) {
+        BossPattern[] patterns = PHASE_PATTERNS[phase];
+        currentPattern = patterns[random.nextInt(patterns.length)];
+        nextShot = 0;
+        patternTick = 0;
+        announced = false;
+        int min = PHASE_MIN_COOLDOWN[phase];
+        cooldown = min + random.nextInt(PHASE_MAX_COOLDOWN[phase] - min + 1);
+    }
+
+    /**
+     * Fires a single shot of the current pattern, rotated into the firing direction.
+     *
+     * @param shot          the index of the shot in the current pattern
+     * @param originX       the x-position the shot is fired from
+     * @param originY       the y-position the shot is fired from
+     * @param target        the actor aimed patterns fire at, or {@code null}
+     * @param projectiles   the list the fired projectile is appended to
+     */
+    private void fireShot(int shot, double originX, double originY, ActiveActor target,
+                          List<ActiveActorDestructible> projectiles) {
+        BossProjectile projectile = acquireProjectile();
+        if (projectile == null) {
+            return;
+        }
+        double forwardX = -1;
+        double forwardY = 0;
+        if (currentPattern.isAimed() && target != null) {
+            double halfHeight = projectile.getHitboxHeight() / 2;
+            double dx = target.getPositionX() + target.getHitboxWidth() / 2 - originX;
+            double dy = target.getPositionY() + target.getHitboxHeight() / 2 - (originY + halfHeight);
+            double length = Math.sqrt(dx * dx + dy * dy);
+            if (length > 0) {
+                forwardX = dx / length;
+                forwardY = dy / length;
+            }
+        }
+        double cos = currentPattern.getDirectionCos(shot);
+        double sin = currentPattern.getDirectionSin(shot);
+        double speed = currentPattern.getSpeed(shot);
+        double velocityX = speed * (cos * forwardX - sin * forwardY);
+        double velocityY = speed * (cos * forwardY + sin * forwardX);
+        switch (currentPattern.getMotion()) {
+            case ProjectileKinematics.ACCELERATING -> projectile.launchAccelerating(originX, originY,
+                    velocityX, velocityY, currentPattern.getMotionStrength());
+            case ProjectileKinematics.HOMING -> projectile.launchHoming(originX, originY,
+                    velocityX, velocityY, currentPattern.getMotionStrength(), currentPattern.getHomingTicks());
+            default -> projectile.launch(originX, originY, velocityX, velocityY);
+        }
+        projectiles.add(projectile);
+    }
+
+    /**
+     * Takes a destroyed projectile from the pool, creating a new one while the pool is not full yet.
+     *
+     * @return a projectile ready to be launched, or {@code null} if every pooled projectile is still alive
+     */
+    private BossProjectile acquireProjectile() {
+        for (int i = 0; i < poolSize; i++) {
+            if (pool[i].isDestroyed()) {
+                return pool[i];
+            }
+        }
+        if (poolSize < POOL_CAPACITY) {
+            BossProjectile projectile = new BossProjectile();
+            pool[poolSize++] = projectile;
+            return projectile;
+        }
+        return null;
+    }
+}
@@ -1,15 +1,14 @@
 package com.example.demo.actors.enemies;
 
 import com.example.demo.actors.ActiveActorDestructible;
-import com.example.demo.actors.FighterPlane;
 import com.example.demo.actors.projectile.EliteEnemyProjectile;
 
 /**
- * This new class represents an elite enemy plane in the game, which is a stronger variant of {@link FighterPlane}.
- * The elite enemy plane moves horizontally at a slower velocity and has higher health than a regular enemy plane.
- * It also fires more powerful projectiles.
+ * This new class represents an elite enemy plane in the game, which is a stronger variant of {@link SteeredPlane}.
+ * The elite enemy plane cruises at a slower velocity, keeps out of the user's line of fire, and has higher health
+ * than a regular enemy plane. It also fires more powerful projectiles.
  */
-public class EliteEnemyPlane extends FighterPlane {
+public class EliteEnemyPlane extends SteeredPlane {
 
     /** Path to the elite enemy plane's image resource. */
     private static final String IMAGE_NAME = "Enemy/eliteEnemyPlane.png";
@@ -17,9 +16,15 @@ public class EliteEnemyPlane extends FighterPlane {
     /** Height of the elite enemy plane image in pixels. */
     private static final int IMAGE_HEIGHT = 100;
 
-    /** Horizontal velocity of the elite enemy plane. */
+    /** Horizontal velocity the elite enemy plane cruises at. */
     private static final int HORIZONTAL_VELOCITY = -5;
 
+    /** Fastest the elite enemy plane can fly. */
+    private static final double MAX_SPEED = 7;
+
+    /** Largest change of velocity per tick. */
+    private static final double MAX_FORCE = 0.5;
+
     /** Offset for the X position of projectiles fired by the elite enemy plane. */
     private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
 
@@ -39,38 +44,41 @@ public class EliteEnemyPlane extends FighterPlane {
      * @param initialYPos the initial Y position of the elite enemy plane.
      */
     public EliteEnemyPlane(double initialXPos, double initialYPos) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH,
+                HORIZONTAL_VELOCITY, MAX_SPEED, MAX_FORCE, FLEE);
     }
 
     /**
-     * Updates the position of the elite enemy plane, moving it horizontally.
+     * Fires a projectile from the elite enemy plane. The level calls it when the plane's next shot is due.
+     *
+     * @return an {@link EliteEnemyProjectile} instance.
      */
     @Override
-    public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY);
+    public ActiveActorDestructible fireProjectile() {
+        double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
+        double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
+        return new EliteEnemyProjectile(projectileXPosition, projectileYPosition);
     }
 
     /**
-     * Fires a projectile from the elite enemy plane if the firing probability is met.
+     * Draws the delay until the next shot, so the elite enemy plane fires at the same average rate as rolling
+     * {@link #FIRE_RATE} every tick.
      *
-     * @return an {@link EliteEnemyProjectile} instance if fired, or {@code null} otherwise.
+     * @return the number of ticks until the next shot.
      */
     @Override
-    public ActiveActorDestructible fireProjectile() {
-        if (Math.random() < FIRE_RATE) {
-            double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
-            double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-            return new EliteEnemyProjectile(projectileXPosition, projectileYPosition);
-        }
-        return null;
+    protected int nextFireDelay() {
+        return drawFireDelay(FIRE_RATE);
     }
 
     /**
-     * Updates the state of the elite enemy plane, including its position.
+     * Lets the elite enemy plane drop a power-up when destroyed, as a reward for the extra hits it takes.
+     *
+     * @return {@code true}
      */
     @Override
-    public void updateActor() {
-        updatePosition();
+    public boolean dropsPowerUp() {
+        return true;
     }
 
 }
@@ -1,15 +1,14 @@
 package com.example.demo.actors.enemies;
 
 import com.example.demo.actors.ActiveActorDestructible;
-import com.example.demo.actors.FighterPlane;
 import com.example.demo.actors.projectile.EnemyProjectile;
 
 /**
- * Represents an enemy plane in the game, which is a type of {@link FighterPlane}.
- * The enemy plane moves horizontally at a constant velocity and has the ability to fire projectiles.
+ * Represents an enemy plane in the game, which is a type of {@link SteeredPlane}.
+ * The enemy plane cruises forward while lining up with the user's plane, and has the ability to fire projectiles.
  * Original source code can be found in the original git repository: <a href="https://github.com/kooitt/CW2024.git">ORIGINAL SOURCE CODE</a>
  */
-public class EnemyPlane extends FighterPlane {
+public class EnemyPlane extends SteeredPlane {
 
 	/** Path to the enemy plane's image resource. */
 	private static final String IMAGE_NAME = "Enemy/enemyPlanealt.gif";
@@ -17,9 +16,15 @@ public class EnemyPlane extends FighterPlane {
 	/** Height of the enemy plane image in pixels. */
 	private static final int IMAGE_HEIGHT = 100;
 
-	/** Horizontal velocity of the enemy plane. */
+	/** Horizontal velocity the enemy plane cruises at. */
 	private static final int HORIZONTAL_VELOCITY = -7;
 
+	/** Fastest the enemy plane can fly. */
+	private static final double MAX_SPEED = 9;
+
+	/** Largest change of velocity per tick, which keeps the enemy plane's turns dodgeable. */
+	private static final double MAX_FORCE = 0.4;
+
 	/** Offset for the X position of projectiles fired by the enemy plane. */
 	private static final double PROJECTILE_X_POSITION_OFFSET = -25.0;
 
@@ -39,38 +44,31 @@ public class EnemyPlane extends FighterPlane {
 	 * @param initialYPos the initial Y position of the enemy plane.
 	 */
 	public EnemyPlane(double initialXPos, double initialYPos) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
-	}
-
-	/**
-	 * Updates the position of the enemy plane, moving it horizontally.
-	 */
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH,
+				HORIZONTAL_VELOCITY, MAX_SPEED, MAX_FORCE, SEEK);
 	}
 
 	/**
-	 * Fires a projectile from the enemy plane if the firing probability is met.
+	 * Fires a projectile from the enemy plane. The level calls it when the plane's next shot is due.
 	 *
-	 * @return an {@link EnemyProjectile} instance if fired, or {@code null} otherwise.
+	 * @return an {@link EnemyProjectile} instance.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
-			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
-			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyProjectile(projectileXPosition, projectileYPosition);
-		}
-		return null;
+		double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
+		double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
+		return new EnemyProjectile(projectileXPosition, projectileYPosition);
 	}
 
 	/**
-	 * Updates the state of the enemy plane, including its position.
+	 * Draws the delay until the next shot, so the enemy plane fires at the same average rate as rolling
+	 * {@link #FIRE_RATE} every tick.
+	 *
+	 * @return the number of ticks until the next shot.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	protected int nextFireDelay() {
+		return drawFireDelay(FIRE_RATE);
 	}
 
 }
@@ -0,0 +1,244 @@
+package com.example.demo.actors.enemies;
+
+import com.example.demo.actors.FighterPlane;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The {@code SteeredPlane} class is an enemy plane moved by the level's steering system instead of a fixed velocity.
+ * <p>
+ * The plane only holds its steering parameters and current velocity. Every tick the level's
+ * {@code SteeringSystem} reads them for all steered planes at once, works out the new velocities in a single batched
+ * pass, and writes them back; the plane then moves by its velocity in {@link #updatePosition()}. A plane nobody
+ * steers keeps cruising at its cruise velocity, and a plane flying in a formation is moved by the formation.
+ * </p>
+ */
+public abstract class SteeredPlane extends FighterPlane {
+
+    /** Lines up with the target vertically while cruising forward. */
+    public static final int SEEK = 0;
+
+    /** Keeps out of the target's line of fire while cruising forward. */
+    public static final int FLEE = 1;
+
+    /** Weaves up and down while cruising forward. */
+    public static final int WEAVE = 2;
+
+    /** Holds its place in a formation, which moves it along with the formation's leader. */
+    public static final int FORMATION = 3;
+
+    /** Horizontal velocity the plane cruises at, in pixels per tick. */
+    private final double cruiseVelocity;
+
+    /** Fastest the plane can fly, in pixels per tick. */
+    private final double maxSpeed;
+
+    /** Largest change of velocity per tick, in pixels per tick. */
+    private final double maxForce;
+
+    /** How the plane is steered, one of {@link #SEEK}, {@link #FLEE}, {@link #WEAVE} and {@link #FORMATION}. */
+    private int steeringBehaviour;
+
+    /** Current horizontal velocity, in pixels per tick. */
+    private double velocityX;
+
+    /** Current vertical velocity, in pixels per tick. */
+    private double velocityY;
+
+    /** Phase of the weave, in radians. */
+    private double weavePhase;
+
+    /**
+     * Constructs a {@code SteeredPlane} cruising forward.
+     *
+     * @param imageName         The file name of the image representing the plane.
+     * @param imageHeight       The height of the plane image.
+     * @param initialXPos       The initial x-coordinate of the plane.
+     * @param initialYPos       The initial y-coordinate of the plane.
+     * @param health            The initial health of the plane.
+     * @param cruiseVelocity    The horizontal velocity the plane cruises at.
+     * @param maxSpeed          The fastest the plane can fly.
+     * @param maxForce          The largest change of velocity per tick.
+     * @param steeringBehaviour How the plane is steered.
+     */
+    public SteeredPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health,
+                        double cruiseVelocity, double maxSpeed, double maxForce, int steeringBehaviour) {
+        super(imageName, imageHeight, initialXPos, initialYPos, health);
+        this.cruiseVelocity = cruiseVelocity;
+        this.maxSpeed = maxSpeed;
+        this.maxForce = maxForce;
+        this.steeringBehaviour = steeringBehaviour;
+        this.velocityX = cruiseVelocity;
+    }
+
+    /**
+     * Moves the plane by its current velocity, unless it is held in a formation.
+     */
+    @Override
+    public void updatePosition() {
+        if (steeringBehaviour == FORMATION) return;
+        moveHorizontally(velocityX);
+        moveVertically(velocityY);
+    }
+
+    /**
+     * Moves the plane so that its top left corner is at the given coordinates. Formations use this to keep their
+     * followers in place; the move counts as this tick's movement for swept collisions.
+     *
+     * @param x the new x-coordinate of the plane
+     * @param y the new y-coordinate of the plane
+     */
+    public void placeAt(double x, double y) {
+        setOffsetX(x - getInitialPositionX());
+        setOffsetY(y - getInitialPositionY());
+    }
+
+    /**
+     * Updates the state of the plane, including its position.
+     */
+    @Override
+    public void updateActor() {
+        updatePosition();
+    }
+
+    /**
+     * Moves the plane the whole distance its velocity would have covered over several ticks. Planes out of range
+     * are not steered, so their velocity stays the same for all of them.
+     *
+     * @param ticks the number of ticks to make up
+     */
+    @Override
+    public void catchUp(int ticks) {
+        if (steeringBehaviour == FORMATION) return;
+        moveHorizontally(velocityX * ticks);
+        moveVertically(velocityY * ticks);
+    }
+
+    /**
+     * Gets the horizontal velocity the plane cruises at.
+     *
+     * @return the cruise velocity, in pixels per tick
+     */
+    public double getCruiseVelocity() {
+        return cruiseVelocity;
+    }
+
+    /**
+     * Gets the fastest the plane can fly.
+     *
+     * @return the maximum speed, in pixels per tick
+     */
+    public double getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    /**
+     * Gets the largest change of velocity the plane can make in one tick.
+     *
+     * @return the maximum steering force, in pixels per tick
+     */
+    public double getMaxForce() {
+        return maxForce;
+    }
+
+    /**
+     * Gets how the plane is steered.
+     *
+     * @return one of {@link #SEEK}, {@link #FLEE}, {@link #WEAVE} and {@link #FORMATION}
+     */
+    public int getSteeringBehaviour() {
+        return steeringBehaviour;
+    }
+
+    /**
+     * Changes how the plane is steered.
+     *
+     * @param steeringBehaviour one of {@link #SEEK}, {@link #FLEE}, {@link #WEAVE} and {@link #FORMATION}
+     */
+    public void setSteeringBehaviour(int steeringBehaviour) {
+        this.steeringBehaviour = steeringBehaviour;
+    }
+
+    /**
+     * Gets the current horizontal velocity.
+     *
+     * @return the horizontal velocity, in pixels per tick
+     */
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    /**
+     * Gets the current vertical velocity.
+     *
+     * @return the vertical velocity, in pixels per tick
+     */
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Sets the velocity the plane moves by on its next update.
+     *
+     * @param velocityX the horizontal velocity, in pixels per tick
+     * @param velocityY the vertical velocity, in pixels per tick
+     */
+    public void setVelocity(double velocityX, double velocityY) {
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+    }
+
+    /**
+     * Gets the phase of the weave.
+     *
+     * @return the phase, in radians
+     */
+    public double getWeavePhase() {
+        return weavePhase;
+    }
+
+    /**
+     * Sets the phase of the weave.
+     *
+     * @param weavePhase the phase, in radians
+     */
+    public void setWeavePhase(double weavePhase) {
+        this.weavePhase = weavePhase;
+    }
+
+    /**
+     * Writes the plane's state, including its steering, to a level checkpoint.
+     *
+     * @param out The checkpoint being written.
+     * @throws IOException if the state cannot be written.
+     */
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeByte(steeringBehaviour);
+        out.writeDouble(velocityX);
+        out.writeDouble(velocityY);
+        out.writeDouble(weavePhase);
+    }
+
+    /**
+     * Restores the plane's state, including its steering, from a level checkpoint.
+     *
+     * @param in The checkpoint being read.
+     * @throws IOException if the state cannot be read.
+     */
+    @Override
+    public void readState(DataInput in) throws IOException {
+        super.readState(in);
+        int behaviour = in.readByte();
+        if (behaviour < SEEK || behaviour > FORMATION) {
+            throw new IOException("Unknown steering behaviour: " + behaviour);
+        }
+        steeringBehaviour = behaviour;
+        velocityX = in.readDouble();
+        velocityY = in.readDouble();
+        weavePhase = in.readDouble();
+    }
+}
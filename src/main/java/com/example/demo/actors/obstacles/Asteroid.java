@@ -50,4 +50,23 @@ public class Asteroid extends Obstacle {
         updatePosition();
     }
 
+    /**
+     * Moves the asteroid the whole distance it would have covered over several ticks.
+     *
+     * @param ticks the number of ticks to make up
+     */
+    @Override
+    public void catchUp(int ticks) {
+        moveHorizontally(HORIZONTAL_VELOCITY * ticks);
+    }
+
+    /**
+     * Flags the asteroid as a fast mover. It is the fastest actor in the game, covering 20 pixels a tick.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isFastMover() {
+        return true;
+    }
 }
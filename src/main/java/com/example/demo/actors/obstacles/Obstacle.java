@@ -2,6 +2,10 @@ package com.example.demo.actors.obstacles;
 
 import com.example.demo.actors.ActiveActorDestructible;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Represents an obstacle in the game, which is a destructible object that
  * players must avoid or destroy. Obstacles can take damage and are destroyed
@@ -39,6 +43,30 @@ public abstract class Obstacle extends ActiveActorDestructible {
         }
     }
 
+    /**
+     * Writes the obstacle's state, including its health, to a level checkpoint.
+     *
+     * @param out the checkpoint being written.
+     * @throws IOException if the state cannot be written.
+     */
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeInt(health);
+    }
+
+    /**
+     * Restores the obstacle's state, including its health, from a level checkpoint.
+     *
+     * @param in the checkpoint being read.
+     * @throws IOException if the state cannot be read.
+     */
+    @Override
+    public void readState(DataInput in) throws IOException {
+        super.readState(in);
+        health = in.readInt();
+    }
+
     /**
      * Checks whether the obstacle's health has reached zero.
      *
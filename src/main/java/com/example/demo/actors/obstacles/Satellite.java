@@ -42,6 +42,26 @@ public class Satellite extends Obstacle {
         moveHorizontally(HORIZONTAL_VELOCITY);
     }
 
+    /**
+     * Moves the satellite the whole distance it would have covered over several ticks.
+     *
+     * @param ticks the number of ticks to make up
+     */
+    @Override
+    public void catchUp(int ticks) {
+        moveHorizontally(HORIZONTAL_VELOCITY * ticks);
+    }
+
+    /**
+     * Lets the satellite drop a power-up when destroyed, since it takes several hits to bring down.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean dropsPowerUp() {
+        return true;
+    }
+
     /**
      * Updates the state of the satellite, including its position.
      */
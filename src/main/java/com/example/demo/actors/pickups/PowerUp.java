@@ -0,0 +1,78 @@
+package com.example.demo.actors.pickups;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+/**
+ * Represents a power-up pickup drifting across the screen until the user's plane collects it.
+ * <p>
+ * Pickups are pooled by {@link PowerUpPool}: each one is created once, inactive, and dropped again with
+ * {@link #drop(double, double)} every time it is reused. Collecting a pickup destroys it, which returns it to the pool.
+ * </p>
+ */
+public class PowerUp extends ActiveActorDestructible {
+
+    /** Height of the pickup image in pixels. */
+    private static final int IMAGE_HEIGHT = 40;
+
+    /** Horizontal velocity of the pickup, slower than any enemy so it can be caught. */
+    private static final int HORIZONTAL_VELOCITY = -3;
+
+    /** The effect the pickup grants. */
+    private final PowerUpType type;
+
+    /**
+     * Constructs an inactive {@code PowerUp} meant to be kept in a pool.
+     *
+     * @param type the effect the pickup grants
+     */
+    public PowerUp(PowerUpType type) {
+        super(type.getImageName(), IMAGE_HEIGHT, 0, 0);
+        this.type = type;
+        destroy();
+    }
+
+    /**
+     * Drops the pickup centred on the given point, so a collected or missed pickup can be reused.
+     *
+     * @param centerX the x-coordinate of the centre of the pickup
+     * @param centerY the y-coordinate of the centre of the pickup
+     */
+    public void drop(double centerX, double centerY) {
+        setPosition(centerX - getHitboxWidth() / 2, centerY - getHitboxHeight() / 2);
+        setDestroyed(false);
+    }
+
+    /**
+     * Moves the pickup horizontally.
+     */
+    @Override
+    public void updatePosition() {
+        moveHorizontally(HORIZONTAL_VELOCITY);
+    }
+
+    /**
+     * Updates the state of the pickup, including its position.
+     */
+    @Override
+    public void updateActor() {
+        updatePosition();
+    }
+
+    /**
+     * Collects the pickup. Its collision response destroys it, so this is only called if a level changes it to
+     * a damage response.
+     */
+    @Override
+    public void takeDamage() {
+        destroy();
+    }
+
+    /**
+     * Returns the effect the pickup grants.
+     *
+     * @return the power-up type
+     */
+    public PowerUpType getType() {
+        return type;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.actors.pickups;
+
+/**
+ * The {@code PowerUpPool} class holds a fixed number of pickups of every type, all created up front.
+ * <p>
+ * Dropping a pickup reuses an inactive one, so drops never allocate. When every pickup of a type is still
+ * on the screen, the drop is skipped.
+ * </p>
+ */
+public class PowerUpPool {
+
+    /** The pickups of each type, indexed by type ordinal. */
+    private final PowerUp[][] pool;
+
+    /**
+     * Constructs a {@code PowerUpPool}, creating every pickup.
+     *
+     * @param pickupsPerType the number of pickups of each type
+     */
+    public PowerUpPool(int pickupsPerType) {
+        PowerUpType[] types = PowerUpType.values();
+        pool = new PowerUp[types.length][pickupsPerType];
+        for (PowerUpType type : types) {
+            for (int i = 0; i < pickupsPerType; i++) {
+                pool[type.ordinal()][i] = new PowerUp(type);
+            }
+        }
+    }
+
+    /**
+     * Takes an inactive pickup of the given type.
+     *
+     * @param type the type of pickup
+     * @return a pickup ready to be dropped, or {@code null} if every pickup of the type is in play
+     */
+    public PowerUp acquire(PowerUpType type) {
+        for (PowerUp powerUp : pool[type.ordinal()]) {
+            if (powerUp.isDestroyed()) {
+                return powerUp;
+            }
+        }
+        return null;
+    }
+}
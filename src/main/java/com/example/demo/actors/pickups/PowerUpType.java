@@ -0,0 +1,59 @@
+package com.example.demo.actors.pickups;
+
+/**
+ * The {@code PowerUpType} enum lists the power-ups dropped by destroyed enemies and obstacles,
+ * with the sprite each one is drawn with and how long its effect lasts.
+ */
+public enum PowerUpType {
+
+    /** Restores one heart, up to the plane's starting health. */
+    HEALTH("LevelUI/heart.png", 0),
+
+    /** Halves the cooldown between shots. */
+    RAPID_FIRE("Projectiles/laserbeam.gif", 200),
+
+    /** Surrounds the plane with a shield that blocks all damage. */
+    SHIELD("VFX/energyshield.gif", 120),
+
+    /** Turns single shots into a spread of three. */
+    SPREAD_SHOT("Projectiles/userProjectile.png", 200);
+
+    /**
+     * The sprite of the pickup, relative to the images folder.
+     */
+    private final String imageName;
+
+    /**
+     * How long the effect lasts in ticks, {@code 0} for effects applied at once.
+     */
+    private final int durationTicks;
+
+    /**
+     * Constructs a {@code PowerUpType}.
+     *
+     * @param imageName     the sprite of the pickup, relative to the images folder
+     * @param durationTicks how long the effect lasts in ticks, {@code 0} for effects applied at once
+     */
+    PowerUpType(String imageName, int durationTicks) {
+        this.imageName = imageName;
+        this.durationTicks = durationTicks;
+    }
+
+    /**
+     * Returns the sprite of the pickup, relative to the images folder.
+     *
+     * @return the image name
+     */
+    public String getImageName() {
+        return imageName;
+    }
+
+    /**
+     * Returns how long the effect lasts.
+     *
+     * @return the duration in ticks, {@code 0} for effects applied at once
+     */
+    public int getDurationTicks() {
+        return durationTicks;
+    }
+}
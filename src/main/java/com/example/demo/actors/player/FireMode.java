@@ -0,0 +1,26 @@
+package com.example.demo.actors.player;
+
+/**
+ * The {@code FireMode} enum lists the weapons of the user's plane, cycled through with the switch weapon key.
+ */
+public enum FireMode {
+
+    /** Fires a single projectile straight ahead. */
+    SINGLE,
+
+    /** Fires three projectiles fanning out. */
+    SPREAD,
+
+    /** Fires a continuous laser beam that hits the first target in its path. */
+    LASER;
+
+    /**
+     * Returns the weapon after this one, wrapping around to the first.
+     *
+     * @return the next fire mode
+     */
+    public FireMode next() {
+        FireMode[] modes = values();
+        return modes[(ordinal() + 1) % modes.length];
+    }
+}
@@ -2,9 +2,19 @@ package com.example.demo.actors.player;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.FighterPlane;
+import com.example.demo.audio.AudioBus;
+import com.example.demo.audio.SoundDefinition;
 import com.example.demo.controller.SoundManager;
+import com.example.demo.engine.TickTimer;
+import com.example.demo.images.ShieldImage;
+import com.example.demo.actors.pickups.PowerUpType;
 import com.example.demo.actors.projectile.UserProjectile;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
 /**
  * Represents the user's controllable fighter plane in the game. The {@code UserPlane}
  * allows movement, firing projectiles, and includes invulnerability mechanics
@@ -43,8 +53,17 @@ public class UserPlane extends FighterPlane {
 	private static final int PROJECTILE_X_POSITION_OFFSET = 100;
 	private static final int PROJECTILE_Y_POSITION_OFFSET = 30;
 
-	/** Duration of invulnerability after taking damage, in seconds. */
-	private static final double INVINCIBILITY_DURATION = 1.0;
+	/** Width and height of the shield granted by a power-up. */
+	private static final double SHIELD_SIZE = 140;
+
+	/** Render flag set while the power-up shield is active. */
+	private static final int SHIELD_RENDER_FLAG = 1;
+
+	/** Vertical velocity of the outer shots of a spread, in pixels per tick. */
+	private static final double SPREAD_VERTICAL_VELOCITY = 3;
+
+	/** Duration of invulnerability after taking damage, in ticks. */
+	private static final int INVINCIBILITY_TICKS = 30;
 
 	/** Sound effect file path for when the player takes damage. */
 	private static final String PLAYER_HIT_SFX = "/com/example/demo/sfx/level_sfx/damageTaken.mp3";
@@ -52,8 +71,15 @@ public class UserPlane extends FighterPlane {
 	private double HorizontalvelocityMultiplier;
 	private double VerticalvelocityMultiplier;
 	private int numberOfKills;
-	private boolean isIFramed;
-	private double iframeTimer;
+	private int damageTaken;
+	private final TickTimer iframeTimer;
+	private FireMode fireMode;
+
+	/** Power-up effects, each running for as long as its timer is scheduled. */
+	private final TickTimer rapidFireTimer;
+	private final TickTimer shieldTimer;
+	private final TickTimer spreadShotTimer;
+	private final ShieldImage shieldImage;
 	private SoundManager soundManager;
 
 	/**
@@ -65,11 +91,15 @@ public class UserPlane extends FighterPlane {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
 		HorizontalvelocityMultiplier = 0;
 		VerticalvelocityMultiplier = 0;
-		isIFramed = false; // Initially not invulnerable
-		iframeTimer = 0.0; // No invincibility when the game starts
+		iframeTimer = new TickTimer(this::endIFrames); // Not scheduled, so no invincibility when the game starts
+		fireMode = FireMode.SINGLE;
+		rapidFireTimer = new TickTimer();
+		shieldTimer = new TickTimer();
+		spreadShotTimer = new TickTimer();
+		shieldImage = new ShieldImage(INITIAL_X_POSITION, INITIAL_Y_POSITION, SHIELD_SIZE);
 		//sounds
 		soundManager = SoundManager.getInstance(); // Initialize SoundManager instance
-		soundManager.loadSFX("damage_taken", PLAYER_HIT_SFX);
+		soundManager.loadSFX("damage_taken", PLAYER_HIT_SFX, AudioBus.SFX, SoundDefinition.PRIORITY_HIGH, 2, false);
 	}
 
 	/**
@@ -92,9 +122,10 @@ public class UserPlane extends FighterPlane {
 	 */
 	@Override
 	public void takeDamage() {
-		// Only take damage if the player is not invulnerable
-		if (!isIFramed) {
+		// Only take damage if the player is neither invulnerable nor shielded
+		if (!isinVulnerable() && !shieldTimer.isScheduled()) {
 			super.takeDamage();
+			damageTaken++;
 			soundManager.playSFX("damage_taken");
 			activateIFrames();
 		}
@@ -105,8 +136,8 @@ public class UserPlane extends FighterPlane {
 	 */
 	private void activateIFrames() {
 		System.out.println("The plane is now invulnerable!");
-		isIFramed = true;
-		iframeTimer = INVINCIBILITY_DURATION; // Start the timer for invulnerability
+		getTimerWheel().schedule(iframeTimer, INVINCIBILITY_TICKS); // Start the timer for invulnerability
+		this.setDisplayOpacity(0.5);
 	}
 
 	/**
@@ -115,7 +146,7 @@ public class UserPlane extends FighterPlane {
 	 * @return {@code true} if the plane is invulnerable; {@code false} otherwise.
 	 */
 	public boolean isinVulnerable() {
-		return isIFramed;
+		return iframeTimer.isScheduled();
 	}
 
 	/**
@@ -124,46 +155,38 @@ public class UserPlane extends FighterPlane {
 	@Override
 	public void updatePosition() {
 		if (isMovingX()) {
-			double initialTranslateX = getTranslateX();
+			double initialOffsetX = getOffsetX();
 			this.moveHorizontally(HORIZONTAL_VELOCITY * HorizontalvelocityMultiplier);
-			double newPositionX = getLayoutX() + getTranslateX();
+			double newPositionX = getPositionX();
 			if (newPositionX < X_UPPER_BOUND || newPositionX > X_LOWER_BOUND) {
-				this.setTranslateX(initialTranslateX);
+				this.setOffsetX(initialOffsetX);
 			}
 		} //Checks if the user is moving the plane HORIZONTALLY
 
 		if (isMovingY()) {
-			double initialTranslateY = getTranslateY();
+			double initialOffsetY = getOffsetY();
 			this.moveVertically(VERTICAL_VELOCITY * VerticalvelocityMultiplier);
-			double newPosition = getLayoutY() + getTranslateY();
+			double newPosition = getPositionY();
 			if (newPosition < Y_UPPER_BOUND || newPosition > Y_LOWER_BOUND) {
-				this.setTranslateY(initialTranslateY);
+				this.setOffsetY(initialOffsetY);
 			}
 		} //Checks if the user is moving the plane VERTICALLY
 	}
 
 	/**
-	 * Updates the invulnerability frame timer and resets invincibility when the timer expires.
+	 * Ends invincibility. Run by the timer wheel when the invulnerability timer expires.
 	 */
-	private void updateIFrames() {
-		if (isIFramed) {
-			iframeTimer -= 1 / 30.0; // Decrement the timer by 1/30th of a second each frame
-			this.setOpacity(0.5);
-			if (iframeTimer <= 0) {
-				isIFramed = false; // End invulnerability
-				System.out.println("Player no longer invincible!");
-				this.setOpacity(1.0);
-			}
-		}
+	private void endIFrames() {
+		System.out.println("Player no longer invincible!");
+		this.setDisplayOpacity(1.0);
 	}
 
 	/**
-	 * Updates the state of the user's plane, including position and iFrames.
+	 * Updates the state of the user's plane. The iFrames end on their own through the timer wheel.
 	 */
 	@Override
 	public void updateActor() {
 		updatePosition();
-		updateIFrames();
 	}
 
 	/**
@@ -178,6 +201,124 @@ public class UserPlane extends FighterPlane {
 		return new UserProjectile(projectileXPosition, projectileYPosition); //Gives the program BOTH X/Y coordinates of user plane
 	}
 
+	/**
+	 * Fires the projectiles of the current weapon: one shot, or three fanning out for a spread.
+	 * The laser fires no projectiles; the level casts its beam from {@link #getLaserOriginX()} instead.
+	 *
+	 * @param projectiles the list the fired projectiles are appended to.
+	 */
+	@Override
+	public void fireProjectiles(List<ActiveActorDestructible> projectiles) {
+		if (fireMode == FireMode.SINGLE && !spreadShotTimer.isScheduled()) {
+			projectiles.add(fireProjectile());
+		}
+		else if (fireMode != FireMode.LASER) { //The spread shot power-up turns single shots into a spread
+			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
+			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
+			projectiles.add(new UserProjectile(projectileXPosition, projectileYPosition, -SPREAD_VERTICAL_VELOCITY));
+			projectiles.add(new UserProjectile(projectileXPosition, projectileYPosition));
+			projectiles.add(new UserProjectile(projectileXPosition, projectileYPosition, SPREAD_VERTICAL_VELOCITY));
+		}
+	}
+
+	/**
+	 * Applies the effect of a collected power-up. Timed effects run on the level's timer wheel and end by
+	 * themselves; collecting the same power-up again restarts its timer.
+	 *
+	 * @param type the power-up collected.
+	 */
+	public void applyPowerUp(PowerUpType type) {
+		switch (type) {
+			case HEALTH -> heal(1);
+			case RAPID_FIRE -> getTimerWheel().schedule(rapidFireTimer, type.getDurationTicks());
+			case SHIELD -> getTimerWheel().schedule(shieldTimer, type.getDurationTicks());
+			case SPREAD_SHOT -> getTimerWheel().schedule(spreadShotTimer, type.getDurationTicks());
+		}
+	}
+
+	/**
+	 * Checks whether the rapid fire power-up is active.
+	 *
+	 * @return {@code true} if shots should come twice as fast.
+	 */
+	public boolean hasRapidFire() {
+		return rapidFireTimer.isScheduled();
+	}
+
+	/**
+	 * Retrieves the shield image shown while the shield power-up is active.
+	 *
+	 * @return the {@link ShieldImage} of the plane.
+	 */
+	public ShieldImage getShieldImage() {
+		return shieldImage;
+	}
+
+	/**
+	 * Captures the power-up shield so the renderer can show or hide it.
+	 *
+	 * @return the render flags of the plane.
+	 */
+	@Override
+	public int getRenderFlags() {
+		return shieldTimer.isScheduled() ? SHIELD_RENDER_FLAG : 0;
+	}
+
+	/**
+	 * Applies the captured render state and centres the power-up shield on the plane.
+	 *
+	 * @param offsetX The horizontal offset captured for this frame.
+	 * @param offsetY The vertical offset captured for this frame.
+	 * @param opacity The opacity captured for this frame.
+	 * @param flags The render flags captured for this frame.
+	 */
+	@Override
+	public void applyRenderState(double offsetX, double offsetY, double opacity, int flags) {
+		super.applyRenderState(offsetX, offsetY, opacity, flags);
+		if ((flags & SHIELD_RENDER_FLAG) != 0) {
+			shieldImage.setLayoutX(INITIAL_X_POSITION + offsetX + (getHitboxWidth() - SHIELD_SIZE) / 2);
+			shieldImage.setLayoutY(INITIAL_Y_POSITION + offsetY + (getHitboxHeight() - SHIELD_SIZE) / 2);
+			shieldImage.showShield();
+		}
+		else {
+			shieldImage.hideShield();
+		}
+	}
+
+	/**
+	 * Switches to the next weapon.
+	 */
+	public void cycleFireMode() {
+		fireMode = fireMode.next();
+	}
+
+	/**
+	 * Returns the current weapon of the plane.
+	 *
+	 * @return the fire mode.
+	 */
+	public FireMode getFireMode() {
+		return fireMode;
+	}
+
+	/**
+	 * Returns the x-coordinate the laser beam starts at, where projectiles are fired from.
+	 *
+	 * @return the x-coordinate of the beam's start.
+	 */
+	public double getLaserOriginX() {
+		return getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
+	}
+
+	/**
+	 * Returns the y-coordinate of the centre of the laser beam, level with where projectiles are fired from.
+	 *
+	 * @return the y-coordinate of the beam's centre.
+	 */
+	public double getLaserOriginY() {
+		return getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
+	}
+
 	/**
 	 * Checks if the plane is moving in the X axis
 	 */
@@ -220,6 +361,63 @@ public class UserPlane extends FighterPlane {
 		HorizontalvelocityMultiplier = 1.5;
 	}
 
+	/**
+	 * Writes the plane's state, including its kills, hits taken, invulnerability, weapon and power-ups,
+	 * to a level checkpoint.
+	 *
+	 * @param out the checkpoint being written.
+	 * @throws IOException if the state cannot be written.
+	 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeInt(numberOfKills);
+		out.writeInt(damageTaken);
+		out.writeInt(iframeTimer.getRemainingTicks());
+		out.writeByte(fireMode.ordinal());
+		out.writeInt(rapidFireTimer.getRemainingTicks());
+		out.writeInt(shieldTimer.getRemainingTicks());
+		out.writeInt(spreadShotTimer.getRemainingTicks());
+	}
+
+	/**
+	 * Restores the plane's state from a level checkpoint. The plane starts out stationary.
+	 *
+	 * @param in the checkpoint being read.
+	 * @throws IOException if the state cannot be read.
+	 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		numberOfKills = in.readInt();
+		damageTaken = in.readInt();
+		int iframeTicks = in.readInt();
+		if (iframeTicks > 0) {
+			getTimerWheel().schedule(iframeTimer, iframeTicks);
+		}
+		this.setDisplayOpacity(iframeTicks > 0 ? 0.5 : 1.0);
+		int mode = in.readByte();
+		if (mode < 0 || mode >= FireMode.values().length) {
+			throw new IOException("Unknown fire mode: " + mode);
+		}
+		fireMode = FireMode.values()[mode];
+		restoreTimer(rapidFireTimer, in.readInt());
+		restoreTimer(shieldTimer, in.readInt());
+		restoreTimer(spreadShotTimer, in.readInt());
+	}
+
+	/**
+	 * Schedules a timer restored from a checkpoint, if it was running.
+	 *
+	 * @param timer the timer.
+	 * @param ticks the ticks it had left, {@code 0} if it was not running.
+	 */
+	private void restoreTimer(TickTimer timer, int ticks) {
+		if (ticks > 0) {
+			getTimerWheel().schedule(timer, ticks);
+		}
+	}
+
 	/**
 	 * Returns the current number of kills achieved by the player's plane.
 	 *
@@ -229,6 +427,15 @@ public class UserPlane extends FighterPlane {
 		return numberOfKills;
 	}
 
+	/**
+	 * Returns the number of hits the player's plane has taken.
+	 *
+	 * @return the number of hits taken.
+	 */
+	public int getDamageTaken() {
+		return damageTaken;
+	}
+
 	/**
 	 * Increments the kill count of the player's plane.
 	 */
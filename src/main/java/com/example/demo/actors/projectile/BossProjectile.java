@@ -5,8 +5,9 @@ package com.example.demo.actors.projectile;
  * Original source code can be found in the original git repository: <a href="https://github.com/kooitt/CW2024.git">ORIGINAL SOURCE CODE</a>
  * <p>
  * This class extends the {@code Projectile} class and defines a specific type of projectile
- * fired by a boss character. The projectile moves horizontally at a constant velocity
- * and has predefined properties such as image, height, and initial position.
+ * fired by a boss character. By default the projectile moves horizontally at a constant velocity;
+ * pooled projectiles are relaunched by the Boss's bullet patterns with their own motion.
+ * It has predefined properties such as image, height, and initial position.
  * </p>
  */
 public class BossProjectile extends Projectile {
@@ -30,7 +31,7 @@ public class BossProjectile extends Projectile {
 	/**
 	 * The initial x-position of the boss projectile when it is created.
 	 */
-	private static final int INITIAL_X_POSITION = 950;
+	public static final int INITIAL_X_POSITION = 950;
 
 	/**
 	 * Constructs a BossProjectile object with the specified initial y-position.
@@ -41,23 +42,72 @@ public class BossProjectile extends Projectile {
 	 */
 	public BossProjectile(double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
+		setLinearMotion(HORIZONTAL_VELOCITY, 0);
 	}
 
 	/**
-	 * Updates the horizontal position of the projectile by moving it at a constant velocity.
-	 * The horizontal velocity is determined by the HORIZONTAL_VELOCITY constant.
+	 * Constructs an inactive BossProjectile meant to be kept in a pool and fired with
+	 * {@link #launch(double, double, double, double)}.
 	 */
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public BossProjectile() {
+		this(0);
+		destroy();
 	}
 
 	/**
-	 * Updates the actor's state, which involves updating its position.
+	 * Fires this projectile again from the given position in a straight line,
+	 * so a destroyed projectile can be reused instead of creating a new one.
+	 *
+	 * @param xPos      The x-position to fire the projectile from.
+	 * @param yPos      The y-position to fire the projectile from.
+	 * @param velocityX The horizontal velocity of the projectile.
+	 * @param velocityY The vertical velocity of the projectile.
+	 */
+	public void launch(double xPos, double yPos, double velocityX, double velocityY) {
+		setPosition(xPos, yPos);
+		setLinearMotion(velocityX, velocityY);
+		setDestroyed(false);
+	}
+
+	/**
+	 * Fires this projectile again from the given position, speeding up along its direction of travel.
+	 *
+	 * @param xPos          The x-position to fire the projectile from.
+	 * @param yPos          The y-position to fire the projectile from.
+	 * @param velocityX     The initial horizontal velocity of the projectile.
+	 * @param velocityY     The initial vertical velocity of the projectile.
+	 * @param acceleration  The fraction of the initial velocity added every tick.
+	 */
+	public void launchAccelerating(double xPos, double yPos, double velocityX, double velocityY, double acceleration) {
+		setPosition(xPos, yPos);
+		setAcceleratingMotion(velocityX, velocityY, velocityX * acceleration, velocityY * acceleration);
+		setDestroyed(false);
+	}
+
+	/**
+	 * Fires this projectile again from the given position, tracking the homing target for a limited time.
+	 *
+	 * @param xPos      The x-position to fire the projectile from.
+	 * @param yPos      The y-position to fire the projectile from.
+	 * @param velocityX The initial horizontal velocity of the projectile.
+	 * @param velocityY The initial vertical velocity of the projectile.
+	 * @param turnRate  The fraction of the way the projectile turns towards the target every tick.
+	 * @param ticks     The number of ticks the projectile tracks the target.
+	 */
+	public void launchHoming(double xPos, double yPos, double velocityX, double velocityY, double turnRate, int ticks) {
+		setPosition(xPos, yPos);
+		setHomingMotion(velocityX, velocityY, turnRate, ticks);
+		setDestroyed(false);
+	}
+
+	/**
+	 * Flags the boss projectile as a fast mover, since it travels further in a tick than the user's plane
+	 * moves, and could otherwise skip past the edge of the plane.
+	 *
+	 * @return true
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public boolean isFastMover() {
+		return true;
 	}
-	
 }
@@ -23,33 +23,37 @@ public class EliteEnemyProjectile extends Projectile {
 	 */
 	private static final int HORIZONTAL_VELOCITY = -15;
 
+	/**
+	 * The amplitude of the projectile's weave, in pixels.
+	 */
+	private static final double WAVE_AMPLITUDE = 30;
+
+	/**
+	 * The number of ticks for one full weave of the projectile.
+	 */
+	private static final double WAVE_PERIOD_TICKS = 20;
+
 	/**
 	 * Constructs an EliteEnemyProjectile object with the specified initial x and y positions.
 	 * The image file, height, and velocity of the projectile are defined by the constants.
+	 * Unlike the standard {@link EnemyProjectile}, it weaves up and down in a sine wave as it travels.
 	 *
 	 * @param initialXPos The initial x-position of the projectile.
 	 * @param initialYPos The initial y-position of the projectile.
 	 */
 	public EliteEnemyProjectile(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+		setSineMotion(HORIZONTAL_VELOCITY, 0, WAVE_AMPLITUDE, WAVE_PERIOD_TICKS);
 	}
 
 	/**
-	 * Updates the horizontal position of the elite enemy projectile by moving it at a constant velocity.
-	 * The horizontal velocity is determined by the HORIZONTAL_VELOCITY constant.
-	 */
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
-	}
-
-	/**
-	 * Updates the actor's state, which involves updating its position.
+	 * Flags the elite enemy projectile as a fast mover. Its weave is swept as a straight line between
+	 * the positions of two ticks, which is close enough at this speed.
+	 *
+	 * @return true
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public boolean isFastMover() {
+		return true;
 	}
-
-
 }
@@ -33,24 +33,7 @@ public class EnemyProjectile extends Projectile {
 	 */
 	public EnemyProjectile(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+		setLinearMotion(HORIZONTAL_VELOCITY, 0);
 	}
 
-	/**
-	 * Updates the horizontal position of the projectile by moving it at a constant velocity.
-	 * The horizontal velocity is determined by the HORIZONTAL_VELOCITY constant.
-	 */
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
-	}
-
-	/**
-	 * Updates the actor's state, which involves updating its position.
-	 */
-	@Override
-	public void updateActor() {
-		updatePosition();
-	}
-
-
 }
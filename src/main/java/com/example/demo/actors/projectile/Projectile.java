@@ -2,16 +2,57 @@ package com.example.demo.actors.projectile;
 
 import com.example.demo.actors.ActiveActorDestructible;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Represents a generic projectile in the game, which extends {@link ActiveActorDestructible}.
  * This class provides the basic structure and functionality for all projectile types,
  * such as handling damage and updating position.
  * <p>
- * Subclasses are expected to define specific behavior for projectile movement.
+ * Projectiles do not move themselves. Their motion is described by the primitive fields below
+ * and advanced in one batched pass by {@link ProjectileKinematics}. Subclasses pick a motion in their constructor.
  * </p>
  */
 public abstract class Projectile extends ActiveActorDestructible {
 
+	/** The motion type of the projectile, one of the {@link ProjectileKinematics} constants. */
+	int motion;
+
+	/** Current horizontal velocity in pixels per tick. */
+	double velocityX;
+
+	/** Current vertical velocity in pixels per tick. */
+	double velocityY;
+
+	/** Horizontal acceleration in pixels per tick squared, for accelerating motion. */
+	double accelerationX;
+
+	/** Vertical acceleration in pixels per tick squared, for accelerating motion. */
+	double accelerationY;
+
+	/** Amplitude of the wave in pixels, for sine-wave motion. */
+	double waveAmplitude;
+
+	/** Phase advance per tick in radians, for sine-wave motion. */
+	double waveFrequency;
+
+	/** Current phase of the wave in radians, for sine-wave motion. */
+	double wavePhase;
+
+	/** Horizontal component of the unit vector the wave oscillates along. */
+	double waveNormalX;
+
+	/** Vertical component of the unit vector the wave oscillates along. */
+	double waveNormalY;
+
+	/** Fraction of the way the velocity turns towards the target each tick, for homing motion. */
+	double homingTurnRate;
+
+	/** Number of ticks left before a homing projectile stops tracking and flies straight. */
+	int homingTicks;
+
 	/**
 	 * Constructs a new {@code Projectile} instance with the specified properties.
 	 *
@@ -34,10 +75,159 @@ public abstract class Projectile extends ActiveActorDestructible {
 	}
 
 	/**
-	 * Updates the position of the projectile.
-	 * Subclasses must implement this method to define their own movement logic.
+	 * Advances the projectile by a single step of its motion, without a homing target.
+	 * The level advances all projectiles together through {@link ProjectileKinematics#update}.
+	 */
+	@Override
+	public void updatePosition() {
+		ProjectileKinematics.step(this, 0, 0, false);
+	}
+
+	/**
+	 * Updates the actor's state, which involves updating its position.
+	 */
+	@Override
+	public void updateActor() {
+		updatePosition();
+	}
+
+	/**
+	 * Writes the projectile's state, including its motion, to a level checkpoint.
+	 *
+	 * @param out the checkpoint being written
+	 * @throws IOException if the state cannot be written
+	 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeByte(motion);
+		out.writeDouble(velocityX);
+		out.writeDouble(velocityY);
+		switch (motion) {
+			case ProjectileKinematics.ACCELERATING -> {
+				out.writeDouble(accelerationX);
+				out.writeDouble(accelerationY);
+			}
+			case ProjectileKinematics.SINE -> {
+				out.writeDouble(waveAmplitude);
+				out.writeDouble(waveFrequency);
+				out.writeDouble(wavePhase);
+				out.writeDouble(waveNormalX);
+				out.writeDouble(waveNormalY);
+			}
+			case ProjectileKinematics.HOMING -> {
+				out.writeDouble(homingTurnRate);
+				out.writeInt(homingTicks);
+			}
+			default -> {
+			}
+		}
+	}
+
+	/**
+	 * Restores the projectile's state, including its motion, from a level checkpoint.
+	 *
+	 * @param in the checkpoint being read
+	 * @throws IOException if the state cannot be read
 	 */
 	@Override
-	public abstract void updatePosition();
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		motion = in.readByte();
+		velocityX = in.readDouble();
+		velocityY = in.readDouble();
+		switch (motion) {
+			case ProjectileKinematics.ACCELERATING -> {
+				accelerationX = in.readDouble();
+				accelerationY = in.readDouble();
+			}
+			case ProjectileKinematics.SINE -> {
+				waveAmplitude = in.readDouble();
+				waveFrequency = in.readDouble();
+				wavePhase = in.readDouble();
+				waveNormalX = in.readDouble();
+				waveNormalY = in.readDouble();
+			}
+			case ProjectileKinematics.HOMING -> {
+				homingTurnRate = in.readDouble();
+				homingTicks = in.readInt();
+			}
+			case ProjectileKinematics.LINEAR -> {
+			}
+			default -> throw new IOException("Unknown projectile motion " + motion);
+		}
+	}
+
+	/**
+	 * Moves the projectile by the given displacement. Final so the batched update is free of virtual calls.
+	 *
+	 * @param dx the horizontal displacement
+	 * @param dy the vertical displacement
+	 */
+	final void advance(double dx, double dy) {
+		moveHorizontally(dx);
+		moveVertically(dy);
+	}
+
+	/**
+	 * Makes the projectile fly in a straight line at a constant velocity.
+	 *
+	 * @param velocityX the horizontal velocity
+	 * @param velocityY the vertical velocity
+	 */
+	protected void setLinearMotion(double velocityX, double velocityY) {
+		this.motion = ProjectileKinematics.LINEAR;
+		this.velocityX = velocityX;
+		this.velocityY = velocityY;
+	}
+
+	/**
+	 * Makes the projectile start at the given velocity and keep accelerating.
+	 *
+	 * @param velocityX     the initial horizontal velocity
+	 * @param velocityY     the initial vertical velocity
+	 * @param accelerationX the horizontal acceleration
+	 * @param accelerationY the vertical acceleration
+	 */
+	protected void setAcceleratingMotion(double velocityX, double velocityY, double accelerationX, double accelerationY) {
+		setLinearMotion(velocityX, velocityY);
+		this.motion = ProjectileKinematics.ACCELERATING;
+		this.accelerationX = accelerationX;
+		this.accelerationY = accelerationY;
+	}
+
+	/**
+	 * Makes the projectile weave along its velocity in a sine wave.
+	 *
+	 * @param velocityX    the horizontal velocity of the wave's centre line
+	 * @param velocityY    the vertical velocity of the wave's centre line
+	 * @param amplitude    the amplitude of the wave in pixels
+	 * @param periodTicks  the number of ticks for one full wave
+	 */
+	protected void setSineMotion(double velocityX, double velocityY, double amplitude, double periodTicks) {
+		setLinearMotion(velocityX, velocityY);
+		double speed = Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+		this.motion = ProjectileKinematics.SINE;
+		this.waveAmplitude = amplitude;
+		this.waveFrequency = 2 * Math.PI / periodTicks;
+		this.wavePhase = 0;
+		this.waveNormalX = speed == 0 ? 0 : -velocityY / speed;
+		this.waveNormalY = speed == 0 ? 1 : velocityX / speed;
+	}
+
+	/**
+	 * Makes the projectile turn towards the homing target for a limited number of ticks.
+	 *
+	 * @param velocityX the initial horizontal velocity
+	 * @param velocityY the initial vertical velocity
+	 * @param turnRate  the fraction of the way to turn towards the target each tick, between 0 and 1
+	 * @param ticks     the number of ticks the projectile keeps tracking the target
+	 */
+	protected void setHomingMotion(double velocityX, double velocityY, double turnRate, int ticks) {
+		setLinearMotion(velocityX, velocityY);
+		this.motion = ProjectileKinematics.HOMING;
+		this.homingTurnRate = turnRate;
+		this.homingTicks = ticks;
+	}
 
 }
@@ -0,0 +1,114 @@
+package com.example.demo.actors.projectile;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.ActiveActorDestructible;
+
+import java.util.List;
+
+/**
+ * The {@code ProjectileKinematics} class advances the motion of every projectile in one batched pass.
+ * <p>
+ * Supported motions are straight lines, accelerating shots, sine waves and homing shots that track a target
+ * (the {@code UserPlane} for enemy fire). All motion state lives in primitive fields on {@link Projectile},
+ * and the motion type is dispatched with a switch, so the pass creates no objects and makes no virtual calls
+ * per projectile. The homing target's centre is read once per batch.
+ * </p>
+ */
+public final class ProjectileKinematics {
+
+    /** Constant velocity. */
+    public static final int LINEAR = 0;
+
+    /** Velocity changes by a constant acceleration every tick. */
+    public static final int ACCELERATING = 1;
+
+    /** Oscillates sideways around a straight centre line. */
+    public static final int SINE = 2;
+
+    /** Turns towards the target every tick until its tracking time runs out. */
+    public static final int HOMING = 3;
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private ProjectileKinematics() {
+    }
+
+    /**
+     * Advances every projectile in the list by one tick. Entries that are not projectiles are skipped.
+     *
+     * @param projectiles   the projectiles to advance
+     * @param target        the actor homing projectiles track, or {@code null} if there is none
+     */
+    public static void update(List<ActiveActorDestructible> projectiles, ActiveActor target) {
+        boolean hasTarget = target != null;
+        double targetX = hasTarget ? target.getPositionX() + target.getHitboxWidth() / 2 : 0;
+        double targetY = hasTarget ? target.getPositionY() + target.getHitboxHeight() / 2 : 0;
+        for (int i = 0, size = projectiles.size(); i < size; i++) {
+            if (projectiles.get(i) instanceof Projectile projectile) {
+                step(projectile, targetX, targetY, hasTarget);
+            }
+        }
+    }
+
+    /**
+     * Advances a single projectile by one tick.
+     *
+     * @param p         the projectile to advance
+     * @param targetX   the x-coordinate of the homing target's centre
+     * @param targetY   the y-coordinate of the homing target's centre
+     * @param hasTarget whether there is a homing target
+     */
+    static void step(Projectile p, double targetX, double targetY, boolean hasTarget) {
+        double dx = p.velocityX;
+        double dy = p.velocityY;
+        switch (p.motion) {
+            case ACCELERATING -> {
+                p.velocityX += p.accelerationX;
+                p.velocityY += p.accelerationY;
+            }
+            case SINE -> {
+                double wave = p.waveAmplitude * (Math.sin(p.wavePhase + p.waveFrequency) - Math.sin(p.wavePhase));
+                p.wavePhase += p.waveFrequency;
+                dx += p.waveNormalX * wave;
+                dy += p.waveNormalY * wave;
+            }
+            case HOMING -> {
+                if (hasTarget) {
+                    steerTowards(p, targetX, targetY);
+                }
+                if (--p.homingTicks <= 0) {
+                    p.motion = LINEAR;
+                }
+            }
+            default -> {
+            }
+        }
+        p.advance(dx, dy);
+    }
+
+    /**
+     * Turns a homing projectile's velocity towards the target, keeping its speed.
+     *
+     * @param p         the projectile to steer
+     * @param targetX   the x-coordinate of the target's centre
+     * @param targetY   the y-coordinate of the target's centre
+     */
+    private static void steerTowards(Projectile p, double targetX, double targetY) {
+        double toTargetX = targetX - (p.getPositionX() + p.getHitboxWidth() / 2);
+        double toTargetY = targetY - (p.getPositionY() + p.getHitboxHeight() / 2);
+        double distance = Math.sqrt(toTargetX * toTargetX + toTargetY * toTargetY);
+        double speed = Math.sqrt(p.velocityX * p.velocityX + p.velocityY * p.velocityY);
+        if (distance == 0 || speed == 0) {
+            return;
+        }
+        double rate = p.homingTurnRate;
+        double newX = p.velocityX / speed * (1 - rate) + toTargetX / distance * rate;
+        double newY = p.velocityY / speed * (1 - rate) + toTargetY / distance * rate;
+        double length = Math.sqrt(newX * newX + newY * newY);
+        if (length > 0) {
+            p.velocityX = newX / length * speed;
+            p.velocityY = newY / length * speed;
+        }
+    }
+}
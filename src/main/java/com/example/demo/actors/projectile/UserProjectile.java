@@ -32,24 +32,29 @@ public class UserProjectile extends Projectile {
 	 * @param initialYPos The initial y-position of the projectile.
 	 */
 	public UserProjectile(double initialXPos, double initialYPos) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+		this(initialXPos, initialYPos, 0);
 	}
 
 	/**
-	 * Updates the horizontal position of the projectile by moving it at a constant velocity.
-	 * The horizontal velocity is determined by the HORIZONTAL_VELOCITY constant.
+	 * Constructs a UserProjectile object that also drifts vertically, for shots fanning out of a spread.
+	 *
+	 * @param initialXPos The initial x-position of the projectile.
+	 * @param initialYPos The initial y-position of the projectile.
+	 * @param verticalVelocity The vertical velocity of the projectile in pixels per tick.
 	 */
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public UserProjectile(double initialXPos, double initialYPos, double verticalVelocity) {
+		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+		setLinearMotion(HORIZONTAL_VELOCITY, verticalVelocity);
 	}
 
 	/**
-	 * Updates the actor's state, which involves updating its position.
+	 * Flags the user projectile as a fast mover: it travels its own height every tick,
+	 * so it could skip over a thin target between two positions.
+	 *
+	 * @return true
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public boolean isFastMover() {
+		return true;
 	}
-	
 }
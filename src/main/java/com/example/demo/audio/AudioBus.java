@@ -0,0 +1,17 @@
+package com.example.demo.audio;
+
+/**
+ * The {@code AudioBus} enum lists the mixer buses every sound is routed through.
+ * Each bus has its own volume in the player's settings.
+ */
+public enum AudioBus {
+
+    /** Background music. */
+    MUSIC,
+
+    /** Sound effects of the game itself: shots, hits, the Boss. */
+    SFX,
+
+    /** Sounds of the interface, such as button clicks. */
+    UI
+}
@@ -0,0 +1,253 @@
+package com.example.demo.audio;
+
+import com.example.demo.settings.GameSettings;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code AudioMixer} class decides which sound effects actually play and how loud.
+ * <p>
+ * Every sound plays on a bus whose volume comes from the player's {@link GameSettings}. The number of native
+ * voices playing at once is capped at {@link #MAX_VOICES}: when all are busy, a new sound takes the voice of the
+ * oldest sound with the same or a lower priority, or is culled if every playing sound matters more. The cap can
+ * be lowered below that when the game runs over its frame budget. Each sound
+ * also has its own cap, and retriggers its oldest copy once it reaches it, so rapid shots never pile up.
+ * Sounds marked to duck the music lower it for {@link #DUCK_HOLD_MILLIS} so they can be heard.
+ * </p>
+ * <p>
+ * The mixer state is only touched on the JavaFX application thread. Sounds requested from the simulation
+ * thread are handed over with {@link Platform#runLater}.
+ * </p>
+ */
+public class AudioMixer {
+
+    /** Maximum number of sound effect voices playing at once. */
+    public static final int MAX_VOICES = 8;
+
+    /** Fraction of its volume the music keeps while ducked. */
+    private static final double DUCK_LEVEL = 0.35;
+
+    /** How long the music stays ducked after the last ducking sound starts, in milliseconds. */
+    private static final double DUCK_HOLD_MILLIS = 1500;
+
+    /** The player's settings, which hold the bus volumes. */
+    private final GameSettings settings;
+
+    /** The voices currently playing. */
+    private final List<Voice> activeVoices = new ArrayList<>(MAX_VOICES);
+
+    /** Restores the music once the ducking hold has passed. */
+    private final PauseTransition duckRelease;
+
+    /** Applies the music volume to the playing music, or {@code null} if no music is attached. */
+    private Runnable musicVolumeListener;
+
+    /** Gain applied to the music on top of its bus volume, lowered while ducked. */
+    private double duckGain = 1.0;
+
+    /** Number of voices that may play at once, lowered when the game runs over its frame budget. */
+    private int voiceLimit = MAX_VOICES;
+
+    /** Number of sounds culled because no voice was free, for debugging. */
+    private long culledSounds;
+
+    /**
+     * Constructs an {@code AudioMixer} using the player's settings.
+     *
+     * @param settings the player's settings
+     */
+    public AudioMixer(GameSettings settings) {
+        this.settings = settings;
+        this.duckRelease = new PauseTransition(Duration.millis(DUCK_HOLD_MILLIS));
+        this.duckRelease.setOnFinished(event -> {
+            duckGain = 1.0;
+            applyMusicVolume();
+        });
+    }
+
+    /**
+     * Plays a sound effect, subject to the voice caps. Safe to call from any thread.
+     *
+     * @param sound the sound to play
+     */
+    public void play(SoundDefinition sound) {
+        if (Platform.isFxApplicationThread()) {
+            start(sound);
+        } else {
+            Platform.runLater(() -> start(sound));
+        }
+    }
+
+    /**
+     * Finds a voice for a sound and starts it.
+     *
+     * @param sound the sound to play
+     */
+    private void start(SoundDefinition sound) {
+        double volume = getBusVolume(sound.getBus());
+        if (volume <= 0) {
+            return; // Silent sounds never take a native voice
+        }
+        Voice voice = sound.idleVoice();
+        if (voice == null) {
+            voice = sound.oldestVoice(); // The sound is at its own cap, retrigger its oldest copy
+            release(voice);
+        } else if (activeVoices.size() >= voiceLimit) {
+            Voice victim = findVictim(sound.getPriority());
+            if (victim == null) {
+                culledSounds++;
+                return;
+            }
+            release(victim);
+        }
+        Voice started = voice;
+        started.start(volume, () -> release(started));
+        activeVoices.add(started);
+        if (sound.ducksMusic() && settings.isMusicDucking()) {
+            duck();
+        }
+    }
+
+    /**
+     * Finds the voice to cut for a new sound: the oldest voice among those with the lowest priority,
+     * as long as that priority is not above the new sound's.
+     *
+     * @param priority the priority of the new sound
+     * @return the voice to cut, or {@code null} if the new sound should be culled
+     */
+    private Voice findVictim(int priority) {
+        Voice victim = null;
+        for (Voice voice : activeVoices) {
+            if (victim == null || voice.getSound().getPriority() < victim.getSound().getPriority()
+                    || (voice.getSound().getPriority() == victim.getSound().getPriority()
+                    && voice.getStartTime() < victim.getStartTime())) {
+                victim = voice;
+            }
+        }
+        return victim != null && victim.getSound().getPriority() <= priority ? victim : null;
+    }
+
+    /**
+     * Stops a voice and frees its slot.
+     *
+     * @param voice the voice to release
+     */
+    private void release(Voice voice) {
+        voice.stop();
+        activeVoices.remove(voice);
+    }
+
+    /**
+     * Changes the number of voices that may play at once, cutting the lowest-priority voices above the new limit.
+     * Safe to call from any thread.
+     *
+     * @param limit the new voice limit, at most {@link #MAX_VOICES}
+     */
+    public void setVoiceLimit(int limit) {
+        Runnable apply = () -> {
+            voiceLimit = Math.max(1, Math.min(MAX_VOICES, limit));
+            while (activeVoices.size() > voiceLimit) {
+                release(findVictim(Integer.MAX_VALUE));
+            }
+        };
+        if (Platform.isFxApplicationThread()) {
+            apply.run();
+        } else {
+            Platform.runLater(apply);
+        }
+    }
+
+    /**
+     * Stops every sound effect currently playing.
+     */
+    public void stopAll() {
+        Runnable stop = () -> {
+            for (Voice voice : activeVoices) {
+                voice.stop();
+            }
+            activeVoices.clear();
+        };
+        if (Platform.isFxApplicationThread()) {
+            stop.run();
+        } else {
+            Platform.runLater(stop);
+        }
+    }
+
+    /**
+     * Lowers the music, restarting the hold if it is already ducked.
+     */
+    private void duck() {
+        duckGain = DUCK_LEVEL;
+        applyMusicVolume();
+        duckRelease.stop();
+        duckRelease.play();
+    }
+
+    /**
+     * Sets the listener applying the music volume to the playing music whenever it changes.
+     *
+     * @param musicVolumeListener the listener, which reads {@link #getMusicVolume()}
+     */
+    public void setMusicVolumeListener(Runnable musicVolumeListener) {
+        this.musicVolumeListener = musicVolumeListener;
+        applyMusicVolume();
+    }
+
+    /**
+     * Applies the music bus volume, ducking and mute state to the playing music.
+     */
+    public void applyMusicVolume() {
+        if (musicVolumeListener != null) {
+            musicVolumeListener.run();
+        }
+    }
+
+    /**
+     * Returns the volume of the music: the music bus volume, lowered while ducked.
+     *
+     * @return the volume, from 0.0 to 1.0
+     */
+    public double getMusicVolume() {
+        return getBusVolume(AudioBus.MUSIC) * duckGain;
+    }
+
+    /**
+     * Returns the volume of a bus, which is zero while muted.
+     *
+     * @param bus the bus
+     * @return the volume, from 0.0 to 1.0
+     */
+    public double getBusVolume(AudioBus bus) {
+        if (settings.isMuted()) {
+            return 0;
+        }
+        return switch (bus) {
+            case MUSIC -> settings.getMusicVolume();
+            case SFX -> settings.getSfxVolume();
+            case UI -> settings.getUiVolume();
+        };
+    }
+
+    /**
+     * Returns the number of voices currently playing.
+     *
+     * @return the number of active voices
+     */
+    public int getActiveVoiceCount() {
+        return activeVoices.size();
+    }
+
+    /**
+     * Returns the number of sounds culled so far because every voice was taken by a more important sound.
+     *
+     * @return the number of culled sounds
+     */
+    public long getCulledSounds() {
+        return culledSounds;
+    }
+}
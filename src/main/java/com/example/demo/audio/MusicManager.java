@@ -0,0 +1,298 @@
+package com.example.demo.audio;
+
+import com.example.demo.settings.GameSettings;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The {@code MusicManager} class plays the background music on the {@link AudioMixer}'s music bus.
+ * <p>
+ * Switching tracks crossfades from the old track to the new one over the window set in the player's
+ * {@link GameSettings}, using an equal-power curve so the loudness stays even. The track a level will need next
+ * can be prefetched: its {@link Media} and {@link MediaPlayer} are built on a background thread while the current
+ * level plays, so the switch itself neither stalls the JavaFX application thread nor leaves a silent gap. A track
+ * that is not ready yet is built in the background too, and the old track keeps playing until it is.
+ * Resource paths are resolved to URIs once and cached.
+ * </p>
+ * <p>
+ * The players are only touched on the JavaFX application thread. Requests from other threads are handed over
+ * with {@link Platform#runLater}.
+ * </p>
+ */
+public class MusicManager {
+
+    /** Interval between two volume steps of a crossfade, in milliseconds. */
+    private static final double FADE_STEP_MILLIS = 50;
+
+    /** The mixer providing the music bus volume. */
+    private final AudioMixer mixer;
+
+    /** The player's settings, which hold the crossfade window. */
+    private final GameSettings settings;
+
+    /** Resolved URIs of the music resources, keyed by resource path. */
+    private final Map<String, String> uriCache = new ConcurrentHashMap<>();
+
+    /** Players being built or ready in the background, keyed by URI. */
+    private final Map<String, CompletableFuture<MediaPlayer>> prefetched = new ConcurrentHashMap<>();
+
+    /** The background thread building prefetched players. */
+    private final ExecutorService loader;
+
+    /** Steps the crossfade in progress. */
+    private final Timeline fade;
+
+    /** The track fading in or playing, or {@code null} if no music is playing. */
+    private MediaPlayer current;
+
+    /** URI of the current track. */
+    private String currentUri;
+
+    /** URI of the track waiting for its player to be built, or {@code null} if no switch is waiting. */
+    private String pendingUri;
+
+    /** The track fading out, or {@code null} if no crossfade is in progress. */
+    private MediaPlayer outgoing;
+
+    /** Progress of the crossfade in progress, from 0.0 to 1.0. */
+    private double fadeProgress = 1.0;
+
+    /** Progress added by each step of the crossfade in progress. */
+    private double fadeStep;
+
+    /**
+     * Constructs a {@code MusicManager} playing on the music bus of a mixer.
+     *
+     * @param mixer    the mixer providing the music bus volume
+     * @param settings the player's settings
+     */
+    public MusicManager(AudioMixer mixer, GameSettings settings) {
+        this.mixer = mixer;
+        this.settings = settings;
+        this.loader = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "music-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.fade = new Timeline(new KeyFrame(Duration.millis(FADE_STEP_MILLIS), event -> stepFade()));
+        this.fade.setCycleCount(Animation.INDEFINITE);
+        mixer.setMusicVolumeListener(this::applyVolume);
+    }
+
+    /**
+     * Starts building the player of a track in the background, so a later {@link #play(String)} of it starts at once.
+     * Does nothing if the track is playing or already prefetched. Safe to call from any thread.
+     *
+     * @param filePath the resource path of the track
+     */
+    public void prefetch(String filePath) {
+        String uri = resolve(filePath);
+        if (uri.equals(currentUri)) {
+            return;
+        }
+        prefetched.computeIfAbsent(uri, this::load);
+    }
+
+    /**
+     * Crossfades to a track. If the track is already playing, it simply keeps playing. Safe to call from any thread.
+     *
+     * @param filePath the resource path of the track
+     */
+    public void play(String filePath) {
+        runOnFxThread(() -> start(resolve(filePath)));
+    }
+
+    /**
+     * Fades the current track out. Safe to call from any thread.
+     */
+    public void stop() {
+        runOnFxThread(() -> {
+            pendingUri = null;
+            if (current == null) {
+                return;
+            }
+            switchTo(null, null);
+        });
+    }
+
+    /**
+     * Returns the player of the current track.
+     *
+     * @return the current player, or {@code null} if no music is playing
+     */
+    public MediaPlayer getCurrentPlayer() {
+        return current;
+    }
+
+    /**
+     * Starts a track, taking its prefetched player if there is one. If the player is not ready yet, the switch
+     * waits for it on the loader thread instead of blocking the JavaFX application thread.
+     *
+     * @param uri the URI of the track
+     */
+    private void start(String uri) {
+        if (current != null && uri.equals(currentUri)) {
+            pendingUri = null;
+            current.play();
+            return;
+        }
+        if (uri.equals(pendingUri)) {
+            return;
+        }
+        pendingUri = uri;
+        CompletableFuture<MediaPlayer> future = prefetched.remove(uri);
+        if (future == null) {
+            future = load(uri);
+        }
+        if (future.isDone()) {
+            future.whenComplete((player, error) -> finishStart(uri, player, error)); // Runs at once, on this thread
+        } else {
+            future.whenComplete((player, error) -> Platform.runLater(() -> finishStart(uri, player, error)));
+        }
+    }
+
+    /**
+     * Crossfades to a track once its player is built, unless another track or silence was asked for meanwhile.
+     *
+     * @param uri    the URI of the track
+     * @param player the player of the track, or {@code null} if it could not be built
+     * @param error  why the player could not be built, or {@code null}
+     */
+    private void finishStart(String uri, MediaPlayer player, Throwable error) {
+        if (!uri.equals(pendingUri)) {
+            if (player != null) {
+                player.dispose();
+            }
+            return;
+        }
+        pendingUri = null;
+        if (player == null) {
+            System.out.println("Could not load music: " + error);
+            return;
+        }
+        switchTo(player, uri);
+        player.play();
+    }
+
+    /**
+     * Makes a track the current one and crossfades to it from the previous one.
+     * A track still fading out from an earlier switch is dropped.
+     *
+     * @param next the player of the new track, or {@code null} to fade to silence
+     * @param uri  the URI of the new track, or {@code null} to fade to silence
+     */
+    private void switchTo(MediaPlayer next, String uri) {
+        fade.stop();
+        if (outgoing != null) {
+            outgoing.dispose();
+        }
+        outgoing = current;
+        current = next;
+        currentUri = uri;
+        int steps = (int) (settings.getMusicCrossfadeMillis() / FADE_STEP_MILLIS);
+        if (steps < 1 || outgoing == null && current == null) {
+            fadeProgress = 1.0;
+            finishFade();
+        } else {
+            fadeStep = 1.0 / steps;
+            fadeProgress = 0.0;
+            fade.play();
+        }
+        applyVolume();
+    }
+
+    /**
+     * Advances the crossfade in progress by one step.
+     */
+    private void stepFade() {
+        fadeProgress = Math.min(1.0, fadeProgress + fadeStep);
+        applyVolume();
+        if (fadeProgress >= 1.0) {
+            fade.stop();
+            finishFade();
+        }
+    }
+
+    /**
+     * Releases the track that has faded out.
+     */
+    private void finishFade() {
+        if (outgoing != null) {
+            outgoing.dispose();
+            outgoing = null;
+        }
+    }
+
+    /**
+     * Applies the music bus volume to the playing tracks, weighted by the crossfade progress.
+     */
+    private void applyVolume() {
+        double volume = mixer.getMusicVolume();
+        double angle = fadeProgress * Math.PI / 2;
+        if (current != null) {
+            current.setVolume(volume * Math.sin(angle));
+        }
+        if (outgoing != null) {
+            outgoing.setVolume(volume * Math.cos(angle));
+        }
+    }
+
+    /**
+     * Starts building the player of a track on the loader thread.
+     *
+     * @param uri the URI of the track
+     * @return the player being built, silent until the crossfade raises it
+     */
+    private CompletableFuture<MediaPlayer> load(String uri) {
+        return CompletableFuture.supplyAsync(() -> createPlayer(uri), loader);
+    }
+
+    /**
+     * Builds a silent, looping player for a track.
+     *
+     * @param uri the URI of the track
+     * @return the new player
+     */
+    private MediaPlayer createPlayer(String uri) {
+        MediaPlayer player = new MediaPlayer(new Media(uri));
+        player.setCycleCount(MediaPlayer.INDEFINITE); // Loop the music
+        player.setVolume(0);
+        return player;
+    }
+
+    /**
+     * Resolves a resource path to its URI, once per path.
+     *
+     * @param filePath the resource path of the track
+     * @return the URI of the track
+     */
+    private String resolve(String filePath) {
+        return uriCache.computeIfAbsent(filePath,
+                path -> Objects.requireNonNull(getClass().getResource(path)).toExternalForm());
+    }
+
+    /**
+     * Runs a task on the JavaFX application thread, immediately if already on it.
+     *
+     * @param task the task to run
+     */
+    private static void runOnFxThread(Runnable task) {
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+    }
+}
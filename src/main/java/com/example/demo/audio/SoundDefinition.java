@@ -0,0 +1,139 @@
+package com.example.demo.audio;
+
+import javafx.scene.media.Media;
+
+/**
+ * The {@code SoundDefinition} class describes a sound effect registered with the {@link AudioMixer}:
+ * its media, the bus it plays on, its priority, how many copies of it may play at once and whether it ducks
+ * the music. It also owns the voices the sound plays on, at most one per allowed copy.
+ */
+public class SoundDefinition {
+
+    /** Priority of sounds that may be cut first, like rapid shots. */
+    public static final int PRIORITY_LOW = 0;
+
+    /** Priority of ordinary sounds. */
+    public static final int PRIORITY_NORMAL = 1;
+
+    /** Priority of sounds the player must hear, like taking damage. */
+    public static final int PRIORITY_HIGH = 2;
+
+    /** The name the sound is played by. */
+    private final String name;
+
+    /** The loaded media of the sound. */
+    private final Media media;
+
+    /** The bus the sound plays on. */
+    private final AudioBus bus;
+
+    /** Priority of the sound when voices run out. */
+    private final int priority;
+
+    /** Whether playing the sound ducks the music. */
+    private final boolean ducksMusic;
+
+    /** The voices of the sound, created on first use. The length is the number of copies that may play at once. */
+    private final Voice[] voices;
+
+    /**
+     * Constructs a sound definition.
+     *
+     * @param name          the name the sound is played by
+     * @param media         the loaded media of the sound
+     * @param bus           the bus the sound plays on
+     * @param priority      the priority of the sound, one of the {@code PRIORITY_} constants
+     * @param maxInstances  the number of copies of the sound that may play at once
+     * @param ducksMusic    whether playing the sound ducks the music
+     */
+    public SoundDefinition(String name, Media media, AudioBus bus, int priority, int maxInstances, boolean ducksMusic) {
+        if (maxInstances < 1) {
+            throw new IllegalArgumentException("A sound needs at least one instance: " + name);
+        }
+        this.name = name;
+        this.media = media;
+        this.bus = bus;
+        this.priority = priority;
+        this.ducksMusic = ducksMusic;
+        this.voices = new Voice[maxInstances];
+    }
+
+    /**
+     * Returns a voice that is not playing, creating it if this sound has not used all its copies yet.
+     * Must be called on the JavaFX application thread.
+     *
+     * @return an idle voice, or {@code null} if every copy is playing
+     */
+    Voice idleVoice() {
+        for (int i = 0; i < voices.length; i++) {
+            if (voices[i] == null) {
+                voices[i] = new Voice(this);
+                return voices[i];
+            }
+            if (!voices[i].isPlaying()) {
+                return voices[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the copy of this sound that started playing first.
+     *
+     * @return the oldest playing voice
+     */
+    Voice oldestVoice() {
+        Voice oldest = voices[0];
+        for (Voice voice : voices) {
+            if (voice.getStartTime() < oldest.getStartTime()) {
+                oldest = voice;
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Returns the name the sound is played by.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the media of the sound.
+     *
+     * @return the media
+     */
+    public Media getMedia() {
+        return media;
+    }
+
+    /**
+     * Returns the bus the sound plays on.
+     *
+     * @return the bus
+     */
+    public AudioBus getBus() {
+        return bus;
+    }
+
+    /**
+     * Returns the priority of the sound.
+     *
+     * @return the priority
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Checks whether playing the sound ducks the music.
+     *
+     * @return {@code true} if the sound ducks the music
+     */
+    public boolean ducksMusic() {
+        return ducksMusic;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.audio;
+
+import javafx.scene.media.MediaPlayer;
+
+/**
+ * The {@code Voice} class is one native player of a sound effect.
+ * <p>
+ * Voices are created on first use and then reused for every later playback of the same sound, so rapid sounds
+ * like shots no longer create and dispose a {@link MediaPlayer} each time they play.
+ * </p>
+ */
+public class Voice {
+
+    /** The sound this voice plays. */
+    private final SoundDefinition sound;
+
+    /** The native player, created with the voice and reused for every playback. */
+    private final MediaPlayer player;
+
+    /** Time the current playback started, in nanoseconds. Used to find the oldest voice. */
+    private long startTime;
+
+    /** Whether the voice is currently playing. */
+    private boolean playing;
+
+    /**
+     * Constructs a voice for a sound. Must be called on the JavaFX application thread.
+     *
+     * @param sound the sound the voice plays
+     */
+    public Voice(SoundDefinition sound) {
+        this.sound = sound;
+        this.player = new MediaPlayer(sound.getMedia());
+    }
+
+    /**
+     * Starts playing the sound from the beginning at the given volume.
+     *
+     * @param volume     the volume, from 0.0 to 1.0
+     * @param onFinished called once the sound has played to the end
+     */
+    public void start(double volume, Runnable onFinished) {
+        player.stop(); // Rewinds a voice that is being retriggered
+        player.setVolume(volume);
+        player.setOnEndOfMedia(onFinished);
+        player.play();
+        startTime = System.nanoTime();
+        playing = true;
+    }
+
+    /**
+     * Stops the voice, leaving it ready to be started again.
+     */
+    public void stop() {
+        player.stop();
+        playing = false;
+    }
+
+    /**
+     * Returns the sound this voice plays.
+     *
+     * @return the sound
+     */
+    public SoundDefinition getSound() {
+        return sound;
+    }
+
+    /**
+     * Returns the time the current playback started.
+     *
+     * @return the start time in nanoseconds
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Checks whether the voice is playing.
+     *
+     * @return {@code true} if the voice is playing
+     */
+    public boolean isPlaying() {
+        return playing;
+    }
+}
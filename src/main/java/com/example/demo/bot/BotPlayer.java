@@ -0,0 +1,171 @@
+package com.example.demo.bot;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.player.UserPlane;
+import com.example.demo.engine.InputQueue;
+import com.example.demo.levelparent.Autopilot;
+import com.example.demo.settings.GameAction;
+import com.example.demo.settings.KeyBindings;
+import javafx.scene.input.KeyCode;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code BotPlayer} class is a simple heuristic {@link Autopilot} that plays the levels well enough to keep
+ * long sessions going.
+ * <p>
+ * Every tick it looks for the nearest projectile or obstacle about to reach the plane and moves out of its way.
+ * With nothing to dodge, it lines up with the nearest enemy and fires whenever an enemy is in line.
+ * It only moves vertically, and presses and releases the bound keys, so it drives the game exactly the way
+ * the keyboard does. It never pauses.
+ * </p>
+ */
+public class BotPlayer implements Autopilot {
+
+    /** How far ahead of the plane a threat is dodged, in pixels. */
+    private static final double DANGER_DISTANCE = 260;
+
+    /** Extra vertical clearance kept from threats, in pixels. */
+    private static final double DODGE_MARGIN = 20;
+
+    /** Distance from the top or bottom of the screen at which the plane dodges the other way. */
+    private static final double EDGE_DISTANCE = 120;
+
+    /** Vertical distance to the targeted enemy below which the plane stops moving towards it. */
+    private static final double AIM_TOLERANCE = 15;
+
+    /** Vertical distance to an enemy below which the plane fires. */
+    private static final double FIRE_TOLERANCE = 50;
+
+    /** Actions the bot wants held this tick, indexed by action ordinal. */
+    private final boolean[] wanted = new boolean[GameAction.values().length];
+
+    /** Actions the bot is holding, indexed by action ordinal. */
+    private final boolean[] held = new boolean[GameAction.values().length];
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(UserPlane user, List<ActiveActorDestructible> enemyUnits,
+                       List<ActiveActorDestructible> enemyProjectiles, List<ActiveActorDestructible> obstacles,
+                       double screenHeight, KeyBindings bindings, InputQueue.KeyEventHandler keys) {
+        Arrays.fill(wanted, false);
+        double userCenter = centerY(user);
+        double userLeft = user.getPositionX();
+        double userRight = userLeft + user.getHitboxWidth();
+        double userHalfHeight = user.getHitboxHeight() / 2;
+
+        // Dodge the nearest threat heading for the plane
+        ActiveActor threat = nearestThreat(enemyProjectiles, null, userLeft, userRight, userCenter, userHalfHeight);
+        threat = nearestThreat(obstacles, threat, userLeft, userRight, userCenter, userHalfHeight);
+        if (threat != null) {
+            boolean goUp = centerY(threat) > userCenter;
+            if (userCenter < EDGE_DISTANCE) goUp = false;
+            else if (userCenter > screenHeight - EDGE_DISTANCE) goUp = true;
+            wanted[(goUp ? GameAction.MOVE_UP : GameAction.MOVE_DOWN).ordinal()] = true;
+        } else {
+            // Line up with the nearest enemy ahead
+            ActiveActor target = null;
+            for (ActiveActorDestructible enemy : enemyUnits) {
+                if (!enemy.isDestroyed() && enemy.getPositionX() > userLeft
+                        && (target == null || enemy.getPositionX() < target.getPositionX())) {
+                    target = enemy;
+                }
+            }
+            if (target != null) {
+                double dy = centerY(target) - userCenter;
+                if (dy < -AIM_TOLERANCE) wanted[GameAction.MOVE_UP.ordinal()] = true;
+                else if (dy > AIM_TOLERANCE) wanted[GameAction.MOVE_DOWN.ordinal()] = true;
+            }
+        }
+        for (ActiveActorDestructible enemy : enemyUnits) {
+            if (!enemy.isDestroyed() && enemy.getPositionX() > userLeft
+                    && Math.abs(centerY(enemy) - userCenter) < FIRE_TOLERANCE) {
+                wanted[GameAction.FIRE.ordinal()] = true;
+                break;
+            }
+        }
+        sendKeys(bindings, keys);
+    }
+
+    /**
+     * Finds the threat closest to the plane among those ahead of it, within the danger distance, and on a
+     * course that would hit it.
+     *
+     * @param candidates      the actors to check
+     * @param nearest         the nearest threat found so far, or {@code null}
+     * @param userLeft        the left edge of the plane
+     * @param userRight       the right edge of the plane
+     * @param userCenter      the vertical centre of the plane
+     * @param userHalfHeight  half the height of the plane
+     * @return the nearest threat, or {@code null} if there is none
+     */
+    private static ActiveActor nearestThreat(List<ActiveActorDestructible> candidates, ActiveActor nearest,
+                                             double userLeft, double userRight, double userCenter, double userHalfHeight) {
+        for (ActiveActorDestructible candidate : candidates) {
+            if (candidate.isDestroyed()) continue;
+            double distance = candidate.getPositionX() - userRight;
+            boolean ahead = candidate.getPositionX() + candidate.getHitboxWidth() >= userLeft && distance < DANGER_DISTANCE;
+            boolean inLine = Math.abs(centerY(candidate) - userCenter)
+                    < userHalfHeight + candidate.getHitboxHeight() / 2 + DODGE_MARGIN;
+            if (ahead && inLine && (nearest == null || candidate.getPositionX() < nearest.getPositionX())) {
+                nearest = candidate;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Presses the keys of newly wanted actions and releases the keys of actions no longer wanted.
+     *
+     * @param bindings the keys bound to each action
+     * @param keys     receives the key events
+     */
+    private void sendKeys(KeyBindings bindings, InputQueue.KeyEventHandler keys) {
+        for (GameAction action : GameAction.values()) {
+            int index = action.ordinal();
+            if (wanted[index] == held[index]) continue;
+            KeyCode key = keyFor(bindings, action);
+            if (key != null) {
+                keys.onKey(key, wanted[index]);
+                held[index] = wanted[index];
+            }
+        }
+    }
+
+    /**
+     * Returns the first key bound to an action.
+     *
+     * @param bindings the keys bound to each action
+     * @param action   the action
+     * @return the key, or {@code null} if the action has no key
+     */
+    private static KeyCode keyFor(KeyBindings bindings, GameAction action) {
+        for (int slot = 0; slot < KeyBindings.SLOTS; slot++) {
+            KeyCode key = bindings.getKey(action, slot);
+            if (key != null) return key;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the vertical centre of an actor's hitbox.
+     *
+     * @param actor the actor
+     * @return the y-coordinate of the centre
+     */
+    private static double centerY(ActiveActor actor) {
+        return actor.getPositionY() + actor.getHitboxHeight() / 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        Arrays.fill(held, false);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo.bot;
+
+import com.example.demo.controller.Controller;
+import com.example.demo.levelparent.LevelListener;
+import com.example.demo.levelparent.LevelParent;
+import com.example.demo.levelparent.LevelResult;
+import com.example.demo.persistence.SaveDirectory;
+import com.example.demo.settings.GameSettings;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * The {@code SoakRunner} class plays the game unattended for hours, to check that long sessions do not degrade.
+ * <p>
+ * A {@link BotPlayer} plays LevelOne through LevelFour, and a new run starts as soon as one is won or lost,
+ * as announced to a {@link LevelListener}.
+ * Every report interval, {@link SoakStats} prints the tick-time percentiles and the growth of the heap and of
+ * the actor count per hour. Saves go to a temporary directory, so the player's settings, checkpoint and run
+ * statistics are left alone.
+ * </p>
+ * <p>
+ * Options: {@code --hours=N} (default 8), {@code --report-minutes=N} (default 60) and {@code --headless},
+ * which selects the Monocle headless platform and mutes sound. Monocle must be on the module path for it.
+ * </p>
+ */
+public class SoakRunner extends Application {
+
+    /** Default length of a soak run in hours. */
+    private static final double DEFAULT_HOURS = 8;
+
+    /** Default interval between reports in minutes. */
+    private static final double DEFAULT_REPORT_MINUTES = 60;
+
+    /** Length of the soak run in hours. */
+    private static double hours = DEFAULT_HOURS;
+
+    /** Interval between reports in minutes. */
+    private static double reportMinutes = DEFAULT_REPORT_MINUTES;
+
+    /** Whether the game runs without a display or sound. */
+    private static boolean headless;
+
+    /** The measurements of the soak run. */
+    private final SoakStats stats = new SoakStats();
+
+    /** The controller running the levels. */
+    private Controller controller;
+
+    /**
+     * Starts the first run and the timers that restart runs, report and end the soak run.
+     *
+     * @param stage the primary stage
+     */
+    @Override
+    public void start(Stage stage) {
+        stage.setTitle("Sky Battle - soak test");
+        stage.setResizable(false);
+        if (headless) {
+            GameSettings.getInstance().setMuted(true); // Not saved, and the save directory is temporary anyway
+        }
+        controller = new Controller(stage);
+        controller.setAutopilot(new BotPlayer());
+        controller.addLevelListener(stats);
+        controller.addLevelListener(new LevelListener() {
+            @Override
+            public void onGameOver(LevelParent level, LevelResult result) {
+                stats.runFinished();
+                Platform.runLater(() -> startRun()); // Called on the simulation thread
+            }
+        });
+        controller.setLevelShownListener(level -> stats.levelStarted());
+        startRun();
+
+        repeat(Duration.minutes(reportMinutes), stats::report);
+        Timeline end = new Timeline(new KeyFrame(Duration.hours(hours), event -> {
+            stats.report();
+            System.out.println("Soak run finished");
+            Platform.exit();
+        }));
+        end.play();
+        System.out.println("Soak run started for " + hours + " h, reporting every " + reportMinutes + " min");
+    }
+
+    /**
+     * Starts a new run from LevelOne.
+     */
+    private void startRun() {
+        try {
+            controller.launchGame();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Could not start a soak run", e);
+        }
+    }
+
+    /**
+     * Runs a task on the JavaFX application thread at a fixed interval until the application exits.
+     *
+     * @param interval the interval
+     * @param task     the task
+     */
+    private static void repeat(Duration interval, Runnable task) {
+        Timeline timeline = new Timeline(new KeyFrame(interval, event -> task.run()));
+        timeline.setCycleCount(Animation.INDEFINITE);
+        timeline.play();
+    }
+
+    /**
+     * Entry point of the soak runner.
+     *
+     * @param args the options, see the class description
+     * @throws IOException if the temporary save directory cannot be created
+     */
+    public static void main(String[] args) throws IOException {
+        for (String arg : args) {
+            if (arg.startsWith("--hours=")) {
+                hours = Double.parseDouble(arg.substring("--hours=".length()));
+            } else if (arg.startsWith("--report-minutes=")) {
+                reportMinutes = Double.parseDouble(arg.substring("--report-minutes=".length()));
+            } else if (arg.equals("--headless")) {
+                headless = true;
+            } else {
+                System.out.println("Unknown option: " + arg);
+            }
+        }
+        System.setProperty(SaveDirectory.DIRECTORY_PROPERTY, Files.createTempDirectory("skybattle-soak").toString());
+        if (headless) {
+            System.setProperty("glass.platform", "Monocle");
+            System.setProperty("monocle.platform", "Headless");
+            System.setProperty("prism.order", "sw");
+        }
+        System.setProperty("prism.vsync", "false"); // Render as fast as the game allows
+        launch(args);
+    }
+}
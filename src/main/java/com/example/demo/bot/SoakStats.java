@@ -0,0 +1,153 @@
+package com.example.demo.bot;
+
+import com.example.demo.levelparent.LevelListener;
+import com.example.demo.levelparent.LevelParent;
+
+import java.util.Arrays;
+
+/**
+ * The {@code SoakStats} class collects the measurements of a soak run and reports them at regular intervals.
+ * <p>
+ * Tick times go into a fixed histogram of {@link #BUCKET_MICROS} microsecond buckets, so recording a tick is
+ * one array increment. Each report gives the tick-time percentiles of the interval since the previous report,
+ * the heap in use after a garbage collection and the average actor count, with their growth per hour since the
+ * first report. A healthy session keeps both growth rates near zero.
+ * </p>
+ * Ticks are recorded on the simulation thread and reports are made on the JavaFX application thread.
+ */
+public class SoakStats implements LevelListener {
+
+    /** Width of a histogram bucket in microseconds. */
+    private static final int BUCKET_MICROS = 10;
+
+    /** Number of histogram buckets. Ticks longer than the last bucket are counted in it. */
+    private static final int BUCKETS = 5_000;
+
+    /** Bytes in a mebibyte. */
+    private static final double MEGABYTE = 1024.0 * 1024.0;
+
+    /** Milliseconds in an hour. */
+    private static final double HOUR_MILLIS = 3_600_000.0;
+
+    /** Number of ticks in each bucket during the current interval. */
+    private final long[] histogram = new long[BUCKETS];
+
+    /** Time the soak run started, from {@link System#currentTimeMillis()}. */
+    private final long startMillis = System.currentTimeMillis();
+
+    /** Number of ticks in the current interval. */
+    private long ticks;
+
+    /** Longest tick of the current interval in nanoseconds. */
+    private long maxTickNanos;
+
+    /** Sum of the actor counts of the current interval's ticks. */
+    private long actorSum;
+
+    /** Highest actor count of the current interval. */
+    private int maxActors;
+
+    /** Number of runs finished, won or lost. */
+    private int runs;
+
+    /** Number of levels started. */
+    private int levels;
+
+    /** Heap in use at the first report, or {@code -1} before it. */
+    private long baselineHeap = -1;
+
+    /** Average actor count at the first report. */
+    private double baselineActors;
+
+    /** Time of the first report. */
+    private long baselineMillis;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void onTick(LevelParent level, long durationNanos, int actorCount) {
+        int bucket = (int) Math.min(durationNanos / (BUCKET_MICROS * 1_000L), BUCKETS - 1);
+        histogram[bucket]++;
+        ticks++;
+        maxTickNanos = Math.max(maxTickNanos, durationNanos);
+        actorSum += actorCount;
+        maxActors = Math.max(maxActors, actorCount);
+    }
+
+    /**
+     * Counts a level being started.
+     */
+    public synchronized void levelStarted() {
+        levels++;
+    }
+
+    /**
+     * Counts a run being finished.
+     */
+    public synchronized void runFinished() {
+        runs++;
+    }
+
+    /**
+     * Prints the measurements of the interval since the previous report and starts a new interval.
+     */
+    public void report() {
+        System.gc(); // Measure the heap that is actually retained
+        Runtime runtime = Runtime.getRuntime();
+        long heap = runtime.totalMemory() - runtime.freeMemory();
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            double averageActors = ticks == 0 ? 0 : (double) actorSum / ticks;
+            if (baselineHeap < 0) {
+                baselineHeap = heap;
+                baselineActors = averageActors;
+                baselineMillis = now;
+            }
+            double hours = (now - baselineMillis) / HOUR_MILLIS;
+            double heapGrowth = hours > 0 ? (heap - baselineHeap) / MEGABYTE / hours : 0;
+            double actorGrowth = hours > 0 ? (averageActors - baselineActors) / hours : 0;
+            System.out.printf("Soak [%s] runs %d, levels %d | ticks %d: p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms"
+                            + " | heap %.1f MB (%+.1f MB/h) | actors avg %.1f, max %d (%+.1f/h)%n",
+                    elapsed(now), runs, levels, ticks, percentile(0.50), percentile(0.90), percentile(0.99),
+                    maxTickNanos / 1e6, heap / MEGABYTE, heapGrowth, averageActors, maxActors, actorGrowth);
+            Arrays.fill(histogram, 0);
+            ticks = 0;
+            maxTickNanos = 0;
+            actorSum = 0;
+            maxActors = 0;
+        }
+    }
+
+    /**
+     * Returns a tick-time percentile of the current interval, as the upper edge of its histogram bucket.
+     *
+     * @param fraction the percentile, from 0.0 to 1.0
+     * @return the tick time in milliseconds
+     */
+    private double percentile(double fraction) {
+        if (ticks == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(fraction * ticks);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return (i + 1) * BUCKET_MICROS / 1000.0;
+            }
+        }
+        return BUCKETS * BUCKET_MICROS / 1000.0;
+    }
+
+    /**
+     * Formats the time since the soak run started.
+     *
+     * @param now the current time
+     * @return the elapsed time as hours, minutes and seconds
+     */
+    private String elapsed(long now) {
+        long seconds = (now - startMillis) / 1000;
+        return String.format("%d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+    }
+}
@@ -1,26 +1,37 @@
 package com.example.demo.controller;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Observable;
-import java.util.Observer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
+import com.example.demo.levelparent.Autopilot;
+import com.example.demo.levelparent.GameRun;
+import com.example.demo.levelparent.LevelListener;
 import com.example.demo.levelparent.LevelParent;
+import com.example.demo.levelparent.LevelResult;
+import javafx.application.Platform;
+import com.example.demo.persistence.CheckpointStore;
+import com.example.demo.persistence.LevelCheckpoint;
+import com.example.demo.settings.GameSettings;
 
 /**
  * The {@code Controller} class handles the game flow and level transitions in the Sky Battle application.
  * Original source code can be found in the original git repository: <a href="https://github.com/kooitt/CW2024.git">ORIGINAL SOURCE CODE</a>
  * <p>
- * This class uses reflection to dynamically load levels and implements the {@link Observer} interface
- * to respond to updates from observed objects. It manages the game's main stage and coordinates
+ * This class uses reflection to dynamically load levels and implements the {@link LevelListener} interface
+ * to move on when a level is completed. It manages the game's main stage and coordinates
  * level-specific logic.
  * </p>
  */
-public class Controller implements Observer {
+public class Controller implements LevelListener {
 
 	/**
 	 * The name of the first level class
@@ -33,6 +44,26 @@ public class Controller implements Observer {
 	 */
 	private final Stage stage;
 
+	/**
+	 * The run in progress, carried from level to level.
+	 */
+	private GameRun run;
+
+	/**
+	 * The autopilot handed to every level, or {@code null} if the player plays.
+	 */
+	private Autopilot autopilot;
+
+	/**
+	 * Extra listeners registered on every level, such as analytics.
+	 */
+	private final List<LevelListener> levelListeners = new ArrayList<>();
+
+	/**
+	 * Called with every level just before it starts, or {@code null}.
+	 */
+	private Consumer<LevelParent> levelShownListener;
+
 	/**
 	 * Constructs a {@code Controller} with the specified stage.
 	 *
@@ -42,6 +73,33 @@ public class Controller implements Observer {
 		this.stage = stage;
 	}
 
+	/**
+	 * Sets the autopilot that plays every level shown from now on, instead of the player.
+	 *
+	 * @param autopilot the autopilot, or {@code null} to let the player play
+	 */
+	public void setAutopilot(Autopilot autopilot) {
+		this.autopilot = autopilot;
+	}
+
+	/**
+	 * Registers a listener on every level created from now on, next to the controller itself.
+	 *
+	 * @param listener the listener to add
+	 */
+	public void addLevelListener(LevelListener listener) {
+		levelListeners.add(listener);
+	}
+
+	/**
+	 * Sets a listener called with every level just before it starts.
+	 *
+	 * @param levelShownListener the listener, or {@code null} for none
+	 */
+	public void setLevelShownListener(Consumer<LevelParent> levelShownListener) {
+		this.levelShownListener = levelShownListener;
+	}
+
 	/**
 	 * Launches the game by showing the stage and navigating to the first level.
 	 *
@@ -56,9 +114,31 @@ public class Controller implements Observer {
 	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
 			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException  {
 			stage.show();
+			run = new GameRun(System.nanoTime()); //Each new game gets its own spawn seed
+			CheckpointStore.getInstance().clear(); //A new game replaces the run that could have been resumed
 			goToLevel(LEVEL_ONE_CLASS_NAME);
 	}
 
+	/**
+	 * Resumes a run from a saved level checkpoint, recreating the level it was saved in.
+	 *
+	 * @param checkpoint the encoded checkpoint
+	 * @throws IOException if the checkpoint is corrupt or of another format version
+	 * @throws ClassNotFoundException if the level class cannot be found
+	 * @throws NoSuchMethodException if the required constructor is not found
+	 * @throws InstantiationException if the level class cannot be instantiated
+	 * @throws IllegalAccessException if the constructor is not accessible
+	 * @throws InvocationTargetException if the constructor throws an exception
+	 */
+	public void resumeGame(byte[] checkpoint) throws IOException, ClassNotFoundException, NoSuchMethodException,
+			InstantiationException, IllegalAccessException, InvocationTargetException {
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(checkpoint));
+			LevelParent myLevel = createLevel(LevelCheckpoint.readHeader(in));
+			run = myLevel.restoreCheckpoint(in);
+			stage.show();
+			showLevel(myLevel);
+	}
+
 	/**
 	 * Navigates to the specified level by dynamically loading its class and invoking its constructor.
 	 *
@@ -73,34 +153,76 @@ public class Controller implements Observer {
 	 */
 	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
 			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+			LevelParent myLevel = createLevel(className);
+			if (run != null) {
+				myLevel.setRun(run);
+			}
+			showLevel(myLevel);
+	}
+
+	/**
+	 * Creates a level by dynamically loading its class and invoking its constructor, and observes it
+	 * for level transitions.
+	 *
+	 * @param className the fully qualified name of the level class to load
+	 * @return the new level
+	 * @throws ClassNotFoundException if the specified class cannot be found
+	 * @throws NoSuchMethodException if the required constructor is not found
+	 * @throws SecurityException if access to the constructor is denied
+	 * @throws InstantiationException if the level class cannot be instantiated
+	 * @throws IllegalAccessException if the constructor is not accessible
+	 * @throws IllegalArgumentException if invalid arguments are provided to the constructor
+	 * @throws InvocationTargetException if the constructor throws an exception
+	 */
+	private LevelParent createLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
+			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+			GameSettings settings = GameSettings.getInstance();
 			Class<?> myClass = Class.forName(className);
 			Constructor<?> constructor = myClass.getConstructor(double.class, double.class, Stage.class);
-			LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth(), stage);
-			myLevel.addObserver(this);
-			Scene scene = myLevel.initializeScene();
-			stage.setWidth(1300);
-			stage.setHeight(750);
-			stage.setScene(scene);
+			LevelParent myLevel = (LevelParent) constructor.newInstance((double) settings.getWindowHeight(), (double) settings.getWindowWidth(), stage);
+			myLevel.addListener(this);
+			levelListeners.forEach(myLevel::addListener);
+			return myLevel;
+	}
+
+	/**
+	 * Shows a level on the stage and starts it.
+	 *
+	 * @param myLevel the level to show
+	 */
+	private void showLevel(LevelParent myLevel) {
+			GameSettings settings = GameSettings.getInstance();
+			SceneManager.getInstance().showLevel(stage, myLevel.initializeScene());
+			stage.setWidth(settings.getWindowWidth());
+			stage.setHeight(settings.getWindowHeight());
+			myLevel.setAutopilot(autopilot);
+			if (levelShownListener != null) {
+				levelShownListener.accept(myLevel);
+			}
 			myLevel.startGame();
 
 	}
 
 	/**
-	 * Responds to updates from observed objects by navigating to the specified level.
+	 * Moves on to the next level once a level is completed. Called on the thread that completed the level,
+	 * so the next level is loaded on the JavaFX application thread.
 	 *
-	 * @param arg0 is the observable object that triggered the update.
-	 * @param arg1 is an argument passed to the {@code notifyObservers} method.
+	 * @param level          the completed level
+	 * @param result         the outcome of the level
+	 * @param nextLevelClass the fully qualified class name of the next level
 	 */
 	@Override
-	public void update(Observable arg0, Object arg1) {
-		try {
-			goToLevel((String) arg1);
-		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
-				| IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-			Alert alert = new Alert(AlertType.ERROR);
-			alert.setContentText(e.getClass().toString());
-			alert.show();
-		}
+	public void onLevelComplete(LevelParent level, LevelResult result, String nextLevelClass) {
+		Platform.runLater(() -> {
+			try {
+				goToLevel(nextLevelClass);
+			} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
+					| IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+				Alert alert = new Alert(AlertType.ERROR);
+				alert.setContentText(e.getClass().toString());
+				alert.show();
+			}
+		});
 	}
 
 }
@@ -2,6 +2,8 @@ package com.example.demo.controller;
 
 import java.io.IOException;
 
+import com.example.demo.persistence.RunStatsStore;
+import com.example.demo.settings.GameSettings;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -20,7 +22,8 @@ public class Main extends Application {
 	 * Starts the JavaFX application.
 	 * <p>
 	 * It sets the title, disables resizing, and displays the main menu using the
-	 * {@link MainMenuController}.
+	 * {@link MainMenuController}. The player's settings are already loaded by {@link #main(String[])},
+	 * so every asset is loaded with them in place.
 	 * </p>
 	 *
 	 * @param stage the primary stage for this application
@@ -38,11 +41,26 @@ public class Main extends Application {
 		stage.show();
 	}
 
+	/**
+	 * Stops the JavaFX application, whether the window was closed or the exit button was clicked.
+	 * Waits for the last run to finish saving before the game exits.
+	 */
+	@Override
+	public void stop() {
+		RunStatsStore.getInstance().shutdown();
+	}
+
 	/**
 	 * The main method serves as the entry point for the application.
+	 * <p>
+	 * Loads the player's settings before launching JavaFX, because the VSync setting is only read
+	 * when the graphics pipeline starts.
+	 * </p>
 	 * @param args the command-line arguments (which is not used in this app)
 	 */
 	public static void main(String[] args) {
+		GameSettings settings = GameSettings.getInstance();
+		System.setProperty("prism.vsync", Boolean.toString(settings.isVsync()));
 		launch();
 	}
 }
\ No newline at end of file
@@ -1,14 +1,20 @@
 package com.example.demo.controller;
 
+import com.example.demo.levels.LevelOne;
+import com.example.demo.persistence.CheckpointStore;
+import com.example.demo.persistence.RunRecord;
+import com.example.demo.persistence.RunStatsStore;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 
 /**
  * The {@code MainMenuController} class is a newly added class that manages the main menu functionality in the Sky Battle application.
@@ -19,23 +25,11 @@ import java.lang.reflect.InvocationTargetException;
  */
 public class MainMenuController {
 
-    /**
-     * The default height of the main menu screen.
-     */
-    private static final int SCREEN_HEIGHT = 750;
-    /**
-     * The default width of the main menu screen.
-     */
-    private static final int SCREEN_WIDTH = 1300;
     /**
      * The primary stage for displaying the main menu and the game.
      * Carried over to other classes who need it to call the stage/game scene.
      */
     private Stage stage;
-    /**
-     * The file path to the settings screen FXML file.
-     */
-    private static final String SETTINGS_FXML = "/fxml/settings.fxml";
     /**
      * The file path to the button click sound effect.
      */
@@ -48,11 +42,32 @@ public class MainMenuController {
      * The sound manager for handling sound effects and background music.
      */
     private SoundManager soundManager;
+    /**
+     * The style of each entry on the leaderboard.
+     */
+    private static final String LEADERBOARD_ENTRY_STYLE = "-fx-text-fill: white; -fx-font-size: 16px;";
+    /**
+     * The container the leaderboard entries are listed in, below its title.
+     */
+    @FXML
+    private VBox leaderboardBox;
+    /**
+     * The button resuming the run saved when the player last left a level from the pause menu.
+     * Hidden while there is no saved checkpoint.
+     */
+    @FXML
+    private Button continueButton;
+    /**
+     * The saved checkpoint the continue button resumes, or {@code null} if there is none.
+     */
+    private byte[] checkpoint;
 
     /**
      * Initializes the main menu controller with the specified stage.
      * <p>
      * This method sets up the sound manager, loads sound effects, and plays background music.
+     * The main menu is parsed once and reused, so this runs again every time it is shown, refreshing the
+     * leaderboard and the continue button.
      * </p>
      *
      * @param stage the primary stage for the application
@@ -62,12 +77,61 @@ public class MainMenuController {
         soundManager = SoundManager.getInstance();
 
         // Load sound effects
-        soundManager.loadSFX("button_click", BUTTON_CLICK_SFX);
+        soundManager.loadUISFX("button_click", BUTTON_CLICK_SFX);
 
         // Play background music if not already playing
         if (soundManager.getBackgroundMusicPlayer() == null) {
             soundManager.playBackgroundMusic(BG_MUSIC);  // Play background music only if not already playing
         }
+        soundManager.prefetchBackgroundMusic(LevelOne.LEVEL_BG_MUSIC); // Ready for the crossfade when a game starts
+
+        // Fetched in the background, the leaderboard fills in once the run log has been read
+        RunStatsStore.getInstance().fetchTopRuns(runs -> Platform.runLater(() -> showLeaderboard(runs)));
+        CheckpointStore.getInstance().fetch(saved -> Platform.runLater(() -> showContinueButton(saved)));
+    }
+
+    /**
+     * Shows the continue button if there is a saved checkpoint to resume.
+     *
+     * @param saved the saved checkpoint, or {@code null} if there is none
+     */
+    private void showContinueButton(byte[] saved) {
+        checkpoint = saved;
+        if (continueButton != null) {
+            continueButton.setVisible(saved != null);
+        }
+    }
+
+    /**
+     * Lists the best runs on the leaderboard, replacing any previous entries.
+     *
+     * @param runs the best runs, best first
+     */
+    private void showLeaderboard(List<RunRecord> runs) {
+        if (leaderboardBox == null) {
+            return;
+        }
+        leaderboardBox.getChildren().remove(1, leaderboardBox.getChildren().size()); // Keep the title
+        if (runs.isEmpty()) {
+            addLeaderboardEntry("No runs yet");
+        }
+        for (int i = 0; i < runs.size(); i++) {
+            RunRecord run = runs.get(i);
+            long seconds = run.getDurationMillis() / 1000;
+            addLeaderboardEntry(String.format("%2d. %6d  %s  %d kills  %d:%02d", i + 1, run.getScore(),
+                    run.isWon() ? "WIN" : "Level " + run.getLevelReached(), run.getKills(), seconds / 60, seconds % 60));
+        }
+    }
+
+    /**
+     * Adds a line of text to the leaderboard.
+     *
+     * @param text the text of the entry
+     */
+    private void addLeaderboardEntry(String text) {
+        Label entry = new Label(text);
+        entry.setStyle(LEADERBOARD_ENTRY_STYLE);
+        leaderboardBox.getChildren().add(entry);
     }
 
     /**
@@ -88,11 +152,43 @@ public class MainMenuController {
             InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
         System.out.println("Start button clicked!");
         soundManager.playSFX("button_click");  // Play button click sound
-        soundManager.stopBackgroundMusic();
-        Controller myController = new Controller(stage);
+        Controller myController = new Controller(stage); // The first level crossfades into its own music
         myController.launchGame();
     }
 
+    /**
+     * Handles the action triggered when the continue button is clicked.
+     * <p>
+     * This method resumes the saved run from the level it was left in. A checkpoint that cannot be read
+     * is discarded and the button is hidden.
+     * </p>
+     *
+     * @param event the {@code ActionEvent} triggered by the button click
+     * @throws ClassNotFoundException if the level class cannot be found
+     * @throws InvocationTargetException if the constructor throws an exception
+     * @throws NoSuchMethodException if the required constructor is not found
+     * @throws InstantiationException if the level class cannot be instantiated
+     * @throws IllegalAccessException if the constructor is not accessible
+     */
+    @FXML
+    private void onContinueButtonClicked(ActionEvent event) throws ClassNotFoundException,
+            InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        System.out.println("Continue button clicked!");
+        soundManager.playSFX("button_click");
+        if (checkpoint == null) {
+            return;
+        }
+        Controller myController = new Controller(stage); // The resumed level crossfades into its own music
+        try {
+            myController.resumeGame(checkpoint);
+        } catch (IOException e) {
+            System.out.println("Could not resume the saved run: " + e.getMessage());
+            CheckpointStore.getInstance().clear();
+            showContinueButton(null);
+            soundManager.playBackgroundMusic(BG_MUSIC);
+        }
+    }
+
     /**
      * Handles the action triggered when the settings button is clicked.
      * <p>
@@ -107,21 +203,14 @@ public class MainMenuController {
         System.out.println("Settings button clicked!");
         soundManager.playSFX("button_click");
 
-        FXMLLoader settingsLoader = new FXMLLoader(getClass().getResource(SETTINGS_FXML));
-        Parent root = settingsLoader.load();
-
-        SettingsController settingsController = settingsLoader.getController();
-        settingsController.initialize(stage); // Pass MediaPlayer and SoundManager
-
-        Scene scene = new Scene(root, SCREEN_WIDTH, SCREEN_HEIGHT);
-        stage.setScene(scene);
+        SceneManager.getInstance().showSettings(stage); // Parsed once, then reused
         stage.show();
     }
 
     /**
      * Handles the action triggered when the exit button is clicked.
      * <p>
-     * This method plays a button click sound and exits the application.
+     * This method plays a button click sound and exits the application the same way closing the window does.
      * </p>
      *
      * @param event the {@code ActionEvent} triggered by the button click
@@ -130,29 +219,19 @@ public class MainMenuController {
     private void onExitButtonClicked(ActionEvent event) {
         System.out.println("Exiting game!");
         soundManager.playSFX("button_click");  // Play button click sound
-        System.exit(0);
+        Platform.exit(); // Main.stop() lets the last run finish saving
     }
 
     /**
      * Displays the main menu on the specified stage.
      * <p>
-     * This method loads the main menu FXML file and initializes the controller.
+     * The {@link SceneManager} parses the main menu FXML file the first time, and reuses it afterwards.
      * </p>
      *
      * @param stage the primary stage for the application
      * @throws IOException if the FXML file cannot be loaded
      */
     public void showMainMenu(Stage stage) throws IOException {
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/mainmenu.fxml"));
-        Parent root = loader.load();
-
-        // Get the controller and initialize it
-        MainMenuController mainMenuController = loader.getController();
-        mainMenuController.initialize(stage);
-
-        // Set the scene and show the stage
-        Scene scene = new Scene(root, SCREEN_WIDTH, SCREEN_HEIGHT);
-        stage.setScene(scene);
-
+        SceneManager.getInstance().showMainMenu(stage);
     }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.example.demo.controller;
+
+import com.example.demo.settings.GameSettings;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+
+/**
+ * The {@code SceneManager} class is newly added, keeping the single scene every screen of the application is shown in.
+ * <p>
+ * The scene is created once, sized to the window size in the player's settings, and screens are switched by
+ * swapping its root. The main menu and settings screens are parsed from FXML the first time they are shown and
+ * reused afterwards, so returning to them only refreshes their contents. Levels are shown as a layer of a
+ * persistent game root: moving to the next level swaps the layer, and leaving the game removes it so the level
+ * can be collected.
+ * </p>
+ * Incorporates the Singleton Design Pattern, like {@link SoundManager}.
+ */
+public class SceneManager {
+
+    /**
+     * The file path to the main menu FXML file.
+     */
+    private static final String MAIN_MENU_FXML = "/fxml/mainmenu.fxml";
+    /**
+     * The file path to the settings screen FXML file.
+     */
+    private static final String SETTINGS_FXML = "/fxml/settings.fxml";
+    /**
+     * Singleton instance of the {@code SceneManager}.
+     */
+    private static SceneManager instance;
+    /**
+     * The root shown while a level is played. Holds the root group of the current level.
+     */
+    private final Group gameRoot = new Group();
+    /**
+     * The scene every screen is shown in, created the first time a screen is shown.
+     */
+    private Scene scene;
+    /**
+     * The parsed main menu, or {@code null} until it is first shown.
+     */
+    private Parent mainMenuRoot;
+    /**
+     * The controller of the parsed main menu.
+     */
+    private MainMenuController mainMenuController;
+    /**
+     * The parsed settings screen, or {@code null} until it is first shown.
+     */
+    private Parent settingsRoot;
+    /**
+     * The controller of the parsed settings screen.
+     */
+    private SettingsController settingsController;
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     */
+    private SceneManager() {
+    }
+
+    /**
+     * Retrieves the singleton instance of the {@code SceneManager}.
+     *
+     * @return the singleton {@code SceneManager} instance
+     */
+    public static synchronized SceneManager getInstance() {
+        if (instance == null) {
+            instance = new SceneManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Shows the main menu, parsing it on first use, and refreshes its music, leaderboard and continue button.
+     * Any level left on the game root is removed.
+     *
+     * @param stage the primary stage for the application
+     * @throws IOException if the main menu FXML file cannot be loaded
+     */
+    public void showMainMenu(Stage stage) throws IOException {
+        if (mainMenuRoot == null) {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource(MAIN_MENU_FXML));
+            mainMenuRoot = loader.load();
+            mainMenuController = loader.getController();
+        }
+        gameRoot.getChildren().clear(); // Let the last level be collected
+        mainMenuController.initialize(stage);
+        show(stage, mainMenuRoot);
+    }
+
+    /**
+     * Shows the settings screen, parsing it and wiring its controls on first use, and refreshing it afterwards.
+     *
+     * @param stage the primary stage for the application
+     * @throws IOException if the settings FXML file cannot be loaded
+     */
+    public void showSettings(Stage stage) throws IOException {
+        if (settingsRoot == null) {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource(SETTINGS_FXML));
+            settingsRoot = loader.load();
+            settingsController = loader.getController();
+            settingsController.initialize(stage);
+        } else {
+            settingsController.refresh();
+        }
+        show(stage, settingsRoot);
+    }
+
+    /**
+     * Shows a level, replacing the previous level on the game root.
+     *
+     * @param stage     the primary stage for the application
+     * @param levelRoot the root group of the level
+     */
+    public void showLevel(Stage stage, Group levelRoot) {
+        gameRoot.getChildren().setAll(levelRoot);
+        show(stage, gameRoot);
+    }
+
+    /**
+     * Makes a root the content of the shared scene, creating the scene on first use.
+     *
+     * @param stage the primary stage for the application
+     * @param root  the root to show
+     */
+    private void show(Stage stage, Parent root) {
+        if (scene == null) {
+            GameSettings settings = GameSettings.getInstance();
+            scene = new Scene(root, settings.getWindowWidth(), settings.getWindowHeight());
+        } else if (scene.getRoot() != root) {
+            scene.setRoot(root);
+        }
+        if (stage.getScene() != scene) {
+            stage.setScene(scene);
+        }
+    }
+}
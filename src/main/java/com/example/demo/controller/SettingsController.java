@@ -1,17 +1,30 @@
 package com.example.demo.controller;
 
+import com.example.demo.engine.RenderMode;
+import com.example.demo.settings.GameAction;
+import com.example.demo.settings.GameSettings;
+import com.example.demo.settings.KeyBindings;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
-import javafx.scene.media.MediaPlayer;
 import javafx.scene.control.Slider;
 
 import java.io.IOException;
 /**
  * The {@code SettingsController} class is a newly added class that manages the settings screen in the application.
  * <p>
- * This class provides functionality for adjusting volume settings and navigating back to the main menu.
- * It uses {@code SoundManager} for handling sound effects and background music volume.
+ * This class provides functionality for adjusting the player's {@link GameSettings} and navigating back to the main menu:
+ * the music, sound effects and interface bus volumes, muting, music ducking, the music crossfade, key bindings, hazard warnings, the render mode,
+ * VSync, the frame cap, automatic quality and the debug overlay. Changes apply immediately, and are saved when leaving the screen.
+ * It uses {@code SoundManager} for handling sound effects.
  * </p>
  */
  public class SettingsController {
@@ -25,22 +38,94 @@ import java.io.IOException;
      * The file path to the button click sound effect.
      */
     private static final String BUTTON_CLICK_SFX = "/com/example/demo/sfx/ui_sfx/buttonclick.mp3";
+    /**
+     * The style of the labels and buttons built by the controller.
+     */
+    private static final String TEXT_STYLE = "-fx-text-fill: white; -fx-font-size: 14px;";
+    /**
+     * The text shown on a key binding button while it waits for a key.
+     */
+    private static final String WAITING_FOR_KEY = "Press a key...";
     /**
      * The sound manager for handling sound effects and background music.
      */
     private SoundManager soundManager;
+    /**
+     * The player's settings edited by this screen.
+     */
+    private GameSettings settings;
 
     /**
-     * The slider for adjusting the volume.
+     * The slider for adjusting the music volume.
      */
     @FXML
     private Slider volumeSlider;
+    /**
+     * The slider for adjusting the sound effects volume.
+     */
+    @FXML
+    private Slider sfxVolumeSlider;
+    /**
+     * The slider for adjusting the interface sounds volume.
+     */
+    @FXML
+    private Slider uiVolumeSlider;
+    /**
+     * The check box muting all sound.
+     */
+    @FXML
+    private CheckBox muteCheckBox;
+    /**
+     * The check box letting important sounds lower the music.
+     */
+    @FXML
+    private CheckBox duckingCheckBox;
+    /**
+     * The choice of music crossfade window.
+     */
+    @FXML
+    private ComboBox<String> crossfadeComboBox;
+    /**
+     * The choice of hazard warning lead time.
+     */
+    @FXML
+    private ComboBox<String> telegraphComboBox;
+    /**
+     * The choice of render mode.
+     */
+    @FXML
+    private ComboBox<RenderMode> renderModeComboBox;
+    /**
+     * The choice of frame cap.
+     */
+    @FXML
+    private ComboBox<String> frameCapComboBox;
+    /**
+     * The check box toggling VSync.
+     */
+    @FXML
+    private CheckBox vsyncCheckBox;
+    /**
+     * The check box toggling automatic quality.
+     */
+    @FXML
+    private CheckBox autoQualityCheckBox;
+    /**
+     * The check box toggling the debug overlay.
+     */
+    @FXML
+    private CheckBox debugOverlayCheckBox;
+    /**
+     * The container the key binding rows are listed in, below its title.
+     */
+    @FXML
+    private VBox keyBindingsBox;
 
     /**
      * Initializes the settings screen.
      * <p>
-     * This method sets up the volume slider and integrates it with the {@code SoundManager}.
-     * It ensures the slider reflects the current background music volume and updates it dynamically.
+     * This method sets every control to the current settings and applies each change to them right away,
+     * so the volumes can be heard while the sliders move.
      * </p>
      *
      * @param stage the primary stage for the settings screen
@@ -48,24 +133,152 @@ import java.io.IOException;
     public void initialize(Stage stage) {
         this.stage = stage;
         soundManager = SoundManager.getInstance();
-        soundManager.loadSFX("button_click",BUTTON_CLICK_SFX);
-        // Set up the volume slider
-        MediaPlayer backgroundPlayer = soundManager.getBackgroundMusicPlayer();
-        if (backgroundPlayer != null) {
-            // Set the slider to the current volume
-            volumeSlider.setValue(backgroundPlayer.getVolume() * 100);
-
-            // Add listener to update volume in SoundManager
-            volumeSlider.valueProperty().addListener((observable, oldValue, newValue) -> {
-                soundManager.setBackgroundMusicVolume(newValue.doubleValue() / 100);
-            });
+        soundManager.loadUISFX("button_click", BUTTON_CLICK_SFX);
+        settings = GameSettings.getInstance();
+
+        // Set up the volume sliders
+        volumeSlider.setValue(settings.getMusicVolume() * 100);
+        volumeSlider.valueProperty().addListener((observable, oldValue, newValue) ->
+                settings.setMusicVolume(newValue.doubleValue() / 100));
+        sfxVolumeSlider.setValue(settings.getSfxVolume() * 100);
+        sfxVolumeSlider.valueProperty().addListener((observable, oldValue, newValue) ->
+                settings.setSfxVolume(newValue.doubleValue() / 100));
+        uiVolumeSlider.setValue(settings.getUiVolume() * 100);
+        uiVolumeSlider.valueProperty().addListener((observable, oldValue, newValue) ->
+                settings.setUiVolume(newValue.doubleValue() / 100));
+        muteCheckBox.setSelected(settings.isMuted());
+        muteCheckBox.setOnAction(event -> settings.setMuted(muteCheckBox.isSelected()));
+        duckingCheckBox.setSelected(settings.isMusicDucking());
+        duckingCheckBox.setOnAction(event -> settings.setMusicDucking(duckingCheckBox.isSelected()));
+        for (int window : GameSettings.CROSSFADE_WINDOWS) {
+            crossfadeComboBox.getItems().add(crossfadeName(window));
+        }
+        crossfadeComboBox.setValue(crossfadeName(settings.getMusicCrossfadeMillis()));
+        crossfadeComboBox.setOnAction(event -> {
+            int index = crossfadeComboBox.getItems().indexOf(crossfadeComboBox.getValue());
+            settings.setMusicCrossfadeMillis(GameSettings.CROSSFADE_WINDOWS[index]);
+        });
+
+        // Set up the gameplay options
+        for (int lead : GameSettings.TELEGRAPH_LEADS) {
+            telegraphComboBox.getItems().add(telegraphName(lead));
+        }
+        telegraphComboBox.setValue(telegraphName(settings.getTelegraphTicks()));
+        telegraphComboBox.setOnAction(event -> {
+            int index = telegraphComboBox.getItems().indexOf(telegraphComboBox.getValue());
+            settings.setTelegraphTicks(GameSettings.TELEGRAPH_LEADS[index]);
+        });
+
+        // Set up the performance options
+        renderModeComboBox.getItems().addAll(RenderMode.values());
+        renderModeComboBox.setValue(settings.getRenderMode());
+        renderModeComboBox.setOnAction(event -> settings.setRenderMode(renderModeComboBox.getValue()));
+
+        for (int frameCap : GameSettings.FRAME_CAPS) {
+            frameCapComboBox.getItems().add(frameCapName(frameCap));
+        }
+        frameCapComboBox.setValue(frameCapName(settings.getFrameCap()));
+        frameCapComboBox.setOnAction(event -> {
+            int index = frameCapComboBox.getItems().indexOf(frameCapComboBox.getValue());
+            settings.setFrameCap(GameSettings.FRAME_CAPS[index]);
+        });
+
+        vsyncCheckBox.setSelected(settings.isVsync());
+        vsyncCheckBox.setOnAction(event -> settings.setVsync(vsyncCheckBox.isSelected()));
+        autoQualityCheckBox.setSelected(settings.isAutoQuality());
+        autoQualityCheckBox.setOnAction(event -> settings.setAutoQuality(autoQualityCheckBox.isSelected()));
+        debugOverlayCheckBox.setSelected(settings.isDebugOverlay());
+        debugOverlayCheckBox.setOnAction(event -> settings.setDebugOverlay(debugOverlayCheckBox.isSelected()));
+
+        showKeyBindings();
+    }
+
+    /**
+     * Refreshes the settings screen when it is shown again. The screen is parsed and wired once, and the
+     * settings only change through it, so only the key binding rows are rebuilt.
+     */
+    public void refresh() {
+        showKeyBindings();
+    }
+
+    /**
+     * Returns the name of a frame cap shown in the frame cap choice.
+     *
+     * @param frameCap the frame cap, or {@code 0} for no cap
+     * @return the name of the frame cap
+     */
+    private static String frameCapName(int frameCap) {
+        return frameCap == 0 ? "Uncapped" : frameCap + " FPS";
+    }
+
+    /**
+     * Returns the name of a crossfade window shown in the crossfade choice.
+     *
+     * @param millis the crossfade window in milliseconds, or {@code 0} for none
+     * @return the name of the crossfade window
+     */
+    private static String crossfadeName(int millis) {
+        return millis == 0 ? "Off" : millis / 1000.0 + " s";
+    }
+
+    /**
+     * Returns the name of a hazard warning lead time shown in the warning choice.
+     *
+     * @param ticks the lead time in ticks, or {@code 0} for no warnings
+     * @return the name of the lead time
+     */
+    private static String telegraphName(int ticks) {
+        return ticks == 0 ? "Off" : ticks + " ticks ahead";
+    }
+
+    /**
+     * Lists a row for every action with a button per key slot, replacing any previous rows.
+     */
+    private void showKeyBindings() {
+        keyBindingsBox.getChildren().remove(1, keyBindingsBox.getChildren().size()); // Keep the title
+        KeyBindings bindings = settings.getKeyBindings();
+        for (GameAction action : GameAction.values()) {
+            Label name = new Label(action.getDisplayName());
+            name.setStyle(TEXT_STYLE);
+            name.setPrefWidth(100);
+            HBox row = new HBox(8, name);
+            for (int slot = 0; slot < KeyBindings.SLOTS; slot++) {
+                KeyCode key = bindings.getKey(action, slot);
+                Button button = new Button(key == null ? "-" : key.getName());
+                button.setPrefWidth(90);
+                button.setFocusTraversable(false);
+                int boundSlot = slot;
+                button.setOnAction(event -> waitForKey(button, action, boundSlot));
+                row.getChildren().add(button);
+            }
+            keyBindingsBox.getChildren().add(row);
         }
     }
 
+    /**
+     * Waits for the next key press and binds it to an action. Pressing the key already bound clears the slot.
+     *
+     * @param button the button of the key slot being rebound
+     * @param action the action to bind the key to
+     * @param slot   the key slot to bind the key in
+     */
+    private void waitForKey(Button button, GameAction action, int slot) {
+        soundManager.playSFX("button_click");
+        button.setText(WAITING_FOR_KEY);
+        Scene scene = stage.getScene();
+        scene.setOnKeyPressed(event -> {
+            event.consume();
+            scene.setOnKeyPressed(null);
+            KeyCode key = event.getCode();
+            settings.setKeyBinding(action, slot, key == settings.getKeyBindings().getKey(action, slot) ? null : key);
+            showKeyBindings();
+        });
+    }
+
     /**
      * Handles the action triggered when the back button is clicked.
      * <p>
-     * This method plays a button click sound and navigates back to the main menu.
+     * This method plays a button click sound, saves the settings and navigates back to the main menu.
      * </p>
      *
      * @param event the {@code ActionEvent} triggered by the button click
@@ -76,6 +289,8 @@ import java.io.IOException;
         System.out.println("Returning to the main menu...");
 
         soundManager.playSFX("button_click");
+        settings.save();
+        stage.getScene().setOnKeyPressed(null); // The scene is shared, so drop a pending rebind
 
         MainMenuController mainMenuController = new MainMenuController();
         mainMenuController.showMainMenu(stage);
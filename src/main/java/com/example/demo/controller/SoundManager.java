@@ -1,43 +1,69 @@
 package com.example.demo.controller;
 
+import com.example.demo.audio.AudioBus;
+import com.example.demo.audio.AudioMixer;
+import com.example.demo.audio.MusicManager;
+import com.example.demo.audio.SoundDefinition;
+import com.example.demo.settings.GameSettings;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The {@code SoundManager} class is newly added, managing all sound-related functionality in the application.
  * <p>
  * This includes playing sound effects (SFX), managing background music, and handling mute states.
  * It uses the {@code Media} and {@code MediaPlayer} classes from JavaFX to manage audio resources.
+ * Sound effects are played through an {@link AudioMixer}, which routes each of them to a bus (music,
+ * sound effects or interface), caps how many play at once, and ducks the music for important sounds.
+ * Background music is handled by a {@link MusicManager}, which prefetches and crossfades the level tracks.
+ * Bus volumes and the mute state come from the player's {@link GameSettings}, and follow them whenever they change.
  * Incorporates the Singleton Design Pattern.
  * </p>
  */
 public class SoundManager {
+    /**
+     * Default number of copies of a sound effect that may play at once.
+     */
+    private static final int DEFAULT_MAX_INSTANCES = 3;
     /**
      * Singleton instance of the {@code SoundManager}.
      */
     private static SoundManager instance;
     /**
-     * Map storing sound effects, keyed by their name.
+     * Map storing sound effects, keyed by their name. Read from the simulation thread, hence concurrent.
+     */
+    private final Map<String, SoundDefinition> soundEffects;
+    /**
+     * The player's settings, which hold the volumes and mute state.
+     */
+    private final GameSettings settings;
+    /**
+     * The mixer playing the sound effects and controlling the music volume.
      */
-    private final Map<String, Media> soundEffects;
+    private final AudioMixer mixer;
     /**
-     * MediaPlayer instance for background music.
+     * The manager playing and crossfading the background music.
      */
-    private MediaPlayer backgroundMusicPlayer;
+    private final MusicManager music;
     /**
      * Indicates whether the sound is muted.
      */
-    private boolean muted = false;
+    private volatile boolean muted = false;
 
     /**
      * Private constructor to enforce singleton pattern.
      */
     private SoundManager() {
-        soundEffects = new HashMap<>();
+        soundEffects = new ConcurrentHashMap<>();
+        settings = GameSettings.getInstance();
+        mixer = new AudioMixer(settings);
+        music = new MusicManager(mixer, settings);
+        muted = settings.isMuted();
+        settings.addListener(this::applySettings);
     }
 
     /**
@@ -54,105 +80,137 @@ public class SoundManager {
 
     /**
      * Loads a sound effect into the manager, so that it can be called anytime.
+     * It plays on the sound effects bus at normal priority.
      *
      * @param name     the name to associate with the sound effect
      * @param filePath the file path to the sound effect
      */
     public void loadSFX(String name, String filePath) {
-        Media media = new Media(Objects.requireNonNull(getClass().getResource(filePath)).toExternalForm());
-        soundEffects.put(name, media); // Store Media instead of MediaPlayer
+        loadSFX(name, filePath, AudioBus.SFX, SoundDefinition.PRIORITY_NORMAL, DEFAULT_MAX_INSTANCES, false);
     }
 
     /**
-     * Plays a sound effect by its name.
+     * Loads an interface sound effect, such as a button click, which plays on the interface bus.
+     *
+     * @param name     the name to associate with the sound effect
+     * @param filePath the file path to the sound effect
+     */
+    public void loadUISFX(String name, String filePath) {
+        loadSFX(name, filePath, AudioBus.UI, SoundDefinition.PRIORITY_NORMAL, DEFAULT_MAX_INSTANCES, false);
+    }
+
+    /**
+     * Loads a sound effect with its mixing options. A sound that is already loaded keeps its voices,
+     * so levels registering their sounds again do not reload them.
+     *
+     * @param name          the name to associate with the sound effect
+     * @param filePath      the file path to the sound effect
+     * @param bus           the bus the sound plays on
+     * @param priority      the priority of the sound, one of the {@code SoundDefinition.PRIORITY_} constants
+     * @param maxInstances  the number of copies of the sound that may play at once
+     * @param ducksMusic    whether playing the sound ducks the music
+     */
+    public void loadSFX(String name, String filePath, AudioBus bus, int priority, int maxInstances, boolean ducksMusic) {
+        soundEffects.computeIfAbsent(name, key -> {
+            Media media = new Media(Objects.requireNonNull(getClass().getResource(filePath)).toExternalForm());
+            return new SoundDefinition(key, media, bus, priority, maxInstances, ducksMusic);
+        });
+    }
+
+    /**
+     * Plays a sound effect by its name through the mixer. Safe to call from the simulation thread.
      *
      * @param soundName the name of the sound effect to play
      */
     public void playSFX(String soundName) {
-        if (!muted && soundEffects.containsKey(soundName)) {
-            Media media = soundEffects.get(soundName);
-            MediaPlayer sfxPlayer = new MediaPlayer(media); // Create a new MediaPlayer for each playback
-            sfxPlayer.setOnEndOfMedia(sfxPlayer::dispose); // Dispose of MediaPlayer after playback
-            sfxPlayer.play();
+        SoundDefinition sound = soundEffects.get(soundName);
+        if (!muted && sound != null) {
+            mixer.play(sound); // The mixer reuses the sound's voices instead of creating a MediaPlayer each time
         } else {
             System.out.println("Sound not found or muted: " + soundName); // Debugging line
         }
     }
 
     /**
-     * Stops the background music if it is playing.
+     * Fades out the background music if it is playing. Safe to call from the simulation thread.
      */
     public void stopBackgroundMusic() {
-        if (backgroundMusicPlayer != null) {
-            backgroundMusicPlayer.stop();
-        }
+        music.stop();
     }
 
     /**
-     * Plays background music from the specified file path.
-     * If the same music is already playing, this method does nothing.
+     * Plays background music from the specified file path, crossfading from the music playing before.
+     * If the same music is already playing, it simply keeps playing.
      *
      * @param filePath the file path to the background music
      */
     public void playBackgroundMusic(String filePath) {
-        if (backgroundMusicPlayer == null || !backgroundMusicPlayer.getMedia().getSource().equals(Objects.requireNonNull(getClass().getResource(filePath)).toExternalForm())) {
-            Media media = new Media(Objects.requireNonNull(getClass().getResource(filePath)).toExternalForm());
-            backgroundMusicPlayer = new MediaPlayer(media);
-            backgroundMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE); // Loop the new music
-        }
-        if (!muted) {
-            backgroundMusicPlayer.play();
-        }
+        music.play(filePath);
+    }
+
+    /**
+     * Starts loading background music in the background, so that playing it later starts without a gap.
+     * Levels call this with the music of the level that follows them.
+     *
+     * @param filePath the file path to the background music
+     */
+    public void prefetchBackgroundMusic(String filePath) {
+        music.prefetch(filePath);
     }
 
     /**
      * Retrieves the current {@code MediaPlayer} instance for background music.
      *
-     * @return the {@code MediaPlayer} instance for background music, or {@code null} if none is set
+     * @return the {@code MediaPlayer} instance for background music, or {@code null} if none is playing
      */
     public MediaPlayer getBackgroundMusicPlayer() {
-        return backgroundMusicPlayer;
+        return music.getCurrentPlayer();
     }
 
     /**
-     * Sets the volume of the background music.
+     * Sets the volume of the music bus in the player's settings, which the mixer then applies.
      *
      * @param volume the new volume level (0.0 to 1.0)
      */
     public void setBackgroundMusicVolume(double volume) {
-        if (backgroundMusicPlayer != null) {
-            backgroundMusicPlayer.setVolume(volume);
-        }
+        settings.setMusicVolume(volume);
     }
 
     /**
-     * Toggles the mute state of the sound manager.
+     * Returns the mixer playing the sound effects.
+     *
+     * @return the audio mixer
+     */
+    public AudioMixer getMixer() {
+        return mixer;
+    }
+
+    /**
+     * Toggles the mute state in the player's settings, which the sound manager then applies.
      * <p>
      * When muted, all sound effects and background music are silenced.
-     * Note: stopAllSFX() currently is not fully implemented.
      * </p>
      */
     public void toggleMute() {
-        muted = !muted;
+        settings.setMuted(!settings.isMuted());
+    }
+
+    /**
+     * Applies the bus volumes and mute state of the player's settings. The music follows immediately;
+     * sound effects pick up their bus volume the next time they play, and stop when muted.
+     */
+    private void applySettings() {
+        muted = settings.isMuted();
+        mixer.applyMusicVolume();
         if (muted) {
             stopAllSFX();
-            if (backgroundMusicPlayer != null) {
-                backgroundMusicPlayer.setMute(true);
-            }
-        } else {
-            if (backgroundMusicPlayer != null) {
-                backgroundMusicPlayer.setMute(false);
-            }
         }
     }
 
     /**
      * Stops all currently playing sound effects.
-     * <p>
-     * Note: This method is yet be implemented, but can be to keep track of active sound effect players if needed.
-     * </p>
      */
     public void stopAllSFX() {
-        // Optional: Implement if you want to stop all currently playing SFX
+        mixer.stopAll();
     }
 }
@@ -0,0 +1,277 @@
+package com.example.demo.engine;
+
+import java.util.function.Consumer;
+
+/**
+ * The {@code FrameMonitor} class measures frame pacing and simulation load, and steps the
+ * {@link QualityLevel} down when the game runs over budget.
+ * <p>
+ * Every JavaFX pulse is timed against the interval of the target frame rate: a pulse arriving late means frames were
+ * dropped, and is recorded as a jank event with the number of actors on screen at the time. Every simulation
+ * tick is timed against the tick length: a tick taking longer than its slot is an overrun. The counts are
+ * evaluated every {@link #WINDOW_NANOS}; a window with too much jank or too many overruns lowers the quality
+ * one step, and a run of clean windows raises it again, so a single hitch does not degrade the game for good.
+ * </p>
+ * <p>
+ * Pulses are recorded on the JavaFX application thread, which also runs the evaluation and the quality callback.
+ * Ticks are recorded on the simulation thread and only handed over through volatile counters.
+ * </p>
+ * <p>
+ * Over-budget windows and quality changes are only printed while logging is on, as it is with the debug overlay.
+ * </p>
+ */
+public class FrameMonitor {
+
+    /** Frame rate aimed for until another one is set, in frames per second. */
+    private static final int DEFAULT_FRAME_RATE = 60;
+
+    /** A pulse later than this many expected intervals counts as jank. */
+    private static final double JANK_FACTOR = 1.5;
+
+    /** Length of an evaluation window, in nanoseconds. */
+    private static final long WINDOW_NANOS = 2_000_000_000L;
+
+    /** Share of janky pulses or overrun ticks in a window that lowers the quality. */
+    private static final double DEGRADE_RATIO = 0.1;
+
+    /** Share of janky pulses in a window below which the window counts as clean. */
+    private static final double CLEAN_RATIO = 0.01;
+
+    /** Number of clean windows in a row after which the quality is raised again. */
+    private static final int WINDOWS_TO_RECOVER = 5;
+
+    /** Number of jank events kept for inspection. */
+    public static final int JANK_HISTORY = 64;
+
+    /** Called on the JavaFX application thread whenever the quality level changes. */
+    private final Consumer<QualityLevel> onQualityChanged;
+
+    /** Time of each recorded jank event in nanoseconds, in a ring. */
+    private final long[] jankTimes = new long[JANK_HISTORY];
+
+    /** Late pulse interval of each recorded jank event in nanoseconds, in a ring. */
+    private final long[] jankIntervals = new long[JANK_HISTORY];
+
+    /** Number of actors on screen at each recorded jank event, in a ring. */
+    private final int[] jankActorCounts = new int[JANK_HISTORY];
+
+    /** Interval between frames at the target frame rate, in nanoseconds. */
+    private long expectedFrameNanos = 1_000_000_000L / DEFAULT_FRAME_RATE;
+
+    /** Total number of jank events since the monitor was created. */
+    private long totalJank;
+
+    /** Time of the previous pulse, or {@code 0} before the first. */
+    private long lastPulse;
+
+    /** Start of the current evaluation window. */
+    private long windowStart;
+
+    /** Pulses in the current window. */
+    private int windowPulses;
+
+    /** Janky pulses in the current window. */
+    private int windowJank;
+
+    /** Ticks run by the simulation, written by the simulation thread only. */
+    private volatile long ticks;
+
+    /** Ticks that took longer than their slot, written by the simulation thread only. */
+    private volatile long overruns;
+
+    /** Tick count at the start of the current window. */
+    private long windowStartTicks;
+
+    /** Overrun count at the start of the current window. */
+    private long windowStartOverruns;
+
+    /** Clean windows in a row. */
+    private int cleanWindows;
+
+    /** Whether the monitor may change the quality level. */
+    private boolean autoAdjust = true;
+
+    /** Whether over-budget windows and quality changes are printed. */
+    private boolean logging;
+
+    /** The current quality level. */
+    private QualityLevel quality = QualityLevel.FULL;
+
+    /**
+     * Constructs a {@code FrameMonitor}.
+     *
+     * @param onQualityChanged called on the JavaFX application thread whenever the quality level changes
+     */
+    public FrameMonitor(Consumer<QualityLevel> onQualityChanged) {
+        this.onQualityChanged = onQualityChanged;
+    }
+
+    /**
+     * Records a JavaFX pulse and evaluates the window once it is complete.
+     * Called by the renderer on every pulse, whether or not a new frame is drawn.
+     *
+     * @param now        the timestamp of the pulse in nanoseconds
+     * @param actorCount the number of actors on screen
+     */
+    public void recordPulse(long now, int actorCount) {
+        if (lastPulse == 0) {
+            lastPulse = now;
+            windowStart = now;
+            return;
+        }
+        long interval = now - lastPulse;
+        lastPulse = now;
+        windowPulses++;
+        if (interval > expectedFrameNanos * JANK_FACTOR) {
+            windowJank++;
+            int slot = (int) (totalJank % JANK_HISTORY);
+            jankTimes[slot] = now;
+            jankIntervals[slot] = interval;
+            jankActorCounts[slot] = actorCount;
+            totalJank++;
+        }
+        if (now - windowStart >= WINDOW_NANOS) {
+            evaluateWindow();
+            windowStart = now;
+        }
+    }
+
+    /**
+     * Records a simulation tick. Called on the simulation thread.
+     *
+     * @param durationNanos how long the tick took, in nanoseconds
+     * @param budgetNanos   the length of a tick slot, in nanoseconds
+     */
+    public void recordTick(long durationNanos, long budgetNanos) {
+        ticks++;
+        if (durationNanos > budgetNanos) {
+            overruns++;
+        }
+    }
+
+    /**
+     * Compares the finished window against the budgets and changes the quality level if needed.
+     */
+    private void evaluateWindow() {
+        long windowTicks = ticks - windowStartTicks;
+        long windowOverruns = overruns - windowStartOverruns;
+        windowStartTicks += windowTicks;
+        windowStartOverruns += windowOverruns;
+        double jankRatio = windowPulses == 0 ? 0 : (double) windowJank / windowPulses;
+        double overrunRatio = windowTicks == 0 ? 0 : (double) windowOverruns / windowTicks;
+        windowPulses = 0;
+        windowJank = 0;
+
+        if (jankRatio > DEGRADE_RATIO || overrunRatio > DEGRADE_RATIO) {
+            cleanWindows = 0;
+            if (logging) {
+                System.out.printf("Frame budget exceeded: %.0f%% janky pulses, %.0f%% overrun ticks%n",
+                        jankRatio * 100, overrunRatio * 100);
+            }
+            changeQuality(quality.lower());
+        } else if (jankRatio < CLEAN_RATIO && windowOverruns == 0) {
+            if (++cleanWindows >= WINDOWS_TO_RECOVER) {
+                cleanWindows = 0;
+                changeQuality(quality.higher());
+            }
+        } else {
+            cleanWindows = 0;
+        }
+    }
+
+    /**
+     * Changes the quality level if automatic adjustment is on.
+     *
+     * @param level the new quality level
+     */
+    private void changeQuality(QualityLevel level) {
+        if (!autoAdjust || level == quality) {
+            return;
+        }
+        quality = level;
+        if (logging) System.out.println("Quality level changed to " + level);
+        onQualityChanged.accept(level);
+    }
+
+    /**
+     * Sets the frame rate pulses are timed against, usually the one the player's frame cap and VSync settings
+     * aim for. Must be called on the JavaFX application thread.
+     *
+     * @param framesPerSecond the target frame rate
+     */
+    public void setTargetFrameRate(int framesPerSecond) {
+        this.expectedFrameNanos = 1_000_000_000L / framesPerSecond;
+    }
+
+    /**
+     * Turns automatic quality adjustment on or off. Turning it off restores full quality.
+     * Must be called on the JavaFX application thread.
+     *
+     * @param autoAdjust whether the monitor may change the quality level
+     */
+    public void setAutoAdjust(boolean autoAdjust) {
+        this.autoAdjust = autoAdjust;
+        if (!autoAdjust && quality != QualityLevel.FULL) {
+            quality = QualityLevel.FULL;
+            onQualityChanged.accept(quality);
+        }
+    }
+
+    /**
+     * Turns printing of over-budget windows and quality changes on or off.
+     * Must be called on the JavaFX application thread.
+     *
+     * @param logging whether to print them
+     */
+    public void setLogging(boolean logging) {
+        this.logging = logging;
+    }
+
+    /**
+     * Checks whether over-budget windows and quality changes are printed.
+     *
+     * @return {@code true} if logging is on
+     */
+    public boolean isLogging() {
+        return logging;
+    }
+
+    /**
+     * Returns the current quality level.
+     *
+     * @return the quality level
+     */
+    public QualityLevel getQuality() {
+        return quality;
+    }
+
+    /**
+     * Returns the total number of jank events recorded.
+     *
+     * @return the number of jank events
+     */
+    public long getTotalJank() {
+        return totalJank;
+    }
+
+    /**
+     * Returns the total number of simulation ticks that overran their slot.
+     *
+     * @return the number of overruns
+     */
+    public long getOverruns() {
+        return overruns;
+    }
+
+    /**
+     * Prints the recorded jank events, oldest first, with the actor count at the time of each.
+     */
+    public void printJankHistory() {
+        long first = Math.max(0, totalJank - JANK_HISTORY);
+        for (long i = first; i < totalJank; i++) {
+            int slot = (int) (i % JANK_HISTORY);
+            System.out.printf("Jank at %.3f s: %.1f ms pulse, %d actors%n",
+                    jankTimes[slot] / 1e9, jankIntervals[slot] / 1e6, jankActorCounts[slot]);
+        }
+    }
+}
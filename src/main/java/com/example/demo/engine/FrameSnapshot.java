@@ -0,0 +1,243 @@
+package com.example.demo.engine;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.vfx.ParticleFrame;
+import com.example.demo.vfx.TelegraphFrame;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code FrameSnapshot} class holds the render state of every live actor at the end of a simulation tick.
+ * <p>
+ * Snapshots are stored as parallel primitive arrays and reused between frames by the {@link SnapshotExchange},
+ * so capturing a frame does not allocate unless the number of actors grows beyond the current capacity.
+ * Particles and hazard warnings are captured alongside the actors into a fixed-size {@link ParticleFrame}
+ * and {@link TelegraphFrame}.
+ * </p>
+ */
+public class FrameSnapshot {
+
+    /**
+     * Initial number of actors a snapshot can hold before growing.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The captured actors, in capture order.
+     */
+    private ActiveActor[] actors = new ActiveActor[INITIAL_CAPACITY];
+    /**
+     * Horizontal offsets of the captured actors.
+     */
+    private double[] offsetX = new double[INITIAL_CAPACITY];
+    /**
+     * Vertical offsets of the captured actors.
+     */
+    private double[] offsetY = new double[INITIAL_CAPACITY];
+    /**
+     * Opacities of the captured actors.
+     */
+    private double[] opacity = new double[INITIAL_CAPACITY];
+    /**
+     * Actor-specific render flags of the captured actors.
+     */
+    private int[] flags = new int[INITIAL_CAPACITY];
+    /**
+     * Number of actors captured in this frame.
+     */
+    private int size;
+    /**
+     * The particles captured in this frame.
+     */
+    private final ParticleFrame particles = new ParticleFrame();
+    /**
+     * The hazard warnings captured in this frame.
+     */
+    private final TelegraphFrame telegraphs = new TelegraphFrame();
+    /**
+     * The user's health at the end of this frame.
+     */
+    private int userHealth;
+    /**
+     * The simulation tick this frame belongs to.
+     */
+    private long tick;
+    /**
+     * The x-coordinate the user's laser beam starts at.
+     */
+    private double laserX;
+    /**
+     * The y-coordinate of the centre of the user's laser beam.
+     */
+    private double laserY;
+    /**
+     * The length of the user's laser beam, {@code 0} while the laser is off.
+     */
+    private double laserLength;
+
+    /**
+     * Clears the snapshot so a new frame can be captured into it.
+     *
+     * @param tick the simulation tick this frame belongs to
+     */
+    public void begin(long tick) {
+        Arrays.fill(actors, 0, size, null);
+        this.size = 0;
+        this.tick = tick;
+    }
+
+    /**
+     * Captures the render state of every actor in the list.
+     *
+     * @param list the actors to capture
+     */
+    public void captureAll(List<? extends ActiveActor> list) {
+        for (int i = 0; i < list.size(); i++) {
+            capture(list.get(i));
+        }
+    }
+
+    /**
+     * Captures the render state of a single actor.
+     *
+     * @param actor the actor to capture
+     */
+    public void capture(ActiveActor actor) {
+        if (size == actors.length) {
+            grow();
+        }
+        actors[size] = actor;
+        offsetX[size] = actor.getOffsetX();
+        offsetY[size] = actor.getOffsetY();
+        opacity[size] = actor.getDisplayOpacity();
+        flags[size] = actor.getRenderFlags();
+        size++;
+    }
+
+    /**
+     * Doubles the capacity of every array in the snapshot.
+     */
+    private void grow() {
+        int capacity = actors.length * 2;
+        actors = Arrays.copyOf(actors, capacity);
+        offsetX = Arrays.copyOf(offsetX, capacity);
+        offsetY = Arrays.copyOf(offsetY, capacity);
+        opacity = Arrays.copyOf(opacity, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+
+    /**
+     * Applies the captured state of the actor at the given index to its node.
+     * Must only be called on the JavaFX application thread.
+     *
+     * @param index the index of the actor in this snapshot
+     */
+    public void apply(int index) {
+        actors[index].applyRenderState(offsetX[index], offsetY[index], opacity[index], flags[index]);
+    }
+
+    /**
+     * Returns the actor captured at the given index.
+     *
+     * @param index the index of the actor in this snapshot
+     * @return the captured actor
+     */
+    public ActiveActor getActor(int index) {
+        return actors[index];
+    }
+
+    /**
+     * Returns the number of actors captured in this snapshot.
+     *
+     * @return the number of captured actors
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets the user's health for this frame.
+     *
+     * @param userHealth the user's health
+     */
+    public void setUserHealth(int userHealth) {
+        this.userHealth = userHealth;
+    }
+
+    /**
+     * Returns the user's health for this frame.
+     *
+     * @return the user's health
+     */
+    public int getUserHealth() {
+        return userHealth;
+    }
+
+    /**
+     * Sets the user's laser beam for this frame.
+     *
+     * @param x      the x-coordinate the beam starts at
+     * @param y      the y-coordinate of the centre of the beam
+     * @param length the length of the beam, {@code 0} while the laser is off
+     */
+    public void setLaser(double x, double y, double length) {
+        this.laserX = x;
+        this.laserY = y;
+        this.laserLength = length;
+    }
+
+    /**
+     * Returns the x-coordinate the user's laser beam starts at in this frame.
+     *
+     * @return the start of the beam
+     */
+    public double getLaserX() {
+        return laserX;
+    }
+
+    /**
+     * Returns the y-coordinate of the centre of the user's laser beam in this frame.
+     *
+     * @return the centre of the beam
+     */
+    public double getLaserY() {
+        return laserY;
+    }
+
+    /**
+     * Returns the length of the user's laser beam in this frame.
+     *
+     * @return the length of the beam, {@code 0} while the laser is off
+     */
+    public double getLaserLength() {
+        return laserLength;
+    }
+
+    /**
+     * Returns the particles captured in this frame, for the particle system to capture into and the renderer to draw.
+     *
+     * @return the particle frame
+     */
+    public ParticleFrame getParticles() {
+        return particles;
+    }
+
+    /**
+     * Returns the hazard warnings captured in this frame.
+     *
+     * @return the telegraph frame
+     */
+    public TelegraphFrame getTelegraphs() {
+        return telegraphs;
+    }
+
+    /**
+     * Returns the simulation tick this frame belongs to.
+     *
+     * @return the simulation tick
+     */
+    public long getTick() {
+        return tick;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.demo.engine;
+
+import javafx.scene.input.KeyCode;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code InputQueue} class is a lock-free single-producer/single-consumer ring buffer for key events.
+ * <p>
+ * The JavaFX application thread offers key presses and releases from the key handlers, and the
+ * simulation thread drains them at the start of each tick. Events are packed into a primitive array,
+ * so no objects are allocated per key event.
+ * </p>
+ */
+public class InputQueue {
+
+    /**
+     * Default number of events the queue can hold. Must be a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Bit marking a packed event as a key press rather than a key release.
+     */
+    private static final int PRESSED_BIT = 1 << 16;
+
+    /**
+     * Mask extracting the key code ordinal from a packed event.
+     */
+    private static final int KEY_MASK = PRESSED_BIT - 1;
+
+    /**
+     * Cached key codes, indexed by ordinal.
+     */
+    private static final KeyCode[] KEY_CODES = KeyCode.values();
+
+    /**
+     * Packed events, each holding a key code ordinal and the pressed bit.
+     */
+    private final int[] events;
+
+    /**
+     * Mask used to wrap sequence numbers into the events array.
+     */
+    private final int mask;
+
+    /**
+     * Sequence of the next event to be written. Only advanced by the producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Sequence of the next event to be read. Only advanced by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Receives drained key events on the consumer thread.
+     */
+    @FunctionalInterface
+    public interface KeyEventHandler {
+        /**
+         * Handles a single key event.
+         *
+         * @param keyCode the key that changed state
+         * @param pressed {@code true} for a key press, {@code false} for a key release
+         */
+        void onKey(KeyCode keyCode, boolean pressed);
+    }
+
+    /**
+     * Constructs an {@code InputQueue} with the default capacity.
+     */
+    public InputQueue() {
+        this.events = new int[DEFAULT_CAPACITY];
+        this.mask = DEFAULT_CAPACITY - 1;
+    }
+
+    /**
+     * Offers a key event to the queue. Must only be called by the producer thread.
+     *
+     * @param keyCode the key that changed state
+     * @param pressed {@code true} for a key press, {@code false} for a key release
+     * @return {@code true} if the event was queued, {@code false} if the queue was full
+     */
+    public boolean offer(KeyCode keyCode, boolean pressed) {
+        long currentTail = tail.get();
+        if (currentTail - head.get() == events.length) {
+            return false;
+        }
+        events[(int) currentTail & mask] = keyCode.ordinal() | (pressed ? PRESSED_BIT : 0);
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Drains every queued key event into the handler. Must only be called by the consumer thread.
+     *
+     * @param handler the handler receiving each event in arrival order
+     */
+    public void drain(KeyEventHandler handler) {
+        long currentHead = head.get();
+        long currentTail = tail.get();
+        while (currentHead < currentTail) {
+            int event = events[(int) currentHead & mask];
+            currentHead++;
+            head.lazySet(currentHead);
+            handler.onKey(KEY_CODES[event & KEY_MASK], (event & PRESSED_BIT) != 0);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.demo.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The {@code JobScheduler} class runs deferrable per-tick work within a time budget.
+ * <p>
+ * A job is run one slice at a time: each call does a bounded amount of work and returns {@code true} once the job
+ * is finished. Jobs wait in one queue per priority, and every tick the scheduler runs slices, highest priority first,
+ * until the tick's deadline passes. A job that is not finished when the deadline passes keeps its place and continues
+ * next tick. So the mandatory phases of a tick keep their time, and a load spike only delays deferrable work.
+ * </p>
+ * <p>
+ * To keep work from starving under sustained load, a job that has waited {@value #MAX_WAIT_TICKS} ticks gets one
+ * slice per tick even past the deadline. Jobs are added once as recurring jobs, and are queued again at the start
+ * of each tick unless they are still running.
+ * </p>
+ */
+public class JobScheduler {
+
+    /** Priority of work that affects gameplay soon, such as planes deciding where to fly. */
+    public static final int HIGH = 0;
+
+    /** Priority of work that can wait a tick or two, such as deciding what to spawn. */
+    public static final int NORMAL = 1;
+
+    /** Priority of work nobody plays differently without, such as cosmetic effects. */
+    public static final int LOW = 2;
+
+    /** Number of priorities. */
+    private static final int PRIORITY_COUNT = 3;
+
+    /** Number of ticks a job waits before it gets a slice even past the deadline. */
+    public static final int MAX_WAIT_TICKS = 4;
+
+    /** The queue of each priority. */
+    private final JobQueue[] queues = new JobQueue[PRIORITY_COUNT];
+
+    /** Jobs queued again at the start of every tick. */
+    private final List<BooleanSupplier> recurringJobs = new ArrayList<>();
+
+    /** Priority of each recurring job. */
+    private final List<Integer> recurringPriorities = new ArrayList<>();
+
+    /** The current tick. */
+    private long tick;
+
+    /** Number of ticks whose jobs did not all finish before the deadline, read from other threads for reports. */
+    private volatile long overBudgetTicks;
+
+    /**
+     * Constructs an empty {@code JobScheduler}.
+     */
+    public JobScheduler() {
+        for (int i = 0; i < PRIORITY_COUNT; i++) {
+            queues[i] = new JobQueue();
+        }
+    }
+
+    /**
+     * Adds a job that runs every tick. If a run is still unfinished when the next tick starts, it carries on instead
+     * of starting over.
+     *
+     * @param priority one of {@link #HIGH}, {@link #NORMAL} and {@link #LOW}
+     * @param job      the job, returning {@code true} from a slice once this tick's run is finished
+     */
+    public void addRecurring(int priority, BooleanSupplier job) {
+        recurringJobs.add(job);
+        recurringPriorities.add(priority);
+    }
+
+    /**
+     * Starts a tick and runs job slices, highest priority first, until the deadline passes or every job is finished.
+     *
+     * @param deadlineNanos the {@link System#nanoTime()} by which the jobs should stop
+     */
+    public void runUntil(long deadlineNanos) {
+        tick++;
+        for (int i = 0, size = recurringJobs.size(); i < size; i++) {
+            BooleanSupplier job = recurringJobs.get(i);
+            JobQueue queue = queues[recurringPriorities.get(i)];
+            if (!queue.contains(job)) {
+                queue.offer(job, tick);
+            }
+        }
+        boolean overBudget = false;
+        for (JobQueue queue : queues) {
+            while (!queue.isEmpty()) {
+                boolean overdue = tick - queue.peekQueuedAt() >= MAX_WAIT_TICKS;
+                if (System.nanoTime() >= deadlineNanos) {
+                    overBudget = true;
+                    if (!overdue) break;
+                }
+                if (queue.peek().getAsBoolean()) {
+                    queue.poll();
+                }
+                else if (overdue && System.nanoTime() >= deadlineNanos) {
+                    break; // One slice of an overdue job, then it waits for the next tick
+                }
+            }
+        }
+        if (overBudget) {
+            overBudgetTicks++;
+        }
+    }
+
+    /**
+     * Returns the number of ticks whose jobs did not all finish before the deadline. Safe to call from any thread.
+     *
+     * @return the number of ticks that carried work over to the next one
+     */
+    public long getOverBudgetTicks() {
+        return overBudgetTicks;
+    }
+
+    /**
+     * A first-in first-out queue of jobs with the tick each was queued on, kept in ring buffers so queuing a job
+     * allocates nothing once the buffers have grown.
+     */
+    private static final class JobQueue {
+
+        /** The queued jobs. */
+        private BooleanSupplier[] jobs = new BooleanSupplier[8];
+
+        /** The tick each job was queued on. */
+        private long[] queuedAt = new long[8];
+
+        /** Index of the first job. */
+        private int head;
+
+        /** Number of queued jobs. */
+        private int size;
+
+        /**
+         * Adds a job at the back of the queue.
+         *
+         * @param job  the job
+         * @param tick the current tick
+         */
+        void offer(BooleanSupplier job, long tick) {
+            if (size == jobs.length) {
+                grow();
+            }
+            int index = (head + size) % jobs.length;
+            jobs[index] = job;
+            queuedAt[index] = tick;
+            size++;
+        }
+
+        /**
+         * Returns the job at the front of the queue.
+         *
+         * @return the first job
+         */
+        BooleanSupplier peek() {
+            return jobs[head];
+        }
+
+        /**
+         * Returns the tick the job at the front of the queue was queued on.
+         *
+         * @return the tick
+         */
+        long peekQueuedAt() {
+            return queuedAt[head];
+        }
+
+        /**
+         * Removes the job at the front of the queue.
+         */
+        void poll() {
+            jobs[head] = null;
+            head = (head + 1) % jobs.length;
+            size--;
+        }
+
+        /**
+         * Checks whether a job is queued.
+         *
+         * @param job the job
+         * @return {@code true} if the job is in the queue
+         */
+        boolean contains(BooleanSupplier job) {
+            for (int i = 0; i < size; i++) {
+                if (jobs[(head + i) % jobs.length] == job) return true;
+            }
+            return false;
+        }
+
+        /**
+         * Checks whether the queue is empty.
+         *
+         * @return {@code true} if no job is queued
+         */
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Doubles the size of the buffers, moving the jobs to the front.
+         */
+        private void grow() {
+            BooleanSupplier[] newJobs = new BooleanSupplier[jobs.length * 2];
+            long[] newQueuedAt = new long[jobs.length * 2];
+            for (int i = 0; i < size; i++) {
+                newJobs[i] = jobs[(head + i) % jobs.length];
+                newQueuedAt[i] = queuedAt[(head + i) % jobs.length];
+            }
+            jobs = newJobs;
+            queuedAt = newQueuedAt;
+            head = 0;
+        }
+    }
+}
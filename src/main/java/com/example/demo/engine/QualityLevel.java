@@ -0,0 +1,84 @@
+package com.example.demo.engine;
+
+/**
+ * The {@code QualityLevel} enum lists the steps the {@link FrameMonitor} degrades the game through
+ * when frames or ticks run over budget, from full quality down to the cheapest settings.
+ */
+public enum QualityLevel {
+
+    /** Everything on. */
+    FULL(true, 1.0, 8),
+
+    /** Animated images frozen on their first frame, half the particles, fewer sound voices. */
+    REDUCED(false, 0.5, 5),
+
+    /** Animated images frozen, no particles, only a few sound voices. */
+    MINIMAL(false, 0.0, 3);
+
+    /** Whether animated GIF images play. */
+    private final boolean animatedImages;
+
+    /** Fraction of the particle budget that may be used. */
+    private final double particleScale;
+
+    /** Maximum number of sound effect voices playing at once. */
+    private final int voiceLimit;
+
+    /**
+     * Constructs a {@code QualityLevel}.
+     *
+     * @param animatedImages whether animated GIF images play
+     * @param particleScale  the fraction of the particle budget that may be used
+     * @param voiceLimit     the maximum number of sound effect voices playing at once
+     */
+    QualityLevel(boolean animatedImages, double particleScale, int voiceLimit) {
+        this.animatedImages = animatedImages;
+        this.particleScale = particleScale;
+        this.voiceLimit = voiceLimit;
+    }
+
+    /**
+     * Checks whether animated GIF images play.
+     *
+     * @return {@code true} if animated images play
+     */
+    public boolean hasAnimatedImages() {
+        return animatedImages;
+    }
+
+    /**
+     * Returns the fraction of the particle budget that may be used.
+     *
+     * @return the particle scale, from 0.0 to 1.0
+     */
+    public double getParticleScale() {
+        return particleScale;
+    }
+
+    /**
+     * Returns the maximum number of sound effect voices playing at once.
+     *
+     * @return the voice limit
+     */
+    public int getVoiceLimit() {
+        return voiceLimit;
+    }
+
+    /**
+     * Returns the next cheaper level.
+     *
+     * @return the lower level, or this level if it is already the lowest
+     */
+    public QualityLevel lower() {
+        return this == FULL ? REDUCED : MINIMAL;
+    }
+
+    /**
+     * Returns the next richer level.
+     *
+     * @return the higher level, or this level if it is already the highest
+     */
+    public QualityLevel higher() {
+        return this == MINIMAL ? REDUCED : FULL;
+    }
+}
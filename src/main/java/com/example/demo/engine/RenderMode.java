@@ -0,0 +1,37 @@
+package com.example.demo.engine;
+
+/**
+ * The {@code RenderMode} enum selects how the {@link SnapshotRenderer} draws actor nodes.
+ */
+public enum RenderMode {
+
+    /** Smoothly filtered images, redrawn every frame. */
+    QUALITY("Quality"),
+
+    /** Unfiltered images cached as bitmaps, cheaper to move around on slower machines. */
+    PERFORMANCE("Performance");
+
+    /**
+     * The name shown in the settings screen.
+     */
+    private final String displayName;
+
+    /**
+     * Constructs a {@code RenderMode} with the name shown in the settings screen.
+     *
+     * @param displayName the name shown to the player
+     */
+    RenderMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the name shown in the settings screen.
+     *
+     * @return the display name
+     */
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.demo.engine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The {@code SimulationLoop} class runs the game logic on a dedicated thread at a fixed tick rate.
+ * <p>
+ * Moving the game logic off the JavaFX application thread means a slow tick (collisions, spawning,
+ * image decoding) delays the next simulation step instead of freezing input and rendering.
+ * If the loop falls far behind schedule, it drops the missed ticks rather than trying to catch up in a burst.
+ * </p>
+ */
+public class SimulationLoop {
+
+    /**
+     * Number of ticks the loop may fall behind before it resynchronises with the clock.
+     */
+    private static final int MAX_TICKS_BEHIND = 5;
+
+    /**
+     * The work to run on every tick.
+     */
+    private final Runnable tick;
+
+    /**
+     * Duration of a single tick in nanoseconds.
+     */
+    private final long tickNanos;
+
+    /**
+     * The name given to the simulation thread.
+     */
+    private final String threadName;
+
+    /**
+     * The thread running the loop, or {@code null} if the loop has not been started.
+     */
+    private Thread thread;
+
+    /**
+     * Indicates whether the loop should keep running.
+     */
+    private volatile boolean running;
+
+    /**
+     * Constructs a {@code SimulationLoop} with the specified tick work and tick duration.
+     *
+     * @param threadName        the name given to the simulation thread
+     * @param tickMilliseconds  the duration of a single tick in milliseconds
+     * @param tick              the work to run on every tick
+     */
+    public SimulationLoop(String threadName, long tickMilliseconds, Runnable tick) {
+        this.threadName = threadName;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMilliseconds);
+        this.tick = tick;
+    }
+
+    /**
+     * Starts the simulation thread. Does nothing if the loop is already running.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the simulation loop.
+     * <p>
+     * When called from another thread, this waits for the current tick to finish, so the caller can safely
+     * touch the simulation state afterwards. When called from the simulation thread itself, the loop exits
+     * after the current tick.
+     * </p>
+     */
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current == null || current == Thread.currentThread()) {
+            return;
+        }
+        LockSupport.unpark(current);
+        try {
+            current.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the duration of a tick.
+     *
+     * @return the duration of a single tick in milliseconds
+     */
+    public long getTickMilliseconds() {
+        return TimeUnit.NANOSECONDS.toMillis(tickNanos);
+    }
+
+    /**
+     * Checks whether the simulation loop is running.
+     *
+     * @return {@code true} if the loop is running, {@code false} otherwise
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Checks whether the caller is running on the simulation thread.
+     *
+     * @return {@code true} if called from the simulation thread, {@code false} otherwise
+     */
+    public boolean isSimulationThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Runs ticks at a fixed rate until the loop is stopped.
+     */
+    private void run() {
+        long nextTick = System.nanoTime() + tickNanos;
+        while (running) {
+            long wait = nextTick - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            try {
+                tick.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace(); // Keep the loop alive, the same way a failing KeyFrame would not stop a Timeline
+            }
+            nextTick += tickNanos;
+            if (System.nanoTime() - nextTick > MAX_TICKS_BEHIND * tickNanos) {
+                nextTick = System.nanoTime() + tickNanos;
+            }
+        }
+    }
+}
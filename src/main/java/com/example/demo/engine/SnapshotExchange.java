@@ -0,0 +1,74 @@
+package com.example.demo.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code SnapshotExchange} class hands frame snapshots from the simulation thread to the JavaFX
+ * application thread without locks.
+ * <p>
+ * It is a triple buffer: the producer always owns one buffer to write into, the consumer always owns one
+ * buffer to read from, and the third buffer is swapped between them through a single atomic integer.
+ * Neither side ever waits for the other, and the consumer always sees the most recently published frame.
+ * </p>
+ */
+public class SnapshotExchange {
+
+    /**
+     * Bit set on the shared slot when it holds a frame the consumer has not seen yet.
+     */
+    private static final int FRESH_BIT = 1 << 2;
+
+    /**
+     * Mask extracting the buffer index from the shared slot.
+     */
+    private static final int INDEX_MASK = FRESH_BIT - 1;
+
+    /**
+     * The three buffers rotated between the producer, the shared slot and the consumer.
+     */
+    private final FrameSnapshot[] buffers = {new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot()};
+
+    /**
+     * Index of the buffer owned by the producer.
+     */
+    private int writeIndex = 0;
+
+    /**
+     * Index of the buffer owned by the consumer.
+     */
+    private int readIndex = 1;
+
+    /**
+     * Index of the shared buffer, combined with {@link #FRESH_BIT}.
+     */
+    private final AtomicInteger shared = new AtomicInteger(2);
+
+    /**
+     * Returns the buffer the producer should capture the next frame into.
+     *
+     * @return the producer's buffer
+     */
+    public FrameSnapshot getWriteBuffer() {
+        return buffers[writeIndex];
+    }
+
+    /**
+     * Publishes the producer's buffer and takes over the previously shared buffer.
+     */
+    public void publish() {
+        writeIndex = shared.getAndSet(writeIndex | FRESH_BIT) & INDEX_MASK;
+    }
+
+    /**
+     * Takes the most recently published frame, if one was published since the last call.
+     *
+     * @return the latest frame, or {@code null} if nothing new was published
+     */
+    public FrameSnapshot acquire() {
+        if ((shared.get() & FRESH_BIT) == 0) {
+            return null;
+        }
+        readIndex = shared.getAndSet(readIndex) & INDEX_MASK;
+        return buffers[readIndex];
+    }
+}
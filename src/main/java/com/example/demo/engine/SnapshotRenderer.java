@@ -0,0 +1,307 @@
+package com.example.demo.engine;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.vfx.ParticleRenderer;
+import com.example.demo.vfx.TelegraphRenderer;
+import javafx.animation.AnimationTimer;
+import javafx.scene.CacheHint;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The {@code SnapshotRenderer} class applies published frame snapshots to the scene graph on every JavaFX pulse.
+ * <p>
+ * Actors that appear in a snapshot for the first time are attached to the root group, below an optional overlay
+ * node so effects and the HUD stay on top, actors that are no longer in the snapshot are detached, and every
+ * captured actor has its render state applied. This is the only place where actor nodes are mutated once the
+ * simulation thread is running.
+ * </p>
+ * <p>
+ * An optional frame cap skips pulses that come too soon after the last rendered frame, and the
+ * {@link RenderMode} decides whether actor images are smoothed or cached as bitmaps.
+ * Every pulse is reported to an optional {@link FrameMonitor}, and the {@link QualityLevel} it picks decides
+ * whether animated images play.
+ * The particles of each snapshot are drawn in one batch by an optional {@link ParticleRenderer}, and its hazard
+ * warnings are shown by an optional {@link TelegraphRenderer}.
+ * </p>
+ */
+public class SnapshotRenderer extends AnimationTimer {
+
+    /**
+     * The exchange the snapshots are read from.
+     */
+    private final SnapshotExchange exchange;
+
+    /**
+     * The root group the actors are attached to.
+     */
+    private final Group root;
+
+    /**
+     * Callback invoked after each new frame has been applied, for level-specific UI updates.
+     */
+    private final Consumer<FrameSnapshot> onFrameApplied;
+
+    /**
+     * Actors currently attached to the root group by this renderer.
+     */
+    private Set<ActiveActor> attached = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Scratch set holding the actors of the frame being applied.
+     */
+    private Set<ActiveActor> current = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Scratch list of actors to attach in the frame being applied.
+     */
+    private final List<ActiveActor> toAttach = new ArrayList<>();
+
+    /**
+     * Scratch list of actors to detach in the frame being applied.
+     */
+    private final List<ActiveActor> toDetach = new ArrayList<>();
+
+    /**
+     * The lowest node of the root group drawn above the actors, or {@code null} to attach actors on top.
+     */
+    private Node overlay;
+
+    /**
+     * Minimum time between rendered frames in nanoseconds, or {@code 0} for no cap.
+     */
+    private long minFrameNanos;
+
+    /**
+     * Timestamp of the last pulse that rendered a frame.
+     */
+    private long lastFrameTime;
+
+    /**
+     * How actor nodes are drawn.
+     */
+    private RenderMode renderMode = RenderMode.QUALITY;
+
+    /**
+     * The quality level actor nodes are drawn at.
+     */
+    private QualityLevel quality = QualityLevel.FULL;
+
+    /**
+     * The monitor every pulse is reported to, or {@code null} if frames are not monitored.
+     */
+    private FrameMonitor frameMonitor;
+
+    /**
+     * The renderer drawing the particles of each snapshot, or {@code null} if particles are not drawn.
+     */
+    private ParticleRenderer particleRenderer;
+
+    /**
+     * The renderer showing the hazard warnings of each snapshot, or {@code null} if warnings are not shown.
+     */
+    private TelegraphRenderer telegraphRenderer;
+
+    /**
+     * Constructs a {@code SnapshotRenderer} for the specified exchange and root group.
+     *
+     * @param exchange        the exchange the snapshots are read from
+     * @param root            the root group the actors are attached to
+     * @param onFrameApplied  callback invoked after each new frame has been applied
+     */
+    public SnapshotRenderer(SnapshotExchange exchange, Group root, Consumer<FrameSnapshot> onFrameApplied) {
+        this.exchange = exchange;
+        this.root = root;
+        this.onFrameApplied = onFrameApplied;
+    }
+
+    /**
+     * Applies the latest published snapshot, if there is one.
+     *
+     * @param now the timestamp of the current pulse in nanoseconds
+     */
+    @Override
+    public void handle(long now) {
+        if (frameMonitor != null) {
+            frameMonitor.recordPulse(now, attached.size());
+        }
+        if (minFrameNanos > 0 && now - lastFrameTime < minFrameNanos) {
+            return;
+        }
+        if (applyLatest()) {
+            lastFrameTime = now;
+        }
+    }
+
+    /**
+     * Stops the renderer after applying any frame that was published but not rendered yet,
+     * so the final state of the simulation is always shown.
+     */
+    @Override
+    public void stop() {
+        super.stop();
+        applyLatest();
+    }
+
+    /**
+     * Caps the number of frames rendered per second.
+     *
+     * @param frameCap the maximum frames per second, or {@code 0} for no cap
+     */
+    public void setFrameCap(int frameCap) {
+        this.minFrameNanos = frameCap > 0 ? 1_000_000_000L / frameCap : 0;
+    }
+
+    /**
+     * Changes how actor nodes are drawn, updating the actors already on screen.
+     *
+     * @param renderMode the new render mode
+     */
+    public void setRenderMode(RenderMode renderMode) {
+        if (this.renderMode == renderMode) {
+            return;
+        }
+        this.renderMode = renderMode;
+        for (ActiveActor actor : attached) {
+            applyRenderMode(actor);
+        }
+    }
+
+    /**
+     * Changes the quality level actor nodes are drawn at, updating the actors already on screen.
+     *
+     * @param quality the new quality level
+     */
+    public void setQuality(QualityLevel quality) {
+        if (this.quality == quality) {
+            return;
+        }
+        this.quality = quality;
+        for (ActiveActor actor : attached) {
+            actor.setAnimated(quality.hasAnimatedImages());
+        }
+        if (particleRenderer != null) {
+            particleRenderer.setAnimated(quality.hasAnimatedImages());
+        }
+    }
+
+    /**
+     * Sets the monitor every pulse is reported to.
+     *
+     * @param frameMonitor the frame monitor, or {@code null} to stop monitoring
+     */
+    public void setFrameMonitor(FrameMonitor frameMonitor) {
+        this.frameMonitor = frameMonitor;
+    }
+
+    /**
+     * Sets the lowest node drawn above the actors. New actors are inserted just below it, so the nodes added
+     * after it, such as effects and the HUD, stay on top. It must already be in the root group.
+     *
+     * @param overlay the lowest overlay node, or {@code null} to attach actors on top of everything
+     */
+    public void setOverlay(Node overlay) {
+        this.overlay = overlay;
+    }
+
+    /**
+     * Sets the renderer drawing the particles of each snapshot. Its canvas must already be in the scene.
+     *
+     * @param particleRenderer the particle renderer, or {@code null} to stop drawing particles
+     */
+    public void setParticleRenderer(ParticleRenderer particleRenderer) {
+        this.particleRenderer = particleRenderer;
+        if (particleRenderer != null) {
+            particleRenderer.setAnimated(quality.hasAnimatedImages());
+        }
+    }
+
+    /**
+     * Sets the renderer showing the hazard warnings of each snapshot. Its nodes must already be in the scene.
+     *
+     * @param telegraphRenderer the telegraph renderer, or {@code null} to stop showing warnings
+     */
+    public void setTelegraphRenderer(TelegraphRenderer telegraphRenderer) {
+        this.telegraphRenderer = telegraphRenderer;
+    }
+
+    /**
+     * Applies the latest published snapshot, if there is one.
+     *
+     * @return {@code true} if a new frame was applied
+     */
+    private boolean applyLatest() {
+        FrameSnapshot snapshot = exchange.acquire();
+        if (snapshot == null) {
+            return false;
+        }
+        apply(snapshot);
+        return true;
+    }
+
+    /**
+     * Sets up an actor node for the current render mode.
+     *
+     * @param actor the actor to set up
+     */
+    private void applyRenderMode(ActiveActor actor) {
+        boolean performance = renderMode == RenderMode.PERFORMANCE;
+        actor.setSmooth(!performance);
+        actor.setCache(performance);
+        actor.setCacheHint(performance ? CacheHint.SPEED : CacheHint.DEFAULT);
+    }
+
+    /**
+     * Synchronises the scene graph with the given snapshot.
+     *
+     * @param snapshot the snapshot to apply
+     */
+    private void apply(FrameSnapshot snapshot) {
+        for (int i = 0; i < snapshot.size(); i++) {
+            ActiveActor actor = snapshot.getActor(i);
+            current.add(actor);
+            if (!attached.contains(actor)) {
+                applyRenderMode(actor);
+                actor.setAnimated(quality.hasAnimatedImages());
+                if (actor.getParent() != root) {
+                    toAttach.add(actor);
+                }
+            }
+            snapshot.apply(i);
+        }
+        for (ActiveActor actor : attached) {
+            if (!current.contains(actor)) {
+                toDetach.add(actor);
+            }
+        }
+        root.getChildren().removeAll(toDetach);
+        int overlayIndex = overlay == null ? -1 : root.getChildren().indexOf(overlay);
+        if (overlayIndex < 0) {
+            root.getChildren().addAll(toAttach);
+        } else {
+            root.getChildren().addAll(overlayIndex, toAttach);
+        }
+        toDetach.clear();
+        toAttach.clear();
+
+        Set<ActiveActor> swap = attached;
+        attached = current;
+        current = swap;
+        current.clear();
+
+        if (particleRenderer != null) {
+            particleRenderer.draw(snapshot.getParticles());
+        }
+        if (telegraphRenderer != null) {
+            telegraphRenderer.draw(snapshot.getTelegraphs());
+        }
+        onFrameApplied.accept(snapshot);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.engine;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code StillFrameCache} class keeps a still copy of every animated GIF image, used in place of
+ * the animation when the {@link QualityLevel} turns animated images off.
+ * <p>
+ * A still is copied from the image's pixels once per image URL and shared by every actor using that image.
+ * The cache is only used on the JavaFX application thread.
+ * </p>
+ */
+public final class StillFrameCache {
+
+    /** Still copies of the animated images, keyed by image URL. */
+    private static final Map<String, Image> STILLS = new HashMap<>();
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private StillFrameCache() {
+    }
+
+    /**
+     * Checks whether an image is an animated GIF.
+     *
+     * @param image the image to check
+     * @return {@code true} if the image is a GIF
+     */
+    public static boolean isAnimated(Image image) {
+        return image.getUrl() != null && image.getUrl().endsWith(".gif");
+    }
+
+    /**
+     * Returns a still copy of an animated image, taken from the frame it is currently showing.
+     *
+     * @param image the animated image
+     * @return the still copy
+     */
+    public static Image stillOf(Image image) {
+        return STILLS.computeIfAbsent(image.getUrl(), url ->
+                new WritableImage(image.getPixelReader(), (int) image.getWidth(), (int) image.getHeight()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.engine;
+
+/**
+ * The {@code TickTimer} class is a timer scheduled on a {@link TimerWheel}, counted in simulation ticks.
+ * <p>
+ * A timer is created once by its owner and scheduled again every time it is needed, so scheduling allocates
+ * nothing. The timer is its own node in the wheel's slot lists. When it expires, the wheel runs its action
+ * on the simulation thread. A timer without an action is a plain cooldown, checked with {@link #isScheduled()}.
+ * </p>
+ */
+public class TickTimer {
+
+    /** The action run when the timer expires, or {@code null} for a cooldown. */
+    private final Runnable action;
+
+    /** The wheel the timer is scheduled on, or {@code null} while it is not scheduled. */
+    TimerWheel wheel;
+
+    /** The tick the timer expires on. */
+    long deadline;
+
+    /** Previous timer in the same slot. */
+    TickTimer previous;
+
+    /** Next timer in the same slot. */
+    TickTimer next;
+
+    /** Level of the wheel the timer is in. */
+    int level;
+
+    /** Slot of the level the timer is in. */
+    int slot;
+
+    /**
+     * Constructs a cooldown timer with no action.
+     */
+    public TickTimer() {
+        this(null);
+    }
+
+    /**
+     * Constructs a timer that runs an action when it expires.
+     *
+     * @param action the action, run on the simulation thread
+     */
+    public TickTimer(Runnable action) {
+        this.action = action;
+    }
+
+    /**
+     * Checks whether the timer is scheduled and has not expired yet.
+     *
+     * @return {@code true} if the timer is running
+     */
+    public boolean isScheduled() {
+        return wheel != null;
+    }
+
+    /**
+     * Retrieves the number of ticks left before the timer expires.
+     *
+     * @return the ticks left, or {@code 0} if the timer is not scheduled
+     */
+    public int getRemainingTicks() {
+        return wheel == null ? 0 : (int) (deadline - wheel.getCurrentTick());
+    }
+
+    /**
+     * Runs the action of the timer, if it has one. Called by the wheel once the timer has been removed from it.
+     */
+    void expire() {
+        if (action != null) {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.demo.engine;
+
+/**
+ * The {@code TimerWheel} class schedules {@link TickTimer}s against the simulation tick, for cooldowns,
+ * durations and delayed actions.
+ * <p>
+ * It is a hierarchical timer wheel of {@value #LEVELS} levels of {@value #SLOTS} slots. The first level has one
+ * slot per tick, and each level above covers {@value #SLOTS} times the span of the one below. A timer is put in
+ * the lowest level whose span reaches its deadline. Every {@value #SLOTS} ticks, the next slot of a higher level
+ * is moved down to the levels below, so a timer only moves a couple of times in its life. Scheduling,
+ * cancelling and expiring are all constant time. Nothing is polled each tick: the owner of a timer is only
+ * touched when it expires.
+ * </p>
+ * <p>
+ * The wheel belongs to a single level and is only used on its simulation thread.
+ * </p>
+ */
+public class TimerWheel {
+
+    /** Number of bits of the tick that index a slot of one level. */
+    private static final int SLOT_BITS = 6;
+
+    /** Number of slots in each level. */
+    public static final int SLOTS = 1 << SLOT_BITS;
+
+    /** Mask extracting a slot index. */
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    /** Number of levels of the wheel. */
+    public static final int LEVELS = 3;
+
+    /** The longest delay a timer can be scheduled with, in ticks. */
+    public static final int MAX_DELAY = (1 << (SLOT_BITS * LEVELS)) - 1;
+
+    /** First timer of each slot of each level, indexed by level then slot. */
+    private final TickTimer[][] slots = new TickTimer[LEVELS][SLOTS];
+
+    /** The tick the wheel has advanced to. */
+    private long currentTick;
+
+    /**
+     * Schedules a timer to expire a number of ticks from now. A timer that is already scheduled is moved.
+     *
+     * @param timer      the timer
+     * @param delayTicks the number of ticks until it expires, from 1 to {@link #MAX_DELAY}
+     * @throws IllegalArgumentException if the delay is out of range
+     */
+    public void schedule(TickTimer timer, int delayTicks) {
+        if (delayTicks < 1 || delayTicks > MAX_DELAY) {
+            throw new IllegalArgumentException("Timer delay out of range: " + delayTicks);
+        }
+        cancel(timer);
+        timer.wheel = this;
+        timer.deadline = currentTick + delayTicks;
+        place(timer);
+    }
+
+    /**
+     * Cancels a timer, so it does not expire. Does nothing if the timer is not scheduled on this wheel.
+     *
+     * @param timer the timer
+     */
+    public void cancel(TickTimer timer) {
+        if (timer.wheel != this) return;
+        unlink(timer);
+        timer.wheel = null;
+    }
+
+    /**
+     * Advances the wheel by one tick, moving timers down from the higher levels when their slot comes up,
+     * and expiring every timer due on the new tick.
+     */
+    public void advance() {
+        currentTick++;
+        int slot = (int) (currentTick & SLOT_MASK);
+        if (slot == 0) {
+            int middleSlot = (int) ((currentTick >>> SLOT_BITS) & SLOT_MASK);
+            if (middleSlot == 0) {
+                cascade(2, (int) ((currentTick >>> (SLOT_BITS * 2)) & SLOT_MASK));
+            }
+            cascade(1, middleSlot);
+        }
+        TickTimer timer;
+        while ((timer = slots[0][slot]) != null) { // Expired actions may schedule timers, but never in this slot
+            unlink(timer);
+            timer.wheel = null;
+            timer.expire();
+        }
+    }
+
+    /**
+     * Retrieves the tick the wheel has advanced to.
+     *
+     * @return the current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Moves every timer of a slot of a higher level down to the level its deadline now falls in.
+     *
+     * @param level the level
+     * @param slot  the slot
+     */
+    private void cascade(int level, int slot) {
+        TickTimer timer;
+        while ((timer = slots[level][slot]) != null) {
+            unlink(timer);
+            place(timer);
+        }
+    }
+
+    /**
+     * Puts a timer in the lowest level whose span reaches its deadline.
+     *
+     * @param timer the timer, with its deadline set
+     */
+    private void place(TickTimer timer) {
+        long delay = timer.deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((timer.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        TickTimer head = slots[level][slot];
+        timer.level = level;
+        timer.slot = slot;
+        timer.previous = null;
+        timer.next = head;
+        if (head != null) {
+            head.previous = timer;
+        }
+        slots[level][slot] = timer;
+    }
+
+    /**
+     * Removes a timer from the slot it is in.
+     *
+     * @param timer the timer
+     */
+    private void unlink(TickTimer timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.images;
+
+import com.example.demo.engine.QualityLevel;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * The {@code DebugOverlay} class is a text overlay showing live performance figures during a level.
+ * <p>
+ * It reports the rendered frame rate, the simulation tick, the number of actors in the
+ * latest frame, the jank events seen so far and the current quality level.
+ * It is toggled from the settings screen and hidden by default.
+ * </p>
+ */
+public class DebugOverlay extends Text {
+    /**
+     * The font size of the overlay text.
+     */
+    private static final int FONT_SIZE = 14;
+    /**
+     * The interval over which the frame rate is averaged, in nanoseconds.
+     */
+    private static final long SAMPLE_NANOS = 1_000_000_000L;
+
+    /**
+     * Frames rendered since the start of the current sample.
+     */
+    private int framesInSample;
+    /**
+     * Start of the current sample in nanoseconds.
+     */
+    private long sampleStart = System.nanoTime();
+    /**
+     * Frame rate measured over the last complete sample.
+     */
+    private int framesPerSecond;
+
+    /**
+     * Constructs a hidden {@code DebugOverlay} at the given position.
+     *
+     * @param xPosition the X-coordinate of the text baseline
+     * @param yPosition the Y-coordinate of the text baseline
+     */
+    public DebugOverlay(double xPosition, double yPosition) {
+        this.setFont(new Font(FONT_SIZE));
+        this.setFill(Color.WHITE);
+        this.setLayoutX(xPosition);
+        this.setLayoutY(yPosition);
+        this.setMouseTransparent(true);
+        this.setViewOrder(-1); // Drawn above the actors the renderer keeps adding to the scene
+        this.setVisible(false);
+    }
+
+    /**
+     * Records a rendered frame and refreshes the text. Must be called on the JavaFX application thread.
+     *
+     * @param tick          the simulation tick of the frame
+     * @param actorCount    the number of actors in the frame
+     * @param jankCount     the number of jank events recorded so far
+     * @param quality       the current quality level
+     */
+    public void update(long tick, int actorCount, long jankCount, QualityLevel quality) {
+        framesInSample++;
+        long now = System.nanoTime();
+        if (now - sampleStart >= SAMPLE_NANOS) {
+            framesPerSecond = (int) (framesInSample * SAMPLE_NANOS / (now - sampleStart));
+            framesInSample = 0;
+            sampleStart = now;
+        }
+        if (isVisible()) {
+            this.setText("FPS " + framesPerSecond + " | tick " + tick + " | actors " + actorCount
+                    + " | jank " + jankCount + " | " + quality);
+        }
+    }
+}
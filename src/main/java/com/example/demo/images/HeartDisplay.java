@@ -39,6 +39,10 @@ public class HeartDisplay {
 	 * The number of hearts to display in the container.
 	 */
 	private final int numberOfHeartsToDisplay;
+	/**
+	 * Every heart image, created once, so hearts restored by a health pickup are shown again without loading them.
+	 */
+	private final ImageView[] hearts;
 
 	/**
 	 * Creates a new {@code HeartDisplay} with the specified position and number of hearts.
@@ -51,6 +55,7 @@ public class HeartDisplay {
 		this.containerXPosition = xPosition;
 		this.containerYPosition = yPosition;
 		this.numberOfHeartsToDisplay = heartsToDisplay;
+		this.hearts = new ImageView[heartsToDisplay];
 		initializeContainer();
 		initializeHearts();
 	}
@@ -77,6 +82,7 @@ public class HeartDisplay {
 
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
+			hearts[i] = heart;
 			container.getChildren().add(heart);
 		}
 	}
@@ -92,6 +98,18 @@ public class HeartDisplay {
 			container.getChildren().removeFirst();
 	}
 
+	/**
+	 * Adds one heart back to the container, up to the number of hearts the display started with.
+	 */
+	public void addHeart() {
+		for (ImageView heart : hearts) {
+			if (heart.getParent() == null) {
+				container.getChildren().add(heart);
+				return;
+			}
+		}
+	}
+
 	/**
 	 * Retrieves the {@code HBox} container holding the hearts.
 	 *
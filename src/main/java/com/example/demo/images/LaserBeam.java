@@ -0,0 +1,55 @@
+package com.example.demo.images;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.Objects;
+
+/**
+ * The {@code LaserBeam} class is newly added, displaying the beam of the user's laser weapon.
+ * <p>
+ * The beam is not an actor: the level resolves its hits with a ray cast, and captures where it starts and how far
+ * it reaches in each frame snapshot. This image is stretched to that length when the frame is applied.
+ * </p>
+ */
+public class LaserBeam extends ImageView {
+	/**
+	 * The file path to the laser beam image resource.
+	 */
+	private static final String IMAGE_NAME = "/com/example/demo/images/Projectiles/laserbeam.gif";
+	/**
+	 * The height the beam is drawn at, in pixels.
+	 */
+	public static final double BEAM_HEIGHT = 20;
+
+	/**
+	 * Constructs a hidden {@code LaserBeam}.
+	 */
+	public LaserBeam() {
+		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_NAME)).toExternalForm()));
+		this.setPreserveRatio(false);
+		this.setFitHeight(BEAM_HEIGHT);
+		this.setMouseTransparent(true);
+		this.setVisible(false);
+	}
+
+	/**
+	 * Shows the beam from its start to where it stops, or hides it when it is off.
+	 * Must be called on the JavaFX application thread.
+	 *
+	 * @param startX  the x-coordinate the beam starts at
+	 * @param centerY the y-coordinate of the centre of the beam
+	 * @param length  the length of the beam, {@code 0} when the laser is off
+	 */
+	public void update(double startX, double centerY, double length) {
+		if (length <= 0) {
+			this.setVisible(false);
+			return;
+		}
+		this.setLayoutX(startX);
+		this.setLayoutY(centerY - BEAM_HEIGHT / 2);
+		this.setFitWidth(length);
+		this.setVisible(true);
+	}
+
+}
@@ -34,12 +34,24 @@ public class ShieldImage extends ImageView {
 	 * @param yPosition the Y-coordinate for positioning the image
 	 */
 	public ShieldImage(double xPosition, double yPosition) {
+		this(xPosition, yPosition, SHIELD_SIZE);
+	}
+
+	/**
+	 * Constructs a new {@code ShieldImage} of a given size, such as the smaller shield granted to the user's plane
+	 * by a power-up.
+	 *
+	 * @param xPosition the X-coordinate for positioning the image
+	 * @param yPosition the Y-coordinate for positioning the image
+	 * @param size      the width and height of the image
+	 */
+	public ShieldImage(double xPosition, double yPosition, double size) {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
 		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_NAME)).toExternalForm()));
 		this.setVisible(false);
-		this.setFitHeight(SHIELD_SIZE);
-		this.setFitWidth(SHIELD_SIZE);
+		this.setFitHeight(size);
+		this.setFitWidth(size);
 	}
 
 	/**
@@ -0,0 +1,40 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.player.UserPlane;
+import com.example.demo.engine.InputQueue;
+import com.example.demo.settings.KeyBindings;
+
+import java.util.List;
+
+/**
+ * The {@code Autopilot} interface lets a program play a level in place of the player.
+ * <p>
+ * A level with an autopilot asks it once per tick, on the simulation thread, right after the player's own key
+ * events are applied. The autopilot looks at the battlefield and answers with key presses and releases, which go
+ * through the same key bindings and handling as real keys. The lists must not be modified.
+ * </p>
+ */
+public interface Autopilot {
+
+    /**
+     * Decides the keys to press or release this tick.
+     *
+     * @param user              the user's plane
+     * @param enemyUnits        the enemy planes
+     * @param enemyProjectiles  the projectiles fired at the user
+     * @param obstacles         the obstacles crossing the screen
+     * @param screenHeight      the height of the screen
+     * @param bindings          the keys bound to each action
+     * @param keys              receives the key events
+     */
+    void update(UserPlane user, List<ActiveActorDestructible> enemyUnits,
+                List<ActiveActorDestructible> enemyProjectiles, List<ActiveActorDestructible> obstacles,
+                double screenHeight, KeyBindings bindings, InputQueue.KeyEventHandler keys);
+
+    /**
+     * Forgets the keys held in a previous level. Called when the autopilot is handed to a new level,
+     * which starts with no keys held.
+     */
+    void reset();
+}
@@ -0,0 +1,101 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.enemies.Boss;
+import com.example.demo.actors.enemies.EliteEnemyPlane;
+import com.example.demo.actors.enemies.EnemyPlane;
+import com.example.demo.actors.obstacles.Asteroid;
+import com.example.demo.actors.obstacles.Satellite;
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.actors.projectile.EliteEnemyProjectile;
+import com.example.demo.actors.projectile.EnemyProjectile;
+import com.example.demo.actors.projectile.UserProjectile;
+
+/**
+ * The {@code CheckpointActorFactory} class maps actor classes to the type codes stored in level checkpoints,
+ * and recreates actors from those codes when a checkpoint is restored.
+ * <p>
+ * Type codes are part of the checkpoint format: existing codes must never be reused for another class.
+ * The Boss is listed so it can be identified, but levels that own their Boss restore it themselves and hand
+ * it the restored Boss projectiles for its pool.
+ * </p>
+ */
+public final class CheckpointActorFactory {
+
+    /** Type code of {@link EnemyPlane}. */
+    public static final int ENEMY_PLANE = 1;
+
+    /** Type code of {@link EliteEnemyPlane}. */
+    public static final int ELITE_ENEMY_PLANE = 2;
+
+    /** Type code of {@link Boss}. */
+    public static final int BOSS = 3;
+
+    /** Type code of {@link Asteroid}. */
+    public static final int ASTEROID = 4;
+
+    /** Type code of {@link Satellite}. */
+    public static final int SATELLITE = 5;
+
+    /** Type code of {@link UserProjectile}. */
+    public static final int USER_PROJECTILE = 6;
+
+    /** Type code of {@link EnemyProjectile}. */
+    public static final int ENEMY_PROJECTILE = 7;
+
+    /** Type code of {@link EliteEnemyProjectile}. */
+    public static final int ELITE_ENEMY_PROJECTILE = 8;
+
+    /** Type code of {@link BossProjectile}. */
+    public static final int BOSS_PROJECTILE = 9;
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private CheckpointActorFactory() {
+    }
+
+    /**
+     * Returns the type code of an actor.
+     *
+     * @param actor the actor to identify
+     * @return the actor's type code
+     * @throws IllegalArgumentException if the actor's class has no type code
+     */
+    public static int typeOf(ActiveActorDestructible actor) {
+        if (actor instanceof EnemyPlane) return ENEMY_PLANE;
+        if (actor instanceof EliteEnemyPlane) return ELITE_ENEMY_PLANE;
+        if (actor instanceof Boss) return BOSS;
+        if (actor instanceof Asteroid) return ASTEROID;
+        if (actor instanceof Satellite) return SATELLITE;
+        if (actor instanceof UserProjectile) return USER_PROJECTILE;
+        if (actor instanceof EnemyProjectile) return ENEMY_PROJECTILE;
+        if (actor instanceof EliteEnemyProjectile) return ELITE_ENEMY_PROJECTILE;
+        if (actor instanceof BossProjectile) return BOSS_PROJECTILE;
+        throw new IllegalArgumentException("No checkpoint type for " + actor.getClass().getName());
+    }
+
+    /**
+     * Creates a fresh actor of the given type at its initial position. Its saved state is read into it afterwards.
+     *
+     * @param type      the actor's type code
+     * @param initialX  the actor's initial x-coordinate
+     * @param initialY  the actor's initial y-coordinate
+     * @return the new actor
+     * @throws IllegalArgumentException if the type code is unknown
+     */
+    public static ActiveActorDestructible create(int type, double initialX, double initialY) {
+        return switch (type) {
+            case ENEMY_PLANE -> new EnemyPlane(initialX, initialY);
+            case ELITE_ENEMY_PLANE -> new EliteEnemyPlane(initialX, initialY);
+            case BOSS -> new Boss();
+            case ASTEROID -> new Asteroid(initialX, initialY);
+            case SATELLITE -> new Satellite(initialX, initialY);
+            case USER_PROJECTILE -> new UserProjectile(initialX, initialY);
+            case ENEMY_PROJECTILE -> new EnemyProjectile(initialX, initialY);
+            case ELITE_ENEMY_PROJECTILE -> new EliteEnemyProjectile(initialX, initialY);
+            case BOSS_PROJECTILE -> new BossProjectile(initialY);
+            default -> throw new IllegalArgumentException("Unknown checkpoint actor type " + type);
+        };
+    }
+}
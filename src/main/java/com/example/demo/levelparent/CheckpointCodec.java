@@ -0,0 +1,156 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.engine.TimerWheel;
+import com.example.demo.persistence.LevelCheckpoint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The {@code CheckpointCodec} class encodes a level's checkpoints and the actors in them.
+ * <p>
+ * A checkpoint starts with the {@link LevelCheckpoint} header, followed by whatever
+ * {@link LevelParent#saveCheckpoint(DataOutput)} writes. Each actor is written with its type code from
+ * {@link CheckpointActorFactory} and its initial position, followed by its own state. Restored actors are handed
+ * the level's timer wheel and random number generator before their state is read, so they carry on exactly where
+ * the saved ones left off.
+ * </p>
+ */
+public class CheckpointCodec {
+
+    /** Initial size of the buffer a checkpoint is encoded into, in bytes. */
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    /** Creates the actors being restored. */
+    private final RestoredActorFactory factory;
+
+    /** The timer wheel restored actors count their timers on. */
+    private final TimerWheel timers;
+
+    /** The random number generator restored actors draw their choices from. */
+    private final Random random;
+
+    /**
+     * Constructs a {@code CheckpointCodec} for a level.
+     *
+     * @param factory creates the actors being restored
+     * @param timers  the level's timer wheel
+     * @param random  the level's random number generator
+     */
+    public CheckpointCodec(RestoredActorFactory factory, TimerWheel timers, Random random) {
+        this.factory = factory;
+        this.timers = timers;
+        this.random = random;
+    }
+
+    /**
+     * Encodes a checkpoint of a level. Must be called on the thread that runs the level, between ticks, so the state
+     * is consistent.
+     *
+     * @param level the level
+     * @return the encoded checkpoint, or {@code null} if it could not be encoded
+     */
+    public byte[] encode(LevelParent level) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            LevelCheckpoint.writeHeader(out, level.getClass().getName());
+            level.saveCheckpoint(out);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not create checkpoint: " + e.getMessage());
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes every live actor of a list.
+     *
+     * @param out    the checkpoint being written
+     * @param actors the actors to write
+     * @throws IOException if the actors cannot be written
+     */
+    public void writeActors(DataOutput out, List<ActiveActorDestructible> actors) throws IOException {
+        int count = 0;
+        for (ActiveActorDestructible actor : actors) {
+            if (!actor.isDestroyed()) count++;
+        }
+        out.writeInt(count);
+        for (ActiveActorDestructible actor : actors) {
+            if (!actor.isDestroyed()) writeActor(out, actor);
+        }
+    }
+
+    /**
+     * Writes a single actor with its type and initial position, followed by its state.
+     *
+     * @param out   the checkpoint being written
+     * @param actor the actor to write
+     * @throws IOException if the actor cannot be written
+     */
+    public void writeActor(DataOutput out, ActiveActorDestructible actor) throws IOException {
+        out.writeByte(CheckpointActorFactory.typeOf(actor));
+        out.writeDouble(actor.getInitialPositionX());
+        out.writeDouble(actor.getInitialPositionY());
+        actor.writeState(out);
+    }
+
+    /**
+     * Reads the actors written by {@link #writeActors(DataOutput, List)} into a list.
+     *
+     * @param in     the checkpoint being read
+     * @param actors the list to add the restored actors to
+     * @throws IOException if the actors cannot be read
+     */
+    public void readActors(DataInput in, List<ActiveActorDestructible> actors) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            actors.add(readActor(in));
+        }
+    }
+
+    /**
+     * Reads a single actor written by {@link #writeActor(DataOutput, ActiveActorDestructible)}.
+     *
+     * @param in the checkpoint being read
+     * @return the restored actor
+     * @throws IOException if the actor cannot be read
+     */
+    public ActiveActorDestructible readActor(DataInput in) throws IOException {
+        int type = in.readByte();
+        double initialX = in.readDouble();
+        double initialY = in.readDouble();
+        ActiveActorDestructible actor;
+        try {
+            actor = factory.create(type, initialX, initialY);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        actor.setTimerWheel(timers);
+        actor.setRandom(random);
+        actor.readState(in);
+        return actor;
+    }
+
+    /**
+     * Creates an actor being restored from a checkpoint, before its saved state is read into it.
+     */
+    @FunctionalInterface
+    public interface RestoredActorFactory {
+        /**
+         * Creates an actor being restored.
+         *
+         * @param type     the actor's type code from {@link CheckpointActorFactory}
+         * @param initialX the actor's initial x-coordinate
+         * @param initialY the actor's initial y-coordinate
+         * @return the actor to read the saved state into
+         * @throws IllegalArgumentException if the type code is unknown
+         */
+        ActiveActorDestructible create(int type, double initialX, double initialY);
+    }
+}
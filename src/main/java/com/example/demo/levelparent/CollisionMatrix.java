@@ -0,0 +1,121 @@
+package com.example.demo.levelparent;
+
+/**
+ * The {@code CollisionMatrix} class decides which actors collide and how each side responds.
+ * <p>
+ * Every actor checked for collisions belongs to a collision layer. Each layer has a bitmask of the layers it
+ * collides with, so filtering a pair is a single bitwise AND, and a layer&times;layer table holds the response
+ * of each side. Layers that were never paired do not collide, so actors of the same layer never do.
+ * Adding a kind of actor only takes a layer and its rows in the table, not another pass over the actors.
+ * </p>
+ */
+public class CollisionMatrix {
+
+    /** Layer of the user's plane and other friendly units. */
+    public static final int LAYER_FRIENDLY = 0;
+
+    /** Layer of enemy planes. */
+    public static final int LAYER_ENEMY = 1;
+
+    /** Layer of obstacles. */
+    public static final int LAYER_OBSTACLE = 2;
+
+    /** Layer of projectiles fired by the user. */
+    public static final int LAYER_USER_PROJECTILE = 3;
+
+    /** Layer of projectiles fired by enemies. */
+    public static final int LAYER_ENEMY_PROJECTILE = 4;
+
+    /** Power-up pickups, collected by the user's plane. */
+    public static final int LAYER_PICKUP = 5;
+
+    /** Number of collision layers. */
+    public static final int LAYER_COUNT = 6;
+
+    /** For each layer, the bitmask of the layers it collides with. */
+    private final int[] masks = new int[LAYER_COUNT];
+
+    /** Response of the actor of the row layer when it collides with an actor of the column layer. */
+    private final CollisionResponse[][] responses = new CollisionResponse[LAYER_COUNT][LAYER_COUNT];
+
+    /**
+     * Creates the matrix used by every level: friendly units collide with enemies, obstacles and enemy
+     * projectiles, user projectiles collide with enemies and obstacles, and both sides take a hit.
+     *
+     * @return the default matrix
+     */
+    public static CollisionMatrix createDefault() {
+        CollisionMatrix matrix = new CollisionMatrix();
+        matrix.setResponses(LAYER_FRIENDLY, LAYER_ENEMY, CollisionResponse.HIT, CollisionResponse.HIT);
+        matrix.setResponses(LAYER_FRIENDLY, LAYER_OBSTACLE, CollisionResponse.HIT, CollisionResponse.HIT);
+        matrix.setResponses(LAYER_USER_PROJECTILE, LAYER_ENEMY, CollisionResponse.HIT, CollisionResponse.HIT);
+        matrix.setResponses(LAYER_USER_PROJECTILE, LAYER_OBSTACLE, CollisionResponse.HIT, CollisionResponse.HIT);
+        matrix.setResponses(LAYER_ENEMY_PROJECTILE, LAYER_FRIENDLY, CollisionResponse.HIT, CollisionResponse.HIT);
+        matrix.setResponses(LAYER_PICKUP, LAYER_FRIENDLY, CollisionResponse.DESTROY, CollisionResponse.PASS_THROUGH);
+        return matrix;
+    }
+
+    /**
+     * Makes two layers collide, with the response of each side.
+     *
+     * @param layer         the first layer
+     * @param otherLayer    the second layer
+     * @param response      the response of actors of the first layer
+     * @param otherResponse the response of actors of the second layer
+     * @throws IllegalArgumentException if both layers are the same
+     */
+    public void setResponses(int layer, int otherLayer, CollisionResponse response, CollisionResponse otherResponse) {
+        if (layer == otherLayer) {
+            throw new IllegalArgumentException("Actors of the same layer do not collide: " + layer);
+        }
+        masks[layer] |= 1 << otherLayer;
+        masks[otherLayer] |= 1 << layer;
+        responses[layer][otherLayer] = response;
+        responses[otherLayer][layer] = otherResponse;
+    }
+
+    /**
+     * Stops two layers from colliding.
+     *
+     * @param layer      the first layer
+     * @param otherLayer the second layer
+     */
+    public void clearResponses(int layer, int otherLayer) {
+        masks[layer] &= ~(1 << otherLayer);
+        masks[otherLayer] &= ~(1 << layer);
+        responses[layer][otherLayer] = null;
+        responses[otherLayer][layer] = null;
+    }
+
+    /**
+     * Checks whether actors of two layers collide.
+     *
+     * @param layer      the first layer
+     * @param otherLayer the second layer
+     * @return {@code true} if the layers collide
+     */
+    public boolean collides(int layer, int otherLayer) {
+        return (masks[layer] & (1 << otherLayer)) != 0;
+    }
+
+    /**
+     * Retrieves the bitmask of the layers a layer collides with.
+     *
+     * @param layer the layer
+     * @return the bitmask, with bit {@code n} set if the layer collides with layer {@code n}
+     */
+    public int getMask(int layer) {
+        return masks[layer];
+    }
+
+    /**
+     * Retrieves the response of an actor of one layer colliding with an actor of another.
+     *
+     * @param layer      the layer of the responding actor
+     * @param otherLayer the layer of the actor it collided with
+     * @return the response, or {@code null} if the layers do not collide
+     */
+    public CollisionResponse getResponse(int layer, int otherLayer) {
+        return responses[layer][otherLayer];
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+/**
+ * The {@code CollisionResponse} class describes what happens to an actor when it collides with an actor of
+ * another collision layer: it takes some damage, is destroyed outright, or passes through unharmed.
+ * <p>
+ * Responses are immutable and are looked up in a {@link CollisionMatrix}.
+ * </p>
+ */
+public class CollisionResponse {
+
+    /** The actor passes through without being affected. */
+    public static final CollisionResponse PASS_THROUGH = new CollisionResponse(0, false);
+
+    /** The actor takes a single hit, the response every collision had before the matrix. */
+    public static final CollisionResponse HIT = new CollisionResponse(1, false);
+
+    /** The actor is destroyed whatever its health. */
+    public static final CollisionResponse DESTROY = new CollisionResponse(0, true);
+
+    /** Number of hits the actor takes. */
+    private final int damage;
+
+    /** Whether the actor is destroyed outright. */
+    private final boolean destroys;
+
+    /**
+     * Constructs a {@code CollisionResponse}.
+     *
+     * @param damage   the number of hits the actor takes
+     * @param destroys whether the actor is destroyed outright
+     */
+    private CollisionResponse(int damage, boolean destroys) {
+        this.damage = damage;
+        this.destroys = destroys;
+    }
+
+    /**
+     * Returns a response dealing the given number of hits.
+     *
+     * @param hits the number of hits, at least one
+     * @return the response
+     * @throws IllegalArgumentException if {@code hits} is less than one
+     */
+    public static CollisionResponse damage(int hits) {
+        if (hits < 1) {
+            throw new IllegalArgumentException("A damage response needs at least one hit: " + hits);
+        }
+        return hits == 1 ? HIT : new CollisionResponse(hits, false);
+    }
+
+    /**
+     * Applies the response to an actor.
+     *
+     * @param actor the actor that collided
+     */
+    public void apply(ActiveActorDestructible actor) {
+        if (destroys) {
+            actor.destroy();
+            return;
+        }
+        for (int i = 0; i < damage; i++) {
+            actor.takeDamage();
+        }
+    }
+
+    /**
+     * Checks whether the response leaves the actor unaffected.
+     *
+     * @return {@code true} if the actor passes through
+     */
+    public boolean isPassThrough() {
+        return damage == 0 && !destroys;
+    }
+
+    /**
+     * Retrieves the number of hits the actor takes.
+     *
+     * @return the number of hits
+     */
+    public int getDamage() {
+        return damage;
+    }
+
+    /**
+     * Checks whether the actor is destroyed outright.
+     *
+     * @return {@code true} if the actor is destroyed
+     */
+    public boolean isDestroying() {
+        return destroys;
+    }
+}
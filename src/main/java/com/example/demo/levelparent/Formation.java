@@ -0,0 +1,277 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.enemies.SteeredPlane;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The {@code Formation} class flies a squadron of enemy planes in a {@link FormationShape} behind a leader.
+ * <p>
+ * Only the leader is steered. Each follower stores nothing but its offset from the leader, and once per tick the
+ * formation reads the leader's position, works out the shape's rotation or ripple once, and places every follower
+ * in a single pass. Followers are held with the {@link SteeredPlane#FORMATION} behaviour, so the steering system
+ * skips them. When the leader is destroyed the formation breaks: followers scatter away from where the leader was
+ * and go back to the behaviour they had before joining.
+ * </p>
+ */
+public class Formation {
+
+    /** Change of the formation's phase per tick, in radians. */
+    private static final double PHASE_STEP = 0.05;
+
+    /** Height of the ripple running down a wave formation, in pixels. */
+    private static final double WAVE_AMPLITUDE = 50;
+
+    /** Phase difference between neighbouring followers of a wave formation, in radians. */
+    private static final double WAVE_LAG = 0.8;
+
+    /** The shape the formation flies in. */
+    private final FormationShape shape;
+
+    /** The plane the formation follows. */
+    private final SteeredPlane leader;
+
+    /** The followers, in slot order. */
+    private final SteeredPlane[] followers;
+
+    /** Offset of each follower from the leader's top left corner. */
+    private final double[] offsetX;
+    private final double[] offsetY;
+
+    /** The behaviour each follower had before joining, restored when the formation breaks. */
+    private final int[] originalBehaviours;
+
+    /** Number of followers that have joined. */
+    private int followerCount;
+
+    /** Phase of the shape's rotation or ripple, in radians. */
+    private double phase;
+
+    /** Whether the formation has broken up. */
+    private boolean broken;
+
+    /**
+     * Constructs a {@code Formation} with room for a number of followers.
+     *
+     * @param shape     the shape the formation flies in
+     * @param leader    the plane the formation follows
+     * @param followers the number of followers that will join
+     */
+    public Formation(FormationShape shape, SteeredPlane leader, int followers) {
+        this.shape = shape;
+        this.leader = leader;
+        this.followers = new SteeredPlane[followers];
+        this.offsetX = new double[followers];
+        this.offsetY = new double[followers];
+        this.originalBehaviours = new int[followers];
+    }
+
+    /**
+     * Adds a follower at the next free slot, in its place for the shape.
+     *
+     * @param follower the plane joining the formation
+     */
+    public void addFollower(SteeredPlane follower) {
+        addFollower(follower, shape.getOffsetX(followerCount, followers.length),
+                shape.getOffsetY(followerCount, followers.length), follower.getSteeringBehaviour());
+    }
+
+    /**
+     * Adds a follower at the next free slot.
+     *
+     * @param follower          the plane joining the formation
+     * @param x                 the follower's horizontal offset from the leader
+     * @param y                 the follower's vertical offset from the leader
+     * @param originalBehaviour the behaviour the follower goes back to when the formation breaks
+     */
+    private void addFollower(SteeredPlane follower, double x, double y, int originalBehaviour) {
+        followers[followerCount] = follower;
+        offsetX[followerCount] = x;
+        offsetY[followerCount] = y;
+        originalBehaviours[followerCount] = originalBehaviour;
+        followerCount++;
+        follower.setSteeringBehaviour(SteeredPlane.FORMATION);
+    }
+
+    /**
+     * Returns how far above the leader the formation can reach as it rotates or ripples.
+     *
+     * @return the smallest vertical offset of a follower, never above {@code 0}
+     */
+    public double getMinOffsetY() {
+        double min = 0;
+        for (int k = 0; k < followers.length; k++) {
+            min = Math.min(min, -reach(k, -1));
+        }
+        return min;
+    }
+
+    /**
+     * Returns how far below the leader the formation can reach as it rotates or ripples.
+     *
+     * @return the largest vertical offset of a follower, never below {@code 0}
+     */
+    public double getMaxOffsetY() {
+        double max = 0;
+        for (int k = 0; k < followers.length; k++) {
+            max = Math.max(max, reach(k, 1));
+        }
+        return max;
+    }
+
+    /**
+     * Returns how far up or down from the leader a follower can get as the shape rotates or ripples.
+     * Followers of a circle sit on its rim, so they reach the full radius either way.
+     *
+     * @param slot      the follower's place in the formation
+     * @param direction {@code -1} for up, {@code 1} for down
+     * @return the distance in that direction, in pixels, negative if the follower never gets there
+     */
+    private double reach(int slot, int direction) {
+        double x = shape.getOffsetX(slot, followers.length);
+        double y = shape.getOffsetY(slot, followers.length);
+        return switch (shape) {
+            case WAVE -> y * direction + WAVE_AMPLITUDE;
+            case CIRCLE -> Math.hypot(x, y);
+            default -> y * direction;
+        };
+    }
+
+    /**
+     * Places every follower relative to the leader for this tick, or breaks the formation if the leader is gone.
+     * Call it after the leader has moved.
+     *
+     * @param minY the highest the top of a follower may go
+     * @param maxY the lowest the top of a follower may go
+     */
+    public void update(double minY, double maxY) {
+        if (broken) return;
+        if (leader.isDestroyed()) {
+            breakFormation();
+            return;
+        }
+        phase += PHASE_STEP;
+        double leaderX = leader.getPositionX();
+        double leaderY = leader.getPositionY();
+        double cos = 1;
+        double sin = 0;
+        if (shape == FormationShape.CIRCLE) { // One rotation for the whole formation
+            cos = Math.cos(phase);
+            sin = Math.sin(phase);
+        }
+        for (int k = 0; k < followerCount; k++) {
+            SteeredPlane follower = followers[k];
+            if (follower.isDestroyed()) continue;
+            double x = offsetX[k] * cos - offsetY[k] * sin;
+            double y = offsetX[k] * sin + offsetY[k] * cos;
+            if (shape == FormationShape.WAVE) {
+                y += WAVE_AMPLITUDE * Math.sin(phase - k * WAVE_LAG);
+            }
+            follower.placeAt(leaderX + x, Math.max(minY, Math.min(maxY, leaderY + y)));
+        }
+    }
+
+    /**
+     * Breaks the formation up. Followers keep the leader's pace, scatter away from its line and go back to
+     * their own behaviour. A formation restored without its leader breaks at cruise pace.
+     */
+    private void breakFormation() {
+        broken = true;
+        for (int k = 0; k < followerCount; k++) {
+            SteeredPlane follower = followers[k];
+            if (follower.isDestroyed()) continue;
+            double scatter = follower.getMaxSpeed() / 2;
+            follower.setSteeringBehaviour(originalBehaviours[k]);
+            double paceX = leader != null ? leader.getVelocityX() : follower.getCruiseVelocity();
+            follower.setVelocity(paceX, offsetY[k] < 0 ? -scatter : scatter);
+            follower.setWeavePhase(k * WAVE_LAG);
+        }
+    }
+
+    /**
+     * Checks whether the formation has nothing left to do, because it broke up or every follower is gone.
+     *
+     * @return {@code true} if the formation can be dropped
+     */
+    public boolean isFinished() {
+        if (broken) return true;
+        for (int k = 0; k < followerCount; k++) {
+            if (!followers[k].isDestroyed()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the formation to a level checkpoint. Planes are written as their index in the enemy list,
+     * which is saved just before.
+     *
+     * @param out     the checkpoint being written
+     * @param enemies the level's enemy units, in the order they were saved
+     * @throws IOException if the formation cannot be written
+     */
+    public void write(DataOutput out, List<ActiveActorDestructible> enemies) throws IOException {
+        out.writeByte(shape.ordinal());
+        out.writeDouble(phase);
+        out.writeInt(enemies.indexOf(leader));
+        out.writeInt(followerCount);
+        for (int k = 0; k < followerCount; k++) {
+            out.writeInt(enemies.indexOf(followers[k]));
+            out.writeDouble(offsetX[k]);
+            out.writeDouble(offsetY[k]);
+            out.writeByte(originalBehaviours[k]);
+        }
+    }
+
+    /**
+     * Reads a formation from a level checkpoint. A formation whose leader was not saved breaks at once.
+     *
+     * @param in      the checkpoint being read
+     * @param enemies the level's enemy units, already restored
+     * @return the formation
+     * @throws IOException if the checkpoint is corrupt
+     */
+    public static Formation read(DataInput in, List<ActiveActorDestructible> enemies) throws IOException {
+        int shapeIndex = in.readByte();
+        if (shapeIndex < 0 || shapeIndex >= FormationShape.values().length) {
+            throw new IOException("Unknown formation shape: " + shapeIndex);
+        }
+        double phase = in.readDouble();
+        int leaderIndex = in.readInt();
+        int count = in.readInt();
+        SteeredPlane leader = leaderIndex < 0 ? null : plane(enemies, leaderIndex);
+        Formation formation = new Formation(FormationShape.values()[shapeIndex], leader, count);
+        formation.phase = phase;
+        for (int k = 0; k < count; k++) {
+            int index = in.readInt();
+            double x = in.readDouble();
+            double y = in.readDouble();
+            int behaviour = in.readByte();
+            if (index >= 0) {
+                formation.addFollower(plane(enemies, index), x, y, behaviour);
+            }
+        }
+        if (leader == null) {
+            formation.breakFormation();
+        }
+        return formation;
+    }
+
+    /**
+     * Looks up a saved plane of a formation.
+     *
+     * @param enemies the level's enemy units
+     * @param index   the index the plane was saved at
+     * @return the plane
+     * @throws IOException if there is no steered plane at the index
+     */
+    private static SteeredPlane plane(List<ActiveActorDestructible> enemies, int index) throws IOException {
+        if (index >= enemies.size() || !(enemies.get(index) instanceof SteeredPlane plane)) {
+            throw new IOException("No formation plane at index " + index);
+        }
+        return plane;
+    }
+}
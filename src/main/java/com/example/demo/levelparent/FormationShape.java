@@ -0,0 +1,70 @@
+package com.example.demo.levelparent;
+
+/**
+ * The {@code FormationShape} enum lists the shapes a {@link Formation} can fly in, and where each follower sits
+ * relative to the leader's top left corner.
+ */
+public enum FormationShape {
+
+    /** Followers fan out behind the leader, alternating above and below. */
+    V,
+
+    /** Followers fly abreast of the leader, alternating above and below. */
+    LINE,
+
+    /** Followers trail behind the leader in a column that ripples up and down. */
+    WAVE,
+
+    /** Followers circle around the leader. */
+    CIRCLE;
+
+    /** Horizontal distance between ranks of a formation, in pixels. */
+    private static final double HORIZONTAL_SPACING = 140;
+
+    /** Vertical distance between ranks of a formation, in pixels. */
+    private static final double VERTICAL_SPACING = 100;
+
+    /** Radius of a circle formation, in pixels. */
+    private static final double CIRCLE_RADIUS = 150;
+
+    /**
+     * Returns the horizontal offset of a follower from the leader.
+     *
+     * @param slot      the follower's place in the formation, from {@code 0}
+     * @param followers the number of followers in the formation
+     * @return the horizontal offset, in pixels
+     */
+    public double getOffsetX(int slot, int followers) {
+        return switch (this) {
+            case V -> rank(slot) * HORIZONTAL_SPACING;
+            case LINE -> 0;
+            case WAVE -> (slot + 1) * HORIZONTAL_SPACING;
+            case CIRCLE -> CIRCLE_RADIUS * Math.cos(2 * Math.PI * slot / followers);
+        };
+    }
+
+    /**
+     * Returns the vertical offset of a follower from the leader.
+     *
+     * @param slot      the follower's place in the formation, from {@code 0}
+     * @param followers the number of followers in the formation
+     * @return the vertical offset, in pixels
+     */
+    public double getOffsetY(int slot, int followers) {
+        return switch (this) {
+            case V, LINE -> (slot % 2 == 0 ? -1 : 1) * rank(slot) * VERTICAL_SPACING;
+            case WAVE -> 0;
+            case CIRCLE -> CIRCLE_RADIUS * Math.sin(2 * Math.PI * slot / followers);
+        };
+    }
+
+    /**
+     * Returns how many ranks from the leader a follower of a two-sided formation is.
+     *
+     * @param slot the follower's place in the formation
+     * @return the rank, from {@code 1}
+     */
+    private static int rank(int slot) {
+        return slot / 2 + 1;
+    }
+}
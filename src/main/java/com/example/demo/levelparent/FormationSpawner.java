@@ -0,0 +1,138 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.enemies.SteeredPlane;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The {@code FormationSpawner} class spawns a level's enemies in formations and keeps the formations in flight.
+ * <p>
+ * A formation is led by the first enemy created for it, and every tick its followers are moved along with the
+ * leader, until the formation breaks up. The formations are saved with the level's checkpoints, referring to their
+ * planes by their place among the level's enemies.
+ * </p>
+ */
+public class FormationSpawner {
+
+    /** Fewest planes, leader included, that make up a formation. */
+    public static final int MIN_FORMATION_SIZE = 3;
+
+    /** Most planes, leader included, that make up a formation. */
+    public static final int MAX_FORMATION_SIZE = 5;
+
+    /** Formations in flight. */
+    private final List<Formation> formations = new ArrayList<>();
+
+    /** The lowest the top of a plane in formation may go. */
+    private final double maxY;
+
+    /**
+     * Constructs a {@code FormationSpawner} for a level.
+     *
+     * @param maxY the lowest the top of a plane in formation may go
+     */
+    public FormationSpawner(double maxY) {
+        this.maxY = maxY;
+    }
+
+    /**
+     * Checks whether a formation fits in the free enemy slots of a level.
+     *
+     * @param freeSlots the number of enemies the level can still take
+     * @return {@code true} if at least the smallest formation fits
+     */
+    public boolean fits(int freeSlots) {
+        return freeSlots >= MIN_FORMATION_SIZE;
+    }
+
+    /**
+     * Spawns a formation of as many enemies as fit, up to {@value #MAX_FORMATION_SIZE}. The leader is moved up or
+     * down so the whole formation fits on the screen. Enemies that cannot fly in formation are spawned on their
+     * own instead, and nothing is spawned if the level runs out of enemies to create.
+     *
+     * @param shape       the shape of the formation
+     * @param freeSlots   the number of enemies the level can still take
+     * @param createEnemy creates an enemy, or returns {@code null} if there is none to spawn
+     * @param addEnemy    adds an enemy to the level
+     */
+    public void spawn(FormationShape shape, int freeSlots, Supplier<ActiveActorDestructible> createEnemy,
+                      Consumer<ActiveActorDestructible> addEnemy) {
+        int size = Math.min(freeSlots, MAX_FORMATION_SIZE);
+        ActiveActorDestructible[] members = new ActiveActorDestructible[size];
+        boolean steered = true;
+        for (int i = 0; i < size; i++) {
+            members[i] = createEnemy.get();
+            if (members[i] == null) return;
+            steered &= members[i] instanceof SteeredPlane;
+        }
+        for (ActiveActorDestructible member : members) {
+            addEnemy.accept(member);
+        }
+        if (!steered) return;
+        SteeredPlane leader = (SteeredPlane) members[0];
+        Formation formation = new Formation(shape, leader, size - 1);
+        for (int i = 1; i < size; i++) {
+            formation.addFollower((SteeredPlane) members[i]);
+        }
+        double lowestY = -formation.getMinOffsetY();
+        double highestY = Math.max(lowestY, maxY - formation.getMaxOffsetY());
+        leader.placeAt(leader.getPositionX(), Math.max(lowestY, Math.min(highestY, leader.getPositionY())));
+        formation.update(0, maxY);
+        formations.add(formation);
+    }
+
+    /**
+     * Moves the followers of every formation along with their leaders, which have just moved, and drops
+     * formations that have broken up.
+     */
+    public void update() {
+        for (Formation formation : formations) {
+            formation.update(0, maxY);
+        }
+        formations.removeIf(Formation::isFinished);
+    }
+
+    /**
+     * Writes every formation in flight to a level checkpoint.
+     *
+     * @param out     the checkpoint being written
+     * @param enemies the level's enemies, in the order they are written
+     * @throws IOException if the formations cannot be written
+     */
+    public void write(DataOutput out, List<ActiveActorDestructible> enemies) throws IOException {
+        out.writeInt(formations.size());
+        for (Formation formation : formations) {
+            formation.write(out, enemies);
+        }
+    }
+
+    /**
+     * Restores the formations written by {@link #write(DataOutput, List)}, dropping any that broke up because
+     * their planes were not saved.
+     *
+     * @param in      the checkpoint being read
+     * @param enemies the level's restored enemies
+     * @throws IOException if the formations cannot be read
+     */
+    public void read(DataInput in, List<ActiveActorDestructible> enemies) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            formations.add(Formation.read(in, enemies));
+        }
+        formations.removeIf(Formation::isFinished);
+    }
+
+    /**
+     * Drops every formation, leaving their planes to fly on their own.
+     */
+    public void clear() {
+        formations.clear();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.persistence.RunRecord;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The {@code GameRun} class accumulates the statistics of one run of the game across its levels.
+ * <p>
+ * A run starts when the player presses start on the main menu and is handed from level to level by the
+ * {@code Controller}. Each level adds its kills, hits taken and play time when it is cleared, and the level
+ * the run ends on turns the totals into a {@link RunRecord}. The run's seed drives the random spawns of
+ * every level, so it is stored with the record.
+ * </p>
+ */
+public class GameRun {
+
+    /** Seed the random spawns of the run are generated from. */
+    private final long seed;
+
+    /** Number of levels entered so far, which is the current level number. */
+    private int levelReached;
+
+    /** Kills from the levels cleared so far. */
+    private int kills;
+
+    /** Hits taken in the levels cleared so far. */
+    private int damageTaken;
+
+    /** Play time of the levels cleared so far, in milliseconds. */
+    private long durationMillis;
+
+    /** Whether the run has ended and its record has been produced. */
+    private boolean finished;
+
+    /**
+     * Constructs a new run.
+     *
+     * @param seed the seed for the run's random spawns
+     */
+    public GameRun(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Marks the start of the next level of the run.
+     */
+    public void enterLevel() {
+        levelReached++;
+    }
+
+    /**
+     * Adds the statistics of a cleared level to the run.
+     *
+     * @param levelKills        the kills made in the level
+     * @param levelDamageTaken  the hits taken in the level
+     * @param levelMillis       the time spent playing the level in milliseconds
+     */
+    public void completeLevel(int levelKills, int levelDamageTaken, long levelMillis) {
+        kills += levelKills;
+        damageTaken += levelDamageTaken;
+        durationMillis += levelMillis;
+    }
+
+    /**
+     * Ends the run on the current level and produces its record. Only the first call has an effect,
+     * so a run that was won or lost is not recorded again when the player returns to the main menu.
+     *
+     * @param levelKills        the kills made in the final level
+     * @param levelDamageTaken  the hits taken in the final level
+     * @param levelMillis       the time spent playing the final level in milliseconds
+     * @param won               whether the final level was beaten
+     * @return the record of the run, or {@code null} if the run had already ended
+     */
+    public RunRecord finish(int levelKills, int levelDamageTaken, long levelMillis, boolean won) {
+        if (finished) {
+            return null;
+        }
+        finished = true;
+        completeLevel(levelKills, levelDamageTaken, levelMillis);
+        return new RunRecord(System.currentTimeMillis(), seed, durationMillis, kills, damageTaken,
+                levelReached, won);
+    }
+
+    /**
+     * Writes the run's progress to a level checkpoint.
+     *
+     * @param out the checkpoint being written
+     * @throws IOException if the run cannot be written
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeLong(seed);
+        out.writeByte(levelReached);
+        out.writeInt(kills);
+        out.writeInt(damageTaken);
+        out.writeLong(durationMillis);
+    }
+
+    /**
+     * Reads a run in progress back from a level checkpoint.
+     *
+     * @param in the checkpoint being read
+     * @return the restored run
+     * @throws IOException if the run cannot be read
+     */
+    public static GameRun read(DataInput in) throws IOException {
+        GameRun run = new GameRun(in.readLong());
+        run.levelReached = in.readByte();
+        run.kills = in.readInt();
+        run.damageTaken = in.readInt();
+        run.durationMillis = in.readLong();
+        return run;
+    }
+
+    /**
+     * Returns the seed of the run.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of the level the run is on.
+     *
+     * @return the level number, starting at 1
+     */
+    public int getLevelReached() {
+        return levelReached;
+    }
+}
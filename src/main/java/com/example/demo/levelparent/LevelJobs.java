@@ -0,0 +1,111 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.engine.JobScheduler;
+
+import java.util.List;
+
+/**
+ * The {@code LevelJobs} class runs the work of a level's tick that can wait, as jobs of a {@link JobScheduler}.
+ * <p>
+ * Steering the enemy planes runs at high priority, deciding what spawns at normal priority, and the particles at
+ * low priority. They run after the rest of the tick, within {@value #TICK_BUDGET_FRACTION} of it, and under load
+ * carry over to the next tick instead of making the tick overrun. Steering is split into slices of
+ * {@value #STEERING_SLICE_PLANES} planes, so even a pass over a crowded screen can be spread over several ticks.
+ * </p>
+ */
+public class LevelJobs {
+
+    /** Share of a tick that the jobs may run into, counted from the start of the tick. */
+    private static final double TICK_BUDGET_FRACTION = 0.6;
+
+    /** Number of planes steered in one slice of the steering job. */
+    private static final int STEERING_SLICE_PLANES = 8;
+
+    /** Runs the jobs within the tick's budget. */
+    private final JobScheduler scheduler = new JobScheduler();
+
+    /** Steers the enemy planes. */
+    private final SteeringSystem steering = new SteeringSystem();
+
+    /** Grid of the actors enemy planes avoid, kept until a steering pass finishes. */
+    private final SpatialGrid steeringGrid;
+
+    /** The level's enemies. */
+    private final List<ActiveActorDestructible> enemies;
+
+    /** The level's obstacles. */
+    private final List<ActiveActorDestructible> obstacles;
+
+    /** The actor enemy planes seek or flee. */
+    private final ActiveActor target;
+
+    /** The lowest the top of a steered plane may go. */
+    private final double maxY;
+
+    /**
+     * Constructs the jobs of a level and adds them to the scheduler.
+     *
+     * @param enemies         the level's enemies
+     * @param obstacles       the level's obstacles
+     * @param target          the actor enemy planes seek or flee, usually the user's plane
+     * @param steeringGrid    an empty grid covering the screen, for the actors enemy planes avoid
+     * @param maxY            the lowest the top of a steered plane may go
+     * @param spawnUnits      decides what enemies and obstacles enter the level
+     * @param updateParticles moves the particles on by a tick
+     */
+    public LevelJobs(List<ActiveActorDestructible> enemies, List<ActiveActorDestructible> obstacles, ActiveActor target,
+                     SpatialGrid steeringGrid, double maxY, Runnable spawnUnits, Runnable updateParticles) {
+        this.enemies = enemies;
+        this.obstacles = obstacles;
+        this.target = target;
+        this.steeringGrid = steeringGrid;
+        this.maxY = maxY;
+        scheduler.addRecurring(JobScheduler.HIGH, this::steerEnemies);
+        scheduler.addRecurring(JobScheduler.NORMAL, () -> {
+            spawnUnits.run(); //Put off under load, new enemies only arrive a little later
+            return true;
+        });
+        scheduler.addRecurring(JobScheduler.LOW, () -> {
+            updateParticles.run(); //Particles are only for show, so they are the first to freeze
+            return true;
+        });
+    }
+
+    /**
+     * Runs the jobs after the rest of a tick, until the tick's budget runs out or every job is finished.
+     *
+     * @param tickStartNanos the {@link System#nanoTime()} the tick started at
+     * @param tickNanos      the length of a tick in nanoseconds
+     */
+    public void run(long tickStartNanos, long tickNanos) {
+        scheduler.runUntil(tickStartNanos + (long) (tickNanos * TICK_BUDGET_FRACTION));
+    }
+
+    /**
+     * Returns the number of ticks whose jobs did not all finish within the budget. Safe to call from any thread.
+     *
+     * @return the number of ticks that carried work over to the next one
+     */
+    public long getOverBudgetTicks() {
+        return scheduler.getOverBudgetTicks();
+    }
+
+    /**
+     * Runs a slice of the steering job. A pass that runs out of time carries on next tick.
+     *
+     * @return {@code true} once every plane has been steered
+     */
+    private boolean steerEnemies() {
+        if (!steering.isSteering()) {
+            steeringGrid.clear();
+            steeringGrid.insertAll(enemies);
+            steeringGrid.insertAll(obstacles);
+            steering.begin(enemies, target, steeringGrid, 0, maxY);
+        }
+        if (!steering.steerSlice(STEERING_SLICE_PLANES)) return false;
+        steeringGrid.clear(); //Keeps destroyed actors collectable
+        return true;
+    }
+}
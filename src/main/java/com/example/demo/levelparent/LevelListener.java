@@ -0,0 +1,58 @@
+package com.example.demo.levelparent;
+
+/**
+ * The {@code LevelListener} interface receives the lifecycle events of a {@link LevelParent}.
+ * <p>
+ * Events are delivered synchronously on the thread that raises them, without any locking: usually the simulation
+ * thread, and the JavaFX application thread when a level is left through the interface. Listeners that update
+ * the scene must hand the work over with {@code Platform.runLater} themselves. {@link #onTick} is called on
+ * every tick, so it must be cheap and must not allocate. Every method does nothing by default.
+ * </p>
+ */
+public interface LevelListener {
+
+    /**
+     * Called when the level is completed and the game moves on to the next level. The level has already stopped.
+     *
+     * @param level          the completed level
+     * @param result         the outcome of the level
+     * @param nextLevelClass the fully qualified class name of the next level
+     */
+    default void onLevelComplete(LevelParent level, LevelResult result, String nextLevelClass) {
+    }
+
+    /**
+     * Called when the game ends in the level, won or lost. The level has already stopped.
+     *
+     * @param level  the level the game ended in
+     * @param result the outcome of the level
+     */
+    default void onGameOver(LevelParent level, LevelResult result) {
+    }
+
+    /**
+     * Called when the level is paused.
+     *
+     * @param level the paused level
+     */
+    default void onPause(LevelParent level) {
+    }
+
+    /**
+     * Called when the level resumes from a pause.
+     *
+     * @param level the resumed level
+     */
+    default void onResume(LevelParent level) {
+    }
+
+    /**
+     * Called at the end of every active simulation tick.
+     *
+     * @param level          the level
+     * @param durationNanos  how long the tick took in nanoseconds
+     * @param actorCount     the number of live actors at the end of the tick
+     */
+    default void onTick(LevelParent level, long durationNanos, int actorCount) {
+    }
+}
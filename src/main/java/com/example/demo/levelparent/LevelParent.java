@@ -1,36 +1,78 @@
 package com.example.demo.levelparent;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import com.example.demo.actors.*;
 import com.example.demo.actors.player.*;
+import com.example.demo.actors.pickups.*;
+import com.example.demo.actors.projectile.Projectile;
+import com.example.demo.actors.projectile.ProjectileKinematics;
+import com.example.demo.audio.AudioBus;
+import com.example.demo.audio.AudioMixer;
+import com.example.demo.audio.SoundDefinition;
 import com.example.demo.controller.SoundManager;
+import com.example.demo.images.LaserBeam;
+import com.example.demo.engine.*;
 import com.example.demo.levels.LevelView;
+import com.example.demo.persistence.CheckpointStore;
+import com.example.demo.persistence.RunRecord;
+import com.example.demo.persistence.RunStatsStore;
+import com.example.demo.settings.GameAction;
+import com.example.demo.settings.GameSettings;
+import com.example.demo.settings.KeyBindings;
 import com.example.demo.controller.MainMenuController;
-import javafx.animation.*;
+import com.example.demo.vfx.ParticleRenderer;
+import com.example.demo.vfx.ParticleSystem;
+import com.example.demo.vfx.TelegraphRenderer;
+import com.example.demo.vfx.TelegraphScheduler;
+import javafx.application.Platform;
 import javafx.event.EventHandler;
 import javafx.scene.Group;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.image.*;
 import javafx.scene.input.*;
-import javafx.util.Duration;
 import javafx.stage.Stage;
 
 /**
  * This is an abstract class representing a level in the game.
  * It handles the game loop, player and enemy actions, collisions, and transitions between game states.
  * Uses a factory design pattern for creating enemies and obstacles.
+ * <p>
+ * The game loop runs on a dedicated {@link SimulationLoop} thread. Each tick publishes a {@link FrameSnapshot}
+ * through a lock-free {@link SnapshotExchange}, which the {@link SnapshotRenderer} applies to the scene on the
+ * JavaFX application thread. Key events travel the other way through an {@link InputQueue}.
+ * UI changes triggered by the game logic (pausing, winning, losing) are posted with {@link Platform#runLater}.
+ * </p>
+ * <p>
+ * Pausing encodes a checkpoint of the whole level in memory. Leaving the level from the pause menu saves it
+ * through the {@link CheckpointStore}, and {@link #restoreCheckpoint(DataInput)} brings it back.
+ * </p>
+ * <p>
+ * The level wires together the subsystems that do the work. {@link LevelJobs} runs steering, spawning and
+ * particles in whatever time a tick has left, a {@link FormationSpawner} spawns enemies in formations, a
+ * {@link CheckpointCodec} encodes the pause checkpoints, and a {@link FrameMonitor} lowers the {@link QualityLevel}
+ * when the level runs over budget. Keys are mapped to actions, and the renderer set up, through the player's
+ * {@link GameSettings}.
+ * </p>
+ * <p>
+ * Level transitions, the end of the game, pauses and tick metrics are announced to {@link LevelListener}s,
+ * synchronously and without locks. Completing a level or ending the game hands them a {@link LevelResult}.
+ * </p>
  * Original source code can be found in the original git repository: <a href="https://github.com/kooitt/CW2024.git">ORIGINAL SOURCE CODE</a>
  */
-public abstract class LevelParent extends Observable {
+public abstract class LevelParent {
 
 	/** Adjustment value for determining the maximum Y position for enemies. */
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
 
-	/** Delay between frames in milliseconds. */
+	/**
+	 * Duration of a simulation tick in milliseconds. Movement speeds, fire rates and timers are all counted
+	 * in ticks, so the tick length is fixed rather than a setting.
+	 */
 	private static final int MILLISECOND_DELAY = 50;
 
 	/** Cooldown period for firing projectiles in milliseconds. */
@@ -39,15 +81,51 @@ public abstract class LevelParent extends Observable {
 	private static final String BG_MUSIC = "/com/example/demo/sfx/level_music/mainMenuMusic.mp3";
 	private static final String BUTTON_CLICK_SFX = "/com/example/demo/sfx/ui_sfx/buttonclick.mp3";
 	private static final String SHOOT_SFX = "/com/example/demo/sfx/level_sfx/userShootalt.mp3";
+	private static final String EXPLOSION_SFX = "/com/example/demo/sfx/level_sfx/explosion.mp3";
+	private static final String WARNING_SFX = "/com/example/demo/sfx/level_sfx/warning.mp3";
+
+	/** Distance from the right edge of the screen to the warning signs of incoming obstacles. */
+	private static final double OBSTACLE_WARNING_MARGIN = 40;
+
+	/** Size of an explosion relative to the larger side of the destroyed actor's hitbox. */
+	private static final double EXPLOSION_SCALE = 1.5;
+
+	/** Number of ticks between two hits of the laser on its target. */
+	private static final int LASER_DAMAGE_TICKS = 4;
+
+	/** Side of a cell of the grids enemy planes and the laser look for actors in, in pixels. */
+	private static final double GRID_CELL_SIZE = 100;
+
+	/** Number of pickups of each power-up type that can be on the screen at once. */
+	private static final int POWER_UPS_PER_TYPE = 2;
+
+	/** Chance that an actor which drops power-ups leaves one behind when destroyed. */
+	private static final double POWER_UP_DROP_CHANCE = 0.5;
 
 	private final double screenHeight;
 	private final double screenWidth;
 	private final double enemyMaximumYPosition;
 
 	private final Group root;
-	private final Timeline timeline;
+	private final SimulationLoop simulation;
+	private final SnapshotExchange snapshotExchange;
+	private final SnapshotRenderer renderer;
+	private final FrameMonitor frameMonitor;
+	private final ParticleSystem particles;
+	private final ParticleRenderer particleRenderer;
+	private final TelegraphScheduler telegraphs;
+	private final TelegraphRenderer telegraphRenderer;
+	private final SpawnQueue pendingObstacles;
+	private final CollisionMatrix collisionMatrix;
+	private final TimerWheel timers;
+	private final SpatialGrid spatialGrid;
+
+	/** Runs the work that may be put off to a later tick when a tick runs out of time. */
+	private final LevelJobs jobs;
+	private final LodScheduler lodScheduler;
+	private final LaserBeam laserBeam;
+	private final InputQueue inputQueue;
 	private final UserPlane user;
-	private final Scene scene;
 	private final ImageView background;
 	private final LevelView levelView;
 
@@ -59,12 +137,82 @@ public abstract class LevelParent extends Observable {
 	private final List<ActiveActorDestructible> userProjectiles;
 	private final List<ActiveActorDestructible> enemyProjectiles;
 	private final List<ActiveActorDestructible> obstacles;
+	private final List<ActiveActorDestructible> powerUps;
+
+	/** Spawns enemies in formations and moves the formations in flight. */
+	private final FormationSpawner formations;
+
+	/** Encodes the level's checkpoints and the actors in them. */
+	private final CheckpointCodec checkpointCodec;
+
+	/** Pickups dropped by destroyed actors, created up front and reused. */
+	private final PowerUpPool powerUpPool;
+
+	/** Actors gathered for the collision pass, reused between ticks. */
+	private ActiveActorDestructible[] collisionCandidates = new ActiveActorDestructible[64];
+
+	/** Collision layer of each gathered actor. */
+	private int[] candidateLayers = new int[64];
+
+	/** Number of actors gathered for the current collision pass. */
+	private int candidateCount;
+
+	/** Index of the first actor of each contact found in the collision pass. */
+	private int[] contactFirst = new int[32];
+
+	/** Index of the second actor of each contact found in the collision pass. */
+	private int[] contactSecond = new int[32];
+
+	/** Fraction of the tick at which each contact happened. */
+	private double[] contactTimes = new double[32];
+
+	/** Number of contacts found in the current collision pass. */
+	private int contactCount;
 
 	private int currentNumberOfEnemies;
 	private int currentNumberOfObstacles;
 
-	private final Set<KeyCode> activeKeys = new HashSet<>();
-	private long lastFiredProjectile = 0;
+	/** Whether the key bound to each action is held down, indexed by action ordinal. */
+	private final boolean[] heldActions = new boolean[GameAction.values().length];
+	/** Runs after the user fires, and blocks firing again until it expires. */
+	private final TickTimer fireCooldown = new TickTimer();
+
+	/** Runs after the laser hits, and blocks it from hitting again until it expires. */
+	private final TickTimer laserCooldown = new TickTimer();
+
+	/** Length of the laser beam this tick, {@code 0} while the laser is off. */
+	private double laserLength;
+	private long tickCount;
+
+	/** Time spent playing the level in milliseconds, excluding pauses. */
+	private long playTimeMillis;
+
+	/** The key bindings in use for the key events of the current tick. */
+	private KeyBindings tickBindings;
+
+	/** Applies a key event from the player or the autopilot. */
+	private final InputQueue.KeyEventHandler keyHandler = this::handleKey;
+
+	/** The autopilot playing the level, or {@code null} if the player is. */
+	private Autopilot autopilot;
+
+	/** Listeners notified of the level's lifecycle. Replaced as a whole on change, so firing needs no lock. */
+	private volatile LevelListener[] listeners = new LevelListener[0];
+
+	/** The player's settings. */
+	private final GameSettings settings;
+
+	/** Applies changed settings to the running level. */
+	private final Runnable settingsListener = this::applySettings;
+
+	/** The run this level is part of, or {@code null} if the level was started on its own. */
+	private GameRun run;
+
+	/** Source of the level's random numbers, for spawns and the actors' own choices, seeded from the run. */
+	private final Random random = new Random();
+
+	/** Checkpoint encoded when the game was last paused, saved if the player leaves from the pause menu. */
+	private byte[] pausedCheckpoint;
 
 	private Stage stage;
 	private Button popupButton;
@@ -82,33 +230,61 @@ public abstract class LevelParent extends Observable {
 	 */
 	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, Stage stage) {
 		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
+		this.settings = GameSettings.getInstance();
+		this.simulation = new SimulationLoop("simulation-" + getClass().getSimpleName(), MILLISECOND_DELAY, this::updateScene);
+		this.snapshotExchange = new SnapshotExchange();
+		this.inputQueue = new InputQueue();
+		this.timers = new TimerWheel();
 		this.user = new UserPlane(playerInitialHealth);
+		user.setTimerWheel(timers);
+		user.setRandom(random);
 		this.friendlyUnits = new ArrayList<>();
 		this.enemyUnits = new ArrayList<>();
 		this.userProjectiles = new ArrayList<>();
 		this.enemyProjectiles = new ArrayList<>();
 		this.obstacles = new ArrayList<>();
-
+		this.powerUps = new ArrayList<>();
+		this.checkpointCodec = new CheckpointCodec(this::createRestoredActor, timers, random);
+		this.powerUpPool = new PowerUpPool(POWER_UPS_PER_TYPE);
 
         this.background = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(backgroundImageName)).toExternalForm()));
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+		this.formations = new FormationSpawner(enemyMaximumYPosition);
 		this.levelView = instantiateLevelView();
+		this.frameMonitor = new FrameMonitor(this::applyQuality);
+		this.laserBeam = new LaserBeam();
+		this.renderer = new SnapshotRenderer(snapshotExchange, root, snapshot -> {
+			levelView.updateHearts(snapshot.getUserHealth());
+			laserBeam.update(snapshot.getLaserX(), snapshot.getLaserY(), snapshot.getLaserLength());
+			levelView.updateDebugOverlay(snapshot.getTick(), snapshot.size(), frameMonitor.getTotalJank(),
+					frameMonitor.getQuality());
+		});
+		renderer.setFrameMonitor(frameMonitor);
+		this.particles = new ParticleSystem();
+		this.collisionMatrix = CollisionMatrix.createDefault();
+		this.spatialGrid = new SpatialGrid(screenWidth, screenHeight, GRID_CELL_SIZE);
+		this.jobs = new LevelJobs(enemyUnits, obstacles, user, new SpatialGrid(screenWidth, screenHeight, GRID_CELL_SIZE),
+				enemyMaximumYPosition, this::spawnUnits, particles::update);
+		this.lodScheduler = new LodScheduler(screenWidth, screenHeight);
+		this.particleRenderer = new ParticleRenderer(screenWidth, screenHeight);
+		this.telegraphs = new TelegraphScheduler();
+		this.telegraphRenderer = new TelegraphRenderer();
+		this.pendingObstacles = new SpawnQueue();
 		this.currentNumberOfEnemies = 0;
 		this.currentNumberOfObstacles = 0;
 
 		this.stage = stage;
-		initializeTimeline();
 		friendlyUnits.add(user);
 
 		//Sound-related
 		this.soundManager = SoundManager.getInstance();
 
-		soundManager.loadSFX("button_click", BUTTON_CLICK_SFX);
-		soundManager.loadSFX("shoot", SHOOT_SFX);
+		soundManager.loadUISFX("button_click", BUTTON_CLICK_SFX);
+		soundManager.loadSFX("shoot", SHOOT_SFX, AudioBus.SFX, SoundDefinition.PRIORITY_LOW, 4, false); //Rapid fire is the first sound cut when voices run out
+		soundManager.loadSFX("explosion", EXPLOSION_SFX, AudioBus.SFX, SoundDefinition.PRIORITY_NORMAL, 3, false);
+		soundManager.loadSFX("warning", WARNING_SFX, AudioBus.SFX, SoundDefinition.PRIORITY_HIGH, 1, false);
 	}
 
 	/**
@@ -147,6 +323,19 @@ public abstract class LevelParent extends Observable {
 		return null;
 	}
 
+	/**
+	 * Chooses the shape of a formation to spawn. Called whenever there is room for a formation.
+	 * <p>
+	 * Subclasses can override this method to have their enemies fly in formations built from {@link #createEnemy()}.
+	 * </p>
+	 *
+	 * @return the shape of the formation, or {@code null} to spawn enemies one at a time
+	 */
+	protected FormationShape chooseFormation() {
+		// Default implementation returns null (no formations for this level)
+		return null;
+	}
+
 	/**
 	 * Creates a new obstacle for the level.
 	 * <p>
@@ -201,8 +390,16 @@ public abstract class LevelParent extends Observable {
 	 */
 	protected void spawnEnemyUnits() {
 		currentNumberOfEnemies = getCurrentNumberOfEnemies();
+		int freeSlots = getTotalEnemies() - currentNumberOfEnemies;
+		if (formations.fits(freeSlots)) {
+			FormationShape shape = chooseFormation();
+			if (shape != null) {
+				formations.spawn(shape, freeSlots, this::createEnemy, this::addEnemyUnit);
+				currentNumberOfEnemies = getCurrentNumberOfEnemies();
+			}
+		}
 		for (int i = 0; i < getTotalEnemies() - currentNumberOfEnemies; i++) {
-			if (Math.random() < getEnemySpawnProbability()) {
+			if (random.nextDouble() < getEnemySpawnProbability()) {
 				ActiveActorDestructible newEnemy = createEnemy();
 				if (newEnemy != null) {
 					addEnemyUnit(newEnemy);
@@ -211,21 +408,83 @@ public abstract class LevelParent extends Observable {
 		}
 	}
 
+	/**
+	 * Lets the obstacles whose warning lead time is over enter the level. This runs every tick, so obstacles
+	 * arrive exactly when their warning said.
+	 */
+	private void admitDueObstacles() {
+		ActiveActorDestructible dueObstacle;
+		while ((dueObstacle = pendingObstacles.pollDue(tickCount)) != null) {
+			addObstacle(dueObstacle);
+		}
+	}
+
 	/**
 	 * Spawns obstacles based on the spawn probability and total allowed obstacles.
+	 * <p>
+	 * New obstacles wait in the spawn queue for the warning lead time while a warning sign announces them,
+	 * and enter the level once they are due. Queued obstacles count towards the total allowed.
+	 * </p>
 	 */
 	protected void spawnObstacles() {
-		currentNumberOfObstacles = getCurrentNumberOfObstacles();
+		currentNumberOfObstacles = getCurrentNumberOfObstacles() + pendingObstacles.size();
 		for (int i = 0; i < getTotalObstacles() - currentNumberOfObstacles; i++) {
-			if (Math.random() < getObstacleSpawnProbability()) {
+			if (random.nextDouble() < getObstacleSpawnProbability()) {
 				ActiveActorDestructible newObstacle = createObstacle();
 				if (newObstacle != null) {
-					addObstacle(newObstacle);
+					queueObstacle(newObstacle);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Queues a new obstacle to enter the level after the warning lead time, announcing it where it will enter.
+	 * Without a lead time the obstacle enters at once.
+	 *
+	 * @param obstacle the new obstacle
+	 */
+	private void queueObstacle(ActiveActorDestructible obstacle) {
+		int leadTicks = getTelegraphLeadTicks();
+		if (leadTicks == 0) {
+			addObstacle(obstacle);
+			return;
+		}
+		pendingObstacles.add(obstacle, tickCount + leadTicks);
+		telegraph(screenWidth - OBSTACLE_WARNING_MARGIN, centerY(obstacle), leadTicks);
+	}
+
+	/**
+	 * Announces the level's own attacks ahead of time, using {@link #telegraph(double, double, int)}.
+	 * Called every tick before enemies fire. Levels whose attacks can be seen coming override this;
+	 * by default nothing is announced.
+	 */
+	protected void announceAttacks() {
+		// Default: no attacks to announce
+	}
+
+	/**
+	 * Shows a warning sign until a hazard arrives, with a warning sound.
+	 *
+	 * @param x          the x-coordinate of the warning sign's centre
+	 * @param y          the y-coordinate of the warning sign's centre
+	 * @param leadTicks  the number of ticks before the hazard arrives
+	 */
+	protected void telegraph(double x, double y, int leadTicks) {
+		if (telegraphs.schedule(x, y, leadTicks)) {
+			soundManager.playSFX("warning");
+		}
+	}
+
+	/**
+	 * Returns the number of ticks hazards are announced before they arrive, as set by the player.
+	 *
+	 * @return the warning lead time in ticks, {@code 0} for no warnings
+	 */
+	protected int getTelegraphLeadTicks() {
+		return settings.getTelegraphTicks();
+	}
+
 	/**
 	 * Abstract method to instantiate the {@code LevelView} for the level.
 	 *
@@ -234,54 +493,273 @@ public abstract class LevelParent extends Observable {
 	protected abstract LevelView instantiateLevelView();
 
 	/**
-	 * Initializes the scene for the level.
+	 * Attaches the level to a run. The level's random spawns are seeded from the run's seed and the level number,
+	 * so the same seed always produces the same spawns. Must be called before {@link #startGame()}.
 	 *
-	 * @return the initialized {@code Scene} object
+	 * @param run the run this level is part of
 	 */
-	public Scene initializeScene() {
+	public void setRun(GameRun run) {
+		this.run = run;
+		run.enterLevel();
+		random.setSeed(run.getSeed() * 31 + run.getLevelReached());
+	}
+
+	/**
+	 * Hands the level over to an autopilot, which plays it through the same key handling as the player.
+	 * Must be called before {@link #startGame()}.
+	 *
+	 * @param autopilot the autopilot, or {@code null} to let the player play
+	 */
+	public void setAutopilot(Autopilot autopilot) {
+		this.autopilot = autopilot;
+		if (autopilot != null) {
+			autopilot.reset();
+		}
+	}
+
+	/**
+	 * Registers a listener for the level's lifecycle events. Should be called before {@link #startGame()};
+	 * a listener added later may miss the events of the tick in progress.
+	 *
+	 * @param listener the listener to add
+	 */
+	public synchronized void addListener(LevelListener listener) {
+		LevelListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+		updated[listeners.length] = listener;
+		listeners = updated;
+	}
+
+	/**
+	 * Unregisters a listener for the level's lifecycle events.
+	 *
+	 * @param listener the listener to remove
+	 */
+	public synchronized void removeListener(LevelListener listener) {
+		LevelListener[] current = listeners;
+		for (int i = 0; i < current.length; i++) {
+			if (current[i] == listener) {
+				LevelListener[] updated = new LevelListener[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, i);
+				System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+				listeners = updated;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Creates the result of the level so far.
+	 *
+	 * @param won whether the level was won
+	 * @return the result
+	 */
+	private LevelResult createResult(boolean won) {
+		return new LevelResult(getClass().getSimpleName(), user.getNumberOfKills(), user.getDamageTaken(),
+				getElapsedMillis(), won);
+	}
+
+	/**
+	 * Initializes the level's layer of the game scene. The level does not own a scene: the
+	 * {@code SceneManager} shows the returned group in the game scene shared by every level.
+	 * The renderer attaches the actors between the friendly units and the effects, so the particles,
+	 * warnings and HUD are always drawn over them.
+	 *
+	 * @return the root group of the level
+	 */
+	public Group initializeScene() {
 		initializeBackground();
 		initializeFriendlyUnits();
+		root.getChildren().add(laserBeam); //Everything from the laser beam up is drawn over the actors
+		root.getChildren().add(user.getShieldImage());
+		root.getChildren().add(particleRenderer.getCanvas());
+		root.getChildren().addAll(telegraphRenderer.getNodes());
 		levelView.showHeartDisplay();
-		return scene;
+		levelView.showDebugOverlay();
+		renderer.setOverlay(laserBeam);
+		renderer.setParticleRenderer(particleRenderer);
+		renderer.setTelegraphRenderer(telegraphRenderer);
+		return root;
 	}
 
 	/**
-	 * Starts the game by activating the timeline and setting game status to active.
+	 * Starts the game by starting the simulation thread and the renderer, and setting game status to active.
 	 */
 	public void startGame() {
 		background.requestFocus();
 		isGameActive = true; //Add a value to help the game decide if the game is running at the moment. Useful
 		didGameEnd = false;
-		timeline.play();
+		applySettings();
+		settings.addListener(settingsListener);
+		renderer.start();
+		simulation.start();
+	}
+
+	/**
+	 * Applies the player's settings to the running level. The renderer and overlay are updated on the
+	 * JavaFX application thread.
+	 */
+	private void applySettings() {
+		Runnable applyToView = () -> {
+			renderer.setFrameCap(settings.getFrameCap());
+			renderer.setRenderMode(settings.getRenderMode());
+			levelView.setDebugOverlayVisible(settings.isDebugOverlay());
+			frameMonitor.setTargetFrameRate(settings.getTargetFrameRate());
+			frameMonitor.setAutoAdjust(settings.isAutoQuality());
+			frameMonitor.setLogging(settings.isDebugOverlay());
+		};
+		if (Platform.isFxApplicationThread()) {
+			applyToView.run();
+		} else {
+			Platform.runLater(applyToView);
+		}
+	}
+
+	/**
+	 * Stops the simulation thread and the renderer. Once this returns on the JavaFX application thread,
+	 * the simulation state can be safely touched from it.
+	 */
+	private void stopGameLoop() {
+		settings.removeListener(settingsListener);
+		boolean wasRunning = simulation.isRunning();
+		simulation.stop();
+		soundManager.getMixer().setVoiceLimit(AudioMixer.MAX_VOICES); //Quality cuts only last for the level
+		Runnable stopView = () -> {
+			renderer.stop();
+			if (wasRunning) printFrameReport();
+		};
+		if (Platform.isFxApplicationThread()) {
+			stopView.run();
+		} else {
+			Platform.runLater(stopView);
+		}
+	}
+
+	/**
+	 * Prints how the level's frames, ticks and deferred jobs kept to their budget, followed by its latest jank events
+	 * when the debug overlay is on. Runs on the JavaFX application thread once the renderer has stopped, so no pulse is recorded meanwhile.
+	 */
+	private void printFrameReport() {
+		System.out.println(getClass().getSimpleName() + " frame report: " + frameMonitor.getTotalJank()
+				+ " jank events, " + frameMonitor.getOverruns() + " overrun ticks, " + jobs.getOverBudgetTicks()
+				+ " ticks with deferred jobs, ended at " + frameMonitor.getQuality());
+		if (frameMonitor.isLogging()) frameMonitor.printJankHistory();
 	}
 
 	/**
 	 * Toggles the game between paused and active states.
 	 * <p>
 	 * Pauses the game if it is currently active, or resumes it if it is paused.
-	 * Displays or hides the pause menu as needed.
+	 * Displays or hides the pause menu as needed. Called on the simulation thread when the pause key is processed.
 	 * </p>
 	 */
 	public void pauseGame() {
 		if (isGameActive && !didGameEnd) {
 			isGameActive = false;
-			timeline.pause();
-			levelView.showPauseImage();
-			showMainMenuButton(stage);
+			pausedCheckpoint = checkpointCodec.encode(this);
+			for (LevelListener listener : listeners) listener.onPause(this);
+			Platform.runLater(() -> {
+				levelView.showPauseImage();
+				showMainMenuButton(stage);
+			});
 		}
 		else if (!isGameActive && !didGameEnd) {
 			isGameActive = true;
-			timeline.play();
-			levelView.hidePauseImage();
+			for (LevelListener listener : listeners) listener.onResume(this);
+			Platform.runLater(() -> {
+				levelView.hidePauseImage();
 
-			if (popupButton != null) {
-				Group root = (Group) scene.getRoot();
-				root.getChildren().remove(popupButton);
-				popupButton = null; // Clear the reference
-			}
+				if (popupButton != null) {
+					root.getChildren().remove(popupButton);
+					popupButton = null; // Clear the reference
+				}
+			});
 		}
 	} //Pauses the game if the game is active, and starts the game again if it is already paused.
 
+	/**
+	 * Writes the state of the level after the checkpoint header: the run, the tick count, the spawn seed,
+	 * the user's plane, every actor list and the formations.
+	 * <p>
+	 * The level's random number generator is reseeded with a seed drawn from itself, and that seed is what gets
+	 * saved. Spawns and the actors' own random choices all draw from it, so a restored level plays out exactly
+	 * as this one would have.
+	 * </p>
+	 *
+	 * @param out the checkpoint being written
+	 * @throws IOException if the state cannot be written
+	 */
+	protected void saveCheckpoint(DataOutput out) throws IOException {
+		out.writeBoolean(run != null);
+		if (run != null) {
+			run.write(out);
+		}
+		out.writeLong(tickCount);
+		out.writeLong(playTimeMillis);
+		long spawnSeed = random.nextLong();
+		random.setSeed(spawnSeed);
+		out.writeLong(spawnSeed);
+		lodScheduler.flush(enemyUnits); //Actors are saved where they really are, not where their last update left them
+		lodScheduler.flush(obstacles);
+		user.writeState(out);
+		checkpointCodec.writeActors(out, enemyUnits);
+		checkpointCodec.writeActors(out, userProjectiles);
+		checkpointCodec.writeActors(out, enemyProjectiles);
+		checkpointCodec.writeActors(out, obstacles);
+		formations.write(out, enemyUnits);
+		out.writeInt(pendingObstacles.size());
+		for (int i = 0; i < pendingObstacles.size(); i++) {
+			out.writeInt((int) (pendingObstacles.getDueTick(i) - tickCount));
+			checkpointCodec.writeActor(out, pendingObstacles.get(i));
+		}
+	}
+
+	/**
+	 * Restores the level from a checkpoint whose header has already been read. Must be called before
+	 * {@link #startGame()}; the renderer attaches the restored actors on the first frame.
+	 *
+	 * @param in the checkpoint being read
+	 * @return the run the level is part of, or {@code null} if it was not part of a run
+	 * @throws IOException if the checkpoint is corrupt
+	 */
+	public GameRun restoreCheckpoint(DataInput in) throws IOException {
+		run = in.readBoolean() ? GameRun.read(in) : null;
+		tickCount = in.readLong();
+		playTimeMillis = in.readLong();
+		random.setSeed(in.readLong());
+		user.readState(in);
+		checkpointCodec.readActors(in, enemyUnits);
+		checkpointCodec.readActors(in, userProjectiles);
+		checkpointCodec.readActors(in, enemyProjectiles);
+		checkpointCodec.readActors(in, obstacles);
+		formations.read(in, enemyUnits);
+		int pendingCount = in.readInt();
+		for (int i = 0; i < pendingCount; i++) {
+			int ticksLeft = in.readInt();
+			ActiveActorDestructible obstacle = checkpointCodec.readActor(in);
+			pendingObstacles.add(obstacle, tickCount + ticksLeft);
+			telegraphs.schedule(screenWidth - OBSTACLE_WARNING_MARGIN, centerY(obstacle), ticksLeft);
+		}
+		for (ActiveActorDestructible enemy : enemyUnits) {
+			((FighterPlane) enemy).startFiring(enemyProjectiles); //Picks up the shot that was due when the checkpoint was saved
+		}
+		currentNumberOfEnemies = enemyUnits.size();
+		currentNumberOfObstacles = obstacles.size();
+		return run;
+	}
+
+	/**
+	 * Creates an actor being restored from a checkpoint. Levels that keep a reference to one of their actors,
+	 * like the Boss, override this to hand back that actor instead of a new one.
+	 *
+	 * @param type     the actor's type code from {@link CheckpointActorFactory}
+	 * @param initialX the actor's initial x-coordinate
+	 * @param initialY the actor's initial y-coordinate
+	 * @return the actor to read the saved state into
+	 */
+	protected ActiveActorDestructible createRestoredActor(int type, double initialX, double initialY) {
+		return CheckpointActorFactory.create(type, initialX, initialY);
+	}
+
 	/**
 	 * Cleans up all assets on the screen to prepare for the next level.
 	 * <p>
@@ -294,56 +772,113 @@ public abstract class LevelParent extends Observable {
 		userProjectiles.clear();
 		friendlyUnits.clear();
 		enemyUnits.clear();
+		formations.clear();
 		enemyProjectiles.clear();
 		obstacles.clear();
+		powerUps.clear();
+		particles.clear();
+		pendingObstacles.clear();
+		telegraphs.clear();
 	}
 
 	/**
-	 * Proceeds to the next level by stopping the timeline, cleaning assets, and notifying observers.
+	 * Proceeds to the next level by stopping the game loop, cleaning assets, and notifying the listeners
+	 * with the level's result on the calling thread.
 	 *
-	 * @param levelName the name of the next level
+	 * @param levelName the fully qualified class name of the next level
 	 */
 	public void goToNextLevel(String levelName) {
-		timeline.stop(); //Fixes the memory leaks produced from not having the user plane cleared when level is cleared
+		stopGameLoop(); //Fixes the memory leaks produced from not having the user plane cleared when level is cleared
+		if (run != null) {
+			run.completeLevel(user.getNumberOfKills(), user.getDamageTaken(), getElapsedMillis());
+		}
+		LevelResult result = createResult(true);
 		cleanAssets(); //Clean all assets on current screen
-		setChanged();
-		notifyObservers(levelName);
+		for (LevelListener listener : listeners) listener.onLevelComplete(this, result, levelName);
 	}
 
 	/**
 	 * Updates the game scene by handling spawning, actions, and collisions.
 	 * <p>
-	 * Also checks game-over conditions and updates the visual representation of the level.
+	 * Runs on the simulation thread. Also checks game-over conditions and publishes the frame snapshot
+	 * used to update the visual representation of the level.
 	 * </p>
 	 */
 	private void updateScene() {
-		spawnEnemyUnits();
-		spawnObstacles();
+		processInput();
+		if (!isGameActive) return; //Equivalent of the paused timeline, only the pause key is processed
+		long tickStart = System.nanoTime();
+		long tickMillis = simulation.getTickMilliseconds();
+		playTimeMillis += tickMillis;
+		telegraphs.update();
+		admitDueObstacles();
 		updateActors();
-		generateEnemyFire();
+		announceAttacks();
+		timers.advance(); //Expires scheduled enemy shots, after the shooters have moved this tick
 		handlePlayerActions();
 		updateNumberOfEnemies();
 		updateNumberOfObstacles();
 		handleEnemyPenetration();
 		handleObstaclePenetration();
-		handleObstacleCollisions();
-		handleProjectileObstacleCollisions();
-		handleUserProjectileCollisions();
-		handleEnemyProjectileCollisions();
-		handlePlaneCollisions();
+		handleProjectilesLeavingScreen();
+		handleCollisions();
 		removeAllDestroyedActors();
 		updateKillCount();
+		jobs.run(tickStart, tickMillis * 1_000_000L);
 		updateLevelView();
 		checkIfGameOver();
+		long tickNanos = System.nanoTime() - tickStart;
+		frameMonitor.recordTick(tickNanos, tickMillis * 1_000_000L);
+		LevelListener[] current = listeners;
+		if (current.length > 0) {
+			int actorCount = friendlyUnits.size() + enemyUnits.size() + userProjectiles.size()
+					+ enemyProjectiles.size() + obstacles.size() + powerUps.size();
+			for (LevelListener listener : current) listener.onTick(this, tickNanos, actorCount);
+		}
+	}
+
+	/**
+	 * Applies a quality level chosen by the frame monitor. Called on the JavaFX application thread.
+	 *
+	 * @param quality the new quality level
+	 */
+	private void applyQuality(QualityLevel quality) {
+		renderer.setQuality(quality);
+		particles.setScale(quality.getParticleScale());
+		soundManager.getMixer().setVoiceLimit(quality.getVoiceLimit());
 	}
 
 	/**
-	 * Initializes the timeline for the game loop with a specified frame delay.
+	 * Applies the key events queued by the key handlers since the last tick, mapping each key to its bound action.
 	 */
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
+	private void processInput() {
+		tickBindings = settings.getKeyBindings(); //Read once, so a rebind never splits a batch of events
+		inputQueue.drain(keyHandler);
+		if (autopilot != null && isGameActive) {
+			autopilot.update(user, enemyUnits, enemyProjectiles, obstacles, screenHeight, tickBindings, keyHandler);
+		}
+	}
+
+	/**
+	 * Applies a single key event, mapping the key to its bound action.
+	 *
+	 * @param kc      the key that changed state
+	 * @param pressed {@code true} for a key press, {@code false} for a key release
+	 */
+	private void handleKey(KeyCode kc, boolean pressed) {
+		GameAction action = tickBindings.getAction(kc);
+		if (action == null) return; //Unbound keys do nothing
+		heldActions[action.ordinal()] = pressed;
+		if (pressed) {
+			if (action == GameAction.PAUSE) pauseGame();
+			else if (action == GameAction.SWITCH_WEAPON && isGameActive) user.cycleFireMode();
+		}
+		else if (action == GameAction.MOVE_UP || action == GameAction.MOVE_DOWN) {
+			user.stopY();
+		}
+		else if (action == GameAction.MOVE_LEFT || action == GameAction.MOVE_RIGHT) {
+			user.stopX();
+		}
 	}
 
 	/**
@@ -355,22 +890,12 @@ public abstract class LevelParent extends Observable {
 		background.setFitWidth(screenWidth);
 		background.setOnKeyPressed(new EventHandler<KeyEvent>() {
 			public void handle(KeyEvent e) {
-
-				KeyCode kc = e.getCode();
-				activeKeys.add(kc); //On key press, add that key to the hash set
-				if (kc == KeyCode.ESCAPE) pauseGame();
+				inputQueue.offer(e.getCode(), true); //Handed over to the simulation thread
 			}
 		});
 		background.setOnKeyReleased(new EventHandler<KeyEvent>() {
 			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				activeKeys.remove(kc); //On key release, remove that key from the hash set
-				if (kc == KeyCode.UP || kc == KeyCode.DOWN || kc == KeyCode.W || kc == KeyCode.S) {
-					user.stopY();
-				}
-				else if (kc == KeyCode.LEFT || kc == KeyCode.RIGHT || kc == KeyCode.A || kc == KeyCode.D) {
-					user.stopX();
-				}
+				inputQueue.offer(e.getCode(), false);
 			}
 		});
 		root.getChildren().add(background);
@@ -384,57 +909,122 @@ public abstract class LevelParent extends Observable {
 	 */
 	private void handlePlayerActions() {
 		if (!isGameActive) return; //Void all inputs if the game is currently not active.
-		if (activeKeys.contains(KeyCode.UP) || (activeKeys.contains(KeyCode.W))) user.moveUp();
-		if (activeKeys.contains(KeyCode.DOWN) || (activeKeys.contains(KeyCode.S))) user.moveDown();
-		if (activeKeys.contains(KeyCode.LEFT) || (activeKeys.contains(KeyCode.A))) user.moveLeft();
-		if (activeKeys.contains(KeyCode.RIGHT) || (activeKeys.contains(KeyCode.D))) user.moveRight();
-		if (activeKeys.contains(KeyCode.SPACE) || (activeKeys.contains(KeyCode.K))) {
-			long currentTime = System.currentTimeMillis();
-			if (currentTime - lastFiredProjectile> PROJECTILE_COOLDOWN) {
+		if (isHeld(GameAction.MOVE_UP)) user.moveUp();
+		if (isHeld(GameAction.MOVE_DOWN)) user.moveDown();
+		if (isHeld(GameAction.MOVE_LEFT)) user.moveLeft();
+		if (isHeld(GameAction.MOVE_RIGHT)) user.moveRight();
+		laserLength = 0;
+		if (isHeld(GameAction.FIRE) && user.getFireMode() == FireMode.LASER) {
+			fireLaser();
+		}
+		else if (isHeld(GameAction.FIRE)) {
+			if (!fireCooldown.isScheduled()) {
 				fireProjectile();
 				playShootSound();
-				lastFiredProjectile = currentTime;
+				timers.schedule(fireCooldown, getFireCooldownTicks());
 			}
 		} //Makes sure that the active keys don't make any weird combinations when the user is inputting as it can effectively separate the processing of keys
 	}
 
 	/**
-	 * Fires a projectile from the user plane and adds it to the game scene.
+	 * Converts the firing cooldown to ticks. The user can fire again on the first tick
+	 * after the cooldown has fully passed. The rapid fire power-up halves the cooldown.
+	 *
+	 * @return the number of ticks between two shots
 	 */
-	private void fireProjectile() {
-		ActiveActorDestructible projectile = user.fireProjectile();
-		root.getChildren().add(projectile);
-		userProjectiles.add(projectile);
+	private int getFireCooldownTicks() {
+		int ticks = (int) (PROJECTILE_COOLDOWN / simulation.getTickMilliseconds()) + 1;
+		return user.hasRapidFire() ? Math.max(1, ticks / 2) : ticks;
 	}
 
 	/**
-	 * Generates enemy fire by spawning projectiles from each enemy unit.
+	 * Checks whether a key bound to an action is held down.
+	 *
+	 * @param action the action to check
+	 * @return true if the action is held, false otherwise
 	 */
-	private void generateEnemyFire() {
-		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
+	private boolean isHeld(GameAction action) {
+		return heldActions[action.ordinal()];
 	}
 
 	/**
-	 * Spawns a projectile fired by an enemy and adds it to the game scene if valid.
-	 *
-	 * @param projectile the enemy projectile to be spawned
+	 * Fires the projectiles of the user's current weapon and adds them to the game scene.
 	 */
-	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
-		if (projectile != null) {
-			root.getChildren().add(projectile);
-			enemyProjectiles.add(projectile);
+	private void fireProjectile() {
+		user.fireProjectiles(userProjectiles);
+	}
+
+	/**
+	 * Fires the user's laser for this tick.
+	 * <p>
+	 * The beam is not an actor. Enemies and obstacles are entered in a spatial grid, and a single ray cast
+	 * finds the first one in the beam's path, where the beam stops. The target is hit every
+	 * {@value #LASER_DAMAGE_TICKS} ticks while the beam stays on it.
+	 * </p>
+	 */
+	private void fireLaser() {
+		double startX = user.getLaserOriginX();
+		double centerY = user.getLaserOriginY();
+		double halfHeight = LaserBeam.BEAM_HEIGHT / 2;
+		spatialGrid.clear();
+		spatialGrid.insertAll(enemyUnits);
+		spatialGrid.insertAll(obstacles);
+		ActiveActorDestructible target = spatialGrid.castRight(startX, centerY - halfHeight, centerY + halfHeight, screenWidth);
+		spatialGrid.clear(); //Only needed for this cast, and keeps destroyed actors collectable
+		laserLength = Math.max(0, spatialGrid.getLastHitX() - startX);
+		if (!laserCooldown.isScheduled()) { //The beam pulses: one hit and one sound per cooldown
+			playShootSound();
+			timers.schedule(laserCooldown, LASER_DAMAGE_TICKS);
+			if (target != null) {
+				target.takeDamage();
+				particles.emitHit(spatialGrid.getLastHitX(), centerY, ParticleSystem.COLOR_FIRE);
+				explodeIfDestroyed(target);
+			}
 		}
 	}
 
 	/**
 	 * Updates all actors in the game, including friendly units, enemy units, projectiles, and obstacles.
+	 * Projectiles are advanced in a single batched pass by {@link ProjectileKinematics}, and enemy planes move
+	 * at the velocities the steering job last gave them. Enemies and obstacles far off the screen are updated
+	 * less often by the {@link LodScheduler}, and are not steered.
 	 */
 	private void updateActors() {
+		markPreviousPositions(friendlyUnits);
+		markPreviousPositions(enemyUnits);
+		markPreviousPositions(userProjectiles);
+		markPreviousPositions(enemyProjectiles);
+		markPreviousPositions(obstacles);
+		markPreviousPositions(powerUps);
+		lodScheduler.classify(enemyUnits);
+		lodScheduler.classify(obstacles);
 		friendlyUnits.forEach(ActiveActorDestructible::updateActor);
-		enemyUnits.forEach(ActiveActorDestructible::updateActor);
-		userProjectiles.forEach(ActiveActorDestructible::updateActor);
-		enemyProjectiles.forEach(ActiveActorDestructible::updateActor);
-		obstacles.forEach(ActiveActorDestructible::updateActor);
+		lodScheduler.update(enemyUnits);
+		formations.update();
+		ProjectileKinematics.update(userProjectiles, null);
+		ProjectileKinematics.update(enemyProjectiles, user); //Homing enemy fire tracks the user's plane
+		lodScheduler.update(obstacles);
+		powerUps.forEach(ActiveActorDestructible::updateActor);
+	}
+
+	/**
+	 * Decides what enemies and obstacles enter the level. Runs as a job, so under load it only makes new
+	 * enemies arrive a little later.
+	 */
+	private void spawnUnits() {
+		spawnEnemyUnits();
+		spawnObstacles();
+	}
+
+	/**
+	 * Records where each actor starts the tick, so collisions of fast movers can be swept along their movement.
+	 *
+	 * @param actors the actors
+	 */
+	private static void markPreviousPositions(List<ActiveActorDestructible> actors) {
+		for (ActiveActorDestructible actor : actors) {
+			actor.markPreviousPosition();
+		}
 	}
 
 	/**
@@ -446,73 +1036,227 @@ public abstract class LevelParent extends Observable {
 		removeDestroyedActors(userProjectiles);
 		removeDestroyedActors(enemyProjectiles);
 		removeDestroyedActors(obstacles);
+		removeDestroyedActors(powerUps);
 	}
 
 	/**
-	 * Removes destroyed actors from a specific list and the game scene.
+	 * Removes destroyed actors from a specific list. The renderer detaches them from the game scene
+	 * once they no longer appear in a published snapshot.
 	 *
 	 * @param actors the list of actors to check for destruction
 	 */
 	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
 		List<ActiveActorDestructible> destroyedActors = actors.stream().filter(ActiveActorDestructible::isDestroyed)
 				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
 		actors.removeAll(destroyedActors);
 	}
 
 	/**
-	 * Handles collisions between friendly and enemy planes.
+	 * Detects and processes every collision of the tick in a single pass.
+	 * <p>
+	 * The actors of every list are gathered with their collision layer, and each pair is first filtered
+	 * with the layers' bitmasks in the {@link CollisionMatrix}, so only pairs that can collide are tested
+	 * for intersection. Pairs involving a fast mover are swept along the tick's movement, so a fast actor
+	 * cannot pass through a thin target between two positions.
+	 * </p>
+	 * <p>
+	 * Contacts are then resolved from the earliest time of impact, each side getting its response from the
+	 * matrix. An actor destroyed by an earlier contact takes no part in later ones, so a projectile crossing
+	 * two enemies in one tick only hits the first.
+	 * </p>
 	 */
-	private void handlePlaneCollisions() {
-		handleCollisions(friendlyUnits, enemyUnits);
+	private void handleCollisions() {
+		candidateCount = 0;
+		gatherCandidates(friendlyUnits, CollisionMatrix.LAYER_FRIENDLY);
+		gatherCandidates(enemyUnits, CollisionMatrix.LAYER_ENEMY);
+		gatherCandidates(obstacles, CollisionMatrix.LAYER_OBSTACLE);
+		gatherCandidates(userProjectiles, CollisionMatrix.LAYER_USER_PROJECTILE);
+		gatherCandidates(enemyProjectiles, CollisionMatrix.LAYER_ENEMY_PROJECTILE);
+		gatherCandidates(powerUps, CollisionMatrix.LAYER_PICKUP);
+		contactCount = 0;
+		for (int i = 0; i < candidateCount; i++) {
+			ActiveActorDestructible actor = collisionCandidates[i];
+			int mask = collisionMatrix.getMask(candidateLayers[i]);
+			if (mask == 0) continue;
+			for (int j = i + 1; j < candidateCount; j++) {
+				if ((mask & (1 << candidateLayers[j])) == 0) continue;
+				ActiveActorDestructible otherActor = collisionCandidates[j];
+				if (actor.isFastMover() || otherActor.isFastMover()) {
+					double time = actor.timeOfImpact(otherActor);
+					if (time != ActiveActor.NO_IMPACT) addContact(i, j, time);
+				} else if (actor.intersects(otherActor)) {
+					addContact(i, j, 1);
+				}
+			}
+		}
+		sortContactsByTime();
+		for (int c = 0; c < contactCount; c++) {
+			int i = contactFirst[c];
+			int j = contactSecond[c];
+			ActiveActorDestructible actor = collisionCandidates[i];
+			ActiveActorDestructible otherActor = collisionCandidates[j];
+			if (actor.isDestroyed() || otherActor.isDestroyed()) continue;
+			respondToCollision(actor, candidateLayers[i], otherActor, candidateLayers[j]);
+		}
+		Arrays.fill(collisionCandidates, 0, candidateCount, null); // Let removed actors be collected
 	}
 
 	/**
-	 * Handles collisions between friendly planes and obstacles.
+	 * Records a contact between two gathered actors, growing the contact arrays if needed.
+	 *
+	 * @param first  the index of the first actor
+	 * @param second the index of the second actor
+	 * @param time   the fraction of the tick at which the actors touched
 	 */
-	private void handleObstacleCollisions() {
-		handleCollisions(friendlyUnits, obstacles);
+	private void addContact(int first, int second, double time) {
+		if (contactCount == contactTimes.length) {
+			int capacity = contactTimes.length * 2;
+			contactFirst = Arrays.copyOf(contactFirst, capacity);
+			contactSecond = Arrays.copyOf(contactSecond, capacity);
+			contactTimes = Arrays.copyOf(contactTimes, capacity);
+		}
+		contactFirst[contactCount] = first;
+		contactSecond[contactCount] = second;
+		contactTimes[contactCount] = time;
+		contactCount++;
 	}
 
 	/**
-	 * Handles collisions between user-fired projectiles and enemy units.
+	 * Orders the contacts by time of impact with an insertion sort. There are only a few contacts per tick,
+	 * and the sort is stable, so contacts at the same time keep the order they were found in.
 	 */
-	private void handleUserProjectileCollisions() {
-		handleCollisions(userProjectiles, enemyUnits);
+	private void sortContactsByTime() {
+		for (int c = 1; c < contactCount; c++) {
+			int first = contactFirst[c];
+			int second = contactSecond[c];
+			double time = contactTimes[c];
+			int d = c - 1;
+			while (d >= 0 && contactTimes[d] > time) {
+				contactFirst[d + 1] = contactFirst[d];
+				contactSecond[d + 1] = contactSecond[d];
+				contactTimes[d + 1] = contactTimes[d];
+				d--;
+			}
+			contactFirst[d + 1] = first;
+			contactSecond[d + 1] = second;
+			contactTimes[d + 1] = time;
+		}
 	}
 
 	/**
-	 * Handles collisions between user-fired projectiles and obstacles.
+	 * Adds the actors of a list to the collision pass, growing the candidate arrays if needed.
+	 *
+	 * @param actors the actors
+	 * @param layer  the collision layer of the actors
 	 */
-	private void handleProjectileObstacleCollisions() {
-		handleCollisions(userProjectiles, obstacles);
+	private void gatherCandidates(List<ActiveActorDestructible> actors, int layer) {
+		int needed = candidateCount + actors.size();
+		if (needed > collisionCandidates.length) {
+			int capacity = Math.max(needed, collisionCandidates.length * 2);
+			collisionCandidates = Arrays.copyOf(collisionCandidates, capacity);
+			candidateLayers = Arrays.copyOf(candidateLayers, capacity);
+		}
+		for (ActiveActorDestructible actor : actors) {
+			collisionCandidates[candidateCount] = actor;
+			candidateLayers[candidateCount] = layer;
+			candidateCount++;
+		}
 	}
 
 	/**
-	 * Handles collisions between enemy projectiles and friendly units.
+	 * Applies the responses of two colliding actors, and shows the hit unless both pass through.
+	 * A collected pickup applies its power-up instead of throwing sparks.
+	 *
+	 * @param actor      one of the colliding actors
+	 * @param layer      the collision layer of {@code actor}
+	 * @param otherActor the other colliding actor
+	 * @param otherLayer the collision layer of {@code otherActor}
 	 */
-	private void handleEnemyProjectileCollisions() {
-		handleCollisions(enemyProjectiles, friendlyUnits);
+	private void respondToCollision(ActiveActorDestructible actor, int layer,
+			ActiveActorDestructible otherActor, int otherLayer) {
+		CollisionResponse response = collisionMatrix.getResponse(layer, otherLayer);
+		CollisionResponse otherResponse = collisionMatrix.getResponse(otherLayer, layer);
+		if (response.isPassThrough() && otherResponse.isPassThrough()) return;
+		response.apply(actor);
+		otherResponse.apply(otherActor);
+		if (layer == CollisionMatrix.LAYER_PICKUP) {
+			user.applyPowerUp(((PowerUp) actor).getType());
+			return;
+		}
+		if (otherLayer == CollisionMatrix.LAYER_PICKUP) {
+			user.applyPowerUp(((PowerUp) otherActor).getType());
+			return;
+		}
+		emitHitEffects(actor, otherActor);
+		explodeIfDestroyed(actor);
+		explodeIfDestroyed(otherActor);
 	}
 
 	/**
-	 * Detects and processes collisions between two groups of actors.
+	 * Throws sparks where two actors collided: red when the user is hit, orange otherwise.
 	 *
-	 * @param actors1 the first group of actors
-	 * @param actors2 the second group of actors
+	 * @param actor      one of the colliding actors
+	 * @param otherActor the other colliding actor
 	 */
-	private void handleCollisions(List<ActiveActorDestructible> actors1,
-			List<ActiveActorDestructible> actors2) {
-		for (ActiveActorDestructible actor : actors2) {
-			for (ActiveActorDestructible otherActor : actors1) {
-				if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
-					actor.takeDamage();
-					otherActor.takeDamage();
-				}
-			}
+	private void emitHitEffects(ActiveActorDestructible actor, ActiveActorDestructible otherActor) {
+		double hitX = (centerX(actor) + centerX(otherActor)) / 2;
+		double hitY = (centerY(actor) + centerY(otherActor)) / 2;
+		boolean userHit = actor == user || otherActor == user;
+		particles.emitHit(hitX, hitY, userHit ? ParticleSystem.COLOR_PLAYER_HIT : ParticleSystem.COLOR_FIRE);
+	}
+
+	/**
+	 * Blows up an actor that was just destroyed by a collision, and may leave a power-up behind.
+	 * Projectiles simply vanish on impact.
+	 *
+	 * @param actor the actor that took damage
+	 */
+	private void explodeIfDestroyed(ActiveActorDestructible actor) {
+		if (!actor.isDestroyed() || actor instanceof Projectile) return;
+		double size = Math.max(actor.getHitboxWidth(), actor.getHitboxHeight()) * EXPLOSION_SCALE;
+		particles.emitExplosion(centerX(actor), centerY(actor), size);
+		soundManager.playSFX("explosion");
+		if (actor.dropsPowerUp() && random.nextDouble() < POWER_UP_DROP_CHANCE) {
+			dropPowerUp(actor);
 		}
 	}
 
+	/**
+	 * Drops a random power-up where an actor was destroyed. The pickup comes from the pool, so nothing is
+	 * allocated; if every pickup of the chosen type is already on the screen, nothing drops.
+	 *
+	 * @param actor the destroyed actor
+	 */
+	private void dropPowerUp(ActiveActorDestructible actor) {
+		PowerUpType[] types = PowerUpType.values();
+		PowerUp powerUp = powerUpPool.acquire(types[random.nextInt(types.length)]);
+		if (powerUp == null) return;
+		powerUp.drop(centerX(actor), centerY(actor));
+		if (!powerUps.contains(powerUp)) { //A pickup collected this tick is still listed until destroyed actors are removed
+			powerUps.add(powerUp);
+		}
+	}
+
+	/**
+	 * Returns the horizontal centre of an actor's hitbox.
+	 *
+	 * @param actor the actor
+	 * @return the x-coordinate of the centre
+	 */
+	private static double centerX(ActiveActor actor) {
+		return actor.getPositionX() + actor.getHitboxWidth() / 2;
+	}
+
+	/**
+	 * Returns the vertical centre of an actor's hitbox.
+	 *
+	 * @param actor the actor
+	 * @return the y-coordinate of the centre
+	 */
+	private static double centerY(ActiveActor actor) {
+		return actor.getPositionY() + actor.getHitboxHeight() / 2;
+	}
+
 	/**
 	 * Handles cases where an enemy unit penetrates the user's defenses.
 	 */
@@ -539,10 +1283,47 @@ public abstract class LevelParent extends Observable {
 	} //Obstacles do not count as enemies. Therefore, they should not make user take damage
 
 	/**
-	 * Updates the level view to reflect the user's current health.
+	 * Destroys projectiles and pickups that have left the screen, so they stop being updated and checked
+	 * for collisions.
+	 */
+	private void handleProjectilesLeavingScreen() {
+		destroyActorsLeavingScreen(userProjectiles);
+		destroyActorsLeavingScreen(enemyProjectiles);
+		destroyActorsLeavingScreen(powerUps);
+	}
+
+	/**
+	 * Destroys every actor in the list whose hitbox is entirely outside the screen.
+	 *
+	 * @param actors the actors to check
+	 */
+	private void destroyActorsLeavingScreen(List<ActiveActorDestructible> actors) {
+		for (ActiveActorDestructible actor : actors) {
+			if (actor.getPositionX() > screenWidth || actor.getPositionX() + actor.getHitboxWidth() < 0
+					|| actor.getPositionY() > screenHeight || actor.getPositionY() + actor.getHitboxHeight() < 0) {
+				actor.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Captures the current frame and publishes it to the renderer, which updates the level view
+	 * to reflect the user's current health.
 	 */
 	private void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
+		FrameSnapshot snapshot = snapshotExchange.getWriteBuffer();
+		snapshot.begin(++tickCount);
+		snapshot.captureAll(friendlyUnits);
+		snapshot.captureAll(enemyUnits);
+		snapshot.captureAll(userProjectiles);
+		snapshot.captureAll(enemyProjectiles);
+		snapshot.captureAll(obstacles);
+		snapshot.captureAll(powerUps);
+		snapshot.setUserHealth(user.getHealth());
+		snapshot.setLaser(user.getLaserOriginX(), user.getLaserOriginY(), laserLength);
+		particles.capture(snapshot.getParticles());
+		telegraphs.capture(snapshot.getTelegraphs());
+		snapshotExchange.publish();
 	}
 
 	/**
@@ -561,7 +1342,7 @@ public abstract class LevelParent extends Observable {
 	 * @return true if the enemy has penetrated, false otherwise
 	 */
 	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-		return Math.abs(enemy.getTranslateX()) > screenWidth;
+		return Math.abs(enemy.getOffsetX()) > screenWidth;
 	}
 
 	/**
@@ -571,29 +1352,89 @@ public abstract class LevelParent extends Observable {
 	 * @return true if the obstacle has penetrated, false otherwise
 	 */
 	private boolean obstacleHasPenetratedDefenses(ActiveActorDestructible obstacles) {
-		return Math.abs(obstacles.getTranslateX()) > screenWidth;
+		return Math.abs(obstacles.getOffsetX()) > screenWidth;
 	}
 
 	/**
 	 * Handles actions for winning the game.
 	 */
 	protected void winGame() {
-		timeline.stop();
+		stopGameLoop();
 		isGameActive = false;
-		levelView.showWinImage();
+		didGameEnd = true;
+		finishRun(true);
+		LevelResult result = createResult(true);
 		cleanAssets();
-		showMainMenuButton(stage);
+		for (LevelListener listener : listeners) listener.onGameOver(this, result);
+		Platform.runLater(() -> {
+			levelView.showWinImage();
+			showMainMenuButton(stage);
+		});
 	}
 
 	/**
 	 * Handles actions for losing the game.
 	 */
 	protected void loseGame() {
-		timeline.stop();
+		stopGameLoop();
 		isGameActive = false;
 		didGameEnd = true;
-		levelView.showGameOverImage();
-		showMainMenuButton(stage);
+		finishRun(false);
+		LevelResult result = createResult(false);
+		for (LevelListener listener : listeners) listener.onGameOver(this, result);
+		Platform.runLater(() -> {
+			levelView.showGameOverImage();
+			showMainMenuButton(stage);
+		});
+	}
+
+	/**
+	 * Ends the run and hands its record to the {@link RunStatsStore}, which saves it in the background.
+	 * Any saved checkpoint of the run is discarded. Does nothing if the level is not part of a run
+	 * or the run has already ended.
+	 *
+	 * @param won whether the run was won
+	 */
+	private void finishRun(boolean won) {
+		if (run == null) return;
+		RunRecord record = run.finish(user.getNumberOfKills(), user.getDamageTaken(), getElapsedMillis(), won);
+		if (record != null) {
+			RunStatsStore.getInstance().record(record);
+			CheckpointStore.getInstance().clear();
+		}
+	}
+
+	/**
+	 * Returns the time spent playing the level, excluding pauses, summed over the simulation ticks.
+	 *
+	 * @return the play time in milliseconds
+	 */
+	private long getElapsedMillis() {
+		return playTimeMillis;
+	}
+
+	/**
+	 * Leaves the level for the main menu. A paused run is saved so it can be resumed later; otherwise the run ends.
+	 * Must be called on the JavaFX application thread.
+	 */
+	public void returnToMainMenu() {
+		stopGameLoop(); //Waits for the simulation thread before touching its state
+		if (!didGameEnd && pausedCheckpoint != null) {
+			CheckpointStore.getInstance().save(pausedCheckpoint); //Leaving from the pause menu can be resumed later
+		}
+		else {
+			finishRun(false);
+		}
+		cleanAssets(); //To ensure all assets will always be cleaned.
+		// Close the popup button (remove it) when clicked
+		if (popupButton != null) root.getChildren().remove(popupButton);
+		soundManager.playBackgroundMusic(BG_MUSIC); //Crossfades from the level music
+		MainMenuController mainMenuController = new MainMenuController();
+		try {
+			mainMenuController.showMainMenu(stage);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
 	}
 
 	/**
@@ -602,9 +1443,6 @@ public abstract class LevelParent extends Observable {
 	 * @param stage the primary stage of the application
 	 */
 	private void showMainMenuButton(Stage stage) {
-		// Create a StackPane as a parent container to center the button
-		Group root = (Group) scene.getRoot();
-
 		if (popupButton == null) {
 			popupButton = new Button("Go Back To Main Menu");
 			popupButton.setStyle("-fx-font-size: 16px; -fx-padding: 10;");
@@ -615,19 +1453,7 @@ public abstract class LevelParent extends Observable {
 
 			popupButton.setFocusTraversable(false);
 
-			popupButton.setOnAction(event -> {
-				cleanAssets(); //To ensure all assets will always be cleaned.
-				// Close the popup button (remove it) when clicked
-				root.getChildren().remove(popupButton);
-				soundManager.stopBackgroundMusic();
-				soundManager.playBackgroundMusic(BG_MUSIC);
-				MainMenuController mainMenuController = new MainMenuController();
-				try {
-					mainMenuController.showMainMenu(stage);
-				} catch (IOException e) {
-					throw new RuntimeException(e);
-				}
-			});
+			popupButton.setOnAction(event -> returnToMainMenu());
 		}
 		// Add the popup button to the root layout (overlay)
 		root.getChildren().add(popupButton);
@@ -642,6 +1468,25 @@ public abstract class LevelParent extends Observable {
 		return user;
 	}
 
+	/**
+	 * Gets the timer wheel of the level, for cooldowns, durations and delayed actions counted in ticks.
+	 * Only used on the simulation thread.
+	 *
+	 * @return the timer wheel
+	 */
+	protected TimerWheel getTimerWheel() {
+		return timers;
+	}
+
+	/**
+	 * Gets the collision matrix of the level, so a level can change which actors collide and how they respond.
+	 *
+	 * @return the collision matrix
+	 */
+	protected CollisionMatrix getCollisionMatrix() {
+		return collisionMatrix;
+	}
+
 	/**
 	 * Gets the root group of the game scene.
 	 *
@@ -666,8 +1511,10 @@ public abstract class LevelParent extends Observable {
 	 * @param enemy the enemy unit to add
 	 */
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
+		enemy.setTimerWheel(timers);
+		enemy.setRandom(random);
 		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+		((FighterPlane) enemy).startFiring(enemyProjectiles);
 	}
 
 	/**
@@ -686,9 +1533,18 @@ public abstract class LevelParent extends Observable {
 	 */
 	protected void addObstacle(ActiveActorDestructible obstacle) {
 		obstacles.add(obstacle);
-		root.getChildren().add(obstacle);
 	} // Add obstacles to the scene
 
+	/**
+	 * Gets the source of random numbers for spawning, seeded from the run and shared with the level's actors.
+	 * Only used on the simulation thread.
+	 *
+	 * @return the level's random number generator
+	 */
+	protected Random getRandom() {
+		return random;
+	}
+
 	/**
 	 * Gets the maximum Y position for enemy units.
 	 *
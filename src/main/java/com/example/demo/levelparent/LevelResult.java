@@ -0,0 +1,96 @@
+package com.example.demo.levelparent;
+
+/**
+ * The {@code LevelResult} class is the outcome of a level, handed to {@link LevelListener}s when the level is
+ * completed or the game ends in it.
+ */
+public class LevelResult {
+
+    /** Simple class name of the level. */
+    private final String levelName;
+
+    /** Number of enemies the user destroyed in the level. */
+    private final int kills;
+
+    /** Number of hits the user took in the level. */
+    private final int damageTaken;
+
+    /** Time spent playing the level in milliseconds, excluding pauses. */
+    private final long elapsedMillis;
+
+    /** Whether the level was won. */
+    private final boolean won;
+
+    /**
+     * Constructs a {@code LevelResult}.
+     *
+     * @param levelName      the simple class name of the level
+     * @param kills          the number of enemies destroyed
+     * @param damageTaken    the number of hits taken
+     * @param elapsedMillis  the time spent playing the level in milliseconds
+     * @param won            whether the level was won
+     */
+    public LevelResult(String levelName, int kills, int damageTaken, long elapsedMillis, boolean won) {
+        this.levelName = levelName;
+        this.kills = kills;
+        this.damageTaken = damageTaken;
+        this.elapsedMillis = elapsedMillis;
+        this.won = won;
+    }
+
+    /**
+     * Returns the simple class name of the level.
+     *
+     * @return the level name
+     */
+    public String getLevelName() {
+        return levelName;
+    }
+
+    /**
+     * Returns the number of enemies the user destroyed in the level.
+     *
+     * @return the kill count
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Returns the number of hits the user took in the level.
+     *
+     * @return the damage taken
+     */
+    public int getDamageTaken() {
+        return damageTaken;
+    }
+
+    /**
+     * Returns the time spent playing the level, excluding pauses.
+     *
+     * @return the play time in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Checks whether the level was won.
+     *
+     * @return {@code true} if the level was won
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Returns a short description of the result, for debugging lines.
+     *
+     * @return the description
+     */
+    @Override
+    public String toString() {
+        return levelName + (won ? " won" : " lost") + ": " + kills + " kills, " + damageTaken + " damage taken, "
+                + elapsedMillis + " ms";
+    }
+}
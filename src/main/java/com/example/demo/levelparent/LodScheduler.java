@@ -0,0 +1,109 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+import java.util.List;
+
+/**
+ * The {@code LodScheduler} class updates actors at a level of detail that depends on where they are.
+ * <p>
+ * Actors whose hitbox reaches into the screen, or comes within a margin of it, are in range and updated every
+ * tick. Actors further out are updated only every {@value #OUT_OF_RANGE_INTERVAL} ticks, and make up the ticks they
+ * missed in one {@link ActiveActorDestructible#catchUp(int)} call. An actor coming back into range makes up its
+ * missed ticks straight away, so it enters the screen exactly where it would have been. Every actor on the screen
+ * is visible and can be shot, so it is always updated at full rate.
+ * </p>
+ */
+public class LodScheduler {
+
+    /** Number of ticks between updates of an actor out of range. */
+    public static final int OUT_OF_RANGE_INTERVAL = 4;
+
+    /**
+     * Distance outside the screen still in range, in pixels. It covers the distance the fastest actor moves
+     * between two out-of-range updates, so nothing jumps onto the screen.
+     */
+    private static final double RANGE_MARGIN = 100;
+
+    /** Width of the screen. */
+    private final double screenWidth;
+
+    /** Height of the screen. */
+    private final double screenHeight;
+
+    /**
+     * Constructs a {@code LodScheduler} for a screen.
+     *
+     * @param screenWidth  the width of the screen
+     * @param screenHeight the height of the screen
+     */
+    public LodScheduler(double screenWidth, double screenHeight) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+    }
+
+    /**
+     * Works out which actors of a list are in range this tick. Call it before anything that treats out-of-range
+     * actors differently, such as steering.
+     *
+     * @param actors the actors
+     */
+    public void classify(List<ActiveActorDestructible> actors) {
+        for (int i = 0, size = actors.size(); i < size; i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            actor.setInUpdateRange(isInRange(actor));
+        }
+    }
+
+    /**
+     * Updates every actor of a list at its level of detail: actors in range every tick, making up any ticks they
+     * missed first, and actors out of range every {@value #OUT_OF_RANGE_INTERVAL} ticks.
+     *
+     * @param actors the actors, classified for this tick
+     */
+    public void update(List<ActiveActorDestructible> actors) {
+        for (int i = 0, size = actors.size(); i < size; i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (actor.isInUpdateRange()) {
+                int missed = actor.takeDeferredTicks();
+                if (missed == 0) {
+                    actor.updateActor();
+                }
+                else {
+                    actor.catchUp(missed + 1);
+                }
+            }
+            else if (actor.deferUpdate() >= OUT_OF_RANGE_INTERVAL) {
+                actor.catchUp(actor.takeDeferredTicks());
+            }
+        }
+    }
+
+    /**
+     * Makes up every missed tick of a list at once, so the actors' state is exact, for example before it is saved.
+     *
+     * @param actors the actors
+     */
+    public void flush(List<ActiveActorDestructible> actors) {
+        for (int i = 0, size = actors.size(); i < size; i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            int missed = actor.takeDeferredTicks();
+            if (missed > 0) {
+                actor.catchUp(missed);
+            }
+        }
+    }
+
+    /**
+     * Checks whether an actor's hitbox comes within the margin of the screen.
+     *
+     * @param actor the actor
+     * @return {@code true} if the actor should be updated every tick
+     */
+    private boolean isInRange(ActiveActorDestructible actor) {
+        double x = actor.getPositionX();
+        double y = actor.getPositionY();
+        return x < screenWidth + RANGE_MARGIN && x + actor.getHitboxWidth() > -RANGE_MARGIN
+                && y < screenHeight + RANGE_MARGIN && y + actor.getHitboxHeight() > -RANGE_MARGIN;
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code SpatialGrid} class is a uniform grid over the screen for ray and neighbour queries against actors.
+ * <p>
+ * Each actor is entered in every cell its hitbox overlaps. A ray is walked cell column by cell column from its
+ * start, and stops as soon as the nearest hit found so far starts before the next column, so a query only looks
+ * at actors close to the ray. A range query only looks at the cells the range overlaps. Entries are kept in
+ * primitive-linked arrays reused between ticks, so rebuilding the grid allocates nothing once it has grown to the
+ * number of actors on screen.
+ * </p>
+ */
+public class SpatialGrid {
+
+    /** Marks the end of a cell's entry list. */
+    private static final int NO_ENTRY = -1;
+
+    /** Side of a cell in pixels. */
+    private final double cellSize;
+
+    /** Number of cell columns. */
+    private final int columns;
+
+    /** Number of cell rows. */
+    private final int rows;
+
+    /** First entry of each cell, indexed by row then column, or {@link #NO_ENTRY}. */
+    private final int[] cellHeads;
+
+    /** The actor of each entry. */
+    private ActiveActorDestructible[] entries = new ActiveActorDestructible[64];
+
+    /** The next entry in the same cell, or {@link #NO_ENTRY}. */
+    private int[] nextEntries = new int[64];
+
+    /** Number of entries in use. */
+    private int entryCount;
+
+    /** Where the last ray hit, or its end if it hit nothing. */
+    private double lastHitX;
+
+    /** Actors found by the last range query. */
+    private ActiveActorDestructible[] queryResults = new ActiveActorDestructible[16];
+
+    /** Number of actors found by the last range query. */
+    private int queryCount;
+
+    /**
+     * Constructs an empty {@code SpatialGrid} covering the screen.
+     *
+     * @param width    the width of the screen
+     * @param height   the height of the screen
+     * @param cellSize the side of a cell in pixels
+     */
+    public SpatialGrid(double width, double height, double cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cellHeads = new int[columns * rows];
+        Arrays.fill(cellHeads, NO_ENTRY);
+    }
+
+    /**
+     * Removes every actor from the grid.
+     */
+    public void clear() {
+        Arrays.fill(cellHeads, NO_ENTRY);
+        Arrays.fill(entries, 0, entryCount, null); // Let removed actors be collected
+        entryCount = 0;
+        Arrays.fill(queryResults, 0, queryCount, null);
+        queryCount = 0;
+    }
+
+    /**
+     * Enters every live actor of a list in the grid.
+     *
+     * @param actors the actors
+     */
+    public void insertAll(List<ActiveActorDestructible> actors) {
+        for (ActiveActorDestructible actor : actors) {
+            if (!actor.isDestroyed()) {
+                insert(actor);
+            }
+        }
+    }
+
+    /**
+     * Enters an actor in every cell its hitbox overlaps. Actors entirely off screen are left out.
+     *
+     * @param actor the actor
+     */
+    public void insert(ActiveActorDestructible actor) {
+        double minX = actor.getPositionX();
+        double minY = actor.getPositionY();
+        int firstColumn = Math.max(0, column(minX));
+        int lastColumn = Math.min(columns - 1, column(minX + actor.getHitboxWidth()));
+        int firstRow = Math.max(0, row(minY));
+        int lastRow = Math.min(rows - 1, row(minY + actor.getHitboxHeight()));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                addEntry(row * columns + column, actor);
+            }
+        }
+    }
+
+    /**
+     * Casts a horizontal band rightwards and finds the first actor it hits.
+     *
+     * @param startX the x-coordinate the band starts at
+     * @param minY   the top of the band
+     * @param maxY   the bottom of the band
+     * @param endX   the x-coordinate the band ends at
+     * @return the first actor hit, or {@code null} if the band hits nothing;
+     *         {@link #getLastHitX()} then gives where it was hit
+     */
+    public ActiveActorDestructible castRight(double startX, double minY, double maxY, double endX) {
+        ActiveActorDestructible nearest = null;
+        double nearestX = endX;
+        int firstRow = Math.max(0, row(minY));
+        int lastRow = Math.min(rows - 1, row(maxY));
+        int lastColumn = Math.min(columns - 1, column(endX));
+        for (int column = Math.max(0, column(startX)); column <= lastColumn; column++) {
+            if (column * cellSize > nearestX) break; // Nothing further along can be hit first
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int entry = cellHeads[row * columns + column]; entry != NO_ENTRY; entry = nextEntries[entry]) {
+                    ActiveActorDestructible actor = entries[entry];
+                    double actorMinX = actor.getPositionX();
+                    double actorMinY = actor.getPositionY();
+                    if (actor.isDestroyed() || actorMinX + actor.getHitboxWidth() < startX
+                            || actorMinY > maxY || actorMinY + actor.getHitboxHeight() < minY) {
+                        continue;
+                    }
+                    double hitX = Math.max(actorMinX, startX);
+                    if (hitX < nearestX) {
+                        nearest = actor;
+                        nearestX = hitX;
+                    }
+                }
+            }
+        }
+        lastHitX = nearestX;
+        return nearest;
+    }
+
+    /**
+     * Finds every live actor whose hitbox overlaps a rectangle. An actor spanning several cells is reported once,
+     * from the first cell it shares with the rectangle.
+     *
+     * @param minX the left of the rectangle
+     * @param minY the top of the rectangle
+     * @param maxX the right of the rectangle
+     * @param maxY the bottom of the rectangle
+     * @return the number of actors found; {@link #getQueryResult(int)} gives each of them
+     */
+    public int queryRange(double minX, double minY, double maxX, double maxY) {
+        Arrays.fill(queryResults, 0, queryCount, null);
+        queryCount = 0;
+        int firstColumn = Math.max(0, column(minX));
+        int lastColumn = Math.min(columns - 1, column(maxX));
+        int firstRow = Math.max(0, row(minY));
+        int lastRow = Math.min(rows - 1, row(maxY));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                for (int entry = cellHeads[row * columns + column]; entry != NO_ENTRY; entry = nextEntries[entry]) {
+                    ActiveActorDestructible actor = entries[entry];
+                    double actorMinX = actor.getPositionX();
+                    double actorMinY = actor.getPositionY();
+                    if (actor.isDestroyed() || actorMinX > maxX || actorMinX + actor.getHitboxWidth() < minX
+                            || actorMinY > maxY || actorMinY + actor.getHitboxHeight() < minY) {
+                        continue;
+                    }
+                    if (column != Math.max(firstColumn, column(actorMinX))
+                            || row != Math.max(firstRow, row(actorMinY))) {
+                        continue; // Already reported from an earlier cell
+                    }
+                    if (queryCount == queryResults.length) {
+                        queryResults = Arrays.copyOf(queryResults, queryCount * 2);
+                    }
+                    queryResults[queryCount++] = actor;
+                }
+            }
+        }
+        return queryCount;
+    }
+
+    /**
+     * Returns an actor found by the last range query.
+     *
+     * @param index the index of the actor, below the count the query returned
+     * @return the actor
+     */
+    public ActiveActorDestructible getQueryResult(int index) {
+        return queryResults[index];
+    }
+
+    /**
+     * Returns where the last ray cast hit its target, or its end if it hit nothing.
+     *
+     * @return the x-coordinate of the hit
+     */
+    public double getLastHitX() {
+        return lastHitX;
+    }
+
+    /**
+     * Adds an entry to the front of a cell's list, growing the entry arrays if needed.
+     *
+     * @param cell  the index of the cell
+     * @param actor the actor
+     */
+    private void addEntry(int cell, ActiveActorDestructible actor) {
+        if (entryCount == entries.length) {
+            entries = Arrays.copyOf(entries, entryCount * 2);
+            nextEntries = Arrays.copyOf(nextEntries, entryCount * 2);
+        }
+        entries[entryCount] = actor;
+        nextEntries[entryCount] = cellHeads[cell];
+        cellHeads[cell] = entryCount;
+        entryCount++;
+    }
+
+    /**
+     * Returns the column of the cell containing an x-coordinate, which may be outside the grid.
+     *
+     * @param x the x-coordinate
+     * @return the column
+     */
+    private int column(double x) {
+        return (int) Math.floor(x / cellSize);
+    }
+
+    /**
+     * Returns the row of the cell containing a y-coordinate, which may be outside the grid.
+     *
+     * @param y the y-coordinate
+     * @return the row
+     */
+    private int row(double y) {
+        return (int) Math.floor(y / cellSize);
+    }
+}
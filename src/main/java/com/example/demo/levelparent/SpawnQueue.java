@@ -0,0 +1,118 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+import java.util.Arrays;
+
+/**
+ * The {@code SpawnQueue} class holds actors that have already been created but enter the level later.
+ * <p>
+ * Deciding a spawn ahead of time lets the level announce it with a warning sign before it arrives.
+ * Actors are kept in a ring buffer in the order they were queued, with the tick each one is due on.
+ * Since every spawn is queued the same number of ticks ahead, the head of the queue is always the next one due.
+ * </p>
+ */
+public class SpawnQueue {
+
+    /** Initial number of actors the queue can hold before growing. */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** The queued actors, in ring order starting at {@link #head}. */
+    private ActiveActorDestructible[] actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+
+    /** The tick each queued actor is due on. */
+    private long[] dueTicks = new long[INITIAL_CAPACITY];
+
+    /** Index of the oldest queued actor. */
+    private int head;
+
+    /** Number of queued actors. */
+    private int size;
+
+    /**
+     * Queues an actor to enter the level on the given tick.
+     *
+     * @param actor   the actor
+     * @param dueTick the tick the actor enters the level on
+     */
+    public void add(ActiveActorDestructible actor, long dueTick) {
+        if (size == actors.length) {
+            grow();
+        }
+        int index = (head + size) % actors.length;
+        actors[index] = actor;
+        dueTicks[index] = dueTick;
+        size++;
+    }
+
+    /**
+     * Removes the oldest queued actor if it is due.
+     *
+     * @param tick the current tick
+     * @return the actor, or {@code null} if the queue is empty or its oldest actor is not due yet
+     */
+    public ActiveActorDestructible pollDue(long tick) {
+        if (size == 0 || dueTicks[head] > tick) {
+            return null;
+        }
+        ActiveActorDestructible actor = actors[head];
+        actors[head] = null;
+        head = (head + 1) % actors.length;
+        size--;
+        return actor;
+    }
+
+    /**
+     * Returns a queued actor.
+     *
+     * @param index the position of the actor in the queue, {@code 0} being the oldest
+     * @return the actor
+     */
+    public ActiveActorDestructible get(int index) {
+        return actors[(head + index) % actors.length];
+    }
+
+    /**
+     * Returns the tick a queued actor is due on.
+     *
+     * @param index the position of the actor in the queue, {@code 0} being the oldest
+     * @return the tick the actor enters the level on
+     */
+    public long getDueTick(int index) {
+        return dueTicks[(head + index) % actors.length];
+    }
+
+    /**
+     * Returns the number of queued actors.
+     *
+     * @return the queue size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every queued actor.
+     */
+    public void clear() {
+        Arrays.fill(actors, null);
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Doubles the capacity of the queue, unrolling the ring so the oldest actor comes first.
+     */
+    private void grow() {
+        int capacity = actors.length * 2;
+        ActiveActorDestructible[] grownActors = new ActiveActorDestructible[capacity];
+        long[] grownTicks = new long[capacity];
+        for (int i = 0; i < size; i++) {
+            grownActors[i] = get(i);
+            grownTicks[i] = getDueTick(i);
+        }
+        actors = grownActors;
+        dueTicks = grownTicks;
+        head = 0;
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.demo.levelparent;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.enemies.SteeredPlane;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code SteeringSystem} class steers every {@link SteeredPlane} of a level in one batched pass.
+ * <p>
+ * The positions, velocities and steering parameters of all steered planes are copied into primitive arrays reused
+ * between passes. Each plane's desired velocity comes from its behaviour (seek, flee or weave), is pushed away from
+ * obstacles and other planes found ahead of it through a {@link SpatialGrid}, and the velocity turns towards it by
+ * at most the plane's steering force. Planes held in a {@link Formation} are left to it. Each new velocity is
+ * written back as soon as it is worked out, and the planes move by it in their own update. Once the arrays have
+ * grown to the number of planes on screen, a pass allocates nothing.
+ * </p>
+ * <p>
+ * A pass is run in slices of a few planes, so it can be spread over several ticks when a tick runs out of time.
+ * Planes not yet steered keep flying at their current velocity until their turn comes.
+ * </p>
+ */
+public class SteeringSystem {
+
+    /** How strongly seeking planes close the vertical gap to their target, per tick. */
+    private static final double SEEK_GAIN = 0.05;
+
+    /** Vertical distance from the target's line of fire within which fleeing planes move away. */
+    private static final double FLEE_DISTANCE = 150;
+
+    /** Change of the weave phase per tick, in radians. */
+    private static final double WEAVE_FREQUENCY = 0.06;
+
+    /** How far ahead of a plane obstacles and other planes are avoided, in pixels. */
+    private static final double AVOID_LOOKAHEAD = 150;
+
+    /** Extra room kept above and below a plane when looking for things to avoid, in pixels. */
+    private static final double AVOID_MARGIN = 20;
+
+    /** The steered planes, in the order they were gathered this tick. */
+    private SteeredPlane[] agents = new SteeredPlane[16];
+
+    /** Top left corner of each plane. */
+    private double[] positionX = new double[16];
+    private double[] positionY = new double[16];
+
+    /** Velocity of each plane. */
+    private double[] velocityX = new double[16];
+    private double[] velocityY = new double[16];
+
+    /** Hitbox size of each plane. */
+    private double[] width = new double[16];
+    private double[] height = new double[16];
+
+    /** Number of planes gathered for the current pass. */
+    private int count;
+
+    /** Index of the next plane to steer in the current pass. */
+    private int next;
+
+    /** Whether a pass has started and not yet finished. */
+    private boolean steering;
+
+    /** Centre of the actor planes seek or flee in the current pass. */
+    private double targetX;
+    private double targetY;
+
+    /** The grid of things to avoid in the current pass. */
+    private SpatialGrid grid;
+
+    /** Vertical bounds of the top of a plane in the current pass. */
+    private double minY;
+    private double maxY;
+
+    /**
+     * Starts a pass over every live {@link SteeredPlane} in the list. Other actors, planes held in a formation and
+     * planes out of update range are left alone.
+     *
+     * @param actors the actors to steer
+     * @param target the actor planes seek or flee, usually the user's plane
+     * @param grid   a grid holding the obstacles and planes to avoid, kept until the pass finishes
+     * @param minY   the highest the top of a plane may go
+     * @param maxY   the lowest the top of a plane may go
+     */
+    public void begin(List<ActiveActorDestructible> actors, ActiveActor target, SpatialGrid grid,
+                      double minY, double maxY) {
+        gather(actors);
+        this.targetX = target.getPositionX() + target.getHitboxWidth() / 2;
+        this.targetY = target.getPositionY() + target.getHitboxHeight() / 2;
+        this.grid = grid;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.next = 0;
+        this.steering = true;
+    }
+
+    /**
+     * Steers the next planes of the current pass.
+     *
+     * @param maxPlanes the most planes to steer in this slice
+     * @return {@code true} if the pass is finished
+     */
+    public boolean steerSlice(int maxPlanes) {
+        int end = Math.min(count, next + maxPlanes);
+        for (; next < end; next++) {
+            steer(next);
+            agents[next].setVelocity(velocityX[next], velocityY[next]);
+        }
+        if (next < count) return false;
+        Arrays.fill(agents, 0, count, null); // Let destroyed planes be collected
+        count = 0;
+        grid = null;
+        steering = false;
+        return true;
+    }
+
+    /**
+     * Checks whether a pass has started and not yet finished.
+     *
+     * @return {@code true} if planes of the current pass are still waiting to be steered
+     */
+    public boolean isSteering() {
+        return steering;
+    }
+
+    /**
+     * Copies the state of every live steered plane in range and not held in a formation into the arrays, growing
+     * them if needed.
+     *
+     * @param actors the actors to gather from
+     */
+    private void gather(List<ActiveActorDestructible> actors) {
+        for (int i = 0, size = actors.size(); i < size; i++) {
+            if (actors.get(i) instanceof SteeredPlane plane && !plane.isDestroyed() && plane.isInUpdateRange()
+                    && plane.getSteeringBehaviour() != SteeredPlane.FORMATION) {
+                if (count == agents.length) {
+                    grow();
+                }
+                agents[count] = plane;
+                positionX[count] = plane.getPositionX();
+                positionY[count] = plane.getPositionY();
+                velocityX[count] = plane.getVelocityX();
+                velocityY[count] = plane.getVelocityY();
+                width[count] = plane.getHitboxWidth();
+                height[count] = plane.getHitboxHeight();
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Doubles the size of the arrays.
+     */
+    private void grow() {
+        int size = agents.length * 2;
+        agents = Arrays.copyOf(agents, size);
+        positionX = Arrays.copyOf(positionX, size);
+        positionY = Arrays.copyOf(positionY, size);
+        velocityX = Arrays.copyOf(velocityX, size);
+        velocityY = Arrays.copyOf(velocityY, size);
+        width = Arrays.copyOf(width, size);
+        height = Arrays.copyOf(height, size);
+    }
+
+    /**
+     * Works out the new velocity of one plane.
+     *
+     * @param i the index of the plane
+     */
+    private void steer(int i) {
+        SteeredPlane plane = agents[i];
+        double maxSpeed = plane.getMaxSpeed();
+        double centerX = positionX[i] + width[i] / 2;
+        double centerY = positionY[i] + height[i] / 2;
+        double desiredX = plane.getCruiseVelocity();
+        double desiredY = 0;
+        switch (plane.getSteeringBehaviour()) {
+            case SteeredPlane.SEEK -> desiredY = (targetY - centerY) * SEEK_GAIN;
+            case SteeredPlane.FLEE -> {
+                double gap = centerY - targetY;
+                if (centerX > targetX && Math.abs(gap) < FLEE_DISTANCE) {
+                    desiredY = (gap >= 0 ? maxSpeed : -maxSpeed) * (1 - Math.abs(gap) / FLEE_DISTANCE);
+                }
+            }
+            case SteeredPlane.WEAVE -> {
+                double phase = plane.getWeavePhase() + WEAVE_FREQUENCY;
+                plane.setWeavePhase(phase);
+                desiredY = Math.sin(phase) * maxSpeed;
+            }
+            default -> {
+            }
+        }
+        desiredY += avoidance(i, centerY);
+
+        double desiredSpeed = Math.sqrt(desiredX * desiredX + desiredY * desiredY);
+        if (desiredSpeed > maxSpeed) {
+            desiredX *= maxSpeed / desiredSpeed;
+            desiredY *= maxSpeed / desiredSpeed;
+        }
+        double forceX = desiredX - velocityX[i];
+        double forceY = desiredY - velocityY[i];
+        double force = Math.sqrt(forceX * forceX + forceY * forceY);
+        double maxForce = plane.getMaxForce();
+        if (force > maxForce) {
+            forceX *= maxForce / force;
+            forceY *= maxForce / force;
+        }
+        double newVelocityX = velocityX[i] + forceX;
+        double newVelocityY = velocityY[i] + forceY;
+        double nextY = positionY[i] + newVelocityY;
+        if (nextY < minY) {
+            newVelocityY = minY - positionY[i];
+        }
+        else if (nextY > maxY) {
+            newVelocityY = maxY - positionY[i];
+        }
+        velocityX[i] = newVelocityX;
+        velocityY[i] = newVelocityY;
+    }
+
+    /**
+     * Works out how fast a plane should move vertically to stay clear of the obstacles and other planes ahead of it.
+     * The closer something is, the harder the plane turns away from it.
+     *
+     * @param i       the index of the plane
+     * @param centerY the y-coordinate of the plane's centre
+     * @return the vertical velocity to add to the plane's desired velocity
+     */
+    private double avoidance(int i, double centerY) {
+        SteeredPlane plane = agents[i];
+        double maxSpeed = plane.getMaxSpeed();
+        double minX = positionX[i] - AVOID_LOOKAHEAD;
+        double maxX = positionX[i] + width[i];
+        int found = grid.queryRange(minX, positionY[i] - AVOID_MARGIN, maxX, positionY[i] + height[i] + AVOID_MARGIN);
+        double push = 0;
+        for (int n = 0; n < found; n++) {
+            ActiveActorDestructible other = grid.getQueryResult(n);
+            if (other == plane) continue;
+            double otherCenterY = other.getPositionY() + other.getHitboxHeight() / 2;
+            double ahead = positionX[i] - (other.getPositionX() + other.getHitboxWidth());
+            double closeness = 1 - Math.max(0, ahead) / AVOID_LOOKAHEAD;
+            push += (centerY >= otherCenterY ? maxSpeed : -maxSpeed) * closeness;
+        }
+        return push;
+    }
+}
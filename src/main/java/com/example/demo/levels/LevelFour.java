@@ -4,6 +4,8 @@ import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.enemies.Boss;
 import com.example.demo.actors.obstacles.Asteroid;
 import com.example.demo.actors.obstacles.Satellite;
+import com.example.demo.actors.projectile.BossProjectile;
+import com.example.demo.levelparent.CheckpointActorFactory;
 import com.example.demo.levelparent.LevelParent;
 import com.example.demo.controller.SoundManager;
 import javafx.stage.Stage;
@@ -25,11 +27,14 @@ public class LevelFour extends LevelParent {
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 	private static final int MAX_OBSTACLES = 3;
 	private static final double OBSTACLE_SPAWN_PROBABILITY = .5;
+	/** Distance from the boss's left edge to the warning sign announcing its attacks. */
+	private static final double BOSS_WARNING_OFFSET = 40;
 	private final Boss boss;
 
 	//sounds
 	private SoundManager soundManager;
-	private static final String LEVEL_BG_MUSIC = "/com/example/demo/sfx/level_music/bossMusic.mp3";
+	/** The background music of the level, prefetched ahead of it so it can crossfade in. */
+	public static final String LEVEL_BG_MUSIC = "/com/example/demo/sfx/level_music/bossMusic.mp3";
 
 	/**
 	 * Constructs a LevelFour instance.
@@ -45,20 +50,23 @@ public class LevelFour extends LevelParent {
 		soundManager = SoundManager.getInstance(); // Initialize SoundManager instance
 		soundManager.playBackgroundMusic(LEVEL_BG_MUSIC); // Play background music for the level
 		boss = new Boss();
+		boss.setTarget(getUser()); // Aimed bullet patterns fire at the player
 	}
 
 	/**
 	 * Initializes the friendly units for the level, which in this case is the player (user).
-	 * The user is added to the root node of the level's scene.
+	 * The user is added to the root node of the level's scene, along with the boss's hidden shield image,
+	 * since the scene can only be modified on the JavaFX application thread.
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
 		getRoot().getChildren().add(getUser());
+		getRoot().getChildren().add(boss.getshieldImage());
 	}
 
 	/**
 	 * Checks whether the game is over. If the user is destroyed and the boss is not yet destroyed, the game is lost.
-	 * If the boss is destroyed, the game is won and the background music is stopped.
+	 * If the boss is destroyed, the game is won and the background music fades out.
 	 */
 	@Override
 	protected void checkIfGameOver() {
@@ -71,15 +79,49 @@ public class LevelFour extends LevelParent {
 		}
 	}
 
+	/**
+	 * Restores the level's own boss instead of creating a second one, so the win condition and the
+	 * shield image keep following the boss on screen. Restored boss projectiles are handed to the boss's
+	 * projectile pool, so they are reused like the ones it fires.
+	 *
+	 * @param type     the actor's type code
+	 * @param initialX the actor's initial x-coordinate
+	 * @param initialY the actor's initial y-coordinate
+	 * @return the actor to read the saved state into
+	 */
+	@Override
+	protected ActiveActorDestructible createRestoredActor(int type, double initialX, double initialY) {
+		if (type == CheckpointActorFactory.BOSS) {
+			return boss;
+		}
+		ActiveActorDestructible actor = super.createRestoredActor(type, initialX, initialY);
+		if (actor instanceof BossProjectile) {
+			boss.adoptProjectile((BossProjectile) actor);
+		}
+		return actor;
+	}
+
+	/**
+	 * Announces the boss's next bullet pattern with a warning sign in front of the boss, the warning lead time
+	 * before it fires.
+	 */
+	@Override
+	protected void announceAttacks() {
+		int leadTicks = getTelegraphLeadTicks();
+		if (leadTicks == 0 || boss.isDestroyed()) return;
+		int ticksUntilAttack = boss.announceAttack(leadTicks);
+		if (ticksUntilAttack > 0) {
+			telegraph(boss.getPositionX() - BOSS_WARNING_OFFSET, boss.getPositionY() + boss.getHitboxHeight() / 2, ticksUntilAttack);
+		}
+	}
+
 	/**
 	 * Spawns the enemy units for the level. In this case, it spawns the boss enemy if no enemies are currently present.
-	 * The boss's shield image is added to the root node of the scene.
 	 */
 	@Override
 	protected void spawnEnemyUnits() {
 		if (getCurrentNumberOfEnemies() == 0) {
 			addEnemyUnit(boss);
-			getRoot().getChildren().add(boss.getshieldImage());
 		}
 	}
 
@@ -91,8 +133,8 @@ public class LevelFour extends LevelParent {
 	 */
 	@Override
 	protected ActiveActorDestructible createObstacle() {
-		double newObstacleInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-		if (Math.random() < 0.1) {
+		double newObstacleInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
+		if (getRandom().nextDouble() < 0.1) {
 			return new Satellite(getScreenWidth(), newObstacleInitialYPosition);
 		} else {
 			return new Asteroid(getScreenWidth(), newObstacleInitialYPosition);
@@ -26,7 +26,8 @@ public class LevelOne extends LevelParent {
 
 	//sounds
 	private SoundManager soundManager;
-	private static final String LEVEL_BG_MUSIC = "/com/example/demo/sfx/level_music/level1Music.mp3";
+	/** The background music of the level, prefetched ahead of it so it can crossfade in. */
+	public static final String LEVEL_BG_MUSIC = "/com/example/demo/sfx/level_music/level1Music.mp3";
 
 	/**
 	 * Constructs a LevelOne instance.
@@ -42,12 +43,13 @@ public class LevelOne extends LevelParent {
 		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, stage);
 		soundManager = SoundManager.getInstance(); // Initialize SoundManager instance
 		soundManager.playBackgroundMusic(LEVEL_BG_MUSIC); // Play background music for the level
+		soundManager.prefetchBackgroundMusic(LevelTwo.LEVEL_BG_MUSIC); // Loaded in the background, ready for the crossfade
 	}
 
 	/**
 	 * Checks whether the game is over. If the user is destroyed, the game is lost.
 	 * If the user has reached the target number of kills, the game advances to the next level
-	 * and the background music is stopped.
+	 * and its music crossfades into the next level's.
 	 */
 	@Override
 	protected void checkIfGameOver() {
@@ -55,8 +57,7 @@ public class LevelOne extends LevelParent {
 			loseGame();
 		}
 		else if (userHasReachedKillTarget()) {
-			soundManager.stopBackgroundMusic();
-			goToNextLevel(NEXT_LEVEL);
+			goToNextLevel(NEXT_LEVEL); //The next level crossfades into its own music
 		}
 	}
 
@@ -78,7 +79,7 @@ public class LevelOne extends LevelParent {
 	 */
 	@Override
 	protected ActiveActorDestructible createEnemy() {
-		double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
+		double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
 		return new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
 	}
 
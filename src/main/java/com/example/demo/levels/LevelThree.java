@@ -3,6 +3,7 @@ package com.example.demo.levels;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.enemies.*;
 import com.example.demo.actors.obstacles.*;
+import com.example.demo.levelparent.FormationShape;
 import com.example.demo.levelparent.LevelParent;
 import com.example.demo.controller.SoundManager;
 import javafx.stage.Stage;
@@ -28,12 +29,14 @@ public class LevelThree extends LevelParent {
 	private static final int KILLS_TO_ADVANCE = 25;
 	private static final double ENEMY_SPAWN_PROBABILITY = .15;
 	private static final double ELITE_PROBABILITY = 0.3;
+	private static final double FORMATION_PROBABILITY = 0.3;
 	private static final double OBSTACLE_SPAWN_PROBABILITY = .3;
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 
 	//sounds
 	private SoundManager soundManager;
-	private static final String LEVEL_BG_MUSIC = "/com/example/demo/sfx/level_music/level3Music.mp3";
+	/** The background music of the level, prefetched ahead of it so it can crossfade in. */
+	public static final String LEVEL_BG_MUSIC = "/com/example/demo/sfx/level_music/level3Music.mp3";
 
 	/**
 	 * Constructs a LevelThree instance.
@@ -48,12 +51,13 @@ public class LevelThree extends LevelParent {
 		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, stage);
 		soundManager = SoundManager.getInstance(); // Initialize SoundManager instance
 		soundManager.playBackgroundMusic(LEVEL_BG_MUSIC); // Play background music for the level
+		soundManager.prefetchBackgroundMusic(LevelFour.LEVEL_BG_MUSIC); // Loaded in the background, ready for the crossfade
 	}
 
 	/**
 	 * Checks whether the game is over. If the user is destroyed, the game is lost.
 	 * If the user has reached the target number of kills, the game advances to the next level
-	 * and the background music is stopped.
+	 * and its music crossfades into the next level's.
 	 */
 	@Override
 	protected void checkIfGameOver() {
@@ -61,8 +65,7 @@ public class LevelThree extends LevelParent {
 			loseGame();
 		}
 		else if (userHasReachedKillTarget()) {
-			soundManager.stopBackgroundMusic();
-			goToNextLevel(NEXT_LEVEL);
+			goToNextLevel(NEXT_LEVEL); //The next level crossfades into its own music
 		}
 	}
 
@@ -77,17 +80,21 @@ public class LevelThree extends LevelParent {
 
 	/**
 	 * Creates an enemy for the level. The enemy can either be a regular enemy plane or an elite enemy plane,
-	 * with the elite enemy plane having a higher probability of spawning.
+	 * with the elite enemy plane having a higher probability of spawning. Regular enemy planes weave
+	 * instead of lining up with the user.
 	 *
 	 * @return An instance of an enemy (either EnemyPlane or EliteEnemyPlane).
 	 */
 	@Override
 	protected ActiveActorDestructible createEnemy() {
-		double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-		if (Math.random() < ELITE_PROBABILITY) {
+		double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
+		if (getRandom().nextDouble() < ELITE_PROBABILITY) {
 			return new EliteEnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
 		} else {
-			return new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
+			EnemyPlane enemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
+			enemy.setSteeringBehaviour(SteeredPlane.WEAVE);
+			enemy.setWeavePhase(getRandom().nextDouble() * 2 * Math.PI); //Keeps weaving planes out of step
+			return enemy;
 		}
 	}
 
@@ -99,14 +106,25 @@ public class LevelThree extends LevelParent {
 	 */
 	@Override
 	protected ActiveActorDestructible createObstacle() {
-		double newObstacleInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-		if (Math.random() < 0.1) {
+		double newObstacleInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
+		if (getRandom().nextDouble() < 0.1) {
 			return new Satellite(getScreenWidth(), newObstacleInitialYPosition);
 		} else {
 			return new Asteroid(getScreenWidth(), newObstacleInitialYPosition);
 		}
 	}//Environmental hazards do not count as enemies, so a different logic is used.
 
+	/**
+	 * Chooses a formation for the enemies to spawn in, some of the time. Level three uses every shape.
+	 *
+	 * @return The shape of the formation, or {@code null} to spawn enemies one at a time.
+	 */
+	@Override
+	protected FormationShape chooseFormation() {
+		if (getRandom().nextDouble() >= FORMATION_PROBABILITY) return null;
+		return FormationShape.values()[getRandom().nextInt(FormationShape.values().length)];
+	}
+
 	/**
 	 * Returns the probability of spawning an enemy in the level.
 	 *
@@ -2,6 +2,7 @@ package com.example.demo.levels;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.enemies.*;
+import com.example.demo.levelparent.FormationShape;
 import com.example.demo.levelparent.LevelParent;
 import com.example.demo.controller.SoundManager;
 import javafx.stage.Stage;
@@ -26,11 +27,13 @@ public class LevelTwo extends LevelParent {
 	private static final int KILLS_TO_ADVANCE = 20;
 	private static final double ENEMY_SPAWN_PROBABILITY = .15;
 	private static final double ELITE_PROBABILITY = 0.2;
+	private static final double FORMATION_PROBABILITY = 0.2;
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 
 	//sounds
 	private SoundManager soundManager;
-	private static final String LEVEL_BG_MUSIC = "/com/example/demo/sfx/level_music/level2Musicalt.mp3";
+	/** The background music of the level, prefetched ahead of it so it can crossfade in. */
+	public static final String LEVEL_BG_MUSIC = "/com/example/demo/sfx/level_music/level2Musicalt.mp3";
 
 	/**
 	 * Constructs a LevelTwo instance.
@@ -45,12 +48,13 @@ public class LevelTwo extends LevelParent {
 		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, stage);
 		soundManager = SoundManager.getInstance(); // Initialize SoundManager instance
 		soundManager.playBackgroundMusic(LEVEL_BG_MUSIC); // Play background music for the level
+		soundManager.prefetchBackgroundMusic(LevelThree.LEVEL_BG_MUSIC); // Loaded in the background, ready for the crossfade
 	}
 
 	/**
 	 * Checks whether the game is over. If the user is destroyed, the game is lost.
 	 * If the user has reached the target number of kills, the game advances to the next level
-	 * and the background music is stopped.
+	 * and its music crossfades into the next level's.
 	 */
 	@Override
 	protected void checkIfGameOver() {
@@ -58,8 +62,7 @@ public class LevelTwo extends LevelParent {
 			loseGame();
 		}
 		else if (userHasReachedKillTarget()) {
-			soundManager.stopBackgroundMusic();
-			goToNextLevel(NEXT_LEVEL);
+			goToNextLevel(NEXT_LEVEL); //The next level crossfades into its own music
 		}
 	}
 
@@ -80,14 +83,25 @@ public class LevelTwo extends LevelParent {
 	 */
 	@Override
 	protected ActiveActorDestructible createEnemy() {
-		double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-		if (Math.random() < ELITE_PROBABILITY) {
+		double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
+		if (getRandom().nextDouble() < ELITE_PROBABILITY) {
 			return new EliteEnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
 		} else {
 			return new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
 		}
 	}
 
+	/**
+	 * Chooses a formation for the enemies to spawn in, some of the time. Level two only uses the simple V and line formations.
+	 *
+	 * @return The shape of the formation, or {@code null} to spawn enemies one at a time.
+	 */
+	@Override
+	protected FormationShape chooseFormation() {
+		if (getRandom().nextDouble() >= FORMATION_PROBABILITY) return null;
+		return getRandom().nextBoolean() ? FormationShape.V : FormationShape.LINE;
+	}
+
 	/**
 	 * Returns the probability of spawning an enemy in the level.
 	 *
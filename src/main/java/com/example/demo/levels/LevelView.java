@@ -1,5 +1,6 @@
 package com.example.demo.levels;
 
+import com.example.demo.engine.QualityLevel;
 import com.example.demo.images.*;
 import javafx.scene.Group;
 
@@ -12,6 +13,7 @@ import javafx.scene.Group;
  * @see WinImage
  * @see GameOverImage
  * @see PauseImage
+ * @see DebugOverlay
  */
 public class LevelView {
 	
@@ -23,12 +25,15 @@ public class LevelView {
 	private static final int LOSS_SCREEN_Y_POSITION = 225;
 	private static final int PAUSE_IMAGE_X_POSITION = 355;
 	private static final int PAUSE_IMAGE_Y_POSITION = 175;
+	private static final double DEBUG_OVERLAY_X_POSITION = 900;
+	private static final double DEBUG_OVERLAY_Y_POSITION = 20;
 
 	private final Group root;
 	private final WinImage winImage;
 	private final GameOverImage gameOverImage;
 	private final HeartDisplay heartDisplay;
 	private final PauseImage pauseImage;
+	private final DebugOverlay debugOverlay;
 
 	/**
 	 * Constructs a LevelView instance that manages the visual elements for the level.
@@ -43,6 +48,7 @@ public class LevelView {
         this.winImage = new WinImage(WIN_IMAGE_X_POSITION, WIN_IMAGE_Y_POSITION);
 		this.gameOverImage = new GameOverImage(LOSS_SCREEN_X_POSITION, LOSS_SCREEN_Y_POSITION);
 		this.pauseImage = new PauseImage(PAUSE_IMAGE_X_POSITION,PAUSE_IMAGE_Y_POSITION);
+		this.debugOverlay = new DebugOverlay(DEBUG_OVERLAY_X_POSITION, DEBUG_OVERLAY_Y_POSITION);
 	}
 
 	/**
@@ -83,15 +89,46 @@ public class LevelView {
 	}
 
 	/**
-	 * Removes hearts from the heart display, representing a decrease in the player's health.
+	 * Adds the debug overlay to the screen. It stays hidden until enabled with {@link #setDebugOverlayVisible(boolean)}.
+	 */
+	public void showDebugOverlay() {
+		root.getChildren().add(debugOverlay);
+	}
+
+	/**
+	 * Shows or hides the debug overlay.
+	 *
+	 * @param visible whether the overlay is shown
+	 */
+	public void setDebugOverlayVisible(boolean visible) {
+		debugOverlay.setVisible(visible);
+	}
+
+	/**
+	 * Updates the debug overlay with the figures of a rendered frame.
+	 *
+	 * @param tick The simulation tick of the frame.
+	 * @param actorCount The number of actors in the frame.
+	 * @param jankCount The number of jank events recorded so far.
+	 * @param quality The current quality level.
+	 */
+	public void updateDebugOverlay(long tick, int actorCount, long jankCount, QualityLevel quality) {
+		debugOverlay.update(tick, actorCount, jankCount, quality);
+	}
+
+	/**
+	 * Removes or restores hearts on the heart display to match the player's health.
 	 *
 	 * @param heartsRemaining The number of hearts that should remain on the screen.
 	 */
-	public void removeHearts(int heartsRemaining) {
+	public void updateHearts(int heartsRemaining) {
 		int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size();
 		for (int i = 0; i < currentNumberOfHearts - heartsRemaining; i++) {
 			heartDisplay.removeHeart();
 		}
+		for (int i = currentNumberOfHearts; i < heartsRemaining; i++) {
+			heartDisplay.addHeart(); //Health restored by a pickup
+		}
 	}
 
 }
@@ -0,0 +1,106 @@
+package com.example.demo.persistence;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * The {@code CheckpointStore} class keeps the single saved level checkpoint on disk.
+ * <p>
+ * Checkpoints are encoded by the level in memory and only handed over here as bytes, so the game never waits
+ * on the disk: saving, loading and clearing all run on a background thread, in the order they were requested.
+ * A checkpoint is written to a temporary file first and moved into place, so a crash mid-save keeps the
+ * previous checkpoint intact.
+ * </p>
+ * Implements the Singleton design pattern, like {@link RunStatsStore}.
+ */
+public class CheckpointStore {
+
+    /** The single instance of the store. */
+    private static CheckpointStore instance;
+
+    /** Path of the checkpoint file. */
+    private final Path checkpointFile;
+
+    /** The background thread all disk access runs on. */
+    private final ExecutorService writer;
+
+    /**
+     * Private constructor so that only one instance exists.
+     */
+    private CheckpointStore() {
+        this.checkpointFile = SaveDirectory.resolve("checkpoint.bin");
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the single instance of the {@code CheckpointStore}, creating it on first use.
+     *
+     * @return the singleton instance
+     */
+    public static synchronized CheckpointStore getInstance() {
+        if (instance == null) {
+            instance = new CheckpointStore();
+        }
+        return instance;
+    }
+
+    /**
+     * Queues a checkpoint to be saved, replacing any previous one. Returns immediately.
+     *
+     * @param checkpoint the encoded checkpoint
+     */
+    public void save(byte[] checkpoint) {
+        writer.execute(() -> {
+            try {
+                Files.createDirectories(checkpointFile.getParent());
+                Path temporary = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+                Files.write(temporary, checkpoint);
+                Files.move(temporary, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                System.out.println("Could not save checkpoint: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Loads the saved checkpoint in the background. The callback runs on the writer thread, so callers
+     * updating the UI must hand the result over to the JavaFX application thread themselves.
+     *
+     * @param callback receives the encoded checkpoint, or {@code null} if there is none
+     */
+    public void fetch(Consumer<byte[]> callback) {
+        writer.execute(() -> {
+            byte[] checkpoint = null;
+            try {
+                if (Files.exists(checkpointFile)) {
+                    checkpoint = Files.readAllBytes(checkpointFile);
+                }
+            } catch (IOException e) {
+                System.out.println("Could not load checkpoint: " + e.getMessage());
+            }
+            callback.accept(checkpoint);
+        });
+    }
+
+    /**
+     * Queues the saved checkpoint to be deleted, once its run has ended or been replaced by a new one.
+     */
+    public void clear() {
+        writer.execute(() -> {
+            try {
+                Files.deleteIfExists(checkpointFile);
+            } catch (IOException e) {
+                System.out.println("Could not delete checkpoint: " + e.getMessage());
+            }
+        });
+    }
+}
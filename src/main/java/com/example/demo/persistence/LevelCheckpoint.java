@@ -0,0 +1,60 @@
+package com.example.demo.persistence;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The {@code LevelCheckpoint} class defines the header of the binary level checkpoint format.
+ * <p>
+ * A checkpoint starts with a magic number, the format version and the fully qualified name of the level class,
+ * followed by the level state written by the level itself. The header is read first so the right level can be
+ * created before the rest of the checkpoint is handed to it. Checkpoints of any other version are rejected
+ * rather than guessed at.
+ * </p>
+ */
+public final class LevelCheckpoint {
+
+    /** Magic number at the start of a checkpoint, "SKYC". */
+    private static final int MAGIC = 0x534B5943;
+
+    /** Version of the checkpoint format. Bump it whenever the layout of any saved state changes. */
+    public static final short FORMAT_VERSION = 9;
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private LevelCheckpoint() {
+    }
+
+    /**
+     * Writes the checkpoint header.
+     *
+     * @param out               the checkpoint being written
+     * @param levelClassName    the fully qualified name of the level class
+     * @throws IOException if the header cannot be written
+     */
+    public static void writeHeader(DataOutput out, String levelClassName) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeUTF(levelClassName);
+    }
+
+    /**
+     * Reads and validates the checkpoint header.
+     *
+     * @param in the checkpoint being read
+     * @return the fully qualified name of the level class to restore
+     * @throws IOException if the header is missing, corrupt or of another format version
+     */
+    public static String readHeader(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a level checkpoint");
+        }
+        short version = in.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported checkpoint version " + version);
+        }
+        return in.readUTF();
+    }
+}
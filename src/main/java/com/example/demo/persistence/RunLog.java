@@ -0,0 +1,299 @@
+package com.example.demo.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code RunLog} class stores {@link RunRecord}s in a compact append-only binary log, with a small index
+ * file that keeps the offsets of the best runs for leaderboard queries.
+ * <p>
+ * The log starts with a header (magic number and format version) followed by fixed-size records.
+ * Records are never rewritten; a torn record at the end of the log, left by a crash mid-write, is truncated
+ * on load. The index records how much of the log it covers, so on load only the records appended after it
+ * was last written have to be scanned. A missing or corrupt index is rebuilt from the whole log.
+ * </p>
+ * <p>
+ * This class is not thread-safe. It is meant to be used from the single writer thread of {@link RunStatsStore}.
+ * </p>
+ */
+public class RunLog {
+
+    /** Magic number at the start of the log file, "SKYR". */
+    private static final int LOG_MAGIC = 0x534B5952;
+
+    /** Magic number at the start of the index file, "SKYI". */
+    private static final int INDEX_MAGIC = 0x534B5949;
+
+    /** Version of the log and index formats. */
+    private static final short FORMAT_VERSION = 1;
+
+    /** Size of the log header in bytes. */
+    private static final int LOG_HEADER_SIZE = 4 + 2;
+
+    /** Size of the index header in bytes, before the offsets. */
+    private static final int INDEX_HEADER_SIZE = 4 + 2 + 8 + 4;
+
+    /** Path of the log file. */
+    private final Path logFile;
+
+    /** Path of the index file. */
+    private final Path indexFile;
+
+    /** Maximum number of runs kept in the index. */
+    private final int capacity;
+
+    /** Offsets in the log of the best runs, best first. */
+    private final long[] topOffsets;
+
+    /** The best runs, parallel to {@link #topOffsets}. */
+    private final RunRecord[] topRecords;
+
+    /** Number of runs currently in the index. */
+    private int topCount;
+
+    /** Length of the log file, which is also the offset of the next record. */
+    private long logLength;
+
+    /**
+     * Constructs a {@code RunLog} over the given files. Nothing is read until {@link #load()} is called.
+     *
+     * @param logFile   the path of the append-only log
+     * @param indexFile the path of the top-runs index
+     * @param capacity  the number of best runs to keep in the index
+     */
+    public RunLog(Path logFile, Path indexFile, int capacity) {
+        this.logFile = logFile;
+        this.indexFile = indexFile;
+        this.capacity = capacity;
+        this.topOffsets = new long[capacity];
+        this.topRecords = new RunRecord[capacity];
+    }
+
+    /**
+     * Opens the log, creating it if needed, and loads the index, catching it up with any records
+     * appended since it was last written.
+     *
+     * @throws IOException if the log cannot be read or created
+     */
+    public void load() throws IOException {
+        Files.createDirectories(logFile.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (!hasValidHeader(channel)) {
+                writeLogHeader(channel);
+            }
+            long usable = channel.size() - (channel.size() - LOG_HEADER_SIZE) % RunRecord.ENCODED_SIZE;
+            if (usable != channel.size()) {
+                System.out.println("Truncating torn record at the end of the run log");
+                channel.truncate(usable);
+            }
+            logLength = usable;
+            long covered = readIndex(channel);
+            scan(channel, covered);
+            if (covered != logLength) {
+                writeIndex();
+            }
+        }
+    }
+
+    /**
+     * Appends a record to the end of the log and updates the index if it ranks among the best runs.
+     *
+     * @param record the record to append
+     * @throws IOException if the record cannot be written
+     */
+    public void append(RunRecord record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RunRecord.ENCODED_SIZE);
+        record.encode(buffer);
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            long offset = logLength;
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+            channel.force(false);
+            logLength = offset + RunRecord.ENCODED_SIZE;
+            if (offer(offset, record)) {
+                writeIndex();
+            }
+        }
+    }
+
+    /**
+     * Returns the best runs in the log, best first.
+     *
+     * @return a new list of at most {@code capacity} runs
+     */
+    public List<RunRecord> getTopRuns() {
+        List<RunRecord> runs = new ArrayList<>(topCount);
+        for (int i = 0; i < topCount; i++) {
+            runs.add(topRecords[i]);
+        }
+        return runs;
+    }
+
+    /**
+     * Checks whether the log starts with a header of the current format.
+     *
+     * @param channel the open log
+     * @return {@code true} if the header is present and valid
+     * @throws IOException if the log cannot be read
+     */
+    private boolean hasValidHeader(FileChannel channel) throws IOException {
+        if (channel.size() < LOG_HEADER_SIZE) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+        readFully(channel, header, 0);
+        return header.getInt() == LOG_MAGIC && header.getShort() == FORMAT_VERSION;
+    }
+
+    /**
+     * Starts a fresh log, discarding anything that does not have a valid header.
+     *
+     * @param channel the open log
+     * @throws IOException if the header cannot be written
+     */
+    private void writeLogHeader(FileChannel channel) throws IOException {
+        if (channel.size() > 0) {
+            System.out.println("Run log has an unknown format, starting a new one");
+        }
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+        header.putInt(LOG_MAGIC).putShort(FORMAT_VERSION).flip();
+        channel.write(header, 0);
+        channel.force(false);
+    }
+
+    /**
+     * Loads the best runs from the index file.
+     *
+     * @param channel the open log, used to read the indexed records
+     * @return the length of the log covered by the index, or the header size if the index is missing,
+     *         corrupt or does not match the log
+     */
+    private long readIndex(FileChannel channel) {
+        topCount = 0;
+        if (!Files.exists(indexFile)) {
+            return LOG_HEADER_SIZE;
+        }
+        try {
+            ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+            if (index.remaining() < INDEX_HEADER_SIZE || index.getInt() != INDEX_MAGIC
+                    || index.getShort() != FORMAT_VERSION) {
+                return LOG_HEADER_SIZE;
+            }
+            long covered = index.getLong();
+            int count = index.getInt();
+            if (covered > logLength || count < 0 || count > capacity || index.remaining() < count * 8) {
+                return LOG_HEADER_SIZE;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(RunRecord.ENCODED_SIZE);
+            for (int i = 0; i < count; i++) {
+                long offset = index.getLong();
+                if (offset < LOG_HEADER_SIZE || offset + RunRecord.ENCODED_SIZE > covered) {
+                    topCount = 0;
+                    return LOG_HEADER_SIZE;
+                }
+                buffer.clear();
+                readFully(channel, buffer, offset);
+                topOffsets[topCount] = offset;
+                topRecords[topCount] = RunRecord.decode(buffer);
+                topCount++;
+            }
+            return covered;
+        } catch (IOException e) {
+            System.out.println("Run index is unreadable, rebuilding it: " + e.getMessage());
+            topCount = 0;
+            return LOG_HEADER_SIZE;
+        }
+    }
+
+    /**
+     * Offers every record from the given offset to the end of the log to the index.
+     *
+     * @param channel   the open log
+     * @param from      the offset of the first record to scan
+     * @throws IOException if the log cannot be read
+     */
+    private void scan(FileChannel channel, long from) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RunRecord.ENCODED_SIZE * 64);
+        long offset = from;
+        while (offset < logLength) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), logLength - offset));
+            readFully(channel, buffer, offset);
+            while (buffer.remaining() >= RunRecord.ENCODED_SIZE) {
+                long recordOffset = offset + buffer.position();
+                offer(recordOffset, RunRecord.decode(buffer));
+            }
+            offset += buffer.limit();
+        }
+    }
+
+    /**
+     * Inserts a run into the index if it ranks among the best runs, keeping the index sorted.
+     *
+     * @param offset the offset of the run in the log
+     * @param record the run
+     * @return {@code true} if the index changed
+     */
+    private boolean offer(long offset, RunRecord record) {
+        int position = topCount;
+        while (position > 0 && record.ranksAbove(topRecords[position - 1])) {
+            position--;
+        }
+        if (position >= capacity) {
+            return false;
+        }
+        int last = Math.min(topCount, capacity - 1);
+        System.arraycopy(topOffsets, position, topOffsets, position + 1, last - position);
+        System.arraycopy(topRecords, position, topRecords, position + 1, last - position);
+        topOffsets[position] = offset;
+        topRecords[position] = record;
+        topCount = last + 1;
+        return true;
+    }
+
+    /**
+     * Writes the index to a temporary file and moves it over the old one, so a crash never leaves
+     * a half-written index behind.
+     *
+     * @throws IOException if the index cannot be written
+     */
+    private void writeIndex() throws IOException {
+        ByteBuffer index = ByteBuffer.allocate(INDEX_HEADER_SIZE + topCount * 8);
+        index.putInt(INDEX_MAGIC).putShort(FORMAT_VERSION).putLong(logLength).putInt(topCount);
+        for (int i = 0; i < topCount; i++) {
+            index.putLong(topOffsets[i]);
+        }
+        Path temporary = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        Files.write(temporary, index.array());
+        Files.move(temporary, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Fills the buffer from the channel starting at the given position.
+     *
+     * @param channel   the channel to read from
+     * @param buffer    the buffer to fill up to its limit, flipped for reading afterwards
+     * @param position  the position in the channel to start reading at
+     * @throws IOException if the end of the channel is reached first
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long start = position - buffer.position();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of run log");
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo.persistence;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The {@code RunRecord} class is an immutable summary of a single run of the game, from the first level
+ * until the run is won, lost or abandoned.
+ * <p>
+ * Records are stored in the {@link RunLog} as fixed-size binary entries of {@link #ENCODED_SIZE} bytes,
+ * so any record can be read back directly from its offset in the log.
+ * </p>
+ */
+public class RunRecord {
+
+    /** Size of an encoded record in bytes. */
+    public static final int ENCODED_SIZE = 8 + 8 + 8 + 4 + 4 + 1 + 1;
+
+    /** Points awarded for every kill. */
+    private static final int POINTS_PER_KILL = 100;
+
+    /** Points awarded for every level cleared. */
+    private static final int POINTS_PER_LEVEL = 1000;
+
+    /** Bonus points awarded for winning the game. */
+    private static final int WIN_BONUS = 5000;
+
+    /** Points deducted for every hit taken. */
+    private static final int POINTS_PER_DAMAGE = 50;
+
+    /** Time the run ended, in milliseconds since the epoch. */
+    private final long timestamp;
+
+    /** Seed the run's random spawns were generated from. */
+    private final long seed;
+
+    /** Time spent playing, excluding pauses, in milliseconds. */
+    private final long durationMillis;
+
+    /** Number of kills over the whole run. */
+    private final int kills;
+
+    /** Number of hits taken over the whole run. */
+    private final int damageTaken;
+
+    /** Highest level reached, starting at 1. */
+    private final int levelReached;
+
+    /** Whether the run ended by beating the final level. */
+    private final boolean won;
+
+    /**
+     * Constructs a {@code RunRecord} with the given statistics.
+     *
+     * @param timestamp         the time the run ended, in milliseconds since the epoch
+     * @param seed              the seed of the run
+     * @param durationMillis    the time spent playing in milliseconds
+     * @param kills             the number of kills
+     * @param damageTaken       the number of hits taken
+     * @param levelReached      the highest level reached
+     * @param won               whether the run was won
+     */
+    public RunRecord(long timestamp, long seed, long durationMillis, int kills, int damageTaken,
+                     int levelReached, boolean won) {
+        this.timestamp = timestamp;
+        this.seed = seed;
+        this.durationMillis = durationMillis;
+        this.kills = kills;
+        this.damageTaken = damageTaken;
+        this.levelReached = levelReached;
+        this.won = won;
+    }
+
+    /**
+     * Writes the record into the buffer at its current position.
+     *
+     * @param buffer the buffer to write to, with at least {@link #ENCODED_SIZE} bytes remaining
+     */
+    public void encode(ByteBuffer buffer) {
+        buffer.putLong(timestamp);
+        buffer.putLong(seed);
+        buffer.putLong(durationMillis);
+        buffer.putInt(kills);
+        buffer.putInt(damageTaken);
+        buffer.put((byte) levelReached);
+        buffer.put((byte) (won ? 1 : 0));
+    }
+
+    /**
+     * Reads a record from the buffer at its current position.
+     *
+     * @param buffer the buffer to read from, with at least {@link #ENCODED_SIZE} bytes remaining
+     * @return the decoded record
+     */
+    public static RunRecord decode(ByteBuffer buffer) {
+        long timestamp = buffer.getLong();
+        long seed = buffer.getLong();
+        long durationMillis = buffer.getLong();
+        int kills = buffer.getInt();
+        int damageTaken = buffer.getInt();
+        int levelReached = buffer.get();
+        boolean won = buffer.get() != 0;
+        return new RunRecord(timestamp, seed, durationMillis, kills, damageTaken, levelReached, won);
+    }
+
+    /**
+     * Returns the score of the run, used to rank it on the leaderboard.
+     *
+     * @return the score, never negative
+     */
+    public int getScore() {
+        int score = kills * POINTS_PER_KILL + (levelReached - 1) * POINTS_PER_LEVEL
+                + (won ? WIN_BONUS : 0) - damageTaken * POINTS_PER_DAMAGE;
+        return Math.max(score, 0);
+    }
+
+    /**
+     * Checks whether this run ranks above another one: a higher score first, then a faster run.
+     *
+     * @param other the run to compare against
+     * @return {@code true} if this run ranks strictly above the other
+     */
+    public boolean ranksAbove(RunRecord other) {
+        int score = getScore();
+        int otherScore = other.getScore();
+        return score != otherScore ? score > otherScore : durationMillis < other.durationMillis;
+    }
+
+    /**
+     * Returns the time the run ended.
+     *
+     * @return the timestamp in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the seed of the run.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the time spent playing, excluding pauses.
+     *
+     * @return the duration in milliseconds
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Returns the number of kills over the whole run.
+     *
+     * @return the number of kills
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Returns the number of hits taken over the whole run.
+     *
+     * @return the number of hits taken
+     */
+    public int getDamageTaken() {
+        return damageTaken;
+    }
+
+    /**
+     * Returns the highest level reached.
+     *
+     * @return the level reached, starting at 1
+     */
+    public int getLevelReached() {
+        return levelReached;
+    }
+
+    /**
+     * Checks whether the run was won.
+     *
+     * @return {@code true} if the final level was beaten
+     */
+    public boolean isWon() {
+        return won;
+    }
+}
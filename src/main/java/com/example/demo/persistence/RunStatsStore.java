@@ -0,0 +1,117 @@
+package com.example.demo.persistence;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The {@code RunStatsStore} class is the single access point to the saved run statistics.
+ * <p>
+ * All disk access happens on one background writer thread, in the order requests are made: the game loop only
+ * hands finished runs over with {@link #record(RunRecord)}, and the main menu asks for the leaderboard with
+ * {@link #fetchTopRuns(Consumer)}, which answers on the writer thread once every earlier write has landed.
+ * The log lives in the {@link SaveDirectory}.
+ * </p>
+ * Implements the Singleton design pattern, like {@code SoundManager}.
+ */
+public class RunStatsStore {
+
+    /** Number of runs shown on the leaderboard. */
+    public static final int LEADERBOARD_SIZE = 10;
+
+    /** Maximum time to wait for pending writes when the game exits, in milliseconds. */
+    private static final long SHUTDOWN_TIMEOUT = 1000;
+
+    /** The single instance of the store. */
+    private static RunStatsStore instance;
+
+    /** The run log, only touched from the writer thread. */
+    private final RunLog log;
+
+    /** The background thread all disk access runs on. */
+    private final ExecutorService writer;
+
+    /** Whether the log was loaded successfully. Only touched from the writer thread. */
+    private boolean loaded;
+
+    /**
+     * Private constructor so that only one instance exists. Starts loading the log in the background.
+     */
+    private RunStatsStore() {
+        this.log = new RunLog(SaveDirectory.resolve("runs.log"), SaveDirectory.resolve("runs.idx"), LEADERBOARD_SIZE);
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "run-stats-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.execute(this::load);
+    }
+
+    /**
+     * Returns the single instance of the {@code RunStatsStore}, creating it on first use.
+     *
+     * @return the singleton instance
+     */
+    public static synchronized RunStatsStore getInstance() {
+        if (instance == null) {
+            instance = new RunStatsStore();
+        }
+        return instance;
+    }
+
+    /**
+     * Queues a finished run to be appended to the log. Returns immediately.
+     *
+     * @param record the finished run
+     */
+    public void record(RunRecord record) {
+        writer.execute(() -> {
+            if (!loaded) {
+                return;
+            }
+            try {
+                log.append(record);
+            } catch (IOException e) {
+                System.out.println("Could not save run statistics: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Fetches the leaderboard in the background. The callback runs on the writer thread, so callers
+     * updating the UI must hand the result over to the JavaFX application thread themselves.
+     *
+     * @param callback receives the best runs, best first
+     */
+    public void fetchTopRuns(Consumer<List<RunRecord>> callback) {
+        writer.execute(() -> callback.accept(log.getTopRuns()));
+    }
+
+    /**
+     * Waits briefly for pending writes to finish, then stops the writer thread. Called from {@code Main.stop()}
+     * when the game exits, however it is closed.
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Loads the log. If it cannot be loaded, runs are not saved for the rest of the session.
+     */
+    private void load() {
+        try {
+            log.load();
+            loaded = true;
+        } catch (IOException e) {
+            System.out.println("Could not load run statistics: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.persistence;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The {@code SaveDirectory} class locates the files the game saves between sessions.
+ * <p>
+ * Everything is kept in the {@code .skybattle} folder of the user's home directory, unless the
+ * {@value #DIRECTORY_PROPERTY} system property points somewhere else, as the soak runner does to keep
+ * its runs out of the player's saves.
+ * </p>
+ */
+public final class SaveDirectory {
+
+    /** Name of the folder in the user's home directory holding the saved data. */
+    private static final String DIRECTORY_NAME = ".skybattle";
+
+    /** System property overriding the save directory. */
+    public static final String DIRECTORY_PROPERTY = "skybattle.saveDir";
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private SaveDirectory() {
+    }
+
+    /**
+     * Returns the path of a file in the save directory. The directory is not created.
+     *
+     * @param fileName the name of the file
+     * @return the path of the file
+     */
+    public static Path resolve(String fileName) {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory != null) {
+            return Paths.get(directory, fileName);
+        }
+        return Paths.get(System.getProperty("user.home"), DIRECTORY_NAME, fileName);
+    }
+}
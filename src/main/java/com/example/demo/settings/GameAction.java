@@ -0,0 +1,51 @@
+package com.example.demo.settings;
+
+/**
+ * The {@code GameAction} enum lists the player actions that can be bound to keys.
+ */
+public enum GameAction {
+
+    /** Moves the plane up. */
+    MOVE_UP("Up"),
+
+    /** Moves the plane down. */
+    MOVE_DOWN("Down"),
+
+    /** Moves the plane left. */
+    MOVE_LEFT("Left"),
+
+    /** Moves the plane right. */
+    MOVE_RIGHT("Right"),
+
+    /** Fires the plane's weapon. */
+    FIRE("Fire"),
+
+    /** Switches to the plane's next weapon. */
+    SWITCH_WEAPON("Weapon"),
+
+    /** Pauses or resumes the game. */
+    PAUSE("Pause");
+
+    /**
+     * The name shown in the settings screen.
+     */
+    private final String displayName;
+
+    /**
+     * Constructs a {@code GameAction} with the name shown in the settings screen.
+     *
+     * @param displayName the name shown to the player
+     */
+    GameAction(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the name shown in the settings screen.
+     *
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
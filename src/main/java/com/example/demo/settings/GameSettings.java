@@ -0,0 +1,602 @@
+package com.example.demo.settings;
+
+import com.example.demo.engine.RenderMode;
+import com.example.demo.persistence.SaveDirectory;
+import javafx.scene.input.KeyCode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The {@code GameSettings} class holds the player's settings and keeps them in a small properties file
+ * in the {@link SaveDirectory}.
+ * <p>
+ * The settings are loaded once, when the game starts and before any asset is loaded, and saved when the player
+ * leaves the settings screen. Missing or invalid entries fall back to their defaults. Every change notifies the
+ * registered listeners, so the sound, the running level and the renderer pick it up live without reloading
+ * any scene. Values are read by the simulation thread, so they are kept in volatile fields.
+ * </p>
+ * Implements the Singleton design pattern, like {@code SoundManager}.
+ */
+public class GameSettings {
+
+    /**
+     * Rate of JavaFX pulses in pulses per second: the refresh rate of a common display with VSync, and the default
+     * rate of the toolkit's pulse timer without it.
+     */
+    public static final int PULSE_RATE = 60;
+
+    /** Frame caps the player can choose from, in frames per second. {@code 0} means uncapped. */
+    public static final int[] FRAME_CAPS = {0, 30, 60, 120};
+
+    /** Music crossfade windows the player can choose from, in milliseconds. {@code 0} switches tracks at once. */
+    public static final int[] CROSSFADE_WINDOWS = {0, 500, 1000, 2000};
+
+    /** Hazard warning lead times the player can choose from, in ticks. {@code 0} turns warnings off. */
+    public static final int[] TELEGRAPH_LEADS = {0, 10, 15, 20};
+
+    /** Default width of the game window. */
+    private static final int DEFAULT_WINDOW_WIDTH = 1300;
+
+    /** Default height of the game window. */
+    private static final int DEFAULT_WINDOW_HEIGHT = 750;
+
+    /** Name of the settings file in the save directory. */
+    private static final String SETTINGS_FILE = "settings.properties";
+
+    /** The single instance of the settings. */
+    private static GameSettings instance;
+
+    /** Path of the settings file. */
+    private final Path settingsFile;
+
+    /** Listeners notified after every change. */
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    /** Volume of the music bus, from 0.0 to 1.0. */
+    private volatile double musicVolume = 1.0;
+
+    /** Volume of the sound effects bus, from 0.0 to 1.0. */
+    private volatile double sfxVolume = 1.0;
+
+    /** Volume of the interface sounds bus, from 0.0 to 1.0. */
+    private volatile double uiVolume = 1.0;
+
+    /** Whether all sound is muted. */
+    private volatile boolean muted;
+
+    /** Whether important sounds lower the music while they play. */
+    private volatile boolean musicDucking = true;
+
+    /** Length of the crossfade between music tracks, in milliseconds. */
+    private volatile int musicCrossfadeMillis = 1000;
+
+    /** Number of ticks hazards are announced before they arrive, or {@code 0} for no warnings. */
+    private volatile int telegraphTicks = 15;
+
+    /** How actor nodes are drawn. */
+    private volatile RenderMode renderMode = RenderMode.QUALITY;
+
+    /** Whether rendering is synchronised with the display. Takes effect the next time the game starts. */
+    private volatile boolean vsync = true;
+
+    /** Maximum number of frames rendered per second, or {@code 0} for no cap. */
+    private volatile int frameCap;
+
+    /** Whether quality is lowered automatically when the game runs over its frame budget. */
+    private volatile boolean autoQuality = true;
+
+    /** Whether the debug overlay is shown in levels, and frame pacing details are logged. */
+    private volatile boolean debugOverlay;
+
+    /** Width of the game window. */
+    private volatile int windowWidth = DEFAULT_WINDOW_WIDTH;
+
+    /** Height of the game window. */
+    private volatile int windowHeight = DEFAULT_WINDOW_HEIGHT;
+
+    /** Current key bindings, replaced as a whole when a key is rebound. */
+    private volatile KeyBindings keyBindings = KeyBindings.defaults();
+
+    /**
+     * Private constructor so that only one instance exists. Loads the settings file.
+     */
+    private GameSettings() {
+        this.settingsFile = SaveDirectory.resolve(SETTINGS_FILE);
+        load();
+    }
+
+    /**
+     * Returns the single instance of the {@code GameSettings}, loading the settings file on first use.
+     *
+     * @return the singleton instance
+     */
+    public static synchronized GameSettings getInstance() {
+        if (instance == null) {
+            instance = new GameSettings();
+        }
+        return instance;
+    }
+
+    /**
+     * Registers a listener notified on the changing thread after every change.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Writes the settings file, replacing the previous one in a single move.
+     */
+    public void save() {
+        Properties properties = new Properties();
+        properties.setProperty("volume.music", Double.toString(musicVolume));
+        properties.setProperty("volume.sfx", Double.toString(sfxVolume));
+        properties.setProperty("volume.ui", Double.toString(uiVolume));
+        properties.setProperty("audio.muted", Boolean.toString(muted));
+        properties.setProperty("audio.ducking", Boolean.toString(musicDucking));
+        properties.setProperty("audio.crossfadeMillis", Integer.toString(musicCrossfadeMillis));
+        properties.setProperty("gameplay.telegraphTicks", Integer.toString(telegraphTicks));
+        properties.setProperty("render.mode", renderMode.name());
+        properties.setProperty("render.vsync", Boolean.toString(vsync));
+        properties.setProperty("render.frameCap", Integer.toString(frameCap));
+        properties.setProperty("render.autoQuality", Boolean.toString(autoQuality));
+        properties.setProperty("debug.overlay", Boolean.toString(debugOverlay));
+        properties.setProperty("window.width", Integer.toString(windowWidth));
+        properties.setProperty("window.height", Integer.toString(windowHeight));
+        KeyBindings bindings = keyBindings;
+        for (GameAction action : GameAction.values()) {
+            StringBuilder keys = new StringBuilder();
+            for (int slot = 0; slot < KeyBindings.SLOTS; slot++) {
+                KeyCode key = bindings.getKey(action, slot);
+                if (slot > 0) keys.append(',');
+                if (key != null) keys.append(key.name());
+            }
+            properties.setProperty(bindingProperty(action), keys.toString());
+        }
+        try {
+            Files.createDirectories(settingsFile.getParent());
+            Path temporary = settingsFile.resolveSibling(SETTINGS_FILE + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporary)) {
+                properties.store(writer, "Sky Battle settings");
+            }
+            Files.move(temporary, settingsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("Could not save settings: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the settings file, keeping the defaults for anything missing or invalid.
+     */
+    private void load() {
+        if (!Files.exists(settingsFile)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(settingsFile)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            System.out.println("Could not load settings, using defaults: " + e.getMessage());
+            return;
+        }
+        musicVolume = readVolume(properties, "volume.music", musicVolume);
+        sfxVolume = readVolume(properties, "volume.sfx", sfxVolume);
+        uiVolume = readVolume(properties, "volume.ui", uiVolume);
+        muted = Boolean.parseBoolean(properties.getProperty("audio.muted", Boolean.toString(muted)));
+        musicDucking = Boolean.parseBoolean(properties.getProperty("audio.ducking", Boolean.toString(musicDucking)));
+        musicCrossfadeMillis = readChoice(properties, "audio.crossfadeMillis", CROSSFADE_WINDOWS, musicCrossfadeMillis);
+        telegraphTicks = readChoice(properties, "gameplay.telegraphTicks", TELEGRAPH_LEADS, telegraphTicks);
+        try {
+            renderMode = RenderMode.valueOf(properties.getProperty("render.mode", renderMode.name()));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Unknown render mode in settings, using " + renderMode);
+        }
+        vsync = Boolean.parseBoolean(properties.getProperty("render.vsync", Boolean.toString(vsync)));
+        frameCap = readChoice(properties, "render.frameCap", FRAME_CAPS, frameCap);
+        autoQuality = Boolean.parseBoolean(properties.getProperty("render.autoQuality", Boolean.toString(autoQuality)));
+        debugOverlay = Boolean.parseBoolean(properties.getProperty("debug.overlay", Boolean.toString(debugOverlay)));
+        windowWidth = readInt(properties, "window.width", windowWidth);
+        windowHeight = readInt(properties, "window.height", windowHeight);
+        KeyBindings bindings = keyBindings;
+        for (GameAction action : GameAction.values()) {
+            String value = properties.getProperty(bindingProperty(action));
+            if (value == null) {
+                continue;
+            }
+            String[] keys = value.split(",", -1);
+            for (int slot = 0; slot < KeyBindings.SLOTS; slot++) {
+                String name = slot < keys.length ? keys[slot].trim() : "";
+                try {
+                    bindings = bindings.withKey(action, slot, name.isEmpty() ? null : KeyCode.valueOf(name));
+                } catch (IllegalArgumentException e) {
+                    System.out.println("Unknown key in settings: " + name);
+                }
+            }
+        }
+        keyBindings = bindings;
+    }
+
+    /**
+     * Returns the property name storing the keys of an action.
+     *
+     * @param action the action
+     * @return the property name
+     */
+    private static String bindingProperty(GameAction action) {
+        return "key." + action.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Reads a volume, clamped between 0.0 and 1.0.
+     *
+     * @param properties    the loaded properties
+     * @param name          the property name
+     * @param fallback      the value to keep if the property is missing or invalid
+     * @return the volume
+     */
+    private static double readVolume(Properties properties, String name, double fallback) {
+        try {
+            return clampVolume(Double.parseDouble(properties.getProperty(name, Double.toString(fallback))));
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Reads a positive integer.
+     *
+     * @param properties    the loaded properties
+     * @param name          the property name
+     * @param fallback      the value to keep if the property is missing or invalid
+     * @return the value
+     */
+    private static int readInt(Properties properties, String name, int fallback) {
+        try {
+            int value = Integer.parseInt(properties.getProperty(name, Integer.toString(fallback)).trim());
+            return value > 0 ? value : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Reads an integer that must be one of the given choices.
+     *
+     * @param properties    the loaded properties
+     * @param name          the property name
+     * @param choices       the allowed values
+     * @param fallback      the value to keep if the property is missing or not allowed
+     * @return the value
+     */
+    private static int readChoice(Properties properties, String name, int[] choices, int fallback) {
+        try {
+            int value = Integer.parseInt(properties.getProperty(name, Integer.toString(fallback)).trim());
+            for (int choice : choices) {
+                if (choice == value) {
+                    return value;
+                }
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the fallback
+        }
+        return fallback;
+    }
+
+    /**
+     * Clamps a volume between 0.0 and 1.0.
+     *
+     * @param volume the volume
+     * @return the clamped volume
+     */
+    private static double clampVolume(double volume) {
+        return Math.max(0.0, Math.min(1.0, volume));
+    }
+
+    /**
+     * Notifies every listener of a change.
+     */
+    private void changed() {
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Returns the volume of the music bus.
+     *
+     * @return the volume, from 0.0 to 1.0
+     */
+    public double getMusicVolume() {
+        return musicVolume;
+    }
+
+    /**
+     * Sets the volume of the music bus.
+     *
+     * @param musicVolume the volume, from 0.0 to 1.0
+     */
+    public void setMusicVolume(double musicVolume) {
+        this.musicVolume = clampVolume(musicVolume);
+        changed();
+    }
+
+    /**
+     * Returns the volume of the sound effects bus.
+     *
+     * @return the volume, from 0.0 to 1.0
+     */
+    public double getSfxVolume() {
+        return sfxVolume;
+    }
+
+    /**
+     * Sets the volume of the sound effects bus.
+     *
+     * @param sfxVolume the volume, from 0.0 to 1.0
+     */
+    public void setSfxVolume(double sfxVolume) {
+        this.sfxVolume = clampVolume(sfxVolume);
+        changed();
+    }
+
+    /**
+     * Returns the volume of the interface sounds bus.
+     *
+     * @return the volume, from 0.0 to 1.0
+     */
+    public double getUiVolume() {
+        return uiVolume;
+    }
+
+    /**
+     * Sets the volume of the interface sounds bus.
+     *
+     * @param uiVolume the volume, from 0.0 to 1.0
+     */
+    public void setUiVolume(double uiVolume) {
+        this.uiVolume = clampVolume(uiVolume);
+        changed();
+    }
+
+    /**
+     * Checks whether all sound is muted.
+     *
+     * @return {@code true} if muted
+     */
+    public boolean isMuted() {
+        return muted;
+    }
+
+    /**
+     * Mutes or unmutes all sound.
+     *
+     * @param muted whether all sound is muted
+     */
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+        changed();
+    }
+
+    /**
+     * Checks whether important sounds lower the music while they play.
+     *
+     * @return {@code true} if music ducking is on
+     */
+    public boolean isMusicDucking() {
+        return musicDucking;
+    }
+
+    /**
+     * Turns music ducking on or off.
+     *
+     * @param musicDucking whether important sounds lower the music while they play
+     */
+    public void setMusicDucking(boolean musicDucking) {
+        this.musicDucking = musicDucking;
+        changed();
+    }
+
+    /**
+     * Returns the length of the crossfade between music tracks.
+     *
+     * @return the crossfade window in milliseconds, {@code 0} to switch at once
+     */
+    public int getMusicCrossfadeMillis() {
+        return musicCrossfadeMillis;
+    }
+
+    /**
+     * Sets the length of the crossfade between music tracks.
+     *
+     * @param musicCrossfadeMillis the crossfade window in milliseconds, one of {@link #CROSSFADE_WINDOWS}
+     */
+    public void setMusicCrossfadeMillis(int musicCrossfadeMillis) {
+        this.musicCrossfadeMillis = musicCrossfadeMillis;
+        changed();
+    }
+
+    /**
+     * Returns the number of ticks hazards are announced before they arrive.
+     *
+     * @return the warning lead time in ticks, {@code 0} for no warnings
+     */
+    public int getTelegraphTicks() {
+        return telegraphTicks;
+    }
+
+    /**
+     * Sets the number of ticks hazards are announced before they arrive.
+     *
+     * @param telegraphTicks the warning lead time in ticks, one of {@link #TELEGRAPH_LEADS}
+     */
+    public void setTelegraphTicks(int telegraphTicks) {
+        this.telegraphTicks = telegraphTicks;
+        changed();
+    }
+
+    /**
+     * Checks whether quality is lowered automatically when the game runs over its frame budget.
+     *
+     * @return {@code true} if automatic quality is on
+     */
+    public boolean isAutoQuality() {
+        return autoQuality;
+    }
+
+    /**
+     * Turns automatic quality on or off.
+     *
+     * @param autoQuality whether quality is lowered automatically when the game runs over its frame budget
+     */
+    public void setAutoQuality(boolean autoQuality) {
+        this.autoQuality = autoQuality;
+        changed();
+    }
+
+    /**
+     * Returns how actor nodes are drawn.
+     *
+     * @return the render mode
+     */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    /**
+     * Sets how actor nodes are drawn.
+     *
+     * @param renderMode the render mode
+     */
+    public void setRenderMode(RenderMode renderMode) {
+        this.renderMode = renderMode;
+        changed();
+    }
+
+    /**
+     * Checks whether rendering is synchronised with the display.
+     *
+     * @return {@code true} if VSync is enabled
+     */
+    public boolean isVsync() {
+        return vsync;
+    }
+
+    /**
+     * Enables or disables VSync. The graphics pipeline reads it once, so it takes effect the next time the game starts.
+     *
+     * @param vsync whether VSync is enabled
+     */
+    public void setVsync(boolean vsync) {
+        this.vsync = vsync;
+        changed();
+    }
+
+    /**
+     * Returns the maximum number of frames rendered per second.
+     *
+     * @return the frame cap, or {@code 0} for no cap
+     */
+    public int getFrameCap() {
+        return frameCap;
+    }
+
+    /**
+     * Returns the number of frames per second the game aims to draw: the frame cap, or one frame per pulse when
+     * uncapped or capped above the pulse rate. With VSync pulses follow the display; without it they follow the
+     * toolkit's pulse timer, whose rate can be changed with the {@code javafx.animation.pulse} property.
+     *
+     * @return the target frame rate
+     */
+    public int getTargetFrameRate() {
+        int pulseRate = vsync ? PULSE_RATE : Integer.getInteger("javafx.animation.pulse", PULSE_RATE);
+        return frameCap > 0 ? Math.min(frameCap, pulseRate) : pulseRate;
+    }
+
+    /**
+     * Sets the maximum number of frames rendered per second.
+     *
+     * @param frameCap the frame cap, one of {@link #FRAME_CAPS}
+     */
+    public void setFrameCap(int frameCap) {
+        this.frameCap = frameCap;
+        changed();
+    }
+
+    /**
+     * Checks whether the debug overlay is shown in levels. Frame pacing details are also only logged while it is.
+     *
+     * @return {@code true} if the overlay is shown
+     */
+    public boolean isDebugOverlay() {
+        return debugOverlay;
+    }
+
+    /**
+     * Shows or hides the debug overlay in levels, and turns logging of frame pacing details on or off with it.
+     *
+     * @param debugOverlay whether the overlay is shown
+     */
+    public void setDebugOverlay(boolean debugOverlay) {
+        this.debugOverlay = debugOverlay;
+        changed();
+    }
+
+    /**
+     * Returns the width of the game window.
+     *
+     * @return the width in pixels
+     */
+    public int getWindowWidth() {
+        return windowWidth;
+    }
+
+    /**
+     * Returns the height of the game window.
+     *
+     * @return the height in pixels
+     */
+    public int getWindowHeight() {
+        return windowHeight;
+    }
+
+    /**
+     * Returns the current key bindings.
+     *
+     * @return the key bindings
+     */
+    public KeyBindings getKeyBindings() {
+        return keyBindings;
+    }
+
+    /**
+     * Binds a key to an action, removing it from any other action.
+     *
+     * @param action    the action to bind
+     * @param slot      the slot to bind the key in
+     * @param key       the key to bind, or {@code null} to clear the slot
+     */
+    public void setKeyBinding(GameAction action, int slot, KeyCode key) {
+        keyBindings = keyBindings.withKey(action, slot, key);
+        changed();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.settings;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * The {@code KeyBindings} class maps keys to {@link GameAction}s.
+ * <p>
+ * Every action has up to {@link #SLOTS} keys, so the arrow keys and WASD can drive the same movement.
+ * Bindings are immutable: rebinding a key returns a new instance, which lets the simulation thread read
+ * the current bindings without locking while the settings screen replaces them. Looking up the action
+ * of a key is a single array access by the key's ordinal.
+ * </p>
+ */
+public class KeyBindings {
+
+    /** Number of keys that can be bound to each action. */
+    public static final int SLOTS = 2;
+
+    /** Keys bound to each action, indexed by action ordinal and slot. Unbound slots are {@code null}. */
+    private final KeyCode[][] keysByAction;
+
+    /** Action bound to each key, indexed by key ordinal. Unbound keys are {@code null}. */
+    private final GameAction[] actionByKey;
+
+    /**
+     * Constructs {@code KeyBindings} from the keys of every action.
+     *
+     * @param keysByAction the keys bound to each action, indexed by action ordinal and slot
+     */
+    private KeyBindings(KeyCode[][] keysByAction) {
+        this.keysByAction = keysByAction;
+        this.actionByKey = new GameAction[KeyCode.values().length];
+        for (GameAction action : GameAction.values()) {
+            for (KeyCode key : keysByAction[action.ordinal()]) {
+                if (key != null) {
+                    actionByKey[key.ordinal()] = action;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the default bindings: arrow keys and WASD to move, space and K to fire, Q and L to switch weapons,
+     * escape to pause.
+     *
+     * @return the default bindings
+     */
+    public static KeyBindings defaults() {
+        KeyCode[][] keys = new KeyCode[GameAction.values().length][SLOTS];
+        keys[GameAction.MOVE_UP.ordinal()] = new KeyCode[] {KeyCode.UP, KeyCode.W};
+        keys[GameAction.MOVE_DOWN.ordinal()] = new KeyCode[] {KeyCode.DOWN, KeyCode.S};
+        keys[GameAction.MOVE_LEFT.ordinal()] = new KeyCode[] {KeyCode.LEFT, KeyCode.A};
+        keys[GameAction.MOVE_RIGHT.ordinal()] = new KeyCode[] {KeyCode.RIGHT, KeyCode.D};
+        keys[GameAction.FIRE.ordinal()] = new KeyCode[] {KeyCode.SPACE, KeyCode.K};
+        keys[GameAction.SWITCH_WEAPON.ordinal()] = new KeyCode[] {KeyCode.Q, KeyCode.L};
+        keys[GameAction.PAUSE.ordinal()] = new KeyCode[] {KeyCode.ESCAPE, null};
+        return new KeyBindings(keys);
+    }
+
+    /**
+     * Returns the action bound to a key.
+     *
+     * @param key the key
+     * @return the bound action, or {@code null} if the key is not bound
+     */
+    public GameAction getAction(KeyCode key) {
+        return actionByKey[key.ordinal()];
+    }
+
+    /**
+     * Returns the key bound to an action in the given slot.
+     *
+     * @param action the action
+     * @param slot   the slot, from {@code 0} to {@link #SLOTS} - 1
+     * @return the bound key, or {@code null} if the slot is empty
+     */
+    public KeyCode getKey(GameAction action, int slot) {
+        return keysByAction[action.ordinal()][slot];
+    }
+
+    /**
+     * Returns a copy of these bindings with a key bound to an action. The key is removed from any other
+     * action or slot it was bound to, so one key never triggers two actions.
+     *
+     * @param action the action to bind
+     * @param slot   the slot to bind the key in
+     * @param key    the key to bind, or {@code null} to clear the slot
+     * @return the new bindings
+     */
+    public KeyBindings withKey(GameAction action, int slot, KeyCode key) {
+        KeyCode[][] keys = new KeyCode[keysByAction.length][];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keysByAction[i].clone();
+            for (int j = 0; j < SLOTS; j++) {
+                if (key != null && keys[i][j] == key) {
+                    keys[i][j] = null;
+                }
+            }
+        }
+        keys[action.ordinal()][slot] = key;
+        return new KeyBindings(keys);
+    }
+}
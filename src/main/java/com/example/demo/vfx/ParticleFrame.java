@@ -0,0 +1,129 @@
+package com.example.demo.vfx;
+
+/**
+ * The {@code ParticleFrame} class holds the render state of every live particle at the end of a simulation tick.
+ * <p>
+ * It is the particle part of a {@code FrameSnapshot}: parallel primitive arrays sized once to the
+ * {@link ParticleSystem#CAPACITY}, filled by the simulation thread and read by the {@link ParticleRenderer}.
+ * Capturing a frame never allocates.
+ * </p>
+ */
+public class ParticleFrame {
+
+    /** Horizontal centres of the captured particles. */
+    private final double[] x = new double[ParticleSystem.CAPACITY];
+
+    /** Vertical centres of the captured particles. */
+    private final double[] y = new double[ParticleSystem.CAPACITY];
+
+    /** Sizes of the captured particles. */
+    private final double[] size = new double[ParticleSystem.CAPACITY];
+
+    /** Opacities of the captured particles. */
+    private final double[] alpha = new double[ParticleSystem.CAPACITY];
+
+    /** Kinds of the captured particles, one of the {@code ParticleSystem.KIND_} constants. */
+    private final byte[] kind = new byte[ParticleSystem.CAPACITY];
+
+    /** Colours of the captured particles, one of the {@code ParticleSystem.COLOR_} constants. */
+    private final byte[] color = new byte[ParticleSystem.CAPACITY];
+
+    /** Number of particles captured in this frame. */
+    private int count;
+
+    /**
+     * Clears the frame so a new one can be captured into it.
+     */
+    void clear() {
+        count = 0;
+    }
+
+    /**
+     * Adds a particle to the frame.
+     *
+     * @param px        the horizontal centre
+     * @param py        the vertical centre
+     * @param pSize     the size
+     * @param pAlpha    the opacity
+     * @param pKind     the kind
+     * @param pColor    the colour
+     */
+    void add(double px, double py, double pSize, double pAlpha, byte pKind, byte pColor) {
+        x[count] = px;
+        y[count] = py;
+        size[count] = pSize;
+        alpha[count] = pAlpha;
+        kind[count] = pKind;
+        color[count] = pColor;
+        count++;
+    }
+
+    /**
+     * Returns the number of particles captured in this frame.
+     *
+     * @return the particle count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the horizontal centre of a particle.
+     *
+     * @param index the index of the particle in this frame
+     * @return the x-coordinate
+     */
+    public double getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * Returns the vertical centre of a particle.
+     *
+     * @param index the index of the particle in this frame
+     * @return the y-coordinate
+     */
+    public double getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * Returns the size of a particle.
+     *
+     * @param index the index of the particle in this frame
+     * @return the diameter of a spark, or the width of a sprite
+     */
+    public double getSize(int index) {
+        return size[index];
+    }
+
+    /**
+     * Returns the opacity of a particle.
+     *
+     * @param index the index of the particle in this frame
+     * @return the opacity, from 0.0 to 1.0
+     */
+    public double getAlpha(int index) {
+        return alpha[index];
+    }
+
+    /**
+     * Returns the kind of a particle.
+     *
+     * @param index the index of the particle in this frame
+     * @return one of the {@code ParticleSystem.KIND_} constants
+     */
+    public byte getKind(int index) {
+        return kind[index];
+    }
+
+    /**
+     * Returns the colour of a particle.
+     *
+     * @param index the index of the particle in this frame
+     * @return one of the {@code ParticleSystem.COLOR_} constants
+     */
+    public byte getColor(int index) {
+        return color[index];
+    }
+}
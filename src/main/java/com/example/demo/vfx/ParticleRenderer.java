@@ -0,0 +1,101 @@
+package com.example.demo.vfx;
+
+import com.example.demo.engine.StillFrameCache;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+import java.util.Objects;
+
+/**
+ * The {@code ParticleRenderer} class draws the particles of a {@link ParticleFrame} on a single canvas.
+ * <p>
+ * However many particles are live, the scene graph only gains one node. The canvas is redrawn only when the
+ * frame has particles or had some the last time, so it costs nothing while nothing is exploding.
+ * Must only be used on the JavaFX application thread.
+ * </p>
+ */
+public class ParticleRenderer {
+
+    /** The image drawn for explosion particles. */
+    private static final String EXPLOSION_IMAGE = "/com/example/demo/images/VFX/explosion.gif";
+
+    /** The colour of each {@code ParticleSystem.COLOR_} constant, indexed by it. */
+    private static final Color[] PALETTE = {Color.ORANGE, Color.RED, Color.LIGHTGRAY};
+
+    /** The canvas the particles are drawn on. */
+    private final Canvas canvas;
+
+    /** The canvas's drawing context. */
+    private final GraphicsContext graphics;
+
+    /** The animated explosion image. */
+    private final Image explosion;
+
+    /** The explosion image drawn, frozen when animated images are turned off. */
+    private Image explosionFrame;
+
+    /** Whether the canvas was left with particles on it. */
+    private boolean dirty;
+
+    /**
+     * Constructs a {@code ParticleRenderer} with a canvas covering the screen.
+     *
+     * @param width  the width of the screen
+     * @param height the height of the screen
+     */
+    public ParticleRenderer(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.canvas.setMouseTransparent(true);
+        this.canvas.setViewOrder(-0.5); // Above the actors, below the debug overlay
+        this.graphics = canvas.getGraphicsContext2D();
+        this.explosion = new Image(Objects.requireNonNull(getClass().getResource(EXPLOSION_IMAGE)).toExternalForm());
+        this.explosionFrame = explosion;
+    }
+
+    /**
+     * Draws the particles of a frame, replacing the previous ones.
+     *
+     * @param frame the captured particles
+     */
+    public void draw(ParticleFrame frame) {
+        int count = frame.getCount();
+        if (count == 0 && !dirty) {
+            return;
+        }
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int i = 0; i < count; i++) {
+            double size = frame.getSize(i);
+            double left = frame.getX(i) - size / 2;
+            double top = frame.getY(i) - size / 2;
+            graphics.setGlobalAlpha(frame.getAlpha(i));
+            if (frame.getKind(i) == ParticleSystem.KIND_EXPLOSION) {
+                graphics.drawImage(explosionFrame, left, top, size, size);
+            } else {
+                graphics.setFill(PALETTE[frame.getColor(i)]);
+                graphics.fillOval(left, top, size, size);
+            }
+        }
+        graphics.setGlobalAlpha(1.0);
+        dirty = count > 0;
+    }
+
+    /**
+     * Plays or freezes the explosion animation, following the quality level.
+     *
+     * @param animated whether the explosion image should play its animation
+     */
+    public void setAnimated(boolean animated) {
+        explosionFrame = animated ? explosion : StillFrameCache.stillOf(explosion);
+    }
+
+    /**
+     * Returns the canvas the particles are drawn on, to be added to the level's scene.
+     *
+     * @return the canvas
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+}
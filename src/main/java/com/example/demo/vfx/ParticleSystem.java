@@ -0,0 +1,223 @@
+package com.example.demo.vfx;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The {@code ParticleSystem} class simulates the hit sparks and explosions of a level.
+ * <p>
+ * Particles live in a fixed ring of {@link #CAPACITY} slots stored as parallel primitive arrays. Emitting a
+ * particle takes the next slot of the ring, replacing the oldest particle once the ring is full, so bursts never
+ * allocate and the number of particles on screen is bounded. Particles are not nodes: each tick the live ones are
+ * copied into the frame snapshot's {@link ParticleFrame}, and the {@link ParticleRenderer} draws them all on a
+ * single canvas.
+ * </p>
+ * <p>
+ * Runs on the simulation thread. Its random numbers come from its own generator, so effects never shift the
+ * level's seeded spawns. The particle scale set by the frame monitor is the only field written from another thread.
+ * </p>
+ */
+public class ParticleSystem {
+
+    /** Number of particle slots in the ring. */
+    public static final int CAPACITY = 256;
+
+    /** A small round spark. */
+    public static final byte KIND_SPARK = 0;
+
+    /** An explosion sprite. */
+    public static final byte KIND_EXPLOSION = 1;
+
+    /** Orange sparks of an enemy or obstacle being hit. */
+    public static final byte COLOR_FIRE = 0;
+
+    /** Red sparks of the user being hit. */
+    public static final byte COLOR_PLAYER_HIT = 1;
+
+    /** Grey debris thrown out by an explosion. */
+    public static final byte COLOR_DEBRIS = 2;
+
+    /** Sparks emitted by a hit at full quality. */
+    private static final int SPARKS_PER_HIT = 8;
+
+    /** Debris sparks emitted by an explosion at full quality. */
+    private static final int DEBRIS_PER_EXPLOSION = 14;
+
+    /** Lifetime of a spark in ticks. */
+    private static final int SPARK_LIFE = 8;
+
+    /** Lifetime of an explosion sprite in ticks. */
+    private static final int EXPLOSION_LIFE = 14;
+
+    /** Speed of the fastest spark in pixels per tick. */
+    private static final double SPARK_SPEED = 9;
+
+    /** Fraction of its speed a spark keeps from one tick to the next. */
+    private static final double DRAG = 0.85;
+
+    /** Horizontal centres of the particles. */
+    private final double[] x = new double[CAPACITY];
+
+    /** Vertical centres of the particles. */
+    private final double[] y = new double[CAPACITY];
+
+    /** Horizontal velocities of the particles in pixels per tick. */
+    private final double[] vx = new double[CAPACITY];
+
+    /** Vertical velocities of the particles in pixels per tick. */
+    private final double[] vy = new double[CAPACITY];
+
+    /** Sizes of the particles. */
+    private final double[] size = new double[CAPACITY];
+
+    /** Ticks each particle has lived. */
+    private final int[] age = new int[CAPACITY];
+
+    /** Lifetime of each particle in ticks, {@code 0} for a free slot. */
+    private final int[] life = new int[CAPACITY];
+
+    /** Kind of each particle. */
+    private final byte[] kind = new byte[CAPACITY];
+
+    /** Colour of each particle. */
+    private final byte[] color = new byte[CAPACITY];
+
+    /** Generator for the spread of the bursts. */
+    private final Random random = new Random();
+
+    /** Index of the slot the next particle takes. */
+    private int next;
+
+    /** Fraction of the normal particle counts emitted, lowered by the frame monitor. */
+    private volatile double scale = 1.0;
+
+    /**
+     * Emits a burst of sparks where a hit landed.
+     *
+     * @param centerX     the x-coordinate of the hit
+     * @param centerY     the y-coordinate of the hit
+     * @param sparkColor  the colour of the sparks, one of the {@code COLOR_} constants
+     */
+    public void emitHit(double centerX, double centerY, byte sparkColor) {
+        emitSparks(centerX, centerY, scaled(SPARKS_PER_HIT), SPARK_SPEED, sparkColor);
+    }
+
+    /**
+     * Emits an explosion sprite and a ring of debris where an actor was destroyed.
+     *
+     * @param centerX   the x-coordinate of the centre of the destroyed actor
+     * @param centerY   the y-coordinate of the centre of the destroyed actor
+     * @param diameter  the size of the explosion
+     */
+    public void emitExplosion(double centerX, double centerY, double diameter) {
+        if (scale <= 0) {
+            return;
+        }
+        int slot = take();
+        x[slot] = centerX;
+        y[slot] = centerY;
+        vx[slot] = 0;
+        vy[slot] = 0;
+        size[slot] = diameter;
+        life[slot] = EXPLOSION_LIFE;
+        kind[slot] = KIND_EXPLOSION;
+        color[slot] = COLOR_FIRE;
+        emitSparks(centerX, centerY, scaled(DEBRIS_PER_EXPLOSION), SPARK_SPEED * 1.5, COLOR_DEBRIS);
+    }
+
+    /**
+     * Emits sparks flying out from a point in random directions.
+     *
+     * @param centerX     the x-coordinate of the point
+     * @param centerY     the y-coordinate of the point
+     * @param count       the number of sparks
+     * @param maxSpeed    the speed of the fastest spark in pixels per tick
+     * @param sparkColor  the colour of the sparks
+     */
+    private void emitSparks(double centerX, double centerY, int count, double maxSpeed, byte sparkColor) {
+        for (int i = 0; i < count; i++) {
+            int slot = take();
+            double angle = random.nextDouble() * Math.PI * 2;
+            double speed = maxSpeed * (0.3 + 0.7 * random.nextDouble());
+            x[slot] = centerX;
+            y[slot] = centerY;
+            vx[slot] = Math.cos(angle) * speed;
+            vy[slot] = Math.sin(angle) * speed;
+            size[slot] = 3 + random.nextDouble() * 3;
+            life[slot] = SPARK_LIFE - random.nextInt(3);
+            kind[slot] = KIND_SPARK;
+            color[slot] = sparkColor;
+        }
+    }
+
+    /**
+     * Takes the next slot of the ring, replacing whatever particle was in it.
+     *
+     * @return the index of the slot
+     */
+    private int take() {
+        int slot = next;
+        next = (next + 1) % CAPACITY;
+        age[slot] = 0;
+        return slot;
+    }
+
+    /**
+     * Scales a particle count by the current particle scale.
+     *
+     * @param count the count at full quality
+     * @return the scaled count
+     */
+    private int scaled(int count) {
+        return (int) Math.round(count * scale);
+    }
+
+    /**
+     * Advances every live particle by one tick and frees the ones that have expired.
+     */
+    public void update() {
+        for (int i = 0; i < CAPACITY; i++) {
+            if (life[i] == 0) {
+                continue;
+            }
+            if (++age[i] >= life[i]) {
+                life[i] = 0;
+                continue;
+            }
+            x[i] += vx[i];
+            y[i] += vy[i];
+            vx[i] *= DRAG;
+            vy[i] *= DRAG;
+        }
+    }
+
+    /**
+     * Copies every live particle into a frame, fading each one out over its lifetime.
+     *
+     * @param frame the frame to capture into
+     */
+    public void capture(ParticleFrame frame) {
+        frame.clear();
+        for (int i = 0; i < CAPACITY; i++) {
+            if (life[i] != 0) {
+                frame.add(x[i], y[i], size[i], 1.0 - (double) age[i] / life[i], kind[i], color[i]);
+            }
+        }
+    }
+
+    /**
+     * Frees every particle.
+     */
+    public void clear() {
+        Arrays.fill(life, 0);
+    }
+
+    /**
+     * Sets the fraction of the normal particle counts emitted. Safe to call from any thread.
+     *
+     * @param scale the particle scale, from 0.0 (no particles) to 1.0
+     */
+    public void setScale(double scale) {
+        this.scale = scale;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.vfx;
+
+/**
+ * The {@code TelegraphFrame} class holds the warning signs shown at the end of a simulation tick.
+ * <p>
+ * Like the {@link ParticleFrame}, it is part of a {@code FrameSnapshot}: parallel primitive arrays sized once to the
+ * {@link TelegraphScheduler#CAPACITY}, filled by the simulation thread and read by the {@link TelegraphRenderer}.
+ * </p>
+ */
+public class TelegraphFrame {
+
+    /** Horizontal centres of the captured warnings. */
+    private final double[] x = new double[TelegraphScheduler.CAPACITY];
+
+    /** Vertical centres of the captured warnings. */
+    private final double[] y = new double[TelegraphScheduler.CAPACITY];
+
+    /** Ticks left before each captured warning's hazard arrives. */
+    private final int[] ticksLeft = new int[TelegraphScheduler.CAPACITY];
+
+    /** Number of warnings captured in this frame. */
+    private int count;
+
+    /**
+     * Clears the frame so a new one can be captured into it.
+     */
+    void clear() {
+        count = 0;
+    }
+
+    /**
+     * Adds a warning to the frame.
+     *
+     * @param wx      the horizontal centre
+     * @param wy      the vertical centre
+     * @param wTicks  the ticks left before the hazard arrives
+     */
+    void add(double wx, double wy, int wTicks) {
+        x[count] = wx;
+        y[count] = wy;
+        ticksLeft[count] = wTicks;
+        count++;
+    }
+
+    /**
+     * Returns the number of warnings captured in this frame.
+     *
+     * @return the warning count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the horizontal centre of a warning.
+     *
+     * @param index the index of the warning in this frame
+     * @return the x-coordinate
+     */
+    public double getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * Returns the vertical centre of a warning.
+     *
+     * @param index the index of the warning in this frame
+     * @return the y-coordinate
+     */
+    public double getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * Returns the number of ticks left before a warning's hazard arrives.
+     *
+     * @param index the index of the warning in this frame
+     * @return the ticks left
+     */
+    public int getTicksLeft(int index) {
+        return ticksLeft[index];
+    }
+}
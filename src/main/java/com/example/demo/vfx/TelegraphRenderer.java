@@ -0,0 +1,86 @@
+package com.example.demo.vfx;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@code TelegraphRenderer} class shows the warnings of a {@link TelegraphFrame} using a fixed pool of
+ * warning sign nodes.
+ * <p>
+ * One node is created per {@link TelegraphScheduler} slot when the level is built, all sharing one image, and
+ * they are only moved and shown or hidden afterwards. Warnings blink faster as their hazard gets closer.
+ * Must only be used on the JavaFX application thread.
+ * </p>
+ */
+public class TelegraphRenderer {
+
+    /** The image of the warning sign. */
+    private static final String WARNING_IMAGE = "/com/example/demo/images/LevelUI/warningsign.png";
+
+    /** Size of a warning sign in pixels. */
+    private static final double SIZE = 50;
+
+    /** Ticks left below which a warning blinks every tick instead of every other one. */
+    private static final int URGENT_TICKS = 6;
+
+    /** Opacity of a warning sign in the dim half of its blink. */
+    private static final double DIM_OPACITY = 0.35;
+
+    /** The pooled warning sign nodes, one per scheduler slot. */
+    private final ImageView[] pool = new ImageView[TelegraphScheduler.CAPACITY];
+
+    /** Number of nodes shown by the last frame. */
+    private int shown;
+
+    /**
+     * Constructs a {@code TelegraphRenderer}, creating its hidden pool of warning signs.
+     */
+    public TelegraphRenderer() {
+        Image warning = new Image(Objects.requireNonNull(getClass().getResource(WARNING_IMAGE)).toExternalForm());
+        for (int i = 0; i < pool.length; i++) {
+            ImageView sign = new ImageView(warning);
+            sign.setFitWidth(SIZE);
+            sign.setFitHeight(SIZE);
+            sign.setPreserveRatio(true);
+            sign.setMouseTransparent(true);
+            sign.setVisible(false);
+            sign.setViewOrder(-0.5); // Above the actors, below the debug overlay
+            pool[i] = sign;
+        }
+    }
+
+    /**
+     * Shows the warnings of a frame, hiding the signs that are no longer needed.
+     *
+     * @param frame the captured warnings
+     */
+    public void draw(TelegraphFrame frame) {
+        int count = frame.getCount();
+        for (int i = 0; i < count; i++) {
+            ImageView sign = pool[i];
+            int ticksLeft = frame.getTicksLeft(i);
+            int blinkPeriod = ticksLeft < URGENT_TICKS ? 1 : 2;
+            sign.setTranslateX(frame.getX(i) - SIZE / 2);
+            sign.setTranslateY(frame.getY(i) - SIZE / 2);
+            sign.setOpacity((ticksLeft / blinkPeriod) % 2 == 0 ? 1.0 : DIM_OPACITY);
+            sign.setVisible(true);
+        }
+        for (int i = count; i < shown; i++) {
+            pool[i].setVisible(false);
+        }
+        shown = count;
+    }
+
+    /**
+     * Returns the pooled warning sign nodes, to be added to the level's scene.
+     *
+     * @return the warning sign nodes
+     */
+    public List<ImageView> getNodes() {
+        return Arrays.asList(pool);
+    }
+}
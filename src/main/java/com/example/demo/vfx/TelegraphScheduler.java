@@ -0,0 +1,84 @@
+package com.example.demo.vfx;
+
+import java.util.Arrays;
+
+/**
+ * The {@code TelegraphScheduler} class keeps track of the warning signs announcing incoming hazards.
+ * <p>
+ * A level that knows a hazard is coming, because the hazard is already waiting in its spawn queue or an attack
+ * is already scheduled, calls {@link #schedule(double, double, int)} a number of ticks ahead. The warning then
+ * counts down with the simulation and disappears when the hazard arrives. Warnings live in a fixed set of
+ * {@link #CAPACITY} slots stored as primitive arrays, and are shown by a {@link TelegraphRenderer} from a fixed
+ * pool of nodes, so announcing a hazard never allocates.
+ * </p>
+ * Runs on the simulation thread.
+ */
+public class TelegraphScheduler {
+
+    /** Maximum number of warnings shown at once. Hazards announced beyond this arrive unannounced. */
+    public static final int CAPACITY = 16;
+
+    /** Horizontal centres of the warnings. */
+    private final double[] x = new double[CAPACITY];
+
+    /** Vertical centres of the warnings. */
+    private final double[] y = new double[CAPACITY];
+
+    /** Ticks left before each warning's hazard arrives, {@code 0} for a free slot. */
+    private final int[] ticksLeft = new int[CAPACITY];
+
+    /**
+     * Shows a warning until a hazard arrives.
+     *
+     * @param centerX    the x-coordinate of the warning
+     * @param centerY    the y-coordinate of the warning
+     * @param leadTicks  the number of ticks before the hazard arrives
+     * @return {@code true} if the warning is shown, {@code false} if every slot is taken
+     */
+    public boolean schedule(double centerX, double centerY, int leadTicks) {
+        if (leadTicks <= 0) {
+            return false;
+        }
+        for (int i = 0; i < CAPACITY; i++) {
+            if (ticksLeft[i] == 0) {
+                x[i] = centerX;
+                y[i] = centerY;
+                ticksLeft[i] = leadTicks;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts every warning down by one tick, removing the ones whose hazard has arrived.
+     */
+    public void update() {
+        for (int i = 0; i < CAPACITY; i++) {
+            if (ticksLeft[i] > 0) {
+                ticksLeft[i]--;
+            }
+        }
+    }
+
+    /**
+     * Copies every shown warning into a frame.
+     *
+     * @param frame the frame to capture into
+     */
+    public void capture(TelegraphFrame frame) {
+        frame.clear();
+        for (int i = 0; i < CAPACITY; i++) {
+            if (ticksLeft[i] > 0) {
+                frame.add(x[i], y[i], ticksLeft[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes every warning.
+     */
+    public void clear() {
+        Arrays.fill(ticksLeft, 0);
+    }
+}
@@ -4,6 +4,7 @@ module com.example.demo {
     requires javafx.media;
 
     exports com.example.demo.controller;
+    exports com.example.demo.bot;
     opens com.example.demo.controller to javafx.fxml;
     opens com.example.demo.actors to javafx.fxml;
     opens com.example.demo.images to javafx.fxml;
@@ -13,4 +14,10 @@ module com.example.demo {
     opens com.example.demo.actors.enemies to javafx.fxml;
     opens com.example.demo.actors.obstacles to javafx.fxml;
     opens com.example.demo.actors.player to javafx.fxml;
+    opens com.example.demo.actors.pickups to javafx.fxml;
+    opens com.example.demo.engine to javafx.fxml;
+    opens com.example.demo.persistence to javafx.fxml;
+    opens com.example.demo.settings to javafx.fxml;
+    opens com.example.demo.audio to javafx.fxml;
+    opens com.example.demo.vfx to javafx.fxml;
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.example.demo.diagnostics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code HeapHistogram} class is a class histogram of the live heap: the number of instances of every class.
+ * <p>
+ * It is taken through the JVM's diagnostic command bean, the same histogram {@code jcmd GC.class_histogram}
+ * prints, which runs a full garbage collection first so only reachable objects are counted.
+ * </p>
+ */
+public class HeapHistogram {
+
+    /** Name of the JVM's diagnostic command bean. */
+    private static final String DIAGNOSTIC_COMMAND = "com.sun.management:type=DiagnosticCommand";
+
+    /** Number of live instances of each class, keyed by class name. */
+    private final Map<String, Long> instances;
+
+    /**
+     * Constructs a {@code HeapHistogram} from the instance counts of each class.
+     *
+     * @param instances the instance counts, keyed by class name
+     */
+    private HeapHistogram(Map<String, Long> instances) {
+        this.instances = instances;
+    }
+
+    /**
+     * Takes a histogram of the live heap.
+     *
+     * @return the histogram
+     */
+    public static HeapHistogram take() {
+        String text;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            text = (String) server.invoke(new ObjectName(DIAGNOSTIC_COMMAND), "gcClassHistogram",
+                    new Object[] {null}, new String[] {String[].class.getName()});
+        } catch (JMException e) {
+            throw new RuntimeException("Could not take a heap histogram", e);
+        }
+        Map<String, Long> instances = new HashMap<>();
+        for (String line : text.split("\n")) {
+            // "   1:      1234      56789  java.lang.String (java.base@21)"
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length < 4 || !columns[0].endsWith(":")) {
+                continue;
+            }
+            try {
+                instances.put(columns[3], Long.parseLong(columns[1]));
+            } catch (NumberFormatException e) {
+                // Header or total line
+            }
+        }
+        return new HeapHistogram(instances);
+    }
+
+    /**
+     * Returns the number of live instances of a class, not counting its subclasses.
+     *
+     * @param className the fully qualified class name
+     * @return the number of instances
+     */
+    public long getInstances(String className) {
+        return instances.getOrDefault(className, 0L);
+    }
+
+    /**
+     * Returns the names of every class in the histogram.
+     *
+     * @return the class names
+     */
+    public Iterable<String> getClassNames() {
+        return instances.keySet();
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.demo.diagnostics;
+
+import com.example.demo.controller.Controller;
+import com.example.demo.controller.SoundManager;
+import com.example.demo.levelparent.LevelParent;
+import com.example.demo.persistence.RunStatsStore;
+import com.example.demo.persistence.SaveDirectory;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.image.ImageView;
+import javafx.scene.media.MediaPlayer;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The {@code LevelTransitionLeakTest} class checks that leaving levels releases them.
+ * <p>
+ * It plays through LevelOne to LevelFour and back to the main menu, over and over, staying a short while in each
+ * level so it spawns, fires and plays music. Every level, every image view in its scene, including the actors the
+ * renderer attaches while it runs, and every background music player is tracked through a weak reference. At the
+ * end, after a full garbage collection, none of the levels and image views may still be reachable, and at most
+ * {@link #MAX_LIVE_MUSIC_PLAYERS} music players.
+ * A heap histogram taken after the warm-up cycles is compared with one taken at the end, and no game or
+ * JavaFX scene class may gain an instance every two cycles.
+ * </p>
+ * <p>
+ * The build runs it headless on the Monocle platform, set up for surefire in the pom, so a leak fails the build.
+ * It plays {@value #DEFAULT_CYCLES} cycles, which takes a few minutes; set the {@value #CYCLES_PROPERTY} system
+ * property, for example {@code mvn test -Dleakcheck.cycles=30}, for a quicker run. Saves go to a temporary directory.
+ * </p>
+ */
+class LevelTransitionLeakTest {
+
+    /** Levels played in each cycle, in order, before returning to the main menu. */
+    private static final String[] LEVELS = {
+            "com.example.demo.levels.LevelTwo",
+            "com.example.demo.levels.LevelThree",
+            "com.example.demo.levels.LevelFour"
+    };
+
+    /**
+     * Number of cycles played before the baseline histogram is taken, so caches are already filled. Each cycle
+     * records a run, so this also fills the main menu's leaderboard.
+     */
+    private static final int WARM_UP_CYCLES = RunStatsStore.LEADERBOARD_SIZE + 2;
+
+    /** System property overriding the number of cycles played. */
+    private static final String CYCLES_PROPERTY = "leakcheck.cycles";
+
+    /** Number of cycles played unless overridden. */
+    private static final int DEFAULT_CYCLES = 200;
+
+    /** Fewest cycles played after the warm-up, so growth can still be told apart from noise. */
+    private static final int MIN_MEASURED_CYCLES = 10;
+
+    /** Number of cycles played. */
+    private static final int CYCLES = Math.max(WARM_UP_CYCLES + MIN_MEASURED_CYCLES,
+            Integer.getInteger(CYCLES_PROPERTY, DEFAULT_CYCLES));
+
+    /** Time spent in each level, in milliseconds. */
+    private static final double STEP_MILLIS = 250;
+
+    /** Music players allowed to stay reachable: the one playing and the one prefetched. */
+    private static final int MAX_LIVE_MUSIC_PLAYERS = 2;
+
+    /** How long to wait after the last cycle for fades and queued work to finish, in seconds. */
+    private static final double SETTLE_SECONDS = 3;
+
+    /** Longest a cycle may take on average before the check counts as hung, in seconds. */
+    private static final long TIMEOUT_SECONDS_PER_CYCLE = 5;
+
+    /** Prefixes of the classes whose instance counts are compared between histograms. */
+    private static final String[] WATCHED_PACKAGES = {"com.example.demo.", "javafx.scene."};
+
+    /** Weak references to every level shown. */
+    private final List<WeakReference<LevelParent>> levels = new ArrayList<>();
+
+    /** Weak references to every image view found in a level's scene or attached to it later. */
+    private final List<WeakReference<ImageView>> imageViews = new ArrayList<>();
+
+    /** Weak references to every background music player seen. */
+    private final List<WeakReference<MediaPlayer>> musicPlayers = new ArrayList<>();
+
+    /** Tracks the image views attached to a level's root while it runs, such as spawned actors. */
+    private final ListChangeListener<Node> attachedViewTracker = change -> {
+        while (change.next()) {
+            for (Node node : change.getAddedSubList()) {
+                trackImageViews(node);
+            }
+        }
+    };
+
+    /** Completed with the histogram taken at the end, once every cycle is played. */
+    private final CompletableFuture<HeapHistogram> finished = new CompletableFuture<>();
+
+    /** The stage the levels are shown on. */
+    private Stage stage;
+
+    /** The controller running the levels. */
+    private Controller controller;
+
+    /** The level being played, or {@code null} on the main menu. */
+    private LevelParent currentLevel;
+
+    /** The histogram taken after the warm-up cycles. */
+    private HeapHistogram baseline;
+
+    /** Number of cycles finished. */
+    private int cycle;
+
+    /** Step of the current cycle: {@code 0} starts LevelOne, the last step returns to the main menu. */
+    private int step;
+
+    /**
+     * Points the saves at a temporary directory and starts the JavaFX toolkit.
+     *
+     * @throws IOException if the temporary save directory cannot be created
+     */
+    @BeforeAll
+    static void startToolkit() throws IOException {
+        System.setProperty(SaveDirectory.DIRECTORY_PROPERTY, Files.createTempDirectory("skybattle-leakcheck").toString());
+        Platform.startup(() -> {
+        });
+    }
+
+    /**
+     * Cycles through the levels, then checks what is still reachable.
+     *
+     * @throws Exception if the cycles fail or do not finish in time
+     */
+    @Test
+    void leavingLevelsReleasesThem() throws Exception {
+        Platform.runLater(this::start);
+        HeapHistogram end = finished.get(CYCLES * TIMEOUT_SECONDS_PER_CYCLE, TimeUnit.SECONDS);
+        assertEquals(0, countLive(levels), "levels still reachable out of " + levels.size());
+        assertEquals(0, countLive(imageViews), "level image views still reachable out of " + imageViews.size());
+        int liveMusicPlayers = countLive(musicPlayers);
+        assertTrue(liveMusicPlayers <= MAX_LIVE_MUSIC_PLAYERS,
+                liveMusicPlayers + " music players still reachable out of " + musicPlayers.size());
+        assertEquals(List.of(), findGrowth(end), "classes gaining instances from cycle to cycle");
+    }
+
+    /**
+     * Starts cycling through the levels. Runs on the JavaFX application thread.
+     */
+    private void start() {
+        stage = new Stage();
+        stage.setTitle("Sky Battle - leak check");
+        controller = new Controller(stage);
+        controller.setLevelShownListener(this::track);
+        Timeline cycler = new Timeline();
+        cycler.getKeyFrames().add(new KeyFrame(Duration.millis(STEP_MILLIS), event -> {
+            try {
+                if (!advance()) {
+                    cycler.stop();
+                    System.gc(); // Lets the animations of collected GIF images notice and stop before counting
+                    Timeline settle = new Timeline(new KeyFrame(Duration.seconds(SETTLE_SECONDS),
+                            done -> finished.complete(HeapHistogram.take()))); // Collects unreachable objects first
+                    settle.play();
+                }
+            } catch (RuntimeException e) {
+                cycler.stop();
+                finished.completeExceptionally(e);
+            }
+        }));
+        cycler.setCycleCount(Animation.INDEFINITE);
+        cycler.play();
+    }
+
+    /**
+     * Tracks a level that is about to start, with the image views of its scene, those attached to it later and
+     * the music playing.
+     *
+     * @param level the level
+     */
+    private void track(LevelParent level) {
+        currentLevel = level;
+        levels.add(new WeakReference<>(level));
+        Group levelRoot = (Group) ((Group) stage.getScene().getRoot()).getChildren().get(0); // Already on the game root
+        trackImageViews(levelRoot);
+        levelRoot.getChildren().addListener(attachedViewTracker);
+        MediaPlayer player = SoundManager.getInstance().getBackgroundMusicPlayer();
+        if (player != null && musicPlayers.stream().noneMatch(seen -> seen.get() == player)) {
+            musicPlayers.add(new WeakReference<>(player));
+        }
+    }
+
+    /**
+     * Tracks every image view under a node.
+     *
+     * @param node the node to search
+     */
+    private void trackImageViews(Node node) {
+        if (node instanceof ImageView) {
+            imageViews.add(new WeakReference<>((ImageView) node));
+        }
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                trackImageViews(child);
+            }
+        }
+    }
+
+    /**
+     * Moves on to the next level of the cycle, or back to the main menu at its end. Does nothing while the next
+     * level is still being loaded, so a level is never left twice.
+     *
+     * @return {@code false} once every cycle is finished
+     */
+    private boolean advance() {
+        try {
+            if (step == 0) {
+                if (cycle == WARM_UP_CYCLES) {
+                    baseline = HeapHistogram.take();
+                }
+                controller.launchGame();
+            } else if (currentLevel == null) {
+                return true; // The controller loads the next level on a later pulse
+            } else if (step <= LEVELS.length) {
+                LevelParent leaving = currentLevel;
+                currentLevel = null;
+                leaving.goToNextLevel(LEVELS[step - 1]);
+            } else {
+                currentLevel.returnToMainMenu();
+                currentLevel = null;
+                step = 0;
+                if (++cycle == WARM_UP_CYCLES) {
+                    System.gc(); // As before the final histogram, a step before the baseline is taken
+                }
+                return cycle < CYCLES;
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Could not start a level", e);
+        }
+        step++;
+        return true;
+    }
+
+    /**
+     * Lists the game and JavaFX scene classes that gained at least one instance every two cycles since the
+     * baseline histogram.
+     *
+     * @param end the histogram taken at the end
+     * @return a description of each class that grew
+     */
+    private List<String> findGrowth(HeapHistogram end) {
+        List<String> grown = new ArrayList<>();
+        long threshold = Math.max(1, (CYCLES - WARM_UP_CYCLES) / 2);
+        for (String className : end.getClassNames()) {
+            if (!isWatched(className)) continue;
+            long growth = end.getInstances(className) - baseline.getInstances(className);
+            if (growth >= threshold) {
+                grown.add(className + " grew by " + growth + " instances");
+            }
+        }
+        return grown;
+    }
+
+    /**
+     * Checks whether the instance count of a class is compared between histograms.
+     *
+     * @param className the class name
+     * @return {@code true} if the class is a game or JavaFX scene class
+     */
+    private static boolean isWatched(String className) {
+        for (String prefix : WATCHED_PACKAGES) {
+            if (className.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Counts the references whose object is still reachable.
+     *
+     * @param references the references
+     * @return the number of objects still reachable
+     */
+    private static int countLive(List<? extends WeakReference<?>> references) {
+        int live = 0;
+        for (WeakReference<?> reference : references) {
+            if (reference.get() != null) live++;
+        }
+        return live;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.demo.engine;
+
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests of the {@link InputQueue}, on one thread and between a producer and a consumer thread.
+ */
+class InputQueueTest {
+
+    /** Number of events the queue holds. */
+    private static final int CAPACITY = 256;
+
+    /** Every key code, indexed by ordinal. */
+    private static final KeyCode[] KEY_CODES = KeyCode.values();
+
+    /** Number of events sent through the queue by the stress test. */
+    private static final int STRESS_EVENTS = 200_000;
+
+    /** Longest the stress test may take, in seconds. */
+    private static final long STRESS_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Draining an empty queue hands nothing over.
+     */
+    @Test
+    void drainsNothingWhenEmpty() {
+        InputQueue queue = new InputQueue();
+        queue.drain((keyCode, pressed) -> fail("drained " + keyCode));
+        assertTrue(queue.offer(KeyCode.SPACE, true));
+        queue.drain((keyCode, pressed) -> {
+        });
+        queue.drain((keyCode, pressed) -> fail("drained " + keyCode + " twice"));
+    }
+
+    /**
+     * A full queue refuses events until it is drained, and the events it holds are kept.
+     */
+    @Test
+    void refusesEventsWhenFull() {
+        InputQueue queue = new InputQueue();
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(queue.offer(key(i), pressed(i)), "event " + i);
+        }
+        assertFalse(queue.offer(KeyCode.ESCAPE, true));
+        assertEquals(expected(0, CAPACITY), drain(queue));
+        assertTrue(queue.offer(KeyCode.ESCAPE, false));
+        assertEquals(List.of("ESCAPE released"), drain(queue));
+    }
+
+    /**
+     * Events keep their order and state as the queue wraps around its array many times, whether it is drained
+     * when partly filled or when full.
+     */
+    @Test
+    void wrapsAround() {
+        InputQueue queue = new InputQueue();
+        int sent = 0;
+        for (int round = 0; round < 40; round++) {
+            int batch = round % 4 == 3 ? CAPACITY : 97;
+            for (int i = 0; i < batch; i++) {
+                assertTrue(queue.offer(key(sent + i), pressed(sent + i)), "round " + round);
+            }
+            if (batch == CAPACITY) {
+                assertFalse(queue.offer(KeyCode.ESCAPE, true), "round " + round);
+            }
+            assertEquals(expected(sent, batch), drain(queue), "round " + round);
+            sent += batch;
+        }
+    }
+
+    /**
+     * Every event offered by a producer thread reaches a consumer thread draining concurrently, once and in
+     * order, with the producer retrying whenever the queue is full.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void handsEventsBetweenThreads() throws InterruptedException {
+        InputQueue queue = new InputQueue();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < STRESS_EVENTS; i++) {
+                while (!queue.offer(key(i), pressed(i))) {
+                    Thread.yield(); // Lets the consumer run even on a single core
+                }
+            }
+        }, "input-queue-producer");
+        producer.setDaemon(true);
+        producer.start();
+
+        int[] received = new int[1];
+        AtomicReference<String> mismatch = new AtomicReference<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STRESS_TIMEOUT_SECONDS);
+        while (received[0] < STRESS_EVENTS && mismatch.get() == null && System.nanoTime() < deadline) {
+            Thread.yield(); // Lets the producer run even on a single core
+            queue.drain((keyCode, pressed) -> {
+                int i = received[0]++;
+                if (mismatch.get() == null && (keyCode != key(i) || pressed != pressed(i))) {
+                    mismatch.set("event " + i + " was " + keyCode + (pressed ? " pressed" : " released"));
+                }
+            });
+        }
+        producer.join(TimeUnit.SECONDS.toMillis(1));
+        assertNull(mismatch.get());
+        assertEquals(STRESS_EVENTS, received[0]);
+    }
+
+    /**
+     * Returns the key of the event with a given sequence number.
+     *
+     * @param sequence the sequence number
+     * @return the key
+     */
+    private static KeyCode key(int sequence) {
+        return KEY_CODES[sequence % KEY_CODES.length];
+    }
+
+    /**
+     * Returns whether the event with a given sequence number is a key press.
+     *
+     * @param sequence the sequence number
+     * @return {@code true} for a key press
+     */
+    private static boolean pressed(int sequence) {
+        return (sequence / 3) % 2 == 0;
+    }
+
+    /**
+     * Describes a run of events, as {@link #drain(InputQueue)} does.
+     *
+     * @param first the sequence number of the first event
+     * @param count the number of events
+     * @return a description of each event
+     */
+    private static List<String> expected(int first, int count) {
+        List<String> events = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            events.add(describe(key(i), pressed(i)));
+        }
+        return events;
+    }
+
+    /**
+     * Drains a queue.
+     *
+     * @param queue the queue
+     * @return a description of each event drained, in order
+     */
+    private static List<String> drain(InputQueue queue) {
+        List<String> events = new ArrayList<>();
+        queue.drain((keyCode, pressed) -> events.add(describe(keyCode, pressed)));
+        return events;
+    }
+
+    /**
+     * Describes a key event.
+     *
+     * @param keyCode the key
+     * @param pressed whether it was pressed
+     * @return the description
+     */
+    private static String describe(KeyCode keyCode, boolean pressed) {
+        return keyCode + (pressed ? " pressed" : " released");
+    }
+}
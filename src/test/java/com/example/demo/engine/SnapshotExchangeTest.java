@@ -0,0 +1,146 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests of the {@link SnapshotExchange}, on one thread and between a simulation and a renderer thread.
+ */
+class SnapshotExchangeTest {
+
+    /** Number of frames published by the stress test. */
+    private static final int STRESS_FRAMES = 200_000;
+
+    /** Longest the stress test may take, in seconds. */
+    private static final long STRESS_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Nothing is handed over before the first frame is published, nor twice.
+     */
+    @Test
+    void handsOverNothingNew() {
+        SnapshotExchange exchange = new SnapshotExchange();
+        assertNull(exchange.acquire());
+        publish(exchange, 1);
+        assertEquals(1, exchange.acquire().getTick());
+        assertNull(exchange.acquire());
+    }
+
+    /**
+     * The renderer gets the latest of the frames published since it last looked, skipping the older ones.
+     */
+    @Test
+    void handsOverTheLatestFrame() {
+        SnapshotExchange exchange = new SnapshotExchange();
+        for (int tick = 1; tick <= 3; tick++) {
+            publish(exchange, tick);
+        }
+        assertFrame(3, exchange.acquire());
+        publish(exchange, 4);
+        assertFrame(4, exchange.acquire());
+        publish(exchange, 5);
+        publish(exchange, 6);
+        assertFrame(6, exchange.acquire());
+    }
+
+    /**
+     * The simulation is never given the buffer the renderer holds to write into, however many frames it publishes,
+     * so the frame being drawn is never overwritten.
+     */
+    @Test
+    void neverReusesTheHeldBuffer() {
+        SnapshotExchange exchange = new SnapshotExchange();
+        publish(exchange, 1);
+        FrameSnapshot held = exchange.acquire();
+        for (int tick = 2; tick < 20; tick++) {
+            assertNotSame(held, exchange.getWriteBuffer(), "tick " + tick);
+            publish(exchange, tick);
+        }
+        assertFrame(1, held);
+        FrameSnapshot next = exchange.acquire();
+        assertNotSame(held, next);
+        assertFrame(19, next);
+        for (int tick = 20; tick < 40; tick++) {
+            assertNotSame(next, exchange.getWriteBuffer(), "tick " + tick);
+            publish(exchange, tick);
+        }
+    }
+
+    /**
+     * A renderer thread acquiring concurrently with a simulation thread publishing only ever sees whole frames,
+     * newer than the last one it saw, that stay untouched while it holds them, and ends on the last one published.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void handsFramesBetweenThreads() throws InterruptedException {
+        SnapshotExchange exchange = new SnapshotExchange();
+        Thread simulation = new Thread(() -> {
+            for (int tick = 1; tick <= STRESS_FRAMES; tick++) {
+                publish(exchange, tick);
+            }
+        }, "snapshot-simulation");
+        simulation.setDaemon(true);
+        simulation.start();
+
+        long lastTick = 0;
+        int framesSeen = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STRESS_TIMEOUT_SECONDS);
+        while (lastTick < STRESS_FRAMES) {
+            if (System.nanoTime() > deadline) {
+                fail("timed out after frame " + lastTick);
+            }
+            FrameSnapshot frame = exchange.acquire();
+            if (frame == null) {
+                Thread.yield(); // Lets the simulation run even on a single core
+                continue;
+            }
+            long tick = frame.getTick();
+            assertTrue(tick > lastTick, "frame " + tick + " after frame " + lastTick);
+            assertFrame(tick, frame);
+            for (int i = 0; i < 50; i++) {
+                Thread.onSpinWait(); // Gives the simulation time to write into the frame if it wrongly could
+            }
+            assertFrame(tick, frame);
+            lastTick = tick;
+            framesSeen++;
+        }
+        simulation.join(TimeUnit.SECONDS.toMillis(1));
+        assertTrue(framesSeen > 1, "only " + framesSeen + " frames seen");
+    }
+
+    /**
+     * Captures and publishes a frame whose fields all hold its tick.
+     *
+     * @param exchange the exchange
+     * @param tick     the tick
+     */
+    private static void publish(SnapshotExchange exchange, long tick) {
+        FrameSnapshot frame = exchange.getWriteBuffer();
+        frame.begin(tick);
+        frame.setUserHealth((int) tick);
+        frame.setLaser(tick, tick, tick);
+        exchange.publish();
+    }
+
+    /**
+     * Checks that a frame is the whole frame published for a tick.
+     *
+     * @param tick  the tick
+     * @param frame the frame
+     */
+    private static void assertFrame(long tick, FrameSnapshot frame) {
+        assertEquals(tick, frame.getTick());
+        assertEquals(tick, frame.getUserHealth(), "user health of frame " + tick);
+        assertEquals(tick, frame.getLaserX(), "laser of frame " + tick);
+        assertEquals(tick, frame.getLaserY(), "laser of frame " + tick);
+        assertEquals(tick, frame.getLaserLength(), "laser of frame " + tick);
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@link TimerWheel} and the {@link TickTimer}s scheduled on it.
+ */
+class TimerWheelTest {
+
+    /** Delays around the spans of the wheel's levels, where timers move from one level to another. */
+    private static final int[] BOUNDARY_DELAYS = {1, 2, 63, 64, 65, 127, 128, 4095, 4096, 4097, 8191, 8192,
+            TimerWheel.MAX_DELAY};
+
+    /** Ticks the wheel is advanced to before scheduling, so deadlines fall on every part of a revolution. */
+    private static final int[] START_TICKS = {0, 1, 37, 63, 64, 4000, 4095, 4096, 5000};
+
+    /**
+     * Timers expire on exactly the tick they are due, whatever level they start in and whenever they are scheduled.
+     */
+    @Test
+    void expiresOnTheExactTick() {
+        for (int start : START_TICKS) {
+            for (int delay : BOUNDARY_DELAYS) {
+                TimerWheel wheel = advancedWheel(start);
+                List<Long> expiries = new ArrayList<>();
+                TickTimer timer = new TickTimer(() -> expiries.add(wheel.getCurrentTick()));
+                wheel.schedule(timer, delay);
+                advance(wheel, delay + 1);
+                assertEquals(List.of((long) start + delay), expiries, "delay " + delay + " from tick " + start);
+                assertFalse(timer.isScheduled());
+            }
+        }
+    }
+
+    /**
+     * Timers due on the same tick all expire on it, even when they were put in different levels.
+     */
+    @Test
+    void expiresEveryTimerDueOnTheSameTick() {
+        TimerWheel wheel = advancedWheel(10);
+        int[] expired = new int[1];
+        wheel.schedule(new TickTimer(() -> expired[0]++), 4096);
+        advance(wheel, 3990);
+        wheel.schedule(new TickTimer(() -> expired[0]++), 106);
+        advance(wheel, 100);
+        wheel.schedule(new TickTimer(() -> expired[0]++), 6);
+        advance(wheel, 5);
+        assertEquals(0, expired[0]);
+        wheel.advance();
+        assertEquals(3, expired[0]);
+    }
+
+    /**
+     * Delays outside the range of the wheel are refused.
+     */
+    @Test
+    void refusesDelaysOutOfRange() {
+        TimerWheel wheel = new TimerWheel();
+        TickTimer timer = new TickTimer();
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(timer, 0));
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(timer, TimerWheel.MAX_DELAY + 1));
+        assertFalse(timer.isScheduled());
+    }
+
+    /**
+     * A timer cancelled while still in a higher level never expires.
+     */
+    @Test
+    void cancelsBeforeACascade() {
+        TimerWheel wheel = advancedWheel(3);
+        int[] expired = new int[1];
+        TickTimer timer = new TickTimer(() -> expired[0]++);
+        wheel.schedule(timer, 5000);
+        advance(wheel, 10);
+        wheel.cancel(timer);
+        assertFalse(timer.isScheduled());
+        assertEquals(0, timer.getRemainingTicks());
+        advance(wheel, 6000);
+        assertEquals(0, expired[0]);
+    }
+
+    /**
+     * A timer cancelled after it has been moved down to a lower level never expires, and the timers sharing its
+     * slot are left alone.
+     */
+    @Test
+    void cancelsAfterACascade() {
+        TimerWheel wheel = new TimerWheel();
+        int[] expired = new int[3];
+        TickTimer first = new TickTimer(() -> expired[0]++);
+        TickTimer cancelled = new TickTimer(() -> expired[1]++);
+        TickTimer last = new TickTimer(() -> expired[2]++);
+        wheel.schedule(first, 4200);
+        wheel.schedule(cancelled, 4200);
+        wheel.schedule(last, 4200);
+        advance(wheel, 4150); // Moved down to the lowest level at tick 4160
+        assertTrue(cancelled.isScheduled());
+        wheel.cancel(cancelled);
+        advance(wheel, 100);
+        assertEquals(1, expired[0]);
+        assertEquals(0, expired[1]);
+        assertEquals(1, expired[2]);
+    }
+
+    /**
+     * Cancelling a timer that is not scheduled does nothing.
+     */
+    @Test
+    void ignoresCancellingAnUnscheduledTimer() {
+        TimerWheel wheel = new TimerWheel();
+        int[] expired = new int[1];
+        TickTimer other = new TickTimer(() -> expired[0]++);
+        wheel.schedule(other, 5);
+        wheel.cancel(new TickTimer());
+        new TimerWheel().cancel(other); // Scheduled on another wheel
+        advance(wheel, 5);
+        assertEquals(1, expired[0]);
+    }
+
+    /**
+     * Scheduling a timer that is already scheduled moves it, so it only expires once, on its new deadline.
+     */
+    @Test
+    void movesARescheduledTimer() {
+        TimerWheel wheel = new TimerWheel();
+        List<Long> expiries = new ArrayList<>();
+        TickTimer timer = new TickTimer(() -> expiries.add(wheel.getCurrentTick()));
+        wheel.schedule(timer, 4100);
+        advance(wheel, 100);
+        wheel.schedule(timer, 30);
+        advance(wheel, 5000);
+        assertEquals(List.of(130L), expiries);
+    }
+
+    /**
+     * A timer that reschedules itself from its own action expires again after the new delay, including a delay
+     * that puts it back in a higher level.
+     */
+    @Test
+    void reschedulesFromInsideItsAction() {
+        TimerWheel wheel = new TimerWheel();
+        List<Long> expiries = new ArrayList<>();
+        int[] delays = {1, 1, 64, 4096, 3};
+        TickTimer[] timer = new TickTimer[1];
+        timer[0] = new TickTimer(() -> {
+            expiries.add(wheel.getCurrentTick());
+            if (expiries.size() < delays.length) {
+                wheel.schedule(timer[0], delays[expiries.size()]);
+            }
+        });
+        wheel.schedule(timer[0], delays[0]);
+        advance(wheel, 10000);
+        assertEquals(List.of(1L, 2L, 66L, 4162L, 4165L), expiries);
+    }
+
+    /**
+     * An action can cancel a timer due on the same tick before it expires, and schedule others.
+     */
+    @Test
+    void letsAnActionCancelAndScheduleOtherTimers() {
+        TimerWheel wheel = new TimerWheel();
+        List<String> expired = new ArrayList<>();
+        TickTimer later = new TickTimer(() -> expired.add("later"));
+        TickTimer[] pair = new TickTimer[2];
+        for (int i = 0; i < pair.length; i++) {
+            pair[i] = new TickTimer(() -> { // Whichever of the pair expires first cancels the other
+                expired.add("first");
+                wheel.cancel(pair[0]);
+                wheel.cancel(pair[1]);
+                wheel.schedule(later, 1);
+            });
+        }
+        wheel.schedule(pair[0], 64);
+        wheel.schedule(pair[1], 64);
+        advance(wheel, 64);
+        assertEquals(List.of("first"), expired);
+        assertFalse(pair[0].isScheduled());
+        assertFalse(pair[1].isScheduled());
+        advance(wheel, 1);
+        assertEquals(List.of("first", "later"), expired);
+    }
+
+    /**
+     * The ticks left before a timer expires count down by one every tick, through every cascade, and are zero
+     * once it has expired.
+     */
+    @Test
+    void countsRemainingTicksThroughCascades() {
+        TimerWheel wheel = advancedWheel(50);
+        TickTimer timer = new TickTimer();
+        int delay = 9000;
+        wheel.schedule(timer, delay);
+        for (int left = delay; left > 0; left--) {
+            assertEquals(left, timer.getRemainingTicks(), "at tick " + wheel.getCurrentTick());
+            assertTrue(timer.isScheduled());
+            wheel.advance();
+        }
+        assertEquals(0, timer.getRemainingTicks());
+        assertFalse(timer.isScheduled());
+    }
+
+    /**
+     * Creates a wheel already advanced to a tick.
+     *
+     * @param tick the tick
+     * @return the wheel
+     */
+    private static TimerWheel advancedWheel(int tick) {
+        TimerWheel wheel = new TimerWheel();
+        advance(wheel, tick);
+        return wheel;
+    }
+
+    /**
+     * Advances a wheel by a number of ticks.
+     *
+     * @param wheel the wheel
+     * @param ticks the number of ticks
+     */
+    private static void advance(TimerWheel wheel, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            wheel.advance();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.demo.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the {@link RunLog}, against files in a temporary directory.
+ */
+class RunLogTest {
+
+    /** Number of best runs kept in the index of the logs under test. */
+    private static final int CAPACITY = 3;
+
+    /** Size of the log header in bytes: the magic number and the format version. */
+    private static final int LOG_HEADER_SIZE = 4 + 2;
+
+    /** The directory the log and its index are written to. */
+    @TempDir
+    Path directory;
+
+    /**
+     * Runs appended to a log are ranked in its index, and are found again when the log is loaded anew.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void appendsAndReloads() throws IOException {
+        RunLog log = load();
+        for (int kills : new int[] {5, 1, 9, 3, 7}) {
+            log.append(run(kills));
+        }
+        assertEquals(List.of(9, 7, 5), topKills(log));
+        assertEquals(LOG_HEADER_SIZE + 5L * RunRecord.ENCODED_SIZE, Files.size(logFile()));
+
+        RunLog reloaded = load();
+        assertEquals(List.of(9, 7, 5), topKills(reloaded));
+        reloaded.append(run(8));
+        assertEquals(List.of(9, 8, 7), topKills(load()));
+    }
+
+    /**
+     * A record torn by a crash mid-write is cut off the end of the log, and the next run is appended in its place.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void truncatesATornLastRecord() throws IOException {
+        RunLog log = load();
+        log.append(run(4));
+        log.append(run(6));
+        long length = Files.size(logFile());
+        Files.write(logFile(), new byte[RunRecord.ENCODED_SIZE - 1], StandardOpenOption.APPEND);
+
+        RunLog reloaded = load();
+        assertEquals(length, Files.size(logFile()));
+        assertEquals(List.of(6, 4), topKills(reloaded));
+        reloaded.append(run(5));
+        assertEquals(List.of(6, 5, 4), topKills(load()));
+    }
+
+    /**
+     * An index written before the last runs were appended is caught up with them.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void catchesUpAStaleIndex() throws IOException {
+        RunLog log = load();
+        log.append(run(2));
+        log.append(run(3));
+        byte[] staleIndex = Files.readAllBytes(indexFile());
+        log.append(run(8));
+        log.append(run(1));
+        log.append(run(6));
+        Files.write(indexFile(), staleIndex);
+
+        assertEquals(List.of(8, 6, 3), topKills(load()));
+        assertEquals(List.of(8, 6, 3), topKills(load())); // The index was brought up to date
+    }
+
+    /**
+     * An index covering more of the log than there is, as when the log was replaced by an older copy, is rebuilt.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void rebuildsAnIndexAheadOfTheLog() throws IOException {
+        RunLog log = load();
+        log.append(run(2));
+        log.append(run(3));
+        byte[] olderLog = Files.readAllBytes(logFile());
+        log.append(run(8));
+        Files.write(logFile(), olderLog);
+
+        assertEquals(List.of(3, 2), topKills(load()));
+    }
+
+    /**
+     * An empty or garbage index is rebuilt from the whole log.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void rebuildsAGarbageIndex() throws IOException {
+        RunLog log = load();
+        for (int kills : new int[] {4, 9, 2, 7}) {
+            log.append(run(kills));
+        }
+        byte[] garbage = new byte[64];
+        new Random(42).nextBytes(garbage);
+        for (byte[] index : new byte[][] {new byte[0], garbage}) {
+            Files.write(indexFile(), index);
+            assertEquals(List.of(9, 7, 4), topKills(load()));
+        }
+    }
+
+    /**
+     * A log that does not start with a header of the current format is started afresh, and its old index is not
+     * trusted.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void startsAfreshOnAnUnknownFormat() throws IOException {
+        RunLog log = load();
+        log.append(run(4));
+        log.append(run(6));
+        try (FileChannel channel = FileChannel.open(logFile(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(2).putShort((short) 2).flip(), 4); // A later format version
+        }
+
+        RunLog reloaded = load();
+        assertEquals(List.of(), topKills(reloaded));
+        assertEquals(LOG_HEADER_SIZE, Files.size(logFile()));
+        reloaded.append(run(3));
+        assertEquals(List.of(3), topKills(load()));
+
+        Files.writeString(logFile(), "not a run log at all");
+        assertEquals(List.of(), topKills(load()));
+        assertEquals(LOG_HEADER_SIZE, Files.size(logFile()));
+    }
+
+    /**
+     * Loads the log under test into a new {@link RunLog}, as the game does when it starts.
+     *
+     * @return the loaded log
+     * @throws IOException if the log cannot be read or created
+     */
+    private RunLog load() throws IOException {
+        RunLog log = new RunLog(logFile(), indexFile(), CAPACITY);
+        log.load();
+        return log;
+    }
+
+    /**
+     * Returns the path of the log under test.
+     *
+     * @return the log file
+     */
+    private Path logFile() {
+        return directory.resolve("runs.log");
+    }
+
+    /**
+     * Returns the path of the index of the log under test.
+     *
+     * @return the index file
+     */
+    private Path indexFile() {
+        return directory.resolve("runs.idx");
+    }
+
+    /**
+     * Creates a lost run on the first level, which ranks by its number of kills.
+     *
+     * @param kills the number of kills
+     * @return the run
+     */
+    private static RunRecord run(int kills) {
+        return new RunRecord(1_000L * kills, kills, 60_000, kills, 0, 1, false);
+    }
+
+    /**
+     * Lists the kills of the best runs of a log, best first.
+     *
+     * @param log the log
+     * @return the kills of each run in its index
+     */
+    private static List<Integer> topKills(RunLog log) {
+        List<Integer> kills = new ArrayList<>();
+        for (RunRecord record : log.getTopRuns()) {
+            kills.add(record.getKills());
+        }
+        return kills;
+    }
+}